@@ -6,6 +6,8 @@ package org.etools.j1939_84.controllers;
 
 import static org.etools.j1939_84.J1939_84.NL;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 
@@ -13,6 +15,7 @@ import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.j1939.model.Spn;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.DM25ExpandedFreezeFrame;
+import org.etools.j1939tools.j1939.packets.DiagnosticTroubleCode;
 import org.etools.j1939tools.j1939.packets.FreezeFrame;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.junit.Before;
@@ -128,6 +131,19 @@ public class FreezeFrameDataTranslatorTest {
         instance = new FreezeFrameDataTranslator();
     }
 
+    @Test
+    public void testDataLengthMismatch() {
+        List<SupportedSPN> supportedSPNs = createDM24().getFreezeFrameSPNsInOrder();
+        FreezeFrame freezeFrame = new FreezeFrame(DiagnosticTroubleCode.create(102, 4, 0, 1),
+                                                  new int[] { 0x64, 0x50, 0x40, 0x1F, 0x51 });
+
+        assertTrue(instance.getFreezeFrameSPNs(freezeFrame, supportedSPNs).isEmpty());
+
+        instance.setFreezeFrameSPNs(freezeFrame, supportedSPNs);
+        assertTrue(freezeFrame.getSPNs().isEmpty());
+        assertNull(freezeFrame.getSpn(102));
+    }
+
     @Test
     public void testGetFreezeFrameSPNs() {
         List<FreezeFrame> freezeFrames = createDM25().getFreezeFrames();
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939_84.controllers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link PartController} class
+ */
+public class PartControllerTest {
+
+    private static class TestPartController extends PartController {
+        TestPartController(List<Supplier<? extends StepController>> stepControllerSuppliers) {
+            super(mock(Executor.class), null, null, null, null, null, null, 1, stepControllerSuppliers);
+        }
+    }
+
+    @Test
+    public void testStepControllersAreCreatedOnFirstUse() {
+        AtomicInteger created = new AtomicInteger();
+        StepController step1 = mock(StepController.class);
+        StepController step2 = mock(StepController.class);
+        PartController instance = new TestPartController(List.of(() -> {
+            created.incrementAndGet();
+            return step1;
+        }, () -> {
+            created.incrementAndGet();
+            return step2;
+        }));
+
+        assertEquals(0, created.get());
+
+        List<StepController> stepControllers = instance.getStepControllers();
+        assertEquals(List.of(step1, step2), stepControllers);
+        assertEquals(2, created.get());
+
+        assertSame(stepControllers, instance.getStepControllers());
+        assertEquals(2, created.get());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939_84.controllers;
+
+import static org.etools.j1939_84.model.Outcome.FAIL;
+import static org.etools.j1939_84.model.Outcome.INFO;
+import static org.etools.j1939_84.model.Outcome.PASS;
+import static org.etools.j1939_84.model.Outcome.WARN;
+import static org.etools.j1939tools.j1939.model.FuelType.BATT_ELEC;
+import static org.etools.j1939tools.j1939.model.FuelType.DSL;
+import static org.etools.j1939tools.j1939.model.FuelType.GAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TableA1RepositoryTest {
+
+    private TableA1Repository instance;
+
+    @Before
+    public void setUp() {
+        instance = new TableA1Repository();
+    }
+
+    @Test
+    public void testOutcomeForDuplicateSpn() {
+        assertEquals(FAIL, instance.getOutcomeForDuplicateSpn(92, DSL, 2013));
+        assertEquals(INFO, instance.getOutcomeForDuplicateSpn(84, DSL, 2013));
+        // not in the table
+        assertEquals(PASS, instance.getOutcomeForDuplicateSpn(1, DSL, 2013));
+        // before the model year of the row
+        assertEquals(PASS, instance.getOutcomeForDuplicateSpn(514, DSL, 2015));
+        // the row doesn't have an outcome
+        assertEquals(PASS, instance.getOutcomeForDuplicateSpn(514, DSL, 2016));
+    }
+
+    @Test
+    public void testOutcomeForNonObdModuleProvidingSpn() {
+        assertEquals(FAIL, instance.getOutcomeForNonObdModuleProvidingSpn(514, DSL, 2016));
+        assertEquals(WARN, instance.getOutcomeForNonObdModuleProvidingSpn(91, DSL, 2013));
+        // compression ignition only
+        assertEquals(FAIL, instance.getOutcomeForNonObdModuleProvidingSpn(3719, DSL, 2013));
+        assertEquals(PASS, instance.getOutcomeForNonObdModuleProvidingSpn(3719, GAS, 2013));
+        assertEquals(FAIL, instance.getOutcomeForNonObdModuleProvidingSpn(51, GAS, 2013));
+    }
+
+    @Test
+    public void testProvidedAndNotSupported() {
+        assertEquals(WARN, instance.getOutcomeForProvidedAndNotSupported(110, DSL, 2013));
+        assertEquals(INFO, instance.getOutcomeForProvidedAndNotSupported(158, DSL, 2013));
+        assertNull(instance.getOutcomeForProvidedAndNotSupported(188, DSL, 2013));
+        assertNull(instance.getOutcomeForProvidedAndNotSupported(2848, DSL, 2016));
+
+        List<Integer> warnSpns = instance.getSPsForOutcomeOfProvidedAndNotSupported(WARN, DSL, 2013);
+        assertTrue(warnSpns.contains(110));
+        assertTrue(!warnSpns.contains(158));
+        // the row order is kept
+        assertEquals(110, (int) warnSpns.get(0));
+    }
+
+    @Test
+    public void testRulesFollowTheVehicle() {
+        assertEquals(WARN, instance.getOutcomeForNonObdModuleProvidingSpn(7315, BATT_ELEC, 2024));
+        assertEquals(PASS, instance.getOutcomeForNonObdModuleProvidingSpn(7315, DSL, 2024));
+        assertEquals(PASS, instance.getOutcomeForNonObdModuleProvidingSpn(7315, BATT_ELEC, 2023));
+        assertEquals(WARN, instance.getOutcomeForNonObdModuleProvidingSpn(7315, BATT_ELEC, 2024));
+    }
+}
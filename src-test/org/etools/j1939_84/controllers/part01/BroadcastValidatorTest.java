@@ -35,6 +35,7 @@ import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.PgnDefinition;
 import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.etools.j1939tools.modules.DateTimeModule;
@@ -248,9 +249,7 @@ public class BroadcastValidatorTest {
         TestResultsListener listener = new TestResultsListener(mockListener);
 
         List<Integer> supportedSPNs = List.of(111, 222, 333, 444, 555, 666, 777);
-        // Helper to make the map
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = instance.buildPGNPacketsMap(packets);
-        instance.reportBroadcastPeriod(packetMap, supportedSPNs, listener, 1, 26);
+        instance.reportBroadcastPeriod(SpnTimeSeries.of(packets), supportedSPNs, listener, 1, 26);
 
         verify(mockListener).addOutcome(1,
                                         26,
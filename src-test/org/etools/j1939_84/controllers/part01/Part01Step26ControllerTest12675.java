@@ -11,7 +11,9 @@ import static org.etools.j1939_84.model.Outcome.WARN;
 import static org.etools.j1939tools.j1939.model.FuelType.DSL;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -22,9 +24,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
@@ -51,6 +51,7 @@ import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
@@ -63,6 +64,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -529,11 +531,6 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64279));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -541,12 +538,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -585,7 +583,9 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                                                any(ResultsListener.class),
                                                                eq(false));
         });
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
 
         //@formatter:off
@@ -1046,11 +1046,6 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64279));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1058,12 +1053,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -1095,7 +1091,8 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 NOx Binning Lifetime Array from Engine #1 (0)" + NL;
@@ -1555,11 +1552,6 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64279));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1567,12 +1559,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -1606,7 +1599,8 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 NOx Binning Lifetime Array from Engine #1 (0)" + NL;
@@ -1954,11 +1948,6 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1966,12 +1955,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -2008,7 +1998,8 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 NOx Binning Lifetime Array from Engine #1 (0)" + NL;
@@ -2307,11 +2298,6 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -2319,12 +2305,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -2361,7 +2348,8 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 NOx Binning Lifetime Array from Engine #1 (0)" + NL;
@@ -2654,11 +2642,6 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64279));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -2666,12 +2649,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -2711,7 +2695,9 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                                                eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
 
         String expected = "10:15:30.0000 NOx Binning Active 100-Hour Array from Engine #1 (0)" + NL;
@@ -2819,12 +2805,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of(packet1));
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111, 111, 444)),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
 
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
@@ -2861,7 +2848,7 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.1.26.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(any(),
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                          any(ResultsListener.class),
                                                          eq("6.1.26.3.e"));
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
@@ -2872,7 +2859,7 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
                                                                eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(),
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(),
                                                      any(ResultsListener.class),
                                                      eq("6.1.26.6.d"));
 
@@ -2927,9 +2914,6 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         packets.add(packet8);
         when(busService.readBus(12, "6.1.26.2.c")).thenReturn(packets.stream());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         when(busService.collectNonOnRequestPGNs(supportedSpns))
                                                                .thenReturn(List.of(11111, 22222, 33333));
 
@@ -2939,12 +2923,13 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(eq(packets));
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(supportedSpns),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator, atLeastOnce()).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                                    eq(packets),
                                                                                    eq(supportedSpns.subList(1,
@@ -2988,7 +2973,10 @@ public class Part01Step26ControllerTest12675 extends AbstractControllerTest {
             verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                               any(ResultsListener.class),
                                                                               eq(false));
-            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(),
+                                                                        any(ResultsListener.class),
+                                                                        any());
         });
         String expected = "";
         assertEquals(expected, listener.getResults());
@@ -12,7 +12,9 @@ import static org.etools.j1939tools.j1939.model.FuelType.DSL;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -23,9 +25,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,6 +53,7 @@ import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
@@ -64,6 +65,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -263,10 +265,9 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of());
-        // verify(broadcastValidator).buildPGNPacketsMap(List.of(packet2));
 
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111,
                                                                     222,
                                                                     333,
@@ -280,6 +281,7 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(List.of(), timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
                                                                     eq(supportedSpns),
@@ -495,7 +497,9 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                    eq("6.1.26.2.c"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
 
         verify(tableA1Validator).reportNotAvailableSPNs(eq(packet2),
                                                         any(ResultsListener.class),
@@ -588,9 +592,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         packets.add(packet8);
         when(busService.readBus(12, "6.1.26.2.c")).thenReturn(packets.stream());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         when(busService.collectNonOnRequestPGNs(supportedSpns))
                                                                .thenReturn(List.of(11111, 22222, 33333));
 
@@ -600,12 +601,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(eq(packets));
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(supportedSpns),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     eq(packets),
                                                                     eq(supportedSpns.subList(1,
@@ -651,7 +653,9 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                                                eq(false));
 
         });
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
         String expected = "";
         assertEquals(expected, listener.getResults());
@@ -735,11 +739,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -747,12 +746,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -791,7 +791,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -890,11 +891,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -902,12 +898,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -950,7 +947,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -1030,11 +1028,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1042,12 +1035,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1094,7 +1088,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -1172,11 +1167,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1184,12 +1174,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1236,7 +1227,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -1334,11 +1326,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1346,12 +1333,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1385,7 +1373,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -1474,11 +1463,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1486,12 +1470,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1546,7 +1531,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -1645,11 +1631,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1657,12 +1638,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1709,7 +1691,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -1813,11 +1796,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1825,12 +1803,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1873,7 +1852,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -1975,11 +1955,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1987,12 +1962,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -2039,7 +2015,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -2115,12 +2092,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of(packet1));
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111, 111, 444)),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
 
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
@@ -2157,7 +2135,7 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.1.26.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(any(),
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                          any(ResultsListener.class),
                                                          eq("6.1.26.3.e"));
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
@@ -2168,7 +2146,7 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                                                eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(),
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(),
                                                      any(ResultsListener.class),
                                                      eq("6.1.26.6.d"));
 
@@ -2260,11 +2238,6 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64256));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -2272,12 +2245,13 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -2311,7 +2285,8 @@ public class Part01Step26ControllerTest12691 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 GHG Active Technology Arrays from Engine #1 (0)" + NL;
@@ -12,7 +12,9 @@ import static org.etools.j1939tools.j1939.model.FuelType.DSL;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -22,9 +24,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,6 +52,7 @@ import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
@@ -63,6 +64,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -262,10 +264,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of());
-//        verify(broadcastValidator).buildPGNPacketsMap(List.of(packet2));
 
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                                    eq(List.of(111,
                                                                               222,
                                                                               333,
@@ -279,6 +280,7 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                                                    any(ResultsListener.class),
                                                                    eq(1),
                                                                    eq(26));
+        assertTimeSeries(List.of(), timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
                                                                     eq(supportedSpns),
@@ -396,7 +398,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                    eq("6.1.26.2.c"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
 
         verify(tableA1Validator).reportNotAvailableSPNs(eq(packet2),
                                                         any(ResultsListener.class),
@@ -751,9 +755,6 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         packets.add(packet8);
         when(busService.readBus(12, "6.1.26.2.c")).thenReturn(packets.stream());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         when(busService.collectNonOnRequestPGNs(supportedSpns))
                                                                .thenReturn(List.of(11111, 22222, 33333));
 
@@ -763,12 +764,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(eq(packets));
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(supportedSpns),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator, atLeastOnce()).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                                    eq(packets),
                                                                                    eq(supportedSpns.subList(1,
@@ -812,7 +814,10 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
             verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                               any(ResultsListener.class),
                                                                               eq(false));
-            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(),
+                                                                        any(ResultsListener.class),
+                                                                        any());
         });
         String expected = "";
         assertEquals(expected, listener.getResults());
@@ -903,11 +908,6 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64254));
         packets.add(response64254);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -915,12 +915,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(any());
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -938,7 +939,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         verify(busService, atLeastOnce()).getPGNsForDSRequest(any(), any());
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
         packets.forEach(packet -> {
             verify(tableA1Validator).reportImplausibleSPNValues(eq(packet),
@@ -1058,11 +1061,6 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64254));
         packets.add(response64254);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1070,12 +1068,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(any());
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1099,7 +1098,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
 
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
         packets.forEach(packet -> {
             verify(tableA1Validator).reportImplausibleSPNValues(eq(packet),
@@ -1227,11 +1228,6 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64254));
         packets.add(response64254);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1239,12 +1235,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(any());
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1267,7 +1264,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                         eq("6.1.26.12.b - Bin value FFFFFA78h is greater than FAFFFFFFh and less than FFFFFFFFh from Engine #1 (0) for SPN 12730, GHG Tracking Lifetime Engine Run Time: Not Available"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
         packets.forEach(packet -> {
             verify(tableA1Validator).reportImplausibleSPNValues(eq(packet),
@@ -1395,11 +1394,6 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
         packets.add(response64254);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1407,12 +1401,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(any());
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1435,7 +1430,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                         eq("6.1.26.14.a - No response was received from Engine #1 (0)"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
         packets.forEach(packet -> {
             verify(tableA1Validator).reportImplausibleSPNValues(eq(packet),
@@ -1560,11 +1557,6 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
         packets.add(response64254);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1572,12 +1564,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(any());
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1600,7 +1593,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                         eq("6.1.26.14.b - No response was received from Engine #1 (0)"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
         packets.forEach(packet -> {
             verify(tableA1Validator).reportImplausibleSPNValues(eq(packet),
@@ -1725,11 +1720,6 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64254));
         packets.add(response64254);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1737,12 +1727,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(any());
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1765,7 +1756,9 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                         eq("6.1.26.14.d - Active 100 hr array value received is greater than zero from Engine #1 (0) for SPN 12704, GHG Tracking Active 100 Hour Engine Output Energy: 90.000 kWh"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.6.d"));
         packets.forEach(packet -> {
             verify(tableA1Validator).reportImplausibleSPNValues(eq(packet),
@@ -1857,12 +1850,13 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of(packet1));
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111, 111, 444)),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
 
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
@@ -1899,7 +1893,7 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.1.26.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(any(),
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                          any(ResultsListener.class),
                                                          eq("6.1.26.3.e"));
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
@@ -1910,7 +1904,7 @@ public class Part01Step26ControllerTest12730 extends AbstractControllerTest {
                                                                eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(),
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(),
                                                      any(ResultsListener.class),
                                                      eq("6.1.26.6.d"));
 
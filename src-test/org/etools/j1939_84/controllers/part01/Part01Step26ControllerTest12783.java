@@ -15,7 +15,9 @@ import static org.etools.j1939tools.modules.GhgTrackingModule.GHG_TRACKING_LIFET
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -26,9 +28,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,6 +56,7 @@ import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
@@ -67,6 +68,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -270,9 +272,9 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of());
 
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111,
                                                                     222,
                                                                     333,
@@ -286,6 +288,7 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(List.of(), timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
                                                                     eq(supportedSpns),
@@ -403,7 +406,9 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
                                    eq("6.1.26.2.c"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
 
         verify(tableA1Validator).reportNotAvailableSPNs(eq(packet2),
                                                         any(ResultsListener.class),
@@ -758,9 +763,6 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         packets.add(packet8);
         when(busService.readBus(12, "6.1.26.2.c")).thenReturn(packets.stream());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         when(busService.collectNonOnRequestPGNs(supportedSpns))
                 .thenReturn(List.of(11111, 22222, 33333));
 
@@ -770,12 +772,13 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(eq(packets));
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(supportedSpns),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator, atLeastOnce()).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                                    eq(packets),
                                                                                    eq(supportedSpns.subList(1,
@@ -819,7 +822,10 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
             verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                               any(ResultsListener.class),
                                                                               eq(false));
-            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(),
+                                                                        any(ResultsListener.class),
+                                                                        any());
         });
         String expected = "";
         assertEquals(expected, listener.getResults());
@@ -897,11 +903,6 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
                                           eq(0x00),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64246));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -909,12 +910,13 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -948,7 +950,8 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1040,11 +1043,6 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
                                           eq(0x00),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64246));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1052,12 +1050,13 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1093,7 +1092,8 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1194,11 +1194,6 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
                                           eq(0x00),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1206,12 +1201,13 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1247,7 +1243,8 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1348,11 +1345,6 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
                                           eq(0x00),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1360,12 +1352,13 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1401,7 +1394,8 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1479,12 +1473,13 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of(packet1));
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111, 111, 444)),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
 
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
@@ -1521,7 +1516,7 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.1.26.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(any(),
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                          any(ResultsListener.class),
                                                          eq("6.1.26.3.e"));
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
@@ -1532,7 +1527,7 @@ public class Part01Step26ControllerTest12783 extends AbstractControllerTest {
                                                                eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(),
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(),
                                                      any(ResultsListener.class),
                                                      eq("6.1.26.6.d"));
 
@@ -12,7 +12,9 @@ import static org.etools.j1939tools.j1939.model.FuelType.DSL;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -23,9 +25,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,6 +53,7 @@ import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
@@ -64,6 +65,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -267,9 +269,9 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of());
 
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111,
                                                                     222,
                                                                     333,
@@ -283,6 +285,7 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(List.of(), timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
                                                                     eq(supportedSpns),
@@ -400,7 +403,9 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
                                    eq("6.1.26.2.c"));
 
         verify(tableA1Validator).reportExpectedMessages(any(ResultsListener.class));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.1.26.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.1.26.3.e"));
 
         verify(tableA1Validator).reportNotAvailableSPNs(eq(packet2),
                                                         any(ResultsListener.class),
@@ -755,9 +760,6 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         packets.add(packet8);
         when(busService.readBus(12, "6.1.26.2.c")).thenReturn(packets.stream());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         when(busService.collectNonOnRequestPGNs(supportedSpns))
                 .thenReturn(List.of(11111, 22222, 33333));
 
@@ -767,12 +769,13 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(eq(packets));
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(supportedSpns),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator, atLeastOnce()).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                                    eq(packets),
                                                                                    eq(supportedSpns.subList(1,
@@ -816,7 +819,10 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
             verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                               any(ResultsListener.class),
                                                                               eq(false));
-            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(),
+                                                                        any(ResultsListener.class),
+                                                                        any());
         });
         String expected = "";
         assertEquals(expected, listener.getResults());
@@ -904,11 +910,6 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64243));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -916,12 +917,13 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -955,7 +957,8 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1059,11 +1062,6 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64243));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1071,12 +1069,13 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1112,7 +1111,8 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1199,11 +1199,6 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1211,12 +1206,13 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1253,7 +1249,8 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1340,11 +1337,6 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1352,12 +1344,13 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
         packets.forEach(packet -> {
             verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(packet.getSourceAddress()),
                                                                         any(),
@@ -1393,7 +1386,8 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         String expected = "10:15:30.0000 GHG Tracking Arrays from Engine #1 (0)" + NL;
         expected += "|--------------------------------+-------------+-------------+-------------|" + NL;
@@ -1471,12 +1465,13 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of(packet1));
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111, 111, 444)),
                                                          any(ResultsListener.class),
                                                          eq(1),
                                                          eq(26));
+        assertTimeSeries(packets, timeSeries.getValue());
 
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
@@ -1513,7 +1508,7 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.1.26.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(any(),
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                          any(ResultsListener.class),
                                                          eq("6.1.26.3.e"));
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
@@ -1524,7 +1519,7 @@ public class Part01Step26ControllerTest12797 extends AbstractControllerTest {
                                                                eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(),
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(),
                                                      any(ResultsListener.class),
                                                      eq("6.1.26.6.d"));
 
@@ -12,7 +12,9 @@ import static org.etools.j1939_84.model.Outcome.WARN;
 import static org.etools.j1939tools.j1939.model.FuelType.DSL;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -23,9 +25,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
@@ -52,6 +52,7 @@ import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
@@ -64,6 +65,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -547,11 +549,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
 
         dataRepository.putObdModule(obdModule0);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -559,12 +556,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -595,7 +593,9 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportNonObdModuleProvidedSPNs(any(),
                                                                                any(ResultsListener.class),
                                                                                eq("6.2.17.3.d"));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.2.17.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.2.17.3.e"));
 
         verify(tableA1Validator, times(3)).reportProvidedButNotSupportedSPNs(any(),
                                                                              any(ResultsListener.class),
@@ -604,7 +604,7 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets),
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                      any(ResultsListener.class),
                                                      eq("6.2.17.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()),
@@ -1089,11 +1089,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
 
         dataRepository.putObdModule(obdModule0);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1101,12 +1096,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -1135,14 +1131,16 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.2.17.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.2.17.3.e"));
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                         any(ResultsListener.class),
+                                                         eq("6.2.17.3.e"));
 
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
                                                                        any(ResultsListener.class),
                                                                        eq("6.2.17.3.f"));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(), any(ResultsListener.class), eq("6.2.17.6.d"));
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(), any(ResultsListener.class), eq("6.2.17.6.d"));
 
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
@@ -1628,11 +1626,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64279));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -1640,12 +1633,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -1682,7 +1676,8 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 NOx Binning Lifetime Array from Engine #1 (0)" + NL;
@@ -2040,11 +2035,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -2052,12 +2042,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -2094,7 +2085,8 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 NOx Binning Lifetime Array from Engine #1 (0)" + NL;
@@ -2523,11 +2515,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.empty());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -2535,12 +2522,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -2577,7 +2565,8 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
                                                                           eq(false));
-        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+        verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(), any(ResultsListener.class), any());
 
         // @formatter:off
         String expected = "10:15:30.0000 NOx Binning Lifetime Array from Engine #1 (0)" + NL;
@@ -3010,11 +2999,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
 
         dataRepository.putObdModule(obdModule0);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -3022,12 +3006,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -3061,14 +3046,16 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.2.17.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.2.17.3.e"));
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                         any(ResultsListener.class),
+                                                         eq("6.2.17.3.e"));
 
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
                                                                        any(ResultsListener.class),
                                                                        eq("6.2.17.3.f"));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(), any(ResultsListener.class), eq("6.2.17.6.d"));
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(), any(ResultsListener.class), eq("6.2.17.6.d"));
 
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
@@ -3564,11 +3551,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
 
         dataRepository.putObdModule(obdModule0);
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -3576,12 +3558,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -3615,14 +3598,16 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.2.17.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.2.17.3.e"));
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                         any(ResultsListener.class),
+                                                         eq("6.2.17.3.e"));
 
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
                                                                        any(ResultsListener.class),
                                                                        eq("6.2.17.3.f"));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(), any(ResultsListener.class), eq("6.2.17.6.d"));
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(), any(ResultsListener.class), eq("6.2.17.6.d"));
 
         verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                           any(ResultsListener.class),
@@ -3968,11 +3953,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
                                           eq(0),
                                           any(CommunicationsListener.class))).thenAnswer(answer -> BusResult.of(response64279));
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        packetMap.put(11111, Map.of(0, List.of(packet1)));
-        packetMap.put(33333, Map.of(0, List.of(packet3)));
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         Bus busMock = mock(Bus.class);
         when(j1939.getBus()).thenReturn(busMock);
         when(busMock.imposterDetected()).thenReturn(false);
@@ -3980,12 +3960,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(packets);
-        verify(broadcastValidator).reportBroadcastPeriod(eq(packetMap),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          any(),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                     any(),
                                                                     eq(Collections.emptyList()),
@@ -4025,7 +4006,9 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
                                                                               eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(eq(packets), any(ResultsListener.class), eq("6.2.17.3.e"));
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
+                                                     any(ResultsListener.class),
+                                                     eq("6.2.17.3.e"));
         verify(tableA1Validator).reportDuplicateSPNs(eq(List.of()), any(ResultsListener.class), eq("6.2.17.6.d"));
 
         String expected = "10:15:30.0000 NOx Binning Active 100-Hour Array from Engine #1 (0)" + NL;
@@ -4133,12 +4116,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(List.of(packet1));
-        verify(broadcastValidator).reportBroadcastPeriod(eq(Map.of()),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(List.of(111, 111, 444)),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
 
         verify(broadcastValidator).collectAndReportNotAvailableSPNs(eq(0),
                                                                     eq(List.of()),
@@ -4175,7 +4159,7 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
             verify(tableA1Validator).reportNonObdModuleProvidedSPNs(eq(packet),
                                                                     any(ResultsListener.class),
                                                                     eq("6.2.17.3.d"));
-            verify(tableA1Validator).reportDuplicateSPNs(any(),
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                          any(ResultsListener.class),
                                                          eq("6.2.17.3.e"));
             verify(tableA1Validator).reportProvidedButNotSupportedSPNs(eq(packet),
@@ -4186,11 +4170,11 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
                                                                eq(false));
         });
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(),
+        verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()),
                                                      any(ResultsListener.class),
                                                      eq("6.2.17.3.e"));
 
-        verify(tableA1Validator).reportDuplicateSPNs(any(),
+        verify(tableA1Validator).reportDuplicateSPNs(anyList(),
                                                      any(ResultsListener.class),
                                                      eq("6.2.17.6.d"));
 
@@ -4245,9 +4229,6 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         packets.add(packet8);
         when(busService.readBus(12, "6.2.17.2.c")).thenReturn(packets.stream());
 
-        Map<Integer, Map<Integer, List<GenericPacket>>> packetMap = new HashMap<>();
-        when(broadcastValidator.buildPGNPacketsMap(packets)).thenReturn(packetMap);
-
         when(busService.collectNonOnRequestPGNs(supportedSpns))
                                                                .thenReturn(List.of(11111, 22222, 33333));
 
@@ -4257,12 +4238,13 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
         runTest();
 
         verify(broadcastValidator).getMaximumBroadcastPeriod();
-        verify(broadcastValidator).buildPGNPacketsMap(eq(packets));
-        verify(broadcastValidator).reportBroadcastPeriod(any(),
+        ArgumentCaptor<SpnTimeSeries> timeSeries = ArgumentCaptor.forClass(SpnTimeSeries.class);
+        verify(broadcastValidator).reportBroadcastPeriod(timeSeries.capture(),
                                                          eq(supportedSpns),
                                                          any(ResultsListener.class),
                                                          eq(2),
                                                          eq(17));
+        assertTimeSeries(packets, timeSeries.getValue());
         verify(broadcastValidator, atLeastOnce()).collectAndReportNotAvailableSPNs(eq(0x00),
                                                                                    eq(packets),
                                                                                    eq(supportedSpns.subList(1,
@@ -4306,7 +4288,10 @@ public class Part02Step17ControllerTest12675 extends AbstractControllerTest {
             verify(tableA1Validator, atLeastOnce()).reportPacketIfNotReported(any(),
                                                                               any(ResultsListener.class),
                                                                               eq(false));
-            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(any(), any(ResultsListener.class), any());
+            verify(tableA1Validator).reportDuplicateSPNs(same(timeSeries.getValue()), any(ResultsListener.class), any());
+            verify(tableA1Validator, atLeastOnce()).reportDuplicateSPNs(anyList(),
+                                                                        any(ResultsListener.class),
+                                                                        any());
         });
         String expected = "";
         assertEquals(expected, listener.getResults());
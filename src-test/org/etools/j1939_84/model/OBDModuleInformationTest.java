@@ -1,10 +1,16 @@
 package org.etools.j1939_84.model;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+
 import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
+import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.junit.Test;
 
 public class OBDModuleInformationTest {
@@ -17,4 +23,35 @@ public class OBDModuleInformationTest {
         assertTrue(o.supportsSpn(190));
         assertFalse(o.supportsSpn(12730));
     }
+
+    @Test
+    public void testSpnViews() {
+        var o = new OBDModuleInformation(0);
+        SupportedSPN spn190 = SupportedSPN.create(190, false, true, false, false, 1);
+        SupportedSPN spn92 = SupportedSPN.create(92, true, false, true, false, 1);
+        SupportedSPN spn588 = SupportedSPN.create(588, false, true, false, false, 1);
+        o.set(DM24SPNSupportPacket.create(0, spn190, spn92, spn588), 1);
+
+        assertEquals(List.of(spn92, spn190, spn588), o.getSupportedSPNs());
+        assertArrayEquals(new int[] { 92, 190, 588 }, o.getSupportedSpnIds());
+        assertEquals(List.of(spn190, spn588), o.getDataStreamSPNs());
+        // 588 is omitted by default
+        assertEquals(List.of(spn190), o.getFilteredDataStreamSPNs());
+        assertEquals(List.of(spn92), o.getFreezeFrameSPNs());
+        assertEquals(List.of(spn92), o.getTestResultSPNs());
+        assertSame(o.getSupportedSPNs(), o.getSupportedSPNs());
+        assertSame(o.getSupportedSPNs(), o.clone().getSupportedSPNs());
+
+        o.addOmittedDataStreamSPN(190);
+        assertEquals(List.of(), o.getFilteredDataStreamSPNs());
+        assertTrue(o.getOmittedDataStreamSPNs().contains(190));
+
+        // a newer DM24 replaces the views
+        SupportedSPN spn512 = SupportedSPN.create(512, false, true, false, false, 1);
+        o.set(DM24SPNSupportPacket.create(0, spn512), 1);
+        assertEquals(List.of(spn512), o.getSupportedSPNs());
+        assertTrue(o.supportsSpn(512));
+        assertFalse(o.supportsSpn(92));
+        assertFalse(o.supportsSpn(-1));
+    }
 }
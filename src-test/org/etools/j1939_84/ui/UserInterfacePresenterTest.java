@@ -10,10 +10,13 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -21,6 +24,8 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,7 +38,9 @@ import org.etools.j1939_84.modules.ReportFileModule;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
@@ -50,6 +57,8 @@ import org.etools.j1939tools.bus.BusException;
 import org.etools.j1939tools.bus.RP1210;
 import org.etools.j1939tools.bus.RP1210Bus;
 import org.etools.j1939tools.j1939.J1939;
+import org.etools.j1939tools.j1939.J1939DaPlugins;
+import org.etools.j1939tools.modules.DiagnosticStateModule;
 
 /**
  * Unit testing the {@link UserInterfacePresenter}
@@ -83,6 +92,10 @@ public class UserInterfacePresenterTest {
     private UserInterfaceContract.View view;
     @Mock
     J1939 j1939;
+    @Mock
+    private DiagnosticStateModule diagnosticStateModule;
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     private static File mockFile(boolean newFile) throws IOException {
         File file = mock(File.class);
@@ -109,7 +122,8 @@ public class UserInterfacePresenterTest {
                                               runtime,
                                               executor,
                                               overallController,
-                                              j1939);
+                                              j1939,
+                                              diagnosticStateModule);
         ArgumentCaptor<Thread> captor = ArgumentCaptor.forClass(Thread.class);
         verify(runtime).addShutdownHook(captor.capture());
         shutdownHook = captor.getValue();
@@ -503,6 +517,40 @@ public class UserInterfacePresenterTest {
         instance.onHelpButtonClicked();
     }
 
+    @Test
+    public void testOnReloadJ1939DaButtonClicked() {
+        System.setProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME, folder.getRoot().getPath());
+        try {
+            instance.onReloadJ1939DaButtonClicked();
+
+            verify(view, timeout(5000)).displayDialog(startsWith("Loaded 0 J1939DA plugin file(s) from "),
+                                                      eq("J1939DA Reloaded"),
+                                                      eq(JOptionPane.INFORMATION_MESSAGE),
+                                                      eq(false));
+        } finally {
+            System.clearProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME);
+        }
+    }
+
+    @Test
+    public void testOnReloadJ1939DaButtonClickedWithInvalidPlugins() throws Exception {
+        // the SPN uses a SLOT that isn't defined
+        Files.write(folder.getRoot().toPath().resolve("oem.csv"),
+                    List.of("65346,OEM Test Group,OEMTG,100 ms,1-2,520100,OEM Test Pressure,39999"),
+                    StandardCharsets.ISO_8859_1);
+        System.setProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME, folder.getRoot().getPath());
+        try {
+            instance.onReloadJ1939DaButtonClicked();
+
+            verify(view, timeout(5000)).displayDialog(contains("Invalid J1939DA plugins"),
+                                                      eq("Unable to reload J1939DA"),
+                                                      eq(JOptionPane.ERROR_MESSAGE),
+                                                      eq(false));
+        } finally {
+            System.clearProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME);
+        }
+    }
+
 //    @Test
     public void testOnReadVehicleInfoButtonClickedWithNullCals() throws Exception {
         when(vehicleInformationModule.getVin()).thenReturn("12345678901234567890");
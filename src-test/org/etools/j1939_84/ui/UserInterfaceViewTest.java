@@ -121,6 +121,16 @@ public class UserInterfaceViewTest {
         verify(controller).onHelpButtonClicked();
     }
 
+    @Test
+    public void testReloadJ1939DaButton() {
+        JButton button = instance.getReloadJ1939DaButton();
+        assertEquals("Reload J1939DA", button.getText());
+        assertTrue(button.isEnabled());
+
+        button.doClick();
+        verify(controller).onReloadJ1939DaButtonClicked();
+    }
+
     @Test
     public void testProgressBar() {
         JProgressBar progressBar = instance.getProgressBar();
@@ -3,8 +3,12 @@
  */
 package org.etools.j1939_84.utils;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.Executor;
 
 import org.etools.j1939_84.controllers.Controller;
@@ -14,6 +18,10 @@ import org.etools.j1939_84.modules.ReportFileModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.j1939.J1939;
+import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries.Column;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries.PgnSamples;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.mockito.ArgumentCaptor;
@@ -79,4 +87,42 @@ public abstract class AbstractControllerTest {
     protected GenericPacket newGenericPacket(Packet p) {
         return (GenericPacket) J1939.processRaw(p.getPgn(), p);
     }
+
+    /**
+     * Verifies the time series holds a sample of each packet: the same
+     * source addresses, the same SPNs and sample counts from each source and,
+     * for the packets with a {@link Packet}, the same PGNs and sample counts
+     */
+    protected static void assertTimeSeries(List<GenericPacket> packets, SpnTimeSeries timeSeries) {
+        Map<Integer, Map<Integer, Integer>> expectedSpns = new TreeMap<>();
+        Map<Integer, Map<Integer, Integer>> expectedPgns = new TreeMap<>();
+        for (GenericPacket packet : packets) {
+            Map<Integer, Integer> sourceSpns = expectedSpns.computeIfAbsent(packet.getSourceAddress(),
+                                                                            sa -> new TreeMap<>());
+            for (Spn spn : packet.getSpns()) {
+                sourceSpns.merge(spn.getId(), 1, Integer::sum);
+            }
+            if (packet.getPacket() != null) {
+                expectedPgns.computeIfAbsent(packet.getPacket().getPgn(), pgn -> new TreeMap<>())
+                            .merge(packet.getSourceAddress(), 1, Integer::sum);
+            }
+        }
+
+        Map<Integer, Map<Integer, Integer>> actualSpns = new TreeMap<>();
+        for (int sourceAddress : timeSeries.getSourceAddresses()) {
+            Map<Integer, Integer> sourceSpns = actualSpns.computeIfAbsent(sourceAddress, sa -> new TreeMap<>());
+            for (Column column : timeSeries.getColumns(sourceAddress)) {
+                sourceSpns.put(column.getSpn(), column.size());
+            }
+        }
+        Map<Integer, Map<Integer, Integer>> actualPgns = new TreeMap<>();
+        for (int pgn : timeSeries.getPgns()) {
+            for (PgnSamples samples : timeSeries.getPgnSamples(pgn)) {
+                actualPgns.computeIfAbsent(pgn, p -> new TreeMap<>()).put(samples.getSourceAddress(), samples.size());
+            }
+        }
+
+        assertEquals(expectedSpns, actualSpns);
+        assertEquals(expectedPgns, actualPgns);
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.bus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link PacketBuilder} class
+ */
+public class PacketBuilderTest {
+
+    @Test
+    public void testLittleEndian() {
+        Packet instance = new PacketBuilder(0x1234, 0x56).put8(0x1FF)
+                                                         .put16(0xABCD)
+                                                         .put24(0x123456)
+                                                         .put32(0xFEDCBA98L)
+                                                         .build();
+        assertEquals(0x1234, instance.getId(0xFFFF));
+        assertEquals(0x56, instance.getSource());
+        assertEquals(6, instance.getPriority());
+        assertArrayEquals(new int[] { 0xFF, 0xCD, 0xAB, 0x56, 0x34, 0x12, 0x98, 0xBA, 0xDC, 0xFE },
+                          instance.getData(0, instance.getLength()));
+    }
+
+    @Test
+    public void testSameAsCreate() {
+        Packet expected = Packet.create(0x1234, 0x56, 0x01, 0xFF, 0x80, 0x7F);
+        Packet instance = new PacketBuilder(0x1234, 0x56).put(0x01, -1).put((byte) 0x80, (byte) 0x7F).build();
+        assertEquals(expected.toString(), instance.toString());
+        assertTrue(expected.equals(instance));
+    }
+
+    @Test
+    public void testFillAndBits() {
+        Packet instance = new PacketBuilder(0x1234, 0x56).put8(0x0F).fill(3, 0xFF).putBits(0, 5, 3, 0x05).build();
+        assertArrayEquals(new int[] { 0x5F, 0xFF, 0xFF, 0xFF }, instance.getData(0, 4));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBitsNotWritten() {
+        new PacketBuilder(0x1234, 0x56).put8(0).putBits(1, 1, 1, 1);
+    }
+
+    @Test
+    public void testAscii() {
+        Packet instance = new PacketBuilder(0x1234, 0x56).putAsciiTerminated("ABé").build();
+        assertArrayEquals(new int[] { 'A', 'B', '?', '*' }, instance.getData(0, 4));
+    }
+
+    @Test
+    public void testGrows() {
+        PacketBuilder builder = new PacketBuilder(0x1234, 0x56, 0);
+        for (int i = 0; i < 100; i++) {
+            builder.put8(i);
+        }
+        assertEquals(100, builder.length());
+        Packet instance = builder.build();
+        assertEquals(100, instance.getLength());
+        assertEquals(99, instance.get(99));
+    }
+
+    @Test
+    public void testHeader() {
+        LocalDateTime timestamp = LocalDateTime.of(2022, 1, 2, 3, 4, 5);
+        Packet instance = new PacketBuilder(0x1234, 0x56).priority(3)
+                                                         .transmitted(true)
+                                                         .timestamp(timestamp)
+                                                         .put8(1)
+                                                         .build();
+        assertEquals(3, instance.getPriority());
+        assertTrue(instance.isTransmitted());
+        assertEquals(timestamp, instance.getTimestamp());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuildsOnce() {
+        PacketBuilder builder = new PacketBuilder(0x1234, 0x56).put8(1);
+        builder.build();
+        builder.put8(2);
+    }
+}
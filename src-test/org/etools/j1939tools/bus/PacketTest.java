@@ -8,6 +8,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDateTime;
+
 import org.etools.j1939tools.modules.DateTimeModule;
 import org.etools.j1939tools.modules.TestDateTimeModule;
 import org.junit.After;
@@ -230,4 +232,34 @@ public class PacketTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testWaitsForData() throws Exception {
+        Packet instance = new Packet(LocalDateTime.now(), 7, 0xEA00, 0x00, false, (int[]) null);
+        Packet other = new Packet(LocalDateTime.now(), 7, 0xEA00, 0x01, false, (int[]) null);
+        Thread thread = new Thread(() -> {
+            other.fail();
+            instance.setData((byte) 1, (byte) 2);
+        });
+        thread.start();
+
+        assertArrayEquals(new int[] { 1, 2 }, instance.getData(0, 2));
+        assertFalse(other.isValid());
+        thread.join();
+    }
+
+    @Test
+    public void testWaitsForFail() {
+        Packet instance = new Packet(LocalDateTime.now(), 7, 0xEA00, 0x00, false, (int[]) null);
+        new Thread(instance::fail).start();
+
+        assertFalse(instance.isValid());
+    }
+
+    @Test(expected = Packet.PacketException.class)
+    public void testSetDataOnce() {
+        Packet instance = new Packet(LocalDateTime.now(), 7, 0xEA00, 0x00, false, (int[]) null);
+        instance.setData((byte) 1);
+        instance.setData((byte) 2);
+    }
+
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.packets.BitSlot;
+import org.etools.j1939tools.j1939.packets.Slot;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Verifies the {@link J1939DaImage} holds exactly what is parsed from the
+ * J1939DA CSV files
+ */
+public class J1939DaImageTest {
+
+    private static J1939DaImage csv;
+
+    @BeforeClass
+    public static void setUpClass() {
+        csv = J1939DaRepository.compileCsv();
+    }
+
+    private static String describe(SpnDefinition s) {
+        return s.getSpnId() + "|" + s.getLabel() + "|" + s.getStartByte() + "|" + s.getStartBit() + "|"
+                + s.getSlotNumber();
+    }
+
+    private static String describe(PgnDefinition p) {
+        return p.getId() + "|" + p.getLabel() + "|" + p.getAcronym() + "|" + p.isOnRequest() + "|"
+                + p.isVariableBroadcast() + "|" + p.getBroadcastPeriod() + "|"
+                + p.getSpnDefinitions().stream().map(J1939DaImageTest::describe).collect(Collectors.toList());
+    }
+
+    private static String describe(Slot s) {
+        String description = s.getClass().getSimpleName() + "|" + s.getId() + "|" + s.getName() + "|" + s.getType()
+                + "|" + s.getScaling() + "|" + s.getOffset() + "|" + s.getUnit() + "|" + s.getLength();
+        if (s instanceof BitSlot) {
+            description += "|" + new TreeMap<>(((BitSlot) s).getValues());
+        }
+        return description;
+    }
+
+    private static void assertSameDefinitions(J1939DaImage expected, J1939DaImage actual) {
+        assertEquals(describeAll(expected.getSpnDefinitions(), J1939DaImageTest::describe),
+                     describeAll(actual.getSpnDefinitions(), J1939DaImageTest::describe));
+        assertEquals(describeAll(expected.getPgnDefinitions(), J1939DaImageTest::describe),
+                     describeAll(actual.getPgnDefinitions(), J1939DaImageTest::describe));
+        assertEquals(describeAll(expected.getSlots(), J1939DaImageTest::describe),
+                     describeAll(actual.getSlots(), J1939DaImageTest::describe));
+    }
+
+    private static <T> List<String> describeAll(Map<Integer, T> map,
+                                                Function<T, String> describe) {
+        return new TreeMap<>(map).entrySet()
+                                 .stream()
+                                 .map(e -> e.getKey() + "=" + describe.apply(e.getValue()))
+                                 .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testWriteRead() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        csv.write(out);
+        J1939DaImage image = J1939DaImage.read(ByteBuffer.wrap(out.toByteArray()));
+
+        assertSameDefinitions(csv, image);
+    }
+
+    @Test
+    public void testCompiledImageMatchesCsv() {
+        // the image is created by the build; it's missing when run from the sources alone
+        J1939DaImage image = J1939DaImage.load();
+        assumeNotNull(image);
+
+        assertSameDefinitions(csv, image);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadOtherFormat() throws Exception {
+        J1939DaImage.read(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 0, 0, 0, 1 }));
+    }
+}
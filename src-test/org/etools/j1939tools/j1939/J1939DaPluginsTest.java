@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import static org.etools.j1939tools.j1939.OemPlugins.OEM_PGN;
+import static org.etools.j1939tools.j1939.OemPlugins.OEM_SPN;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for the {@link J1939DaPlugins} class
+ */
+public class J1939DaPluginsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        OemPlugins.reset();
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        J1939DaPlugins instance = J1939DaPlugins.load(OemPlugins.write(folder.getRoot().toPath()));
+
+        assertEquals(2, instance.getFiles().size());
+        PgnDefinition pgnDefinition = instance.findPgnDefinition(OEM_PGN);
+        assertEquals("OEM Test Group", pgnDefinition.getLabel());
+        assertEquals(100, pgnDefinition.getBroadcastPeriod());
+        assertEquals(2, pgnDefinition.getSpnDefinitions().size());
+        assertEquals("OEM Test Pressure", instance.findSpnDefinition(OEM_SPN).getLabel());
+        assertEquals("OEM Pressure", instance.findSlot(30001, OEM_SPN).getName());
+        assertArrayEquals(new int[] { OEM_PGN }, instance.getPgnsForSpn(OEM_SPN));
+    }
+
+    @Test
+    public void testMissingDirectory() {
+        assertTrue(J1939DaPlugins.load(folder.getRoot().toPath().resolve("missing")).isEmpty());
+    }
+
+    @Test
+    public void testCompiledPlugin() throws IOException {
+        J1939DaPlugins csv = J1939DaPlugins.load(OemPlugins.write(folder.newFolder("csv").toPath()));
+        Path compiled = folder.newFolder("bin").toPath();
+        try (OutputStream out = Files.newOutputStream(compiled.resolve("oem.bin"))) {
+            csv.toImage().write(out);
+        }
+
+        J1939DaPlugins instance = J1939DaPlugins.load(compiled);
+        assertEquals("OEM Test Group", instance.findPgnDefinition(OEM_PGN).getLabel());
+        assertEquals(0.5, instance.findSlot(30001, OEM_SPN).getScaling(), 0.0);
+    }
+
+    @Test
+    public void testReload() throws IOException {
+        J1939DaRepository repository = J1939DaRepository.getInstance();
+        PgnDefinition daDefinition = repository.findPgnDefinition(OEM_PGN);
+        assertEquals("Proprietary B", daDefinition.getLabel());
+
+        System.setProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME, OemPlugins.write(folder.getRoot().toPath()).toString());
+        assertEquals(2, repository.reloadPlugins().size());
+
+        Packet packet = Packet.create(OEM_PGN, 0x00, 0x64, 0x00, 0x07, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF);
+        GenericPacket genericPacket = new GenericPacket(packet);
+        assertEquals("OEM Test Group", genericPacket.getName());
+        assertEquals(50.0, genericPacket.getSpnValue(OEM_SPN).orElseThrow(), 0.0);
+        assertEquals(7.0, genericPacket.getSpnValue(OEM_SPN + 1).orElseThrow(), 0.0);
+        assertEquals("OEM Test Pressure", Lookup.getSpnName(OEM_SPN));
+        assertTrue(repository.getPgnForSpn(OEM_SPN).contains(OEM_PGN));
+
+        System.clearProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME);
+        assertTrue(repository.reloadPlugins().isEmpty());
+        assertEquals("Proprietary B", repository.findPgnDefinition(OEM_PGN).getLabel());
+    }
+}
@@ -161,6 +161,26 @@ public class J1939DaRepositoryTest {
                          });
     }
 
+    @Test
+    public void testPgnIndexesMatchDefinitions() {
+        J1939DaRepository j1939da = J1939DaRepository.getInstance();
+        for (int spn : j1939da.getSpnDefinitions().keySet()) {
+            List<Integer> expected = j1939da.getPgnForSpn(spn) == null ? List.of()
+                    : j1939da.getPgnForSpn(spn).stream().sorted().collect(Collectors.toList());
+            assertEquals("SPN " + spn,
+                         expected,
+                         Arrays.stream(j1939da.getPgnsForSpn(spn)).boxed().collect(Collectors.toList()));
+        }
+        for (PgnDefinition pgnDefinition : j1939da.getPgnDefinitions().values()) {
+            int pgn = pgnDefinition.getId();
+            assertEquals(pgnDefinition.isOnRequest(), j1939da.isOnRequest(pgn));
+            assertEquals(pgnDefinition.getBroadcastPeriod(), j1939da.getBroadcastPeriod(pgn));
+        }
+        assertEquals(0, j1939da.getPgnsForSpn(-12345).length);
+        assertFalse(j1939da.isOnRequest(-12345));
+        assertEquals(0, j1939da.getBroadcastPeriod(-12345));
+    }
+
     @Test
     public void parsingNumbers() {
         // 0
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import static org.etools.j1939tools.j1939.OemPlugins.OEM_PGN;
+import static org.etools.j1939tools.j1939.OemPlugins.OEM_SPN;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.packets.Slot;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for the {@link J1939DaSnapshot} class
+ */
+public class J1939DaSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        OemPlugins.reset();
+    }
+
+    private Path writePlugins(String name, int slot) throws IOException {
+        return OemPlugins.write(folder.newFolder(name).toPath(), slot);
+    }
+
+    @Test
+    public void testBuild() throws IOException {
+        J1939DaImage da = J1939DaRepository.getInstance().getSnapshot().getDa();
+        J1939DaSnapshot instance = J1939DaSnapshot.build(da, J1939DaPlugins.load(writePlugins("valid", 30001)));
+
+        assertTrue(instance.validate().isEmpty());
+        assertEquals("OEM Test Group", instance.findPgnDefinition(OEM_PGN).getLabel());
+        assertEquals("OEM Test Pressure", instance.getSpnLabel(OEM_SPN));
+        assertEquals("OEM Pressure", instance.findSlot(30001, OEM_SPN).getName());
+        assertArrayEquals(new int[] { OEM_PGN }, instance.getPgnsForSpn(OEM_SPN));
+        assertEquals(da.getPgnDefinitions().size(), instance.getPgnDefinitions().size());
+        // the DA's definitions aren't changed
+        assertEquals("Proprietary B", da.getPgnDefinitions().get(OEM_PGN).getLabel());
+    }
+
+    @Test
+    public void testValidateUnknownSlot() throws IOException {
+        J1939DaImage da = J1939DaRepository.getInstance().getSnapshot().getDa();
+        J1939DaSnapshot instance = J1939DaSnapshot.build(da, J1939DaPlugins.load(writePlugins("invalid", 39999)));
+
+        assertEquals(List.of("SPN " + OEM_SPN + " has unknown SLOT 39999"), instance.validate());
+    }
+
+    @Test
+    public void testInvalidReloadKeepsSnapshot() throws IOException {
+        J1939DaRepository repository = J1939DaRepository.getInstance();
+        J1939DaSnapshot expected = repository.getSnapshot();
+
+        System.setProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME, writePlugins("invalid", 39999).toString());
+        try {
+            repository.reloadPlugins();
+            fail("The plugins aren't valid");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("39999"));
+        }
+        assertSame(expected, repository.getSnapshot());
+        assertEquals("Proprietary B", repository.findPgnDefinition(OEM_PGN).getLabel());
+    }
+
+    @Test
+    public void testReloadInBackground() throws Exception {
+        J1939DaRepository repository = J1939DaRepository.getInstance();
+
+        System.setProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME, writePlugins("valid", 30001).toString());
+        assertEquals(2, repository.reloadPluginsInBackground().get(30, TimeUnit.SECONDS).size());
+        assertEquals("OEM Test Group", repository.findPgnDefinition(OEM_PGN).getLabel());
+
+        System.setProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME, writePlugins("invalid", 39999).toString());
+        try {
+            repository.reloadPluginsInBackground().get(30, TimeUnit.SECONDS);
+            fail("The plugins aren't valid");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals("OEM Test Group", repository.findPgnDefinition(OEM_PGN).getLabel());
+    }
+
+    @Test
+    public void testLookupsDuringReloads() throws Exception {
+        J1939DaRepository repository = J1939DaRepository.getInstance();
+        Path valid = writePlugins("valid", 30001);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> error = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                J1939DaSnapshot snapshot = repository.getSnapshot();
+                PgnDefinition pgnDefinition = snapshot.findPgnDefinition(OEM_PGN);
+                Slot slot = snapshot.findSlot(30001, OEM_SPN);
+                boolean plugin = pgnDefinition.getLabel().equals("OEM Test Group");
+                if (plugin != (snapshot.getPgnsForSpn(OEM_SPN).length == 1)
+                        || plugin != (slot != null && "OEM Pressure".equals(slot.getName()))) {
+                    error.set("Mixed definitions in one snapshot");
+                }
+            }
+        });
+        reader.start();
+        try {
+            for (int i = 0; i < 10; i++) {
+                if (i % 2 == 0) {
+                    System.setProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME, valid.toString());
+                } else {
+                    System.clearProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME);
+                }
+                repository.reloadPlugins();
+            }
+        } finally {
+            done.set(true);
+            reader.join();
+        }
+        assertNull(error.get());
+    }
+}
@@ -42,6 +42,7 @@ import org.etools.j1939tools.j1939.packets.DM7CommandTestsPacket;
 import org.etools.j1939tools.j1939.packets.EngineHoursPacket;
 import org.etools.j1939tools.j1939.packets.EngineSpeedPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.j1939.packets.VehicleIdentificationPacket;
 import org.etools.testdoc.TestDoc;
 import org.junit.Assert;
@@ -1071,6 +1072,33 @@ public class J1939Test {
         verify(bus).send(request);
     }
 
+    @Test
+    public void testProcessRawDecodesPacketOnce() {
+        Packet packet = Packet.create(EngineSpeedPacket.PGN, ENGINE_ADDR, 1, 2, 3, 4, 5, 6, 7, 8);
+        long hits = J1939.getParseCacheHits();
+        long misses = J1939.getParseCacheMisses();
+
+        ParsedPacket first = J1939.processRaw(packet.getPgn(), packet);
+        ParsedPacket second = J1939.processRaw(packet.getPgn(), packet);
+
+        assertTrue(first instanceof EngineSpeedPacket);
+        assertTrue(first == second);
+        assertTrue(packet.getParsedPacket() == first);
+        assertEquals(hits + 1, J1939.getParseCacheHits());
+        assertEquals(misses + 1, J1939.getParseCacheMisses());
+    }
+
+    @Test
+    public void testProcessRawWithOtherPgnIsNotCached() {
+        Packet packet = Packet.create(EngineSpeedPacket.PGN, ENGINE_ADDR, 1, 2, 3, 4, 5, 6, 7, 8);
+
+        ParsedPacket generic = J1939.processRaw(DM5DiagnosticReadinessPacket.PGN, packet);
+
+        assertTrue(generic instanceof DM5DiagnosticReadinessPacket);
+        assertNull(packet.getParsedPacket());
+        assertTrue(J1939.processRaw(packet.getPgn(), packet) instanceof EngineSpeedPacket);
+    }
+
     final private static class TestPacket extends GenericPacket {
         // used by tests in getPgn(Packet)
         @SuppressWarnings("unused")
@@ -4,6 +4,7 @@
 package org.etools.j1939tools.j1939;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 
@@ -20,6 +21,9 @@ public class LookupTest {
         assertEquals("Global (255)", Lookup.getAddressName(255));
         assertEquals("DPF Controller (85)", Lookup.getAddressName(85));
         assertEquals("Unknown (-1)", Lookup.getAddressName(-1));
+        assertEquals("Unknown (209)", Lookup.getAddressName(209));
+        assertEquals("Unknown (256)", Lookup.getAddressName(256));
+        assertSame(Lookup.getAddressName(0), Lookup.getAddressName(0));
     }
 
     @Test
@@ -59,6 +63,7 @@ public class LookupTest {
         assertEquals("Reserved For SAE Assignment", Lookup.getFmiDescription(30));
         assertEquals("Condition Exists", Lookup.getFmiDescription(31));
         assertEquals("Unknown", Lookup.getFmiDescription(-1));
+        assertEquals("Unknown", Lookup.getFmiDescription(32));
     }
 
     @Test
@@ -67,6 +72,8 @@ public class LookupTest {
         assertEquals("Cummins Inc (formerly Cummins Engine Co)", Lookup.getManufacturer(10));
         assertEquals("Equipment & Tool Institute", Lookup.getManufacturer(2047));
         assertEquals("Unknown", Lookup.getManufacturer(-1));
+        assertEquals("Unknown", Lookup.getManufacturer(426));
+        assertEquals("Unknown", Lookup.getManufacturer(2048));
     }
 
     @Test
@@ -75,5 +82,6 @@ public class LookupTest {
         assertEquals("Engine Fuel Supply Pump Actuator", Lookup.getSpnName(931));
         assertEquals("Manufacturer Assignable SPN (last entry)", Lookup.getSpnName(524287));
         assertEquals("Unknown", Lookup.getSpnName(-1));
+        assertEquals(J1939DaRepository.getInstance().findSpnDefinition(190).getLabel(), Lookup.getSpnName(190));
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The {@link J1939DaPlugins} files the tests of the plugins load: an OEM
+ * proprietary PGN, its SPNs and their SLOTs
+ */
+final class OemPlugins {
+
+    /**
+     * A Proprietary B PGN of the J1939DA
+     */
+    static final int OEM_PGN = 0xFF42;
+
+    static final int OEM_SPN = 520100;
+
+    private OemPlugins() {
+    }
+
+    /**
+     * Writes the plugins for the OEM PGN with two SPNs, a pressure at bytes
+     * 1-2 and a count at byte 3, and their SLOTs 30001 and 30002
+     *
+     * @return the directory
+     */
+    static Path write(Path directory) throws IOException {
+        Files.write(directory.resolve("oem.csv"),
+                    List.of("; OEM proprietary PGN",
+                            OEM_PGN + ",OEM Test Group,OEMTG,100 ms,1-2," + OEM_SPN + ",OEM Test Pressure,30001",
+                            OEM_PGN + ",OEM Test Group,OEMTG,100 ms,3," + (OEM_SPN + 1) + ",OEM Test Count,30002"),
+                    StandardCharsets.ISO_8859_1);
+        Files.write(directory.resolve("oem-slots.csv"),
+                    List.of("30001,OEM Pressure,Pressure,0.5,kPa,0,16", "30002,OEM Count,Count,1,count,0,8"),
+                    StandardCharsets.UTF_8);
+        return directory;
+    }
+
+    /**
+     * Writes the plugins for the OEM PGN with only the pressure SPN, which
+     * uses the given SLOT, and SLOT 30001
+     *
+     * @return the directory
+     */
+    static Path write(Path directory, int slot) throws IOException {
+        Files.write(directory.resolve("oem.csv"),
+                    List.of(OEM_PGN + ",OEM Test Group,OEMTG,100 ms,1-2," + OEM_SPN + ",OEM Test Pressure," + slot),
+                    StandardCharsets.ISO_8859_1);
+        Files.write(directory.resolve("oem-slots.csv"),
+                    List.of("30001,OEM Pressure,Pressure,0.5,kPa,0,16"),
+                    StandardCharsets.UTF_8);
+        return directory;
+    }
+
+    /**
+     * Uses the J1939DA without plugins again, after a test that loaded some
+     */
+    static void reset() {
+        System.clearProperty(J1939DaPlugins.DIRECTORY_PROPERTY_NAME);
+        J1939DaRepository.getInstance().reloadPlugins();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.packets.DM1ActiveDTCsPacket;
+import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
+import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.etools.j1939tools.j1939.packets.GhgActiveTechnologyPacket;
+import org.etools.j1939tools.j1939.packets.ParsedPacket;
+import org.etools.j1939tools.modules.GhgTrackingModule;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link PacketParserRegistry} class
+ */
+public class PacketParserRegistryTest {
+
+    private static final int OEM_PGN = 0xFF42;
+
+    private final PacketParserRegistry instance = PacketParserRegistry.getInstance();
+
+    @Test
+    public void testGetPgn() {
+        assertEquals(DM1ActiveDTCsPacket.PGN, PacketParserRegistry.getPgn(DM1ActiveDTCsPacket.class));
+        assertEquals(DM24SPNSupportPacket.PGN, PacketParserRegistry.getPgn(DM24SPNSupportPacket.class));
+        assertEquals(-1, PacketParserRegistry.getPgn(GenericPacket.class));
+        assertEquals(-1, PacketParserRegistry.getPgn(String.class));
+    }
+
+    @Test
+    public void testParse() {
+        Packet packet = Packet.create(DM1ActiveDTCsPacket.PGN, 0x00, 0, 0, 0, 0, 0, 0, 0, 0);
+        assertTrue(instance.parse(DM1ActiveDTCsPacket.PGN, packet) instanceof DM1ActiveDTCsPacket);
+
+        Packet ghg = Packet.create(GhgTrackingModule.GHG_ACTIVE_GREEN_HOUSE_100_HR, 0x00, 0, 0, 0, 0, 0, 0, 0, 0);
+        assertTrue(instance.parse(ghg.getPgn(), ghg) instanceof GhgActiveTechnologyPacket);
+    }
+
+    @Test
+    public void testParseUnregistered() {
+        Packet packet = Packet.create(0xFEEE, 0x00, 0, 0, 0, 0, 0, 0, 0, 0);
+        assertFalse(instance.isRegistered(0xFEEE));
+        assertEquals(GenericPacket.class, instance.parse(0xFEEE, packet).getClass());
+        assertEquals(GenericPacket.class, instance.getPacketClass(0xFEEE));
+    }
+
+    @Test
+    public void testGetPacketClass() {
+        assertEquals(DM24SPNSupportPacket.class, instance.getPacketClass(DM24SPNSupportPacket.PGN));
+    }
+
+    @Test
+    public void testRegisterOemPgn() {
+        Packet packet = Packet.create(OEM_PGN, 0x00, 0, 0, 0, 0, 0, 0, 0, 0);
+        ParsedPacket[] created = new ParsedPacket[1];
+        instance.register(OEM_PGN, p -> created[0] = new GenericPacket(p));
+
+        assertTrue(instance.isRegistered(OEM_PGN));
+        ParsedPacket parsed = instance.parse(OEM_PGN, packet);
+        assertSame(created[0], parsed);
+        parsed = J1939.processRaw(OEM_PGN, packet);
+        assertSame(created[0], parsed);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterClassWithoutPgn() {
+        instance.register(GenericPacket.class, GenericPacket::new);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link SpnTimeSeries} class
+ */
+public class SpnTimeSeriesTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2022, 1, 1, 10, 0);
+
+    /**
+     * Engine Speed, SPN 190, is in bytes 4 and 5 of EEC1
+     */
+    private static GenericPacket eec1(int millis, int source, int speedLow, int speedHigh) {
+        return new GenericPacket(Packet.create(TIME.plusNanos(millis * 1_000_000L),
+                                               3,
+                                               61444,
+                                               source,
+                                               false,
+                                               0xFF,
+                                               0xFF,
+                                               0xFF,
+                                               speedLow,
+                                               speedHigh,
+                                               0xFF,
+                                               0xFF,
+                                               0xFF));
+    }
+
+    @Test
+    public void testColumns() {
+        SpnTimeSeries instance = SpnTimeSeries.of(List.of(eec1(0, 0, 0x40, 0x1F),
+                                                          eec1(100, 0, 0xFF, 0xFF),
+                                                          eec1(200, 0, 0x80, 0x3E)));
+
+        SpnTimeSeries.Column column = instance.getColumn(0, 190);
+        assertEquals(0, column.getSourceAddress());
+        assertEquals(190, column.getSpn());
+        assertEquals(3, column.size());
+        assertEquals(100_000_000L, column.getTimestamp(1) - column.getTimestamp(0));
+        assertEquals(0x1F40, column.getRawValue(0));
+        assertEquals(1000.0, column.getValue(0), 0.0);
+        assertNull(column.getValue(1));
+        assertEquals(2000.0, column.getValue(2), 0.0);
+        assertFalse(column.isNotAvailable(0));
+        assertTrue(column.isNotAvailable(1));
+        assertTrue(column.hasAvailable());
+        assertTrue(column.hasNotAvailable());
+        assertEquals(0, column.getErrorCount());
+
+        assertNull(instance.getColumn(1, 190));
+        assertNull(instance.getColumn(0, 1));
+        assertArrayEquals(new int[] { 0 }, instance.getSourceAddresses());
+        assertTrue(instance.getAvailableSpns(0).contains(190));
+        assertTrue(instance.getNotAvailableSpns().contains(190));
+    }
+
+    @Test
+    public void testDuplicateSpns() {
+        SpnTimeSeries instance = new SpnTimeSeries();
+        instance.add(eec1(0, 0, 0x40, 0x1F));
+        instance.add(eec1(0, 1, 0xFF, 0xFF));
+        assertFalse(instance.getDuplicateSpns().contains(190));
+        assertFalse(instance.getAvailableSpns(1).contains(190));
+
+        instance.add(eec1(100, 1, 0x40, 0x1F));
+        assertTrue(instance.getDuplicateSpns().contains(190));
+        assertEquals(Set.of(), instance.getAvailableSpns(2));
+    }
+
+    @Test
+    public void testPgnSamples() {
+        SpnTimeSeries instance = new SpnTimeSeries();
+        for (int i = 0; i < 10; i++) {
+            instance.add(eec1(i * 100, 1, 0x40, 0x1F));
+        }
+        instance.add(eec1(50, 0, 0x40, 0x1F));
+
+        assertArrayEquals(new int[] { 61444 }, instance.getPgns());
+        List<SpnTimeSeries.PgnSamples> samples = instance.getPgnSamples(61444);
+        assertEquals(2, samples.size());
+        assertEquals(0, samples.get(0).getSourceAddress());
+        assertEquals(1, samples.get(0).size());
+
+        SpnTimeSeries.PgnSamples sourceOne = samples.get(1);
+        assertEquals(1, sourceOne.getSourceAddress());
+        assertEquals(61444, sourceOne.getPgn());
+        assertEquals(10, sourceOne.size());
+        assertEquals(900_000_000L, sourceOne.getTimestamp(9) - sourceOne.getTimestamp(0));
+        assertEquals(SpnTimeSeries.PgnSamples.FIRST_PACKETS, sourceOne.getFirstPackets().size());
+
+        assertTrue(instance.getPgnSamples(0).isEmpty());
+    }
+
+    @Test
+    public void testDecodeWithoutPacket() {
+        Spn spn = mock(Spn.class);
+        when(spn.getId()).thenReturn(190);
+        GenericPacket noPacket = mock(GenericPacket.class);
+        when(noPacket.getSourceAddress()).thenReturn(0);
+        when(noPacket.getSpns()).thenReturn(List.of(spn));
+
+        SpnTimeSeries instance = SpnTimeSeries.decode(List.of(eec1(0, 0, 0x40, 0x1F), noPacket));
+
+        assertArrayEquals(new int[] { 61444 }, instance.getPgns());
+        assertEquals(1, instance.getPgnSamples(61444).get(0).size());
+        assertEquals(2, instance.getColumn(0, 190).size());
+        assertEquals(0x1F40, instance.getColumn(0, 190).getRawValue(0));
+    }
+
+    @Test
+    public void testDecodeMatchesOf() {
+        List<GenericPacket> packets = List.of(eec1(0, 0, 0x40, 0x1F),
+                                              new GenericPacket(Packet.create(65262, 0, 0x6E, 0xFF, 0xFE, 0xFE, 0xFF)),
+                                              eec1(50, 1, 0xFF, 0xFF),
+                                              eec1(100, 0, 0xFE, 0xFF),
+                                              eec1(150, 1, 0x40, 0x1F),
+                                              new GenericPacket(Packet.create(65262, 0, 0x6E, 0xFF, 0xFF)));
+
+        SpnTimeSeries expected = SpnTimeSeries.of(packets);
+        SpnTimeSeries actual = SpnTimeSeries.decode(packets);
+
+        assertArrayEquals(expected.getSourceAddresses(), actual.getSourceAddresses());
+        assertArrayEquals(expected.getPgns(), actual.getPgns());
+        assertEquals(expected.getNotAvailableSpns(), actual.getNotAvailableSpns());
+        assertEquals(expected.getDuplicateSpns(), actual.getDuplicateSpns());
+        for (int sourceAddress : expected.getSourceAddresses()) {
+            assertEquals(expected.getAvailableSpns(sourceAddress), actual.getAvailableSpns(sourceAddress));
+            for (SpnTimeSeries.Column e : expected.getColumns(sourceAddress)) {
+                SpnTimeSeries.Column a = actual.getColumn(sourceAddress, e.getSpn());
+                assertEquals(e.size(), a.size());
+                for (int i = 0; i < e.size(); i++) {
+                    String message = "SA " + sourceAddress + " SPN " + e.getSpn() + " sample " + i;
+                    assertEquals(message, e.getTimestamp(i), a.getTimestamp(i));
+                    assertEquals(message, e.getRawValue(i), a.getRawValue(i));
+                    assertEquals(message, e.isNotAvailable(i), a.isNotAvailable(i));
+                }
+                assertEquals(e.getErrorCount(), a.getErrorCount());
+            }
+        }
+    }
+}
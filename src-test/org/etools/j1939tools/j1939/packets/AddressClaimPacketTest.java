@@ -88,4 +88,22 @@ public class AddressClaimPacketTest {
         expected += "}";
         assertEquals(expected, instance.toString());
     }
+
+    @Test
+    public void testSameNameFromAnotherSource() {
+        AddressClaimPacket first = new AddressClaimPacket(Packet.parse("18EEFF55 10 F7 45 01 00 45 00 01"));
+        AddressClaimPacket second = new AddressClaimPacket(Packet.parse("18EEFF3D 10 F7 45 01 00 45 00 01"));
+        assertEquals(69, second.getFunctionId());
+        assertEquals("Exhaust Emission Controller (61)", second.getSource());
+
+        String description = "";
+        description += "  Industry Group: Global" + NL;
+        description += "  Vehicle System: Non-specific System, System Instance: 1" + NL;
+        description += "  Function: Engine Emission Aftertreatment System, Functional Instance: 0, ECU Instance: 0" + NL;
+        description += "  Manufactured by: Cummins Inc (formerly Cummins Engine Co), Identity Number: 390928" + NL;
+        description += "  Is not arbitrary address capable." + NL;
+        description += "}";
+        assertEquals("DPF Controller (85) reported as: {" + NL + description, first.toString());
+        assertEquals("Exhaust Emission Controller (61) reported as: {" + NL + description, second.toString());
+    }
 }
@@ -5,6 +5,7 @@ package org.etools.j1939tools.j1939.packets;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.etools.j1939_84.J1939_84.NL;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
@@ -22,6 +23,18 @@ public class ComponentIdentificationPacketTest {
     private static final String SN = "000001";
     private static final String UN = "1234567890";
 
+    @Test
+    public void testCreate() {
+        ComponentIdentificationPacket instance = ComponentIdentificationPacket.create(0x17, MAKE, MODEL, SN, UN);
+
+        assertEquals(0x17, instance.getSourceAddress());
+        assertEquals(ComponentIdentificationPacket.PGN, instance.getPacket().getPgn());
+        assertArrayEquals((MAKE + "*" + MODEL + "*" + SN + "*" + UN + "*").getBytes(UTF_8),
+                          instance.getPacket().getBytes());
+        assertEquals(MAKE, instance.getMake());
+        assertEquals(UN, instance.getUnitNumber());
+    }
+
     @Test
     public void testRealData() {
         int[] data = new int[] { 0x49, 0x4E, 0x54, 0x20, 0x20, 0x2A,
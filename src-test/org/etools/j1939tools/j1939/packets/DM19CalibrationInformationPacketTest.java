@@ -11,6 +11,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -1240,6 +1241,119 @@ public class DM19CalibrationInformationPacketTest {
         assertEquals(54016, DM19CalibrationInformationPacket.PGN);
     }
 
+    /**
+     * Test method for
+     * {@link DM19CalibrationInformationPacket#getCalibrationInformation()}
+     * with the entries parsed in the order sent and the CVN bytes read least
+     * significant first
+     */
+    @Test
+    public void testParseMultipleEntries() {
+        Packet packet = Packet.create(DM19CalibrationInformationPacket.PGN,
+                                      0x00,
+                                      // Cal #1
+                                      0x01, 0x02, 0x03, 0x04, // CVN
+                                      0x41, 0x42, 0x43, 0x44, 0x45, 0x46, 0x47, 0x48, // Cal Id
+                                      0x49, 0x4A, 0x4B, 0x4C, 0x4D, 0x4E, 0x4F, 0x50,
+                                      // Cal #2
+                                      0x0A, 0x00, 0x00, 0x00, // CVN
+                                      0x5A, 0x59, 0x58, 0x00, 0x00, 0x00, 0x00, 0x00, // Cal Id
+                                      0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                                      // Cal #3
+                                      0xFF, 0xFF, 0xFF, 0xFF, // CVN
+                                      0x31, 0x32, 0x33, 0x34, 0x35, 0x36, 0x37, 0x38, // Cal Id
+                                      0x20, 0x20, 0x20, 0x20, 0x20, 0x20, 0x20, 0x20);
+        DM19CalibrationInformationPacket instance = new DM19CalibrationInformationPacket(packet);
+
+        List<CalibrationInformation> calInfos = instance.getCalibrationInformation();
+        assertEquals(3, calInfos.size());
+
+        assertEquals("ABCDEFGHIJKLMNOP", calInfos.get(0).getCalibrationIdentification());
+        assertEquals("0x04030201", calInfos.get(0).getCalibrationVerificationNumber());
+        assertArrayEquals(new byte[] { 0x01, 0x02, 0x03, 0x04 }, calInfos.get(0).getRawCvn());
+
+        assertEquals("ZYX", calInfos.get(1).getCalibrationIdentification().trim());
+        assertEquals("0x0000000A", calInfos.get(1).getCalibrationVerificationNumber());
+        assertArrayEquals(new byte[] { 0x5A, 0x59, 0x58, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+                          calInfos.get(1).getRawCalId());
+
+        assertEquals("12345678", calInfos.get(2).getCalibrationIdentification().trim());
+        assertEquals("0xFFFFFFFF", calInfos.get(2).getCalibrationVerificationNumber());
+
+        String expected = "DM19 from Engine #1 (0): [" + NL
+                + "  CAL ID of ABCDEFGHIJKLMNOP and CVN of 0x04030201" + NL
+                + "  CAL ID of ZYX and CVN of 0x0000000A" + NL
+                + "  CAL ID of 12345678 and CVN of 0xFFFFFFFF" + NL
+                + "]";
+        assertEquals(expected, instance.toString());
+    }
+
+    /**
+     * Test method for
+     * {@link DM19CalibrationInformationPacket#getCalibrationInformation()}
+     * with fewer than 20 bytes after the last whole entry, which are ignored
+     */
+    @Test
+    public void testPartialEntryIgnored() {
+        Packet packet = Packet.create(DM19CalibrationInformationPacket.PGN,
+                                      0x00,
+                                      // Cal #1
+                                      0x51, 0xBA, 0xFE, 0xBD, // CVN
+                                      0x41, 0x4E, 0x54, 0x35, 0x41, 0x53, 0x52, 0x31, // Cal Id
+                                      0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                                      // part of Cal #2
+                                      0x96, 0xBF, 0xDC, 0x40, // CVN
+                                      0x50, 0x42, 0x54, 0x35); // Cal Id
+        DM19CalibrationInformationPacket instance = new DM19CalibrationInformationPacket(packet);
+
+        List<CalibrationInformation> calInfos = instance.getCalibrationInformation();
+        assertEquals(1, calInfos.size());
+        assertEquals("0xBDFEBA51", calInfos.get(0).getCalibrationVerificationNumber());
+        assertEquals("ANT5ASR1", calInfos.get(0).getCalibrationIdentification().trim());
+        assertEquals("DM19 from Engine #1 (0): CAL ID of ANT5ASR1 and CVN of 0xBDFEBA51", instance.toString());
+    }
+
+    /**
+     * Test method for
+     * {@link DM19CalibrationInformationPacket#getCalibrationInformation()}
+     * with fewer than 20 bytes, which has no entries
+     */
+    @Test
+    public void testOnlyPartialEntry() {
+        Packet packet = Packet.create(DM19CalibrationInformationPacket.PGN,
+                                      0x00,
+                                      0x51, 0xBA, 0xFE, 0xBD, 0x41, 0x4E, 0x54, 0x35);
+        DM19CalibrationInformationPacket instance = new DM19CalibrationInformationPacket(packet);
+
+        assertTrue(instance.getCalibrationInformation().isEmpty());
+        assertEquals("DM19 from Engine #1 (0): ", instance.toString());
+    }
+
+    /**
+     * Test method for
+     * {@link DM19CalibrationInformationPacket#create(int, int, CalibrationInformation...)}
+     * with the CVN and CAL ID written back as they were parsed
+     */
+    @Test
+    public void testCreateFromParsed() {
+        Packet packet = Packet.create(DM19CalibrationInformationPacket.PGN,
+                                      0x00,
+                                      0x01, 0x02, 0x03, 0x04,
+                                      0x41, 0x42, 0x43, 0x44, 0x45, 0x46, 0x47, 0x48,
+                                      0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                                      0x96, 0xBF, 0xDC, 0x40,
+                                      0x50, 0x42, 0x54, 0x35, 0x4D, 0x50, 0x52, 0x33,
+                                      0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+        DM19CalibrationInformationPacket parsed = new DM19CalibrationInformationPacket(packet);
+        List<CalibrationInformation> calInfos = parsed.getCalibrationInformation();
+        CalibrationInformation[] array = calInfos.toArray(new CalibrationInformation[0]);
+
+        DM19CalibrationInformationPacket instance = DM19CalibrationInformationPacket.create(0, 0xFF, array);
+        assertArrayEquals(packet.getBytes(), instance.getPacket().getBytes());
+        assertEquals(calInfos, instance.getCalibrationInformation());
+        assertArrayEquals(Arrays.copyOfRange(packet.getBytes(), 0, 20), calInfos.get(0).getBytes());
+    }
+
     /**
      * real data test demonstrating missing DM19
      * 
@@ -6,11 +6,13 @@ package org.etools.j1939tools.j1939.packets;
 import static org.etools.j1939_84.J1939_84.NL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.J1939;
 import org.etools.testdoc.TestDoc;
 import org.junit.Test;
 
@@ -434,6 +436,30 @@ public class DM24SPNSupportPacketTest {
         assertEquals(expected, instance.toString());
     }
 
+    @Test
+    @TestDoc(description = "Verify that a DM24 decoded eagerly is attached with its SPNs already decoded.")
+    public void testEagerDecode() {
+        Packet packet = Packet.create(DM24SPNSupportPacket.PGN, 0, 0x5C, 0x00, 0x1B, 0x01, 0x00, 0x02, 0x1B, 0x01);
+        J1939.setEagerDecode(true);
+        try {
+            DM24SPNSupportPacket instance = (DM24SPNSupportPacket) J1939.processRaw(DM24SPNSupportPacket.PGN, packet);
+            assertSame(instance, packet.getParsedPacket());
+            List<SupportedSPN> spns = instance.getSupportedSpns();
+            assertEquals(2, spns.size());
+            assertSame(spns, instance.getSupportedSpns());
+            assertSame(instance.getFreezeFrameSPNsInOrder(), instance.getFreezeFrameSPNsInOrder());
+        } finally {
+            J1939.setEagerDecode(false);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @TestDoc(description = "Verify that the SPNs of a DM24 can't be modified, as the packet is shared.")
+    public void testSpnsUnmodifiable() {
+        Packet packet = Packet.create(0, 0, 0x5C, 0x00, 0x1B, 0x01);
+        new DM24SPNSupportPacket(packet).getSupportedSpns().clear();
+    }
+
     @Test
     @TestDoc(description = "Verify DM24 PGN is 64950.")
     public void testPGN() {
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import static org.etools.j1939tools.j1939.packets.LampStatus.OFF;
+import static org.etools.j1939tools.j1939.packets.LampStatus.ON;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.etools.j1939tools.bus.Packet;
+import org.junit.Test;
+
+public class DiagnosticTroubleCodeListTest {
+
+    private static DiagnosticTroubleCodeList list(DiagnosticTroubleCode... dtcs) {
+        return DM6PendingEmissionDTCPacket.create(0, ON, OFF, OFF, OFF, dtcs).getDtcList();
+    }
+
+    @Test
+    public void testPrimitives() {
+        DiagnosticTroubleCode dtc1 = DiagnosticTroubleCode.create(609, 19, 1, 5);
+        DiagnosticTroubleCode dtc2 = DiagnosticTroubleCode.create(524286, 31, 0, 127);
+        DiagnosticTroubleCodeList instance = list(dtc1, dtc2);
+
+        assertEquals(2, instance.size());
+        assertEquals(609, instance.getSuspectParameterNumber(0));
+        assertEquals(19, instance.getFailureModeIndicator(0));
+        assertEquals(5, instance.getOccurrenceCount(0));
+        assertEquals(1, instance.getConversionMethod(0));
+        assertEquals(524286, instance.getSuspectParameterNumber(1));
+        assertEquals(31, instance.getFailureModeIndicator(1));
+        assertEquals(127, instance.getOccurrenceCount(1));
+        assertEquals(0, instance.getConversionMethod(1));
+
+        assertEquals(List.of(dtc1, dtc2), instance);
+        assertEquals(List.of(dtc1, dtc2).hashCode(), instance.hashCode());
+        assertSame(instance.get(0), instance.get(0));
+        assertEquals(DiagnosticTroubleCodeList.getKey(dtc1), instance.getKey(0));
+    }
+
+    @Test
+    public void testSkipsEmptyDtcs() {
+        Packet packet = Packet.create(DM6PendingEmissionDTCPacket.PGN,
+                                      0,
+                                      0x00, 0xFF,
+                                      0x00, 0x00, 0x00, 0x00,
+                                      0x61, 0x02, 0x13, 0x01,
+                                      0xFF, 0xFF, 0xFF, 0xFF,
+                                      0xFF, 0xFF);
+        DiagnosticTroubleCodeList instance = new DM6PendingEmissionDTCPacket(packet).getDtcList();
+        assertEquals(1, instance.size());
+        assertEquals(609, instance.getSuspectParameterNumber(0));
+
+        DiagnosticTroubleCodeList empty = list();
+        assertTrue(empty.isEmpty());
+        assertArrayEquals(new long[0], empty.getSortedKeys());
+    }
+
+    @Test
+    public void testSetOperations() {
+        DiagnosticTroubleCode dtc1 = DiagnosticTroubleCode.create(609, 19, 0, 1);
+        DiagnosticTroubleCode dtc2 = DiagnosticTroubleCode.create(1569, 31, 0, 1);
+        DiagnosticTroubleCode dtc3 = DiagnosticTroubleCode.create(609, 4, 0, 1);
+        // the occurrence count doesn't make DTCs different
+        DiagnosticTroubleCode dtc2Again = DiagnosticTroubleCode.create(1569, 31, 0, 9);
+
+        DiagnosticTroubleCodeList all = list(dtc2, dtc1, dtc3);
+        DiagnosticTroubleCodeList some = list(dtc2Again, dtc1);
+        DiagnosticTroubleCodeList other = list(DiagnosticTroubleCode.create(110, 0, 0, 1));
+
+        assertTrue(all.containsAll(some));
+        assertFalse(some.containsAll(all));
+        assertFalse(all.containsAll(other));
+        assertTrue(all.containsAll(list()));
+        assertTrue(all.contains(dtc2Again));
+        assertFalse(some.contains(dtc3));
+        assertTrue(some.containsAll(new ArrayList<>(List.of(dtc1))));
+
+        long[] keys = all.getSortedKeys();
+        assertEquals(3, keys.length);
+        assertTrue(keys[0] < keys[1] && keys[1] < keys[2]);
+        assertTrue(DiagnosticTroubleCodeList.containsAll(keys, some.getSortedKeys()));
+
+        assertEquals(list(dtc1, dtc2), list(dtc1, dtc2Again));
+        assertFalse(list(dtc1, dtc2).equals(list(dtc2, dtc1)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable() {
+        list(DiagnosticTroubleCode.create(609, 19, 0, 1)).add(DiagnosticTroubleCode.create(110, 0, 0, 1));
+    }
+}
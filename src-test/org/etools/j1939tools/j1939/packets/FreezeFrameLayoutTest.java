@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.j1939.model.Spn;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link FreezeFrameLayout} class
+ */
+public class FreezeFrameLayoutTest {
+
+    private static final J1939DaRepository repository = J1939DaRepository.getInstance();
+
+    private static final int[] DATA = { 0x64, 0x50, 0x40, 0x1F, 0x51 };
+
+    /**
+     * Accelerator Pedal Position, Engine Coolant Temperature, Engine Speed
+     * (which isn't in freeze frames), Engine Speed and Engine Coolant
+     * Temperature again
+     */
+    private static List<SupportedSPN> supportedSPNs() {
+        return List.of(SupportedSPN.create(91, false, true, true, false, 1),
+                       SupportedSPN.create(110, false, true, true, false, 1),
+                       SupportedSPN.create(190, false, true, false, false, 2),
+                       SupportedSPN.create(190, false, true, true, false, 2),
+                       SupportedSPN.create(110, false, true, true, false, 1));
+    }
+
+    @Test
+    public void testOffsetsAndLengths() {
+        FreezeFrameLayout instance = new FreezeFrameLayout(supportedSPNs(), repository);
+
+        assertEquals(4, instance.size());
+        assertEquals(5, instance.getLength());
+
+        int[] spnIds = new int[instance.size()];
+        int[] offsets = new int[instance.size()];
+        int[] lengths = new int[instance.size()];
+        for (int i = 0; i < instance.size(); i++) {
+            spnIds[i] = instance.getSpnId(i);
+            offsets[i] = instance.getOffset(i);
+            lengths[i] = instance.getSpnLength(i);
+        }
+        assertArrayEquals(new int[] { 91, 110, 190, 110 }, spnIds);
+        assertArrayEquals(new int[] { 0, 1, 2, 4 }, offsets);
+        assertArrayEquals(new int[] { 1, 1, 2, 1 }, lengths);
+
+        assertEquals(1, instance.indexOf(110));
+        assertEquals(2, instance.indexOf(190));
+        assertEquals(-1, instance.indexOf(102));
+    }
+
+    @Test
+    public void testGetSpns() {
+        FreezeFrameLayout instance = new FreezeFrameLayout(supportedSPNs(), repository);
+
+        List<Spn> spns = instance.getSpns(DATA);
+        assertEquals(4, spns.size());
+        assertEquals(40.0, spns.get(0).getValue(), 0.0);
+        assertEquals(40.0, spns.get(1).getValue(), 0.0);
+        assertEquals(1000.0, spns.get(2).getValue(), 0.0);
+        assertEquals(41.0, spns.get(3).getValue(), 0.0);
+        assertEquals(repository.findSpnDefinition(190).getLabel(), spns.get(2).getLabel());
+    }
+
+    @Test
+    public void testFreezeFrameDecodesOnUse() {
+        FreezeFrameLayout instance = new FreezeFrameLayout(supportedSPNs(), repository);
+        FreezeFrame freezeFrame = new FreezeFrame(DiagnosticTroubleCode.create(102, 4, 0, 1), DATA);
+        freezeFrame.setLayout(instance);
+
+        Spn spn = freezeFrame.getSpn(190);
+        assertEquals(1000.0, spn.getValue(), 0.0);
+        assertSame(spn, freezeFrame.getSpn(190));
+        assertNull(freezeFrame.getSpn(102));
+
+        List<Spn> spns = freezeFrame.getSPNs();
+        assertEquals(4, spns.size());
+        assertSame(spn, spns.get(2));
+        assertEquals(40.0, freezeFrame.getSpn(110).getValue(), 0.0);
+    }
+
+    @Test
+    public void testLayoutsKeptUntilReload() {
+        FreezeFrameLayout layout = repository.getFreezeFrameLayout(supportedSPNs());
+        assertSame(layout, repository.getFreezeFrameLayout(new ArrayList<>(supportedSPNs())));
+
+        repository.reloadPlugins();
+        FreezeFrameLayout reloaded = repository.getFreezeFrameLayout(supportedSPNs());
+        assertNotSame(layout, reloaded);
+        assertEquals(layout.getLength(), reloaded.getLength());
+    }
+}
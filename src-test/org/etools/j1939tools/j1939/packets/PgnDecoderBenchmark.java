@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.etools.j1939_84.resources.J193984Resources;
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.j1939.model.Spn;
+
+/**
+ * Compares decoding the SPNs of captured broadcast data packet by packet with
+ * {@link GenericPacket#getSpns()} and in batches with
+ * {@link PgnDecoder#decode(List)}.
+ *
+ * The capture in j1939_840.log is about 4 seconds, so it's repeated to make 20
+ * seconds of data. Run with the test classpath; it isn't run as a test.
+ */
+public class PgnDecoderBenchmark {
+
+    private static final int REPEATS = 5;
+    private static final int ROUNDS = 20;
+
+    public static void main(String... args) throws IOException {
+        List<Packet> capture = readCapture("j1939_840.log");
+        List<Packet> packets = new ArrayList<>();
+        for (int i = 0; i < REPEATS; i++) {
+            packets.addAll(capture);
+        }
+
+        Map<Integer, List<Packet>> packetsByPgn = new LinkedHashMap<>();
+        packets.forEach(p -> packetsByPgn.computeIfAbsent(p.getPgn(), k -> new ArrayList<>()).add(p));
+        System.out.println(packets.size() + " packets of " + packetsByPgn.size() + " PGNs");
+
+        J1939DaRepository repository = J1939DaRepository.getInstance();
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            double sum = 0;
+            for (Packet packet : packets) {
+                for (Spn spn : new GenericPacket(packet).getSpns()) {
+                    sum += spn.getRawValue();
+                }
+            }
+            long perPacket = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            double batchSum = 0;
+            for (Map.Entry<Integer, List<Packet>> entry : packetsByPgn.entrySet()) {
+                PgnDecoder decoder = repository.getPgnDecoder(repository.findPgnDefinition(entry.getKey()));
+                PgnDecoder.Batch batch = decoder.decode(entry.getValue());
+                for (int i = 0; i < decoder.size(); i++) {
+                    for (long value : batch.getRawValues(i)) {
+                        batchSum += value;
+                    }
+                }
+            }
+            long batched = System.nanoTime() - start;
+
+            System.out.printf("round %2d: getSpns %7.2f ms, batch %7.2f ms, %.1fx%s%n",
+                              round,
+                              perPacket / 1e6,
+                              batched / 1e6,
+                              (double) perPacket / batched,
+                              sum == batchSum ? "" : " (sums differ)");
+        }
+    }
+
+    private static List<Packet> readCapture(String fileName) throws IOException {
+        List<Packet> packets = new ArrayList<>();
+        InputStream inputStream = J193984Resources.class.getResourceAsStream(fileName);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(inputStream),
+                                                                             UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // the packet follows the logger's prefix and the arrival time
+                String[] parts = line.split(" +", 7);
+                if (parts.length == 7) {
+                    Packet packet = Packet.parse(parts[6]);
+                    if (packet != null) {
+                        packets.add(packet);
+                    }
+                }
+            }
+        }
+        return packets;
+    }
+}
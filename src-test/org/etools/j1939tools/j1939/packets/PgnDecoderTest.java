@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnDataParser;
+import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link PgnDecoder} class
+ */
+public class PgnDecoderTest {
+
+    private static final J1939DaRepository repository = J1939DaRepository.getInstance();
+
+    /**
+     * Decodes the packet as done before the plans were compiled
+     */
+    private static List<Spn> parse(PgnDefinition pgnDefinition, Packet packet) {
+        List<Spn> result = new ArrayList<>();
+        byte[] bytes = packet.getBytes();
+        for (SpnDefinition definition : pgnDefinition.getSpnDefinitions()) {
+            Slot slot = repository.findSLOT(definition.getSlotNumber(), definition.getSpnId());
+            if (slot.getLength() != 0) {
+                byte[] data = SpnDataParser.parse(bytes, definition, slot.getLength());
+                result.add(new Spn(definition.getSpnId(), definition.getLabel(), slot, data));
+            }
+        }
+        return result;
+    }
+
+    private static void assertDecoded(PgnDefinition pgnDefinition, Packet packet) {
+        List<Spn> expected = parse(pgnDefinition, packet);
+        PgnDecoder.Values values = repository.getPgnDecoder(pgnDefinition).decode(packet);
+        List<Spn> actual = values.getSpns();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Spn e = expected.get(i);
+            Spn a = actual.get(i);
+            String message = "PGN " + pgnDefinition.getId() + " SPN " + e.getId();
+            assertEquals(message, e.getId(), a.getId());
+            assertArrayEquals(message, e.getBytes(), a.getBytes());
+            assertEquals(message, e.getRawValue(), values.getRawValue(i));
+            assertEquals(message, e.getValue(), values.hasValue(i) ? (Double) values.getValue(i) : null);
+            assertSame(message, e.getSlot(), a.getSlot());
+        }
+    }
+
+    @Test
+    public void testMatchesSpnDataParserForAllPgns() {
+        Random random = new Random(1939);
+        for (PgnDefinition pgnDefinition : repository.getPgnDefinitions().values()) {
+            for (int length : new int[] { 3, 8, 64 }) {
+                byte[] data = new byte[length];
+                random.nextBytes(data);
+                assertDecoded(pgnDefinition, Packet.create(pgnDefinition.getId(), 0, data));
+            }
+            byte[] notAvailable = new byte[8];
+            Arrays.fill(notAvailable, (byte) 0xFF);
+            assertDecoded(pgnDefinition, Packet.create(pgnDefinition.getId(), 0, notAvailable));
+        }
+    }
+
+    @Test
+    public void testGetSpnValue() {
+        // Engine Speed is SPN 190 in bytes 4 and 5 of EEC1
+        Packet packet = Packet.create(61444, 0, 0x00, 0x00, 0x00, 0x40, 0x1F, 0xFF, 0xFF, 0xFF);
+        GenericPacket instance = new GenericPacket(packet);
+        assertEquals(1000.0, instance.getSpnValue(190).orElseThrow(), 0.0);
+        assertEquals(190, instance.getSpn(190).orElseThrow().getId());
+        assertFalse(instance.getSpnValue(12345678).isPresent());
+        assertFalse(instance.getSpn(12345678).isPresent());
+
+        PgnDecoder decoder = instance.getDecodedValues().getDecoder();
+        assertSame(decoder, repository.getPgnDecoder(instance.getPgnDefinition()));
+        assertTrue(decoder.indexOf(190) >= 0);
+        assertEquals(190, decoder.getSpnId(decoder.indexOf(190)));
+    }
+
+    @Test
+    public void testIndexOfMatchesScan() {
+        for (PgnDefinition pgnDefinition : repository.getPgnDefinitions().values()) {
+            PgnDecoder decoder = repository.getPgnDecoder(pgnDefinition);
+            for (SpnDefinition definition : pgnDefinition.getSpnDefinitions()) {
+                int spn = definition.getSpnId();
+                int expected = -1;
+                for (int i = 0; i < decoder.size(); i++) {
+                    if (decoder.getSpnId(i) == spn) {
+                        expected = i;
+                        break;
+                    }
+                }
+                assertEquals("PGN " + pgnDefinition.getId() + " SPN " + spn, expected, decoder.indexOf(spn));
+            }
+            assertEquals(-1, decoder.indexOf(Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void testBatchMatchesDecode() {
+        Random random = new Random(84);
+        for (PgnDefinition pgnDefinition : repository.getPgnDefinitions().values()) {
+            List<Packet> packets = new ArrayList<>();
+            for (int length : new int[] { 8, 3, 64, 8, 12 }) {
+                byte[] data = new byte[length];
+                random.nextBytes(data);
+                packets.add(Packet.create(pgnDefinition.getId(), 0, data));
+            }
+
+            PgnDecoder decoder = repository.getPgnDecoder(pgnDefinition);
+            PgnDecoder.Batch batch = decoder.decode(packets);
+            assertEquals(packets.size(), batch.size());
+            for (int i = 0; i < decoder.size(); i++) {
+                long[] rawValues = batch.getRawValues(i);
+                double[] values = batch.getValues(i);
+                for (int p = 0; p < packets.size(); p++) {
+                    PgnDecoder.Values expected = decoder.decode(packets.get(p));
+                    String message = "PGN " + pgnDefinition.getId() + " SPN " + decoder.getSpnId(i) + " packet " + p;
+                    assertEquals(message, expected.getRawValue(i), rawValues[p]);
+                    assertEquals(message, expected.getValue(i), values[p], 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBatchStatusMatchesSpns() {
+        for (PgnDefinition pgnDefinition : repository.getPgnDefinitions().values()) {
+            List<Packet> packets = new ArrayList<>();
+            for (int fill : new int[] { 0xFF, 0xFE, 0xFB, 0x00 }) {
+                byte[] data = new byte[8];
+                Arrays.fill(data, (byte) fill);
+                packets.add(Packet.create(pgnDefinition.getId(), 0, data));
+            }
+            packets.add(Packet.create(pgnDefinition.getId(), 0, new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF }));
+
+            PgnDecoder decoder = repository.getPgnDecoder(pgnDefinition);
+            PgnDecoder.Batch batch = decoder.decode(packets);
+            for (int p = 0; p < packets.size(); p++) {
+                List<Spn> expected = decoder.decode(packets.get(p)).getSpns();
+                for (int i = 0; i < decoder.size(); i++) {
+                    String message = "PGN " + pgnDefinition.getId() + " SPN " + decoder.getSpnId(i) + " packet " + p;
+                    assertEquals(message, expected.get(i).isNotAvailable(), batch.isNotAvailable(i, p));
+                    assertEquals(message, expected.get(i).isError(), batch.isError(i, p));
+                }
+            }
+        }
+    }
+}
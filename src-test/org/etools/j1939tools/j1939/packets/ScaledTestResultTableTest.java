@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class ScaledTestResultTableTest {
+
+    private static ScaledTestResult result(int tid, int spn, int fmi, int value) {
+        return ScaledTestResult.create(tid, spn, fmi, 385, value, 0xFFFF, 0xFFFF);
+    }
+
+    @Test
+    public void testSortedFromPacket() {
+        ScaledTestResult result1 = result(247, 5846, 31, 0xFB00);
+        ScaledTestResult result2 = result(247, 102, 4, 0x1234);
+        ScaledTestResult result3 = result(12, 102, 4, 0x0000);
+        DM30ScaledTestResultsPacket packet = DM30ScaledTestResultsPacket.create(0, 0xF9, result1, result2, result3);
+
+        ScaledTestResultTable instance = packet.getTestResultTable();
+        assertEquals(3, instance.size());
+        assertEquals(102, instance.getSpn(0));
+        assertEquals(4, instance.getFmi(0));
+        assertEquals(12, instance.getTestIdentifier(0));
+        assertEquals(247, instance.getTestIdentifier(1));
+        assertEquals(0x1234, instance.getTestValue(1));
+        assertEquals(385, instance.getSlotNumber(1));
+        assertEquals(0xFFFF, instance.getTestMaximum(1));
+        assertEquals(0xFFFF, instance.getTestMinimum(1));
+        assertEquals(5846, instance.getSpn(2));
+        assertEquals(31, instance.getFmi(2));
+        assertTrue(instance.isInitialized(2));
+        assertFalse(instance.isInitialized(1));
+        assertEquals(result1.toString(), instance.getTestResult(2).toString());
+
+        ScaledTestResultTable fromList = ScaledTestResultTable.of(packet.getTestResults());
+        for (int i = 0; i < instance.size(); i++) {
+            assertEquals(instance.getKey(i), fromList.getKey(i));
+            assertEquals(instance.getTestValue(i), fromList.getTestValue(i));
+        }
+    }
+
+    @Test
+    public void testIndexOf() {
+        ScaledTestResultTable instance = ScaledTestResultTable.of(List.of(result(247, 110, 16, 1),
+                                                                          result(250, 102, 4, 2),
+                                                                          result(247, 102, 4, 3)));
+        assertEquals(0, instance.indexOf(102, 4, 247));
+        assertEquals(1, instance.indexOf(102, 4, 250));
+        assertEquals(-1, instance.indexOf(102, 4, 246));
+        assertEquals(0, instance.indexOf(102, 4));
+        assertEquals(2, instance.indexOf(110, 16));
+        assertEquals(-1, instance.indexOf(110, 15));
+        assertEquals(-1, instance.indexOf(111, 16));
+        assertEquals(-1, ScaledTestResultTable.of(List.of()).indexOf(102, 4));
+    }
+
+    @Test
+    public void testSpnFmiComparisons() {
+        ScaledTestResultTable part1 = ScaledTestResultTable.of(List.of(result(247, 110, 16, 1),
+                                                                       result(247, 102, 4, 2)));
+        ScaledTestResultTable sameWithOtherTids = ScaledTestResultTable.of(List.of(result(250, 102, 4, 5),
+                                                                                   result(250, 110, 16, 6)));
+        ScaledTestResultTable twice = ScaledTestResultTable.of(List.of(result(247, 110, 16, 1),
+                                                                       result(250, 102, 4, 2),
+                                                                       result(247, 102, 4, 2)));
+        ScaledTestResultTable missing = ScaledTestResultTable.of(List.of(result(247, 110, 16, 1)));
+
+        assertTrue(part1.hasSameSpnFmis(sameWithOtherTids));
+        assertFalse(part1.hasSameSpnFmis(twice));
+        assertTrue(part1.hasSameDistinctSpnFmis(twice));
+        assertFalse(part1.hasSameSpnFmis(missing));
+        assertFalse(part1.hasSameDistinctSpnFmis(missing));
+    }
+
+    @Test
+    public void testDiff() {
+        ScaledTestResultTable previous = ScaledTestResultTable.of(List.of(result(247, 110, 16, 1),
+                                                                          result(247, 102, 4, 2),
+                                                                          result(247, 84, 0, 3)));
+        ScaledTestResultTable current = ScaledTestResultTable.of(List.of(result(247, 102, 4, 2),
+                                                                         result(247, 110, 16, 9),
+                                                                         result(247, 91, 3, 3)));
+
+        ScaledTestResultTable.Diff diff = current.diff(previous);
+        assertFalse(diff.isEmpty());
+        // 91:3
+        assertArrayEquals(new int[] { 0 }, diff.getAdded());
+        // 84:0
+        assertArrayEquals(new int[] { 0 }, diff.getRemoved());
+        // 110:16
+        assertArrayEquals(new int[] { 2 }, diff.getChanged());
+
+        assertTrue(current.diff(current).isEmpty());
+    }
+}
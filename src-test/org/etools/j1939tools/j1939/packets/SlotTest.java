@@ -9,6 +9,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Locale;
+
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -584,4 +586,39 @@ public class SlotTest {
 
     }
 
+    @Test
+    public void testFormatMatchesStringFormat() {
+        Slot slot = new Slot(1, "Test", "Measured", 0.125, -100.0, "rpm", 32);
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            for (Locale locale : new Locale[] { Locale.US, Locale.GERMANY, new Locale("ar", "SA") }) {
+                Locale.setDefault(locale);
+                for (long value : new long[] { 0, 1, 8, 799, 800, 801, 0x12345678L, 0xFAFFFFFFL }) {
+                    byte[] data = { (byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24) };
+                    String expected = String.format("%.3f", value * 0.125 - 100.0);
+                    assertEquals(expected + " rpm", slot.asString(data));
+                    assertEquals(expected, slot.asStringNoUnit(data));
+                }
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testTypeIsOnlyClassifiedOnce() {
+        Slot slot = new Slot(2, "Test", "Variable, ASCII", null, null, null, 24);
+        byte[] data = "ABC".getBytes(UTF_8);
+        assertEquals("ABC", slot.asString(data));
+        assertEquals(null, slot.asValue(data));
+        assertFalse(slot.isNotAvailable(data));
+        assertFalse(slot.isError(data));
+
+        slot = new Slot(3, "Test", "bit field", null, null, null, 4);
+        assertEquals("0101", slot.asString(new byte[] { 0x05 }));
+        assertEquals(5.0, slot.asValue(new byte[] { 0x05 }), 0.0);
+        assertTrue(slot.isNotAvailable(new byte[] { 0x0F }));
+        assertTrue(slot.isError(new byte[] { 0x0E }));
+    }
+
 }
@@ -3,6 +3,7 @@
  */
 package org.etools.j1939tools.j1939.packets;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.nio.charset.StandardCharsets;
@@ -111,6 +112,15 @@ public class VehicleIdentificationPacketTest {
         assertEquals("", instance.getManufacturerData());
     }
 
+    @Test
+    public void testCreate() {
+        VehicleIdentificationPacket instance = VehicleIdentificationPacket.create(0x00, "3HAMKSTN0FL575012*");
+
+        assertEquals(VehicleIdentificationPacket.PGN, instance.getPacket().getPgn());
+        assertArrayEquals("3HAMKSTN0FL575012*".getBytes(StandardCharsets.UTF_8), instance.getPacket().getBytes());
+        assertEquals("3HAMKSTN0FL575012", instance.getVin());
+    }
+
     @Test
     public void testGetVinWithoutAsteriskWithNoCharacters() {
         Packet packet = Packet.create(0, 0, 0x2A);
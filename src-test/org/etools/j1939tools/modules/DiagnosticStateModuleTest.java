@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.modules;
+
+import static org.etools.j1939tools.j1939.packets.LampStatus.OFF;
+import static org.etools.j1939tools.j1939.packets.LampStatus.ON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.J1939;
+import org.etools.j1939tools.j1939.packets.CompositeSystem;
+import org.etools.j1939tools.j1939.packets.DM1ActiveDTCsPacket;
+import org.etools.j1939tools.j1939.packets.DM5DiagnosticReadinessPacket;
+import org.etools.j1939tools.j1939.packets.DM6PendingEmissionDTCPacket;
+import org.etools.j1939tools.j1939.packets.DiagnosticTroubleCode;
+import org.etools.j1939tools.j1939.packets.EngineSpeedPacket;
+import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link DiagnosticStateModule} class
+ */
+public class DiagnosticStateModuleTest {
+
+    private DiagnosticStateModule instance;
+
+    @Before
+    public void setUp() {
+        instance = new DiagnosticStateModule();
+    }
+
+    @Test
+    public void testCompositeDtcs() {
+        var dtc1 = DiagnosticTroubleCode.create(123, 1, 0, 1);
+        var dtc2 = DiagnosticTroubleCode.create(456, 2, 0, 1);
+
+        assertTrue(instance.update(DM1ActiveDTCsPacket.create(0x00, ON, OFF, OFF, OFF, dtc1)));
+        assertTrue(instance.update(DM1ActiveDTCsPacket.create(0x17, ON, OFF, OFF, OFF, dtc1, dtc2)));
+        assertTrue(instance.update(DM6PendingEmissionDTCPacket.create(0x17, OFF, OFF, OFF, OFF, dtc2)));
+
+        assertEquals(List.of(dtc1, dtc2), instance.getCompositeDtcs(DM1ActiveDTCsPacket.PGN));
+        assertEquals(List.of(dtc2), instance.getCompositeDtcs(DM6PendingEmissionDTCPacket.PGN));
+        assertEquals(List.of(dtc1), instance.getDtcs(DM1ActiveDTCsPacket.PGN, 0x00));
+        assertEquals(2, instance.getDtcPackets(DM1ActiveDTCsPacket.PGN).size());
+
+        // the module clears its fault
+        assertTrue(instance.update(DM1ActiveDTCsPacket.create(0x17, OFF, OFF, OFF, OFF)));
+        assertEquals(List.of(dtc1), instance.getCompositeDtcs(DM1ActiveDTCsPacket.PGN));
+    }
+
+    @Test
+    public void testRepeatedPacketDoesNotRebuild() {
+        var dtc = DiagnosticTroubleCode.create(123, 1, 0, 1);
+        assertTrue(instance.update(DM1ActiveDTCsPacket.create(0x00, ON, OFF, OFF, OFF, dtc)));
+        List<DiagnosticTroubleCode> composite = instance.getCompositeDtcs(DM1ActiveDTCsPacket.PGN);
+
+        var repeated = DM1ActiveDTCsPacket.create(0x00, ON, OFF, OFF, OFF, dtc);
+        assertFalse(instance.update(repeated));
+        assertSame(composite, instance.getCompositeDtcs(DM1ActiveDTCsPacket.PGN));
+        // the newest packet is kept, with its timestamp
+        assertSame(repeated, instance.getDtcPacket(DM1ActiveDTCsPacket.PGN, 0x00).orElseThrow());
+    }
+
+    @Test
+    public void testStartMonitoring() throws InterruptedException {
+        var dtc = DiagnosticTroubleCode.create(123, 1, 0, 1);
+        var dm1 = DM1ActiveDTCsPacket.create(0x00, ON, OFF, OFF, OFF, dtc);
+        var engineSpeed = new EngineSpeedPacket(Packet.create(EngineSpeedPacket.PGN, 0x00, 0, 0, 0, 0, 0, 0, 0, 0));
+        var repeated = DM1ActiveDTCsPacket.create(0x00, ON, OFF, OFF, OFF, dtc);
+        J1939 j1939 = mock(J1939.class);
+        when(j1939.readGenericPacket(any())).thenReturn(Stream.of(dm1, engineSpeed, repeated));
+        instance.setJ1939(j1939);
+
+        List<GenericPacket> changes = new CopyOnWriteArrayList<>();
+        instance.startMonitoring(p -> true, changes::add).join();
+
+        assertEquals(List.of(dm1), changes);
+        assertEquals(List.of(dtc), instance.getCompositeDtcs(DM1ActiveDTCsPacket.PGN));
+    }
+
+    @Test
+    public void testSummary() {
+        assertEquals("No DM1 received", instance.getSummary());
+
+        var dtc1 = DiagnosticTroubleCode.create(123, 1, 0, 1);
+        var dtc2 = DiagnosticTroubleCode.create(456, 2, 0, 1);
+        instance.update(DM1ActiveDTCsPacket.create(0x00, OFF, OFF, OFF, OFF));
+        assertEquals("MIL off, DM1: 0 DTCs", instance.getSummary());
+
+        instance.update(DM1ActiveDTCsPacket.create(0x17, ON, OFF, OFF, OFF, dtc1, dtc2));
+        instance.update(DM6PendingEmissionDTCPacket.create(0x17, OFF, OFF, OFF, OFF, dtc2));
+        assertEquals("MIL on, DM1: 2 DTCs, DM6: 1 DTCs", instance.getSummary());
+    }
+
+    @Test
+    public void testCompositeSystems() {
+        var packet1 = DM5DiagnosticReadinessPacket.create(0x00,
+                                                          0,
+                                                          0,
+                                                          0x22,
+                                                          List.of(CompositeSystem.CATALYST),
+                                                          List.of(CompositeSystem.CATALYST));
+        var packet2 = DM5DiagnosticReadinessPacket.create(0x17,
+                                                          0,
+                                                          0,
+                                                          0x22,
+                                                          List.of(CompositeSystem.CATALYST),
+                                                          List.of());
+        instance.update(packet1);
+        instance.update(packet2);
+
+        assertEquals(CommunicationsModule.getCompositeSystems(List.of(packet1, packet2), true),
+                     instance.getCompositeSystems(DM5DiagnosticReadinessPacket.PGN));
+        assertSame(packet2, instance.getReadinessPacket(DM5DiagnosticReadinessPacket.PGN, 0x17).orElseThrow());
+    }
+
+    @Test
+    public void testIgnoresOtherPackets() {
+        assertFalse(instance.update(new EngineSpeedPacket(Packet.create(EngineSpeedPacket.PGN,
+                                                                         0x00,
+                                                                         0, 0, 0, 0, 0, 0, 0, 0))));
+        assertTrue(instance.getDtcPackets(DM1ActiveDTCsPacket.PGN).isEmpty());
+    }
+
+    @Test
+    public void testReset() {
+        instance.update(DM1ActiveDTCsPacket.create(0x00, ON, OFF, OFF, OFF, DiagnosticTroubleCode.create(1, 1, 0, 1)));
+        instance.reset();
+
+        assertTrue(instance.getCompositeDtcs(DM1ActiveDTCsPacket.PGN).isEmpty());
+        assertTrue(instance.getDtcPacket(DM1ActiveDTCsPacket.PGN, 0x00).isEmpty());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link ExecutorFactory} class
+ */
+public class ExecutorFactoryTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ExecutorFactory.VIRTUAL_THREADS_PROPERTY_NAME);
+    }
+
+    @Test
+    public void testPlatformThreadsByDefault() throws Exception {
+        assertFalse(ExecutorFactory.isVirtual());
+
+        String[] name = new String[1];
+        Thread thread = ExecutorFactory.startThread("Test Thread", () -> name[0] = Thread.currentThread().getName());
+        thread.join(5000);
+        assertEquals("Test Thread", name[0]);
+    }
+
+    @Test
+    public void testSetVirtual() throws Exception {
+        ExecutorFactory.setVirtual(true);
+        assertEquals(Runtime.version().feature() >= 21, ExecutorFactory.isVirtual());
+
+        // the executors work whether or not virtual threads are supported
+        ScheduledExecutorService scheduled = ExecutorFactory.newSingleThreadScheduledExecutor();
+        assertEquals(42, (int) scheduled.schedule(() -> 42, 1, TimeUnit.MILLISECONDS).get());
+        scheduled.shutdown();
+
+        ExecutorService tasks = ExecutorFactory.newTaskExecutor("Test Task", 1, 2);
+        assertEquals("Test Task", tasks.submit(() -> Thread.currentThread().getName()).get());
+        tasks.shutdown();
+        assertTrue(tasks.awaitTermination(5, TimeUnit.SECONDS));
+
+        ExecutorFactory.setVirtual(false);
+        assertFalse(ExecutorFactory.isVirtual());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link IntObjectMap} class
+ */
+public class IntObjectMapTest {
+
+    @Test
+    public void testEmpty() {
+        IntObjectMap<String> instance = new IntObjectMap<>();
+        assertTrue(instance.isEmpty());
+        assertEquals(0, instance.size());
+        assertNull(instance.get(0));
+        assertFalse(instance.containsKey(0));
+        assertEquals("default", instance.getOrDefault(0, "default"));
+        assertArrayEquals(new int[0], instance.keys());
+    }
+
+    @Test
+    public void testPutAndGet() {
+        IntObjectMap<String> instance = new IntObjectMap<>(2);
+        assertNull(instance.put(-5, "minus five"));
+        assertNull(instance.put(0, "zero"));
+        assertNull(instance.put(5, "five"));
+        assertEquals("five", instance.put(5, "FIVE"));
+
+        assertEquals(3, instance.size());
+        assertEquals("minus five", instance.get(-5));
+        assertEquals("zero", instance.get(0));
+        assertEquals("FIVE", instance.get(5));
+        assertNull(instance.get(6));
+        assertArrayEquals(new int[] { -5, 0, 5 }, instance.keys());
+    }
+
+    @Test
+    public void testClear() {
+        IntObjectMap<String> instance = new IntObjectMap<>();
+        instance.put(1, "one");
+        instance.put(2, "two");
+        instance.clear();
+        assertTrue(instance.isEmpty());
+        assertNull(instance.get(1));
+        assertArrayEquals(new int[0], instance.keys());
+        instance.put(2, "TWO");
+        assertEquals("TWO", instance.get(2));
+        assertEquals(1, instance.size());
+    }
+
+    @Test
+    public void testGrowsAndMatchesHashMap() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        IntObjectMap<Integer> instance = new IntObjectMap<>();
+        // keys that collide in the low bits
+        for (int i = 0; i < 10000; i++) {
+            int key = i << 16;
+            expected.put(key, i);
+            instance.put(key, i);
+        }
+        assertEquals(expected.size(), instance.size());
+        expected.forEach((k, v) -> assertEquals(v, instance.get(k)));
+        assertNull(instance.get(1));
+
+        Map<Integer, Integer> actual = new HashMap<>();
+        instance.forEach(actual::put);
+        assertEquals(expected, actual);
+        assertEquals(expected, toMap(IntObjectMap.of(expected)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue() {
+        new IntObjectMap<String>().put(1, null);
+    }
+
+    private static <V> Map<Integer, V> toMap(IntObjectMap<V> map) {
+        Map<Integer, V> result = new HashMap<>();
+        map.forEach(result::put);
+        return result;
+    }
+}
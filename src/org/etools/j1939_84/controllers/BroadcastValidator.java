@@ -8,8 +8,6 @@ import static org.etools.j1939_84.model.Outcome.FAIL;
 import static org.etools.j1939_84.model.Outcome.INFO;
 import static org.etools.j1939_84.model.Outcome.WARN;
 import static org.etools.j1939tools.j1939.Lookup.getAddressName;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -18,14 +16,12 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.etools.j1939_84.model.Outcome;
-import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.PgnDefinition;
-import org.etools.j1939tools.j1939.model.Spn;
 import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
@@ -66,13 +62,13 @@ public class BroadcastValidator {
     }
 
     private static Set<Integer> collectNotAvailableSPNs(List<Integer> requiredSpns,
-                                                        Stream<GenericPacket> packetStream) {
-        return packetStream
-                           .flatMap(p -> p.getSpns().stream())
-                           .filter(Spn::isNotAvailable)
-                           .map(Spn::getId)
-                           .filter(requiredSpns::contains)
-                           .collect(Collectors.toSet());
+                                                        List<GenericPacket> packets) {
+        // the responses are decoded as a batch for each PGN
+        return SpnTimeSeries.decode(packets)
+                            .getNotAvailableSpns()
+                            .stream()
+                            .filter(requiredSpns::contains)
+                            .collect(Collectors.toSet());
     }
 
     /**
@@ -138,9 +134,11 @@ public class BroadcastValidator {
 
     /**
      * Determines if the given packets were broadcast at their specified rates.
-     * Adds failures/warnings to the report if they are not within spec
+     * Adds failures/warnings to the report if they are not within spec. The
+     * periods are read from the arrival times the time series collected for
+     * each PGN and module.
      */
-    public void reportBroadcastPeriod(Map<Integer, Map<Integer, List<GenericPacket>>> packetMap,
+    public void reportBroadcastPeriod(SpnTimeSeries timeSeries,
                                       List<Integer> supportedSPNs,
                                       ResultsListener listener,
                                       int partNumber,
@@ -148,7 +146,7 @@ public class BroadcastValidator {
 
         // b. Gather/timestamp each parameter at least three times to be able to
         // verify frequency of broadcast.
-        packetMap.keySet().stream().sorted().forEach(pgn -> {
+        for (int pgn : timeSeries.getPgns()) {
             PgnDefinition pgnDefinition = j1939DaRepository.findPgnDefinition(pgn);
             boolean isSupported = pgnDefinition.getSpnDefinitions()
                                                .stream()
@@ -156,77 +154,63 @@ public class BroadcastValidator {
                                                .anyMatch(supportedSPNs::contains);
             boolean isOnRequest = pgnDefinition.getBroadcastPeriod() <= 0;
 
-            if (!isOnRequest && isSupported) {
-                Map<Integer, List<GenericPacket>> pgnPackets = packetMap.get(pgn);
-
-                pgnPackets.keySet().stream().sorted().forEach(moduleAddress -> {
-                    String moduleName = getAddressName(moduleAddress);
-                    List<GenericPacket> samplePackets = pgnPackets.get(moduleAddress);
-
-                    if (samplePackets.size() < 3) {
-                        listener.onResult("");
-                        listener.onResult("PGN " + pgn + " from " + moduleName);
-                        samplePackets.forEach(p -> listener.onResult(p.getPacket().toTimeString()));
-                        addOutcome(listener,
-                                   partNumber,
-                                   stepNumber,
-                                   INFO,
-                                   "Unable to determine period for PGN " + pgn + " from " + moduleName);
-                    } else {
-                        Packet packet0 = samplePackets.get(0).getPacket();
-                        Packet packet1 = samplePackets.get(1).getPacket();
-                        Packet packet2 = samplePackets.get(2).getPacket();
-
-                        listener.onResult("");
-                        listener.onResult("PGN " + pgn + " from " + moduleName);
-                        listener.onResult(packet0.toTimeString());
-                        listener.onResult(packet1.toTimeString());
-                        listener.onResult(packet2.toTimeString());
-
-                        LocalDateTime t0 = packet0.getTimestamp();
-                        LocalDateTime t1 = packet1.getTimestamp();
-                        long diff1 = ChronoUnit.MILLIS.between(t0, t1);
-
-                        LocalDateTime t2 = packet2.getTimestamp();
-                        long diff2 = ChronoUnit.MILLIS.between(t1, t2);
-
-                        long broadcastPeriod = pgnDefinition.getBroadcastPeriod();
-                        double maxBroadcastPeriod = broadcastPeriod * 1.1;
-                        double minBroadcastPeriod = broadcastPeriod * 0.9;
-
-                        // b. Fail if any parameter is not broadcast within -10% of the fixed, specified broadcast
-                        // period.
-                        if (!pgnDefinition.isVariableBroadcast()
-                                && (diff1 < minBroadcastPeriod || diff2 < minBroadcastPeriod)) {
-                            long diff = Math.min(diff1, diff2);
-                            addOutcome(listener,
-                                       partNumber,
-                                       stepNumber,
-                                       FAIL,
-                                       "Broadcast period of PGN " + pgn + " (" + diff + " ms) by ECU " + moduleName
-                                               + " is less than 90% specified broadcast period of " + broadcastPeriod
-                                               + " ms.");
-                        }
-
-                        // b. Fail if any parameter is not broadcast within +10% of the
-                        // fixed, specified broadcast period.
-                        // c. Fail if any parameter in a variable period broadcast
-                        // message exceeds 110% of its recommended broadcast period.
-                        if (diff1 > maxBroadcastPeriod || diff2 > maxBroadcastPeriod) {
-                            long diff = Math.max(diff1, diff2);
-                            addOutcome(listener,
-                                       partNumber,
-                                       stepNumber,
-                                       FAIL,
-                                       "Broadcast period of PGN " + pgn + " (" + diff + " ms) by ECU " + moduleName
-                                               + " is beyond 110% specified broadcast period of " + broadcastPeriod
-                                               + " ms.");
-                        }
-                    }
-                });
+            if (isOnRequest || !isSupported) {
+                continue;
             }
-        });
 
+            for (SpnTimeSeries.PgnSamples samples : timeSeries.getPgnSamples(pgn)) {
+                String moduleName = getAddressName(samples.getSourceAddress());
+
+                listener.onResult("");
+                listener.onResult("PGN " + pgn + " from " + moduleName);
+                samples.getFirstPackets().forEach(p -> listener.onResult(p.getPacket().toTimeString()));
+
+                if (samples.size() < 3) {
+                    addOutcome(listener,
+                               partNumber,
+                               stepNumber,
+                               INFO,
+                               "Unable to determine period for PGN " + pgn + " from " + moduleName);
+                    continue;
+                }
+
+                long diff1 = (samples.getTimestamp(1) - samples.getTimestamp(0)) / 1_000_000;
+                long diff2 = (samples.getTimestamp(2) - samples.getTimestamp(1)) / 1_000_000;
+
+                long broadcastPeriod = pgnDefinition.getBroadcastPeriod();
+                double maxBroadcastPeriod = broadcastPeriod * 1.1;
+                double minBroadcastPeriod = broadcastPeriod * 0.9;
+
+                // b. Fail if any parameter is not broadcast within -10% of the fixed, specified broadcast
+                // period.
+                if (!pgnDefinition.isVariableBroadcast()
+                        && (diff1 < minBroadcastPeriod || diff2 < minBroadcastPeriod)) {
+                    long diff = Math.min(diff1, diff2);
+                    addOutcome(listener,
+                               partNumber,
+                               stepNumber,
+                               FAIL,
+                               "Broadcast period of PGN " + pgn + " (" + diff + " ms) by ECU " + moduleName
+                                       + " is less than 90% specified broadcast period of " + broadcastPeriod
+                                       + " ms.");
+                }
+
+                // b. Fail if any parameter is not broadcast within +10% of the
+                // fixed, specified broadcast period.
+                // c. Fail if any parameter in a variable period broadcast
+                // message exceeds 110% of its recommended broadcast period.
+                if (diff1 > maxBroadcastPeriod || diff2 > maxBroadcastPeriod) {
+                    long diff = Math.max(diff1, diff2);
+                    addOutcome(listener,
+                               partNumber,
+                               stepNumber,
+                               FAIL,
+                               "Broadcast period of PGN " + pgn + " (" + diff + " ms) by ECU " + moduleName
+                                       + " is beyond 110% specified broadcast period of " + broadcastPeriod
+                                       + " ms.");
+                }
+            }
+        }
     }
 
     /**
@@ -277,7 +261,7 @@ public class BroadcastValidator {
                                     .filter(supportedSPNs::contains)
                                     .collect(Collectors.toSet());
         } else {
-            spns = collectNotAvailableSPNs(supportedSPNs, packets.stream());
+            spns = collectNotAvailableSPNs(supportedSPNs, packets);
         }
         return spns.stream().sorted().map(Object::toString).collect(Collectors.toList());
     }
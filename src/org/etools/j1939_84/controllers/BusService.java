@@ -6,9 +6,9 @@ package org.etools.j1939_84.controllers;
 
 import static org.etools.j1939_84.J1939_84.NL;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -18,9 +18,9 @@ import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.bus.RequestResult;
 import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
-import org.etools.j1939tools.j1939.model.PgnDefinition;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 public class BusService {
 
@@ -39,14 +39,13 @@ public class BusService {
      * broadcast period greater than 0 ms.
      */
     public List<Integer> collectBroadcastPGNs(List<Integer> pgns) {
-        return pgns.stream()
-                   .map(j1939DaRepository::findPgnDefinition)
-                   .filter(Objects::nonNull)
-                   .filter(d -> d.getBroadcastPeriod() > 0)
-                   .map(PgnDefinition::getId)
-                   .distinct()
-                   .sorted()
-                   .collect(Collectors.toList());
+        BitSet broadcastPgns = new BitSet();
+        for (int pgn : pgns) {
+            if (j1939DaRepository.getBroadcastPeriod(pgn) > 0) {
+                broadcastPgns.set(pgn);
+            }
+        }
+        return broadcastPgns.stream().boxed().collect(Collectors.toList());
     }
 
     /**
@@ -54,17 +53,15 @@ public class BusService {
      * not sent on-request
      */
     public List<Integer> collectNonOnRequestPGNs(List<Integer> spns) {
-        return spns.stream()
-                   .map(j1939DaRepository::getPgnForSpn)
-                   .filter(Objects::nonNull)
-                   .flatMap(Collection::stream)
-                   .distinct()
-                   .map(j1939DaRepository::findPgnDefinition)
-                   .filter(Objects::nonNull)
-                   .filter(pgnDef -> !pgnDef.isOnRequest())
-                   .map(PgnDefinition::getId)
-                   .sorted()
-                   .collect(Collectors.toList());
+        BitSet pgns = new BitSet();
+        for (int spn : spns) {
+            for (int pgn : j1939DaRepository.getPgnsForSpn(spn)) {
+                if (!j1939DaRepository.isOnRequest(pgn)) {
+                    pgns.set(pgn);
+                }
+            }
+        }
+        return pgns.stream().boxed().collect(Collectors.toList());
     }
 
     /**
@@ -98,27 +95,21 @@ public class BusService {
      * @return               list of PGNs
      */
     public List<Integer> getPGNsForDSRequest(Collection<Integer> missingSPNs, Collection<Integer> supportedSPNs) {
-        Stream<Integer> onRequestPGNs = j1939DaRepository.getPgnDefinitions()
-                                                         .values()
-                                                         .stream()
-                                                         .filter(PgnDefinition::isOnRequest)
-                                                         .filter(pgnDef -> pgnDef.getSpnDefinitions()
-                                                                                 .stream()
-                                                                                 .anyMatch(s -> supportedSPNs.contains(s.getSpnId())))
-                                                         .map(PgnDefinition::getId);
-
-        Stream<Integer> missingPGNs = j1939DaRepository.getPgnDefinitions()
-                                                       .values()
-                                                       .stream()
-                                                       .filter(pgnDef -> pgnDef.getSpnDefinitions()
-                                                                               .stream()
-                                                                               .anyMatch(s -> missingSPNs.contains(s.getSpnId())))
-                                                       .map(PgnDefinition::getId);
-
-        return Stream.concat(missingPGNs, onRequestPGNs)
-                     .distinct()
-                     .sorted()
-                     .collect(Collectors.toList());
+        // every PGN with a missing SPN and the on request PGNs with a supported SPN
+        BitSet pgns = new BitSet();
+        for (int spn : missingSPNs) {
+            for (int pgn : j1939DaRepository.getPgnsForSpn(spn)) {
+                pgns.set(pgn);
+            }
+        }
+        for (int spn : supportedSPNs) {
+            for (int pgn : j1939DaRepository.getPgnsForSpn(spn)) {
+                if (j1939DaRepository.isOnRequest(pgn)) {
+                    pgns.set(pgn);
+                }
+            }
+        }
+        return pgns.stream().boxed().collect(Collectors.toList());
     }
 
     /**
@@ -161,7 +152,7 @@ public class BusService {
         String message = NL + "Step " + step + " - Reading bus for %1$d seconds" + NL;
         listener.onResult(String.format(message, seconds));
         long stopTime = dateTimeModule.getTimeAsLong() + seconds * 1000L;
-        new Thread(() -> {
+        ExecutorFactory.startThread("Read Bus Progress", () -> {
             long secondsToGo = seconds;
             while (secondsToGo > 0) {
                 try {
@@ -173,7 +164,7 @@ public class BusService {
                     secondsToGo = 0;
                 }
             }
-        }).start();
+        });
 
         return j1939.read(GenericPacket.class, seconds, TimeUnit.SECONDS)
                     .flatMap(e -> e.left.stream())
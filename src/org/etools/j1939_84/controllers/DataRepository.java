@@ -4,6 +4,7 @@
 
 package org.etools.j1939_84.controllers;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -121,6 +122,8 @@ public class DataRepository {
 
     private final Map<Integer, List<Integer>> supportedSpnsByAddress = new HashMap<>();
 
+    private final Map<Integer, BitSet> supportedSpnSetsByAddress = new HashMap<>();
+
     public List<Integer> getModuleSupportedSPNs(Integer moduleAddress) {
         return supportedSpnsByAddress.computeIfAbsent(moduleAddress,
                                                       // this is expensive
@@ -132,4 +135,17 @@ public class DataRepository {
                                                                            .sorted()
                                                                            .collect(Collectors.toList()));
     }
+
+    /**
+     * Returns the same SPNs as {@link #getModuleSupportedSPNs(Integer)}
+     * indexed by SPN, so checking an SPN doesn't scan the list. The
+     * {@link BitSet} is shared, so it must not be modified.
+     */
+    public BitSet getModuleSupportedSpnSet(Integer moduleAddress) {
+        return supportedSpnSetsByAddress.computeIfAbsent(moduleAddress, a -> {
+            BitSet spns = new BitSet();
+            getModuleSupportedSPNs(a).forEach(spns::set);
+            return spns;
+        });
+    }
 }
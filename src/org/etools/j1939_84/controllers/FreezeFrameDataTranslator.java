@@ -5,19 +5,14 @@
 package org.etools.j1939_84.controllers;
 
 import static org.etools.j1939_84.J1939_84.getLogger;
-import static org.etools.j1939_84.utils.CollectionUtils.toByteArray;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
 
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.Spn;
-import org.etools.j1939tools.j1939.model.SpnDefinition;
 import org.etools.j1939tools.j1939.packets.FreezeFrame;
-import org.etools.j1939tools.j1939.packets.Slot;
+import org.etools.j1939tools.j1939.packets.FreezeFrameLayout;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 
 public class FreezeFrameDataTranslator {
@@ -32,49 +27,49 @@ public class FreezeFrameDataTranslator {
         this.j1939DaRepository = j1939DaRepository;
     }
 
+    /**
+     * Returns the {@link FreezeFrameLayout} of the SPNs that support Expanded
+     * Freeze Frames in the given list of Supported SPNs
+     */
+    public FreezeFrameLayout getLayout(List<SupportedSPN> supportedSPNs) {
+        return j1939DaRepository.getFreezeFrameLayout(supportedSPNs);
+    }
+
     /**
      * Uses the data from the FreezeFrame and the list of Freeze Frame Supported
      * SPNs to produce a List of SPNs which will have the data populated.
      */
     public List<Spn> getFreezeFrameSPNs(FreezeFrame freezeFrame, List<SupportedSPN> supportedSPNs) {
-        List<SupportedSPN> supportedFreezeFrameSPNs = supportedSPNs.stream()
-                                                                   .filter(SupportedSPN::supportsExpandedFreezeFrame)
-                                                                   .collect(Collectors.toList());
+        FreezeFrameLayout layout = getLayout(supportedSPNs);
+        if (!hasExpectedLength(freezeFrame, layout)) {
+            return List.of();
+        }
+        return layout.getSpns(freezeFrame.getSpnData());
+    }
 
-        byte[] spnData = toByteArray(freezeFrame.getSpnData());
+    /**
+     * Sets the SPNs of the FreezeFrame from the list of Freeze Frame Supported
+     * SPNs. Each SPN is only decoded from the data when it's used.
+     */
+    public void setFreezeFrameSPNs(FreezeFrame freezeFrame, List<SupportedSPN> supportedSPNs) {
+        FreezeFrameLayout layout = getLayout(supportedSPNs);
+        if (hasExpectedLength(freezeFrame, layout)) {
+            freezeFrame.setLayout(layout);
+        } else {
+            freezeFrame.setSPNs(List.of());
+        }
+    }
 
-        int expectedLength = supportedFreezeFrameSPNs.stream().mapToInt(SupportedSPN::getLength).sum();
-        int actualLength = spnData.length;
+    private static boolean hasExpectedLength(FreezeFrame freezeFrame, FreezeFrameLayout layout) {
+        int expectedLength = layout.getLength();
+        int actualLength = freezeFrame.getSpnDataLength();
         if (actualLength != expectedLength) {
             getLogger().log(Level.SEVERE,
                             "The expected (" + expectedLength + ") and actual (" + actualLength
                                     + ") data lengths are different");
-            return List.of();
-        }
-
-        List<Spn> spns = new ArrayList<>();
-        int index = 0;
-        for (SupportedSPN supportedSPN : supportedFreezeFrameSPNs) {
-            byte[] bytes = Arrays.copyOfRange(spnData, index, index + supportedSPN.getLength());
-            index += supportedSPN.getLength();
-
-            int spnId = supportedSPN.getSpn();
-            SpnDefinition spnDefinition = getSpnDefinition(spnId);
-            String label = spnDefinition.getLabel();
-            int slotNumber = spnDefinition.getSlotNumber();
-            Slot slot = getSlotDefinition(slotNumber, spnId);
-
-            spns.add(new Spn(spnId, label, slot, bytes));
+            return false;
         }
-        return spns;
-    }
-
-    private Slot getSlotDefinition(int slotNumber, int spnId) {
-        return j1939DaRepository.findSLOT(slotNumber, spnId);
-    }
-
-    private SpnDefinition getSpnDefinition(int spnId) {
-        return j1939DaRepository.findSpnDefinition(spnId);
+        return true;
     }
 
 }
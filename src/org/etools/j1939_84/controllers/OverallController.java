@@ -3,12 +3,10 @@
  */
 package org.etools.j1939_84.controllers;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import org.etools.j1939_84.controllers.part01.Part01Controller;
 import org.etools.j1939_84.controllers.part02.Part02Controller;
@@ -27,6 +25,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * The Controller that manages the other Controllers each of which is
@@ -35,7 +34,7 @@ import org.etools.j1939tools.modules.DateTimeModule;
  * @author Matt Gumbel (matt@soliddesign.net)
  */
 public class OverallController extends Controller {
-    private final List<PartController> partControllers = new ArrayList<>();
+    private final List<Supplier<? extends PartController>> partControllers;
     private PartController activeController;
 
     public OverallController() {
@@ -43,25 +42,25 @@ public class OverallController extends Controller {
     }
 
     private OverallController(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.newSingleThreadScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              dataRepository,
              new EngineSpeedModule(),
              new VehicleInformationModule(),
              new CommunicationsModule(),
-             new Part01Controller(dataRepository),
-             new Part02Controller(dataRepository),
-             new Part03Controller(dataRepository),
-             new Part04Controller(dataRepository),
-             new Part05Controller(dataRepository),
-             new Part06Controller(dataRepository),
-             new Part07Controller(dataRepository),
-             new Part08Controller(dataRepository),
-             new Part09Controller(dataRepository),
-             new Part10Controller(dataRepository),
-             new Part11Controller(dataRepository),
-             new Part12Controller(dataRepository));
+             List.of(() -> new Part01Controller(dataRepository),
+                     () -> new Part02Controller(dataRepository),
+                     () -> new Part03Controller(dataRepository),
+                     () -> new Part04Controller(dataRepository),
+                     () -> new Part05Controller(dataRepository),
+                     () -> new Part06Controller(dataRepository),
+                     () -> new Part07Controller(dataRepository),
+                     () -> new Part08Controller(dataRepository),
+                     () -> new Part09Controller(dataRepository),
+                     () -> new Part10Controller(dataRepository),
+                     () -> new Part11Controller(dataRepository),
+                     () -> new Part12Controller(dataRepository)));
     }
 
     private OverallController(Executor executor,
@@ -71,7 +70,7 @@ public class OverallController extends Controller {
                               EngineSpeedModule engineSpeedModule,
                               VehicleInformationModule vehicleInformationModule,
                               CommunicationsModule communicationsModule,
-                              PartController... partControllers) {
+                              List<Supplier<? extends PartController>> partControllers) {
         super(executor,
               bannerModule,
               dateTimeModule,
@@ -79,7 +78,7 @@ public class OverallController extends Controller {
               engineSpeedModule,
               vehicleInformationModule,
               communicationsModule);
-        this.partControllers.addAll(Arrays.asList(partControllers));
+        this.partControllers = partControllers;
     }
 
     @Override
@@ -92,8 +91,9 @@ public class OverallController extends Controller {
         try {
             getBannerModule().reportHeader(getListener());
 
-            for (PartController controller : partControllers) {
-                activeController = controller;
+            for (Supplier<? extends PartController> controller : partControllers) {
+                // each part is created when it starts, so its steps aren't held before they're needed
+                activeController = controller.get();
                 activeController.run(getListener(), getJ1939());
                 activeController = null;
                 if (getEnding() != null) {
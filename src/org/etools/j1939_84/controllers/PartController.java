@@ -8,6 +8,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.etools.j1939_84.model.ActionOutcome;
 import org.etools.j1939_84.model.Outcome;
@@ -21,9 +23,34 @@ import org.etools.j1939tools.modules.DateTimeModule;
 
 public abstract class PartController extends Controller {
 
-    private final List<StepController> stepControllers = new ArrayList<>();
+    private final List<Supplier<? extends StepController>> stepControllerSuppliers;
+    private List<StepController> stepControllers;
     private final int partNumber;
 
+    /**
+     * Creates a PartController whose step controllers are created when the part
+     * is first run, so parts that are never run don't hold their steps
+     */
+    protected PartController(Executor executor,
+                             BannerModule bannerModule,
+                             DateTimeModule dateTimeModule,
+                             DataRepository dataRepository,
+                             EngineSpeedModule engineSpeedModule,
+                             VehicleInformationModule vehicleInformationModule,
+                             CommunicationsModule communicationsModule,
+                             int partNumber,
+                             List<Supplier<? extends StepController>> stepControllerSuppliers) {
+        super(executor,
+              bannerModule,
+              dateTimeModule,
+              dataRepository,
+              engineSpeedModule,
+              vehicleInformationModule,
+              communicationsModule);
+        this.partNumber = partNumber;
+        this.stepControllerSuppliers = stepControllerSuppliers;
+    }
+
     protected PartController(Executor executor,
                              BannerModule bannerModule,
                              DateTimeModule dateTimeModule,
@@ -41,7 +68,8 @@ public abstract class PartController extends Controller {
               vehicleInformationModule,
               communicationsModule);
         this.partNumber = partNumber;
-        this.stepControllers.addAll(Arrays.asList(stepControllers));
+        this.stepControllerSuppliers = List.of();
+        this.stepControllers = new ArrayList<>(Arrays.asList(stepControllers));
     }
 
     @Override
@@ -95,6 +123,11 @@ public abstract class PartController extends Controller {
     }
 
     protected List<StepController> getStepControllers() {
+        if (stepControllers == null) {
+            stepControllers = stepControllerSuppliers.stream()
+                                                     .map(Supplier::get)
+                                                     .collect(Collectors.toList());
+        }
         return stepControllers;
     }
 
@@ -40,6 +40,7 @@ import org.etools.j1939tools.bus.BusResult;
 import org.etools.j1939tools.bus.RequestResult;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.Lookup;
+import org.etools.j1939tools.j1939.PacketParserRegistry;
 import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.PgnDefinition;
 import org.etools.j1939tools.j1939.model.Spn;
@@ -427,13 +428,7 @@ public abstract class StepController extends Controller {
 
     // Helper method to get the pg for the class object
     private static int getPg(Class<? extends GenericPacket> clazz) {
-        int pg = 0;
-        try {
-            pg = clazz.getField("PGN").getInt(null);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return pg;
+        return Math.max(PacketParserRegistry.getPgn(clazz), 0);
     }
 
     protected void validateSpnValueGreaterThanFaBasedSlotLength(OBDModuleInformation module,
@@ -9,13 +9,14 @@ import static org.etools.j1939_84.model.Outcome.PASS;
 import static org.etools.j1939_84.model.Outcome.WARN;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.etools.j1939_84.model.Outcome;
 import org.etools.j1939tools.j1939.model.FuelType;
+import org.etools.j1939tools.utils.IntObjectMap;
 
 public class TableA1Repository {
 
@@ -28,12 +29,50 @@ public class TableA1Repository {
         return instance;
     }
 
+    /**
+     * The outcomes of the rows that apply to one fuel type and engine model
+     * year, indexed by SPN
+     */
+    private static class Rules {
+        private final FuelType fuelType;
+        private final int engineModelYear;
+        private final IntObjectMap<Outcome> twoResponses = new IntObjectMap<>();
+        private final IntObjectMap<Outcome> providedByNonObd = new IntObjectMap<>();
+        private final IntObjectMap<Outcome> providedAndNotSupported = new IntObjectMap<>();
+        private final Map<Outcome, List<Integer>> providedAndNotSupportedSpns = new EnumMap<>(Outcome.class);
+
+        private Rules(FuelType fuelType, int engineModelYear, Stream<TableA1Row> rows) {
+            this.fuelType = fuelType;
+            this.engineModelYear = engineModelYear;
+            rows.forEach(row -> {
+                int spn = row.getSpn();
+                // the first row with an outcome for the SPN is used
+                if (row.getOutcomeIfTwoResponses() != null && !twoResponses.containsKey(spn)) {
+                    twoResponses.put(spn, row.getOutcomeIfTwoResponses());
+                }
+                if (row.getOutcomeIfProvidedByNonObd() != null && !providedByNonObd.containsKey(spn)) {
+                    providedByNonObd.put(spn, row.getOutcomeIfProvidedByNonObd());
+                }
+                Outcome outcome = row.getOutcomeIfProvidedAndNotSupported();
+                if (outcome != null) {
+                    providedAndNotSupportedSpns.computeIfAbsent(outcome, o -> new ArrayList<>()).add(spn);
+                }
+            });
+            for (Outcome outcome : List.of(FAIL, WARN, INFO)) {
+                providedAndNotSupportedSpns.getOrDefault(outcome, List.of())
+                                           .forEach(spn -> providedAndNotSupported.put(spn, outcome));
+            }
+        }
+    }
+
     private List<TableA1Row> rows;
 
+    private volatile Rules rules;
+
     public TableA1Repository() {
     }
 
-    private List<TableA1Row> getRows() {
+    private synchronized List<TableA1Row> getRows() {
         if (rows == null) {
             rows = new ArrayList<>(175);
             rows.add(new TableA1Row(92, 2013, true, true, false, false, FAIL, FAIL, FAIL));
@@ -165,30 +204,40 @@ public class TableA1Repository {
     public List<Integer> getSPsForOutcomeOfProvidedAndNotSupported(Outcome outcome,
                                                                    FuelType fuelType,
                                                                    int engineModelYear) {
-        return getRows(fuelType, engineModelYear)
-                                                 .filter(r -> r.getOutcomeIfProvidedAndNotSupported() == outcome)
-                                                 .map(TableA1Row::getSpn)
-                                                 .collect(Collectors.toList());
+        Rules rules = getRules(fuelType, engineModelYear);
+        return new ArrayList<>(rules.providedAndNotSupportedSpns.getOrDefault(outcome, List.of()));
+    }
+
+    /**
+     * Returns the outcome for the SPN being provided by a module that doesn't
+     * indicate it's supported, which is the last of FAIL, WARN and INFO whose
+     * SPs include the SPN, or null if none do
+     */
+    public Outcome getOutcomeForProvidedAndNotSupported(int spn, FuelType fuelType, int engineModelYear) {
+        return getRules(fuelType, engineModelYear).providedAndNotSupported.get(spn);
     }
 
     public Outcome getOutcomeForNonObdModuleProvidingSpn(int spn, FuelType fuelType, int engineModelYear) {
-        return getRows(fuelType, engineModelYear)
-                                                 .filter(r -> r.getSpn() == spn)
-                                                 .map(TableA1Row::getOutcomeIfProvidedByNonObd)
-                                                 .filter(Objects::nonNull)
-                                                 .findFirst()
-                                                 .orElse(PASS);
+        return getRules(fuelType, engineModelYear).providedByNonObd.getOrDefault(spn, PASS);
     }
 
     public Outcome getOutcomeForDuplicateSpn(int spn,
                                              FuelType fuelType,
                                              int engineModelYear) {
-        return getRows(fuelType, engineModelYear)
-                                                 .filter(r -> r.getSpn() == spn)
-                                                 .map(TableA1Row::getOutcomeIfTwoResponses)
-                                                 .filter(Objects::nonNull)
-                                                 .findFirst()
-                                                 .orElse(PASS);
+        return getRules(fuelType, engineModelYear).twoResponses.getOrDefault(spn, PASS);
+    }
+
+    /**
+     * Returns the rules for the vehicle, which are rebuilt when the fuel type
+     * or engine model year is different from the last call
+     */
+    private Rules getRules(FuelType fuelType, int engineModelYear) {
+        Rules result = rules;
+        if (result == null || result.fuelType != fuelType || result.engineModelYear != engineModelYear) {
+            result = new Rules(fuelType, engineModelYear, getRows(fuelType, engineModelYear));
+            rules = result;
+        }
+        return result;
     }
 
     private boolean supportsEngineModelYear(TableA1Row r, int engineModelYear) {
@@ -5,19 +5,19 @@ package org.etools.j1939_84.controllers;
 
 import static org.etools.j1939_84.J1939_84.NL;
 import static org.etools.j1939_84.model.Outcome.FAIL;
-import static org.etools.j1939_84.model.Outcome.INFO;
 import static org.etools.j1939_84.model.Outcome.PASS;
 import static org.etools.j1939_84.model.Outcome.WARN;
 import static org.etools.j1939tools.j1939.Lookup.getAddressName;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.model.OBDModuleInformation;
@@ -28,32 +28,34 @@ import org.etools.j1939tools.j1939.model.FuelType;
 import org.etools.j1939tools.j1939.model.PgnDefinition;
 import org.etools.j1939tools.j1939.model.Spn;
 import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
+import org.etools.j1939tools.utils.IntObjectMap;
 
 public class TableA1Validator {
 
     private final DataRepository dataRepository;
 
     // Map of Source Address to PGNs for packets already written to the log
-    private final Map<Integer, Set<Integer>> foundPackets = new HashMap<>();
+    private final IntObjectMap<BitSet> foundPackets = new IntObjectMap<>();
 
     // Map of Source Address to SPN for SPNs with invalid values (to avoid
     // duplicate reporting)
-    private final Map<Integer, Set<Integer>> invalidSPNs = new HashMap<>();
+    private final IntObjectMap<BitSet> invalidSPNs = new IntObjectMap<>();
 
     private final J1939DaRepository j1939DaRepository;
 
     // Map of Source Address to SPNs for packets already written to the log
-    private final Map<Integer, Set<Integer>> nonObdProvidedSPNs = new HashMap<>();
+    private final IntObjectMap<BitSet> nonObdProvidedSPNs = new IntObjectMap<>();
 
     // Map of Source Address to SPN for SPNs with value of Not Available (to
     // avoid duplicate reporting)
-    private final Map<Integer, Set<Integer>> notAvailableSPNs = new HashMap<>();
+    private final IntObjectMap<BitSet> notAvailableSPNs = new IntObjectMap<>();
 
     // Map of Source Address to SPN for SPNs provided by not supported (to avoid
     // duplicate reporting)
-    private final Map<Integer, Set<Integer>> providedNotSupportedSPNs = new HashMap<>();
+    private final IntObjectMap<BitSet> providedNotSupportedSPNs = new IntObjectMap<>();
 
     private final TableA1ValueValidator valueValidator;
 
@@ -92,19 +94,65 @@ public class TableA1Validator {
         listener.addOutcome(partNumber, stepNumber, outcome, section + " - " + message);
     }
 
-    private static List<String> getSupportedSPNs(Collection<Integer> supportedSPNs, GenericPacket packet) {
+    private static List<String> getSupportedSPNs(BitSet supportedSPNs, GenericPacket packet) {
         return packet.getPgnDefinition()
                      .getSpnDefinitions()
                      .stream()
-                     .map(SpnDefinition::getSpnId)
-                     .filter(supportedSPNs::contains)
+                     .mapToInt(SpnDefinition::getSpnId)
+                     .filter(spn -> contains(supportedSPNs, spn))
                      .sorted()
-                     .map(Object::toString)
+                     .mapToObj(Integer::toString)
                      .collect(Collectors.toList());
     }
 
-    private Collection<Integer> getAllSupportedSPNs() {
-        return dataRepository.getModuleSupportedSPNs(null);
+    private BitSet getAllSupportedSPNs() {
+        return dataRepository.getModuleSupportedSpnSet(null);
+    }
+
+    private static boolean contains(BitSet spns, int spn) {
+        // the J1939DA has a few SPNs with negative ids, none of them supported
+        return spn >= 0 && spns.get(spn);
+    }
+
+    /**
+     * Marks the id as reported for the module
+     *
+     * @return true if it wasn't already reported
+     */
+    private static boolean markReported(IntObjectMap<BitSet> reported, int sourceAddress, int id) {
+        BitSet ids = reported.get(sourceAddress);
+        if (ids == null) {
+            ids = new BitSet();
+            reported.put(sourceAddress, ids);
+        }
+        if (ids.get(id)) {
+            return false;
+        }
+        ids.set(id);
+        return true;
+    }
+
+    /**
+     * Returns the ids of the SPNs of the packet which match, in ascending
+     * order without duplicates
+     */
+    private static int[] getSpnIds(GenericPacket packet, Predicate<Spn> filter) {
+        List<Spn> spns = packet.getSpns();
+        int[] ids = new int[spns.size()];
+        int count = 0;
+        for (Spn spn : spns) {
+            if (filter.test(spn)) {
+                ids[count++] = spn.getId();
+            }
+        }
+        Arrays.sort(ids, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
     }
 
     private Map<Integer, List<Integer>> getMessages(int moduleAddress, ResultsListener listener) {
@@ -156,12 +204,9 @@ public class TableA1Validator {
         return pgnMap;
     }
 
-    private Set<Integer> getReportedPGNs(int moduleAddress) {
-        return foundPackets.getOrDefault(moduleAddress, new HashSet<>());
-    }
-
     private boolean isReported(GenericPacket packet) {
-        return getReportedPGNs(packet.getSourceAddress()).contains(packet.getPacket().getPgn());
+        BitSet pgns = foundPackets.get(packet.getSourceAddress());
+        return pgns != null && pgns.get(packet.getPacket().getPgn());
     }
 
     /**
@@ -170,36 +215,26 @@ public class TableA1Validator {
     public void reportDuplicateSPNs(List<GenericPacket> packets,
                                     ResultsListener listener,
                                     String section) {
+        // the packets were collected without decoding, so decode each PGN's as a batch
+        reportDuplicateSPNs(SpnTimeSeries.decode(packets), listener, section);
+    }
+
+    /**
+     * Writes a Failure/Warning if any SPNs is provided by more than one module,
+     * from the columns the time series already collected
+     */
+    public void reportDuplicateSPNs(SpnTimeSeries timeSeries,
+                                    ResultsListener listener,
+                                    String section) {
         // f. Fail/warn per Table A-1 if two or more ECUs provide an SPN listed in Table A-1
-        Map<Integer, Integer> uniques = new HashMap<>();
-        Map<Integer, Outcome> duplicateSPNs = new HashMap<>();
-
-        for (GenericPacket packet : packets) {
-            for (Spn spn : packet.getSpns()) {
-                if (!spn.isNotAvailable()) {
-                    int spnId = spn.getId();
-                    Integer address = uniques.get(spnId);
-                    if (address == null) {
-                        uniques.put(spnId, packet.getSourceAddress());
-                    } else if (address != packet.getSourceAddress()) {
-                        Outcome outcome = tableA1Repository.getOutcomeForDuplicateSpn(spnId,
-                                                                                      getFuelType(),
-                                                                                      getEngineModelYear());
-                        if (outcome != PASS && !duplicateSPNs.containsKey(spnId)) {
-                            duplicateSPNs.put(spnId, outcome);
-                        }
-                    }
-                }
+        for (int spnId : timeSeries.getDuplicateSpns()) {
+            Outcome outcome = tableA1Repository.getOutcomeForDuplicateSpn(spnId,
+                                                                          getFuelType(),
+                                                                          getEngineModelYear());
+            if (outcome != PASS) {
+                addOutcome(listener, section, outcome, "N.5 SPN " + spnId + " provided by more than one ECU");
             }
         }
-
-        duplicateSPNs.entrySet()
-                     .stream()
-                     .sorted(Comparator.comparingInt(Map.Entry::getKey))
-                     .forEach(entry -> addOutcome(listener,
-                                                  section,
-                                                  entry.getValue(),
-                                                  "N.5 SPN " + entry.getKey() + " provided by more than one ECU"));
     }
 
     public void reportExpectedMessages(ResultsListener listener) {
@@ -247,18 +282,17 @@ public class TableA1Validator {
             return;
         }
 
-        Collection<Integer> moduleSPNs = dataRepository.getModuleSupportedSPNs(moduleAddress);
+        BitSet moduleSPNs = dataRepository.getModuleSupportedSpnSet(moduleAddress);
 
-        // FIXME, why copy and sort?
+        // sorted, so the SPNs are reported in order
         List<Spn> toSort = new ArrayList<>(packet.getSpns());
         toSort.sort(Comparator.comparingInt(Spn::getId));
         for (Spn spn : toSort) {
             int spnId = spn.getId();
             Double value = spn.getValue();
-            if ((spn.isError() && moduleSPNs.contains(spnId))
+            if ((spn.isError() && contains(moduleSPNs, spnId))
                     || valueValidator.isImplausible(spnId, value, isEngineRunning)) {
-                Set<Integer> invalid = invalidSPNs.getOrDefault(moduleAddress, new HashSet<>());
-                if (!invalid.contains(spnId)) {
+                if (markReported(invalidSPNs, moduleAddress, spnId)) {
                     reportPacketIfNotReported(packet, listener, true);
                     String moduleName = getAddressName(moduleAddress);
 
@@ -271,8 +305,6 @@ public class TableA1Validator {
                                 + ") is implausible";
                     }
                     addOutcome(listener, section, WARN, message);
-                    invalid.add(spnId);
-                    invalidSPNs.put(moduleAddress, invalid);
                 }
             }
         }
@@ -290,33 +322,26 @@ public class TableA1Validator {
             return;
         }
 
-        Collection<Integer> supportedSPNs = getAllSupportedSPNs();
-        packet.getSpns()
-              .stream()
-              .filter(spn -> !spn.isNotAvailable())
-              .map(Spn::getId)
-              .filter(supportedSPNs::contains)
-              .distinct()
-              .sorted()
-              .forEach(id -> {
-                  Outcome outcome = tableA1Repository.getOutcomeForNonObdModuleProvidingSpn(id,
-                                                                                            getFuelType(),
-                                                                                            getEngineModelYear());
-                  if (outcome != PASS) {
-                      Set<Integer> reported = nonObdProvidedSPNs.getOrDefault(sourceAddress, new HashSet<>());
-                      if (!reported.contains(id)) {
-                          String moduleName = getAddressName(sourceAddress);
-                          reportPacketIfNotReported(packet, listener, true);
-                          addOutcome(listener,
-                                     section,
-                                     outcome,
-                                     "N.6 SPN " + id + " provided by non-OBD ECU " + moduleName);
-                          listener.onResult("");
-                          reported.add(id);
-                          nonObdProvidedSPNs.put(sourceAddress, reported);
-                      }
-                  }
-              });
+        BitSet supportedSPNs = getAllSupportedSPNs();
+        int[] ids = getSpnIds(packet, spn -> !spn.isNotAvailable() && contains(supportedSPNs, spn.getId()));
+        if (ids.length == 0) {
+            return;
+        }
+
+        FuelType fuelType = getFuelType();
+        int engineModelYear = getEngineModelYear();
+        for (int id : ids) {
+            Outcome outcome = tableA1Repository.getOutcomeForNonObdModuleProvidingSpn(id, fuelType, engineModelYear);
+            if (outcome != PASS && markReported(nonObdProvidedSPNs, sourceAddress, id)) {
+                String moduleName = getAddressName(sourceAddress);
+                reportPacketIfNotReported(packet, listener, true);
+                addOutcome(listener,
+                           section,
+                           outcome,
+                           "N.6 SPN " + id + " provided by non-OBD ECU " + moduleName);
+                listener.onResult("");
+            }
+        }
     }
 
     public void reportNotAvailableSPNs(GenericPacket packet,
@@ -328,30 +353,20 @@ public class TableA1Validator {
             return;
         }
 
-        Collection<Integer> moduleSPNs = dataRepository.getModuleSupportedSPNs(moduleAddress);
+        BitSet moduleSPNs = dataRepository.getModuleSupportedSpnSet(moduleAddress);
 
         // Find any Supported SPNs which has a value of Not Available
-        packet.getSpns()
-              .stream()
-              .filter(Spn::isNotAvailable)
-              .map(Spn::getId)
-              .filter(moduleSPNs::contains)
-              .sorted()
-              .forEach(spn -> {
-                  Set<Integer> naSPNs = notAvailableSPNs.getOrDefault(moduleAddress, new HashSet<>());
-                  if (!naSPNs.contains(spn)) {
-                      reportPacketIfNotReported(packet, listener, true);
-                      String moduleName = getAddressName(moduleAddress);
-                      addOutcome(listener,
-                                 section,
-                                 FAIL,
-                                 "N.1 SPN " + spn + " was received as NOT AVAILABLE from " + moduleName);
-                      listener.onResult("");
-                      naSPNs.add(spn);
-                      notAvailableSPNs.put(moduleAddress, naSPNs);
-
-                  }
-              });
+        for (int spn : getSpnIds(packet, s -> s.isNotAvailable() && contains(moduleSPNs, s.getId()))) {
+            if (markReported(notAvailableSPNs, moduleAddress, spn)) {
+                reportPacketIfNotReported(packet, listener, true);
+                String moduleName = getAddressName(moduleAddress);
+                addOutcome(listener,
+                           section,
+                           FAIL,
+                           "N.1 SPN " + spn + " was received as NOT AVAILABLE from " + moduleName);
+                listener.onResult("");
+            }
+        }
     }
 
     private static void reportOmittedSPN(ResultsListener listener, String moduleName, Integer spn) {
@@ -363,7 +378,7 @@ public class TableA1Validator {
             int moduleAddress = packet.getSourceAddress();
             int pgn = packet.getPacket().getPgn();
 
-            Collection<Integer> spns = dataRepository.isObdModule(moduleAddress) ? dataRepository.getModuleSupportedSPNs(moduleAddress)
+            BitSet spns = dataRepository.isObdModule(moduleAddress) ? dataRepository.getModuleSupportedSpnSet(moduleAddress)
                     : getAllSupportedSPNs();
             List<String> supportedSPNs = getSupportedSPNs(spns, packet);
             if (forceReporting || !supportedSPNs.isEmpty()) {
@@ -372,9 +387,7 @@ public class TableA1Validator {
                 listener.onResult("Found: " + packet);
             }
 
-            Set<Integer> modulePackets = getReportedPGNs(moduleAddress);
-            modulePackets.add(pgn);
-            foundPackets.put(moduleAddress, modulePackets);
+            markReported(foundPackets, moduleAddress, pgn);
         }
     }
 
@@ -390,37 +403,25 @@ public class TableA1Validator {
             return;
         }
 
-        Collection<Integer> providedSPNs = packet.getSpns()
-                                                 .stream()
-                                                 .filter(s -> !s.isNotAvailable())
-                                                 .map(Spn::getId)
-                                                 .filter(s -> !dataRepository.getModuleSupportedSPNs(sourceAddress).contains(s))
-                                                 .collect(Collectors.toSet());
-
-        Map<Integer, Outcome> outcomes = new HashMap<>();
-
-        for (Outcome outcome : List.of(FAIL, WARN, INFO)) {
-            List<Integer> spns = tableA1Repository.getSPsForOutcomeOfProvidedAndNotSupported(outcome,
-                                                                                             getFuelType(),
-                                                                                             getEngineModelYear());
-            providedSPNs.stream().filter(spns::contains).forEach(s -> outcomes.put(s, outcome));
+        BitSet moduleSPNs = dataRepository.getModuleSupportedSpnSet(sourceAddress);
+        int[] providedSPNs = getSpnIds(packet, s -> !s.isNotAvailable() && !contains(moduleSPNs, s.getId()));
+        if (providedSPNs.length == 0) {
+            return;
         }
 
-        if (!outcomes.isEmpty()) {
-            outcomes.keySet().stream().sorted().forEach(spn -> {
-                Set<Integer> reportedSPNs = providedNotSupportedSPNs.getOrDefault(sourceAddress, new HashSet<>());
-                if (!reportedSPNs.contains(spn)) {
-                    reportPacketIfNotReported(packet, listener, true);
-                    String moduleName = Lookup.getAddressName(sourceAddress);
-                    addOutcome(listener,
-                               section,
-                               outcomes.get(spn),
-                               "N.7 Provided SPN " + spn + " is not indicated as supported by " + moduleName);
-                    listener.onResult("");
-                    reportedSPNs.add(spn);
-                    providedNotSupportedSPNs.put(sourceAddress, reportedSPNs);
-                }
-            });
+        FuelType fuelType = getFuelType();
+        int engineModelYear = getEngineModelYear();
+        for (int spn : providedSPNs) {
+            Outcome outcome = tableA1Repository.getOutcomeForProvidedAndNotSupported(spn, fuelType, engineModelYear);
+            if (outcome != null && markReported(providedNotSupportedSPNs, sourceAddress, spn)) {
+                reportPacketIfNotReported(packet, listener, true);
+                String moduleName = Lookup.getAddressName(sourceAddress);
+                addOutcome(listener,
+                           section,
+                           outcome,
+                           "N.7 Provided SPN " + spn + " is not indicated as supported by " + moduleName);
+                listener.onResult("");
+            }
         }
     }
 
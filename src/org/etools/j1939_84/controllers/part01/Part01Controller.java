@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part01;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1 KOEO Data Collection
@@ -21,40 +22,41 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part01Controller extends PartController {
 
     public Part01Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part01Step01Controller(),
-             new Part01Step02Controller(),
-             new Part01Step03Controller(dataRepository),
-             new Part01Step04Controller(dataRepository),
-             new Part01Step05Controller(dataRepository),
-             new Part01Step06Controller(dataRepository),
-             new Part01Step07Controller(dataRepository),
-             new Part01Step08Controller(dataRepository),
-             new Part01Step09Controller(dataRepository),
-             new Part01Step10Controller(dataRepository),
-             new Part01Step11Controller(dataRepository),
-             new Part01Step12Controller(dataRepository),
-             new Part01Step13Controller(dataRepository),
-             new Part01Step14Controller(dataRepository),
-             new Part01Step15Controller(dataRepository),
-             new Part01Step16Controller(dataRepository),
-             new Part01Step17Controller(dataRepository),
-             new Part01Step18Controller(dataRepository),
-             new Part01Step19Controller(dataRepository),
-             new Part01Step20Controller(dataRepository),
-             new Part01Step21Controller(dataRepository),
-             new Part01Step22Controller(dataRepository),
-             new Part01Step23Controller(),
-             new Part01Step24Controller(dataRepository),
-             new Part01Step25Controller(dataRepository),
-             new Part01Step26Controller(),
-             new Part01Step27Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              1,
+              List.of(Part01Step01Controller::new,
+                      Part01Step02Controller::new,
+                      () -> new Part01Step03Controller(dataRepository),
+                      () -> new Part01Step04Controller(dataRepository),
+                      () -> new Part01Step05Controller(dataRepository),
+                      () -> new Part01Step06Controller(dataRepository),
+                      () -> new Part01Step07Controller(dataRepository),
+                      () -> new Part01Step08Controller(dataRepository),
+                      () -> new Part01Step09Controller(dataRepository),
+                      () -> new Part01Step10Controller(dataRepository),
+                      () -> new Part01Step11Controller(dataRepository),
+                      () -> new Part01Step12Controller(dataRepository),
+                      () -> new Part01Step13Controller(dataRepository),
+                      () -> new Part01Step14Controller(dataRepository),
+                      () -> new Part01Step15Controller(dataRepository),
+                      () -> new Part01Step16Controller(dataRepository),
+                      () -> new Part01Step17Controller(dataRepository),
+                      () -> new Part01Step18Controller(dataRepository),
+                      () -> new Part01Step19Controller(dataRepository),
+                      () -> new Part01Step20Controller(dataRepository),
+                      () -> new Part01Step21Controller(dataRepository),
+                      () -> new Part01Step22Controller(dataRepository),
+                      Part01Step23Controller::new,
+                      () -> new Part01Step24Controller(dataRepository),
+                      () -> new Part01Step25Controller(dataRepository),
+                      Part01Step26Controller::new,
+                      Part01Step27Controller::new));
     }
 
     /**
@@ -8,7 +8,6 @@ import static org.etools.j1939_84.controllers.ResultsListener.MessageType.WARNIN
 import static org.etools.j1939_84.model.KeyState.KEY_ON_ENGINE_OFF;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.ResultsListener;
@@ -21,6 +20,7 @@ import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.bus.DM5Heartbeat;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.1 Test Vehicle Data Collection
@@ -31,7 +31,7 @@ public class Part01Step01Controller extends StepController {
     private static final int TOTAL_STEPS = 3;
 
     Part01Step01Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
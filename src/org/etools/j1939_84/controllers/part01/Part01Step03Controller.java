@@ -8,7 +8,6 @@ import static org.etools.j1939tools.modules.CommunicationsModule.getCompositeSys
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -23,6 +22,7 @@ import org.etools.j1939tools.j1939.packets.AddressClaimPacket;
 import org.etools.j1939tools.j1939.packets.DM5DiagnosticReadinessPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.3 DM5: Diagnostic Readiness 1
@@ -33,7 +33,7 @@ public class Part01Step03Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step03Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
@@ -9,7 +9,6 @@ import static org.etools.j1939tools.j1939.packets.AcknowledgmentPacket.Response.
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -29,6 +28,7 @@ import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.4 DM24: SPN support
@@ -47,7 +47,7 @@ public class Part01Step04Controller extends StepController {
     }
 
     Part01Step04Controller(DataRepository dataRepository, DateTimeModule dateTimeModule, TableA1Validator tableA1Validator) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
@@ -2,7 +2,6 @@ package org.etools.j1939_84.controllers.part01;
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -16,6 +15,7 @@ import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.j1939.packets.VehicleIdentificationPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.5 PGN 65260 VIN Verification
@@ -29,7 +29,7 @@ public class Part01Step05Controller extends StepController {
     private final VinDecoder vinDecoder;
 
     Part01Step05Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
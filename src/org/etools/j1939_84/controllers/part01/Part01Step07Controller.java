@@ -6,7 +6,6 @@ package org.etools.j1939_84.controllers.part01;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,6 +22,7 @@ import org.etools.j1939tools.j1939.packets.DM19CalibrationInformationPacket.Cali
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.7 DM19: Calibration Information
@@ -34,7 +34,7 @@ public class Part01Step07Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step07Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
@@ -7,7 +7,6 @@ import static org.etools.j1939_84.utils.StringUtils.containsNonPrintableAsciiCha
 import static org.etools.j1939_84.utils.StringUtils.containsOnlyNumericAsciiCharacters;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -21,6 +20,7 @@ import org.etools.j1939tools.j1939.packets.ComponentIdentificationPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.9 Component ID: Make, Model, Serial Number Support
@@ -32,7 +32,7 @@ public class Part01Step09Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step09Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
@@ -9,7 +9,6 @@ import static org.etools.j1939tools.j1939.packets.AcknowledgmentPacket.Response.
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -21,6 +20,7 @@ import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.10 DM11: Diagnostic Data Clear/Reset for Active DTCs
@@ -32,7 +32,7 @@ public class Part01Step10Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step10Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
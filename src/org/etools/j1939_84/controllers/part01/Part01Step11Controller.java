@@ -5,7 +5,6 @@ package org.etools.j1939_84.controllers.part01;
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -17,6 +16,7 @@ import org.etools.j1939tools.j1939.packets.DM21DiagnosticReadinessPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 ;
 
@@ -30,7 +30,7 @@ public class Part01Step11Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step11Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new CommunicationsModule(),
@@ -8,7 +8,6 @@ import static org.etools.j1939tools.modules.CommunicationsModule.getCompositeSys
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -24,6 +23,7 @@ import org.etools.j1939tools.j1939.packets.MonitoredSystemStatus;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.13 DM5: Diagnostic Readiness 1: Monitor Readiness
@@ -37,7 +37,7 @@ public class Part01Step13Controller extends StepController {
     private final SectionA6Validator sectionA6Validator;
 
     Part01Step13Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
@@ -6,7 +6,6 @@ package org.etools.j1939_84.controllers.part01;
 import static org.etools.j1939tools.modules.CommunicationsModule.getCompositeSystems;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -21,6 +20,7 @@ import org.etools.j1939tools.j1939.packets.MonitoredSystem;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 ;
 
@@ -34,7 +34,7 @@ public class Part01Step14Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step14Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
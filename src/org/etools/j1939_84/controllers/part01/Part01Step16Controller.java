@@ -7,7 +7,6 @@ import static org.etools.j1939tools.j1939.packets.LampStatus.NOT_SUPPORTED;
 import static org.etools.j1939tools.j1939.packets.LampStatus.OFF;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -20,6 +19,7 @@ import org.etools.j1939tools.j1939.packets.LampStatus;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.16 DM2: Previously Active Diagnostic Trouble Codes (DTCs)
@@ -31,7 +31,7 @@ public class Part01Step16Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step16Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
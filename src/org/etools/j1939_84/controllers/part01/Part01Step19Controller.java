@@ -6,7 +6,6 @@ package org.etools.j1939_84.controllers.part01;
 import static org.etools.j1939tools.j1939.packets.LampStatus.OFF;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -18,6 +17,7 @@ import org.etools.j1939tools.j1939.packets.DiagnosticTroubleCodePacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.1.19 DM23: Emission Related Previously Active DTCs
@@ -29,7 +29,7 @@ public class Part01Step19Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part01Step19Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
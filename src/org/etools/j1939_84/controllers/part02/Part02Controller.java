@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part02;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.2 Key On Engine Running Data Collection
@@ -21,31 +22,32 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part02Controller extends PartController {
 
     public Part02Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part02Step01Controller(),
-             new Part02Step02Controller(dataRepository),
-             new Part02Step03Controller(dataRepository),
-             new Part02Step04Controller(dataRepository),
-             new Part02Step05Controller(dataRepository),
-             new Part02Step06Controller(dataRepository),
-             new Part02Step07Controller(dataRepository),
-             new Part02Step08Controller(dataRepository),
-             new Part02Step09Controller(dataRepository),
-             new Part02Step10Controller(dataRepository),
-             new Part02Step11Controller(dataRepository),
-             new Part02Step12Controller(dataRepository),
-             new Part02Step13Controller(dataRepository),
-             new Part02Step14Controller(dataRepository),
-             new Part02Step15Controller(dataRepository),
-             new Part02Step16Controller(dataRepository),
-             new Part02Step17Controller(),
-             new Part02Step18Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              2,
+              List.of(Part02Step01Controller::new,
+                      () -> new Part02Step02Controller(dataRepository),
+                      () -> new Part02Step03Controller(dataRepository),
+                      () -> new Part02Step04Controller(dataRepository),
+                      () -> new Part02Step05Controller(dataRepository),
+                      () -> new Part02Step06Controller(dataRepository),
+                      () -> new Part02Step07Controller(dataRepository),
+                      () -> new Part02Step08Controller(dataRepository),
+                      () -> new Part02Step09Controller(dataRepository),
+                      () -> new Part02Step10Controller(dataRepository),
+                      () -> new Part02Step11Controller(dataRepository),
+                      () -> new Part02Step12Controller(dataRepository),
+                      () -> new Part02Step13Controller(dataRepository),
+                      () -> new Part02Step14Controller(dataRepository),
+                      () -> new Part02Step15Controller(dataRepository),
+                      () -> new Part02Step16Controller(dataRepository),
+                      Part02Step17Controller::new,
+                      Part02Step18Controller::new));
     }
 
     /**
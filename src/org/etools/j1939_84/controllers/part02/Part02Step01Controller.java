@@ -6,7 +6,6 @@ package org.etools.j1939_84.controllers.part02;
 import static org.etools.j1939_84.model.KeyState.KEY_ON_ENGINE_RUNNING;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -15,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.2.1 Part 2 Key On Engine Running Data Collection
@@ -26,7 +26,7 @@ public class Part02Step01Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part02Step01Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
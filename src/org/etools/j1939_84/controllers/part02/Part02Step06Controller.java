@@ -5,7 +5,6 @@ package org.etools.j1939_84.controllers.part02;
 
 import java.util.Collection;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -17,6 +16,7 @@ import org.etools.j1939tools.j1939.packets.DM56EngineFamilyPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.2.6 DM56: Model year and certification engine family
@@ -28,7 +28,7 @@ public class Part02Step06Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part02Step06Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
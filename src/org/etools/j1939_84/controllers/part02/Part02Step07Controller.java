@@ -7,7 +7,6 @@ import static org.etools.j1939tools.j1939.Lookup.getAddressName;
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -21,6 +20,7 @@ import org.etools.j1939tools.j1939.packets.ComponentIdentificationPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.2.7 Component ID: Make, Model, Serial Number Support
@@ -32,7 +32,7 @@ public class Part02Step07Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part02Step07Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              dataRepository,
@@ -5,7 +5,6 @@ package org.etools.j1939_84.controllers.part02;
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -18,9 +17,11 @@ import org.etools.j1939tools.j1939.Lookup;
 import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
 import org.etools.j1939tools.j1939.packets.DM58RationalityFaultSpData;
 import org.etools.j1939tools.j1939.packets.ScaledTestResult;
+import org.etools.j1939tools.j1939.packets.ScaledTestResultTable;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.2.10 DM7/DM30: Command Non-continuously Monitored Test/Scaled Test Results
@@ -32,7 +33,7 @@ public class Part02Step10Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part02Step10Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              dataRepository,
@@ -87,17 +88,10 @@ public class Part02Step10Controller extends StepController {
             // are not expected and shall fail if additional SPN and FMI combinations are found,
             // or if any SPN and FMI combinations go missing.
 
-            String oldResults = obdModule.getScaledTestResults()
-                                         .stream()
-                                         .map(r -> r.getSpn() + ":" + r.getFmi())
-                                         .sorted()
-                                         .collect(Collectors.joining(","));
-            String newResults = newTestResults.stream()
-                                              .map(r -> r.getSpn() + ":" + r.getFmi())
-                                              .sorted()
-                                              .collect(Collectors.joining(","));
-
-            if (!oldResults.equals(newResults)) {
+            var oldResults = obdModule.getScaledTestResultTable();
+            var newResults = ScaledTestResultTable.of(newTestResults);
+
+            if (!newResults.hasSameSpnFmis(oldResults)) {
                 addFailure("6.2.10.2.a - " + moduleName
                         + " provided different test result labels from the test results received in part 1 test 12");
             }
@@ -8,7 +8,6 @@ import static org.etools.j1939tools.j1939.packets.DM34NTEStatus.AreaStatus.OUTSI
 
 import java.util.Arrays;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -24,6 +23,7 @@ import org.etools.j1939tools.j1939.packets.DM34NTEStatus.AreaStatus;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.2.16 DM34: NTE status
@@ -35,7 +35,7 @@ public class Part02Step16Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part02Step16Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new EngineSpeedModule(),
              new BannerModule(),
              new VehicleInformationModule(),
@@ -27,10 +27,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -49,8 +47,8 @@ import org.etools.j1939tools.bus.DM5Heartbeat;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.Lookup;
 import org.etools.j1939tools.j1939.model.ActiveTechnology;
-import org.etools.j1939tools.j1939.model.Spn;
 import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.model.SpnTimeSeries;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.GhgActiveTechnologyPacket;
 import org.etools.j1939tools.j1939.packets.GhgLifetimeActiveTechnologyPacket;
@@ -60,6 +58,7 @@ import org.etools.j1939tools.modules.DateTimeModule;
 import org.etools.j1939tools.modules.GhgTrackingModule;
 import org.etools.j1939tools.modules.NOxBinningModule;
 import org.etools.j1939tools.utils.CollectionUtils;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.2.17 KOER Data stream verification
@@ -81,7 +80,7 @@ public class Part02Step17Controller extends StepController {
     private final TableA1Validator tableA1Validator;
 
     public Part02Step17Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -151,6 +150,8 @@ public class Part02Step17Controller extends StepController {
         // frequency of broadcast. Display the first message received in the report with SPs scaled into engineering
         // values.
         // 6.2.17.2.c. Display the first three messages observed with their arrival times.
+        // the SPN values are stored by module as they're received for the checks below
+        SpnTimeSeries timeSeries = new SpnTimeSeries();
         Stream<GenericPacket> packetStream = busService.readBus(broadcastValidator.getMaximumBroadcastPeriod() * 4,
                                                                 "6.2.17.2.c");
         var packets = packetStream
@@ -161,6 +162,7 @@ public class Part02Step17Controller extends StepController {
                                           packetStream.close();
                                       }
                                   })
+                                  .peek(timeSeries::add)
                                   .peek(p -> {
                                       // 6.2.17.3.a. Fail if no message or message with invalid SP data for any
                                       // broadcast SP indicated as supported by the OBD ECU(s) in DM24.
@@ -199,10 +201,6 @@ public class Part02Step17Controller extends StepController {
                 displayInstructionAndWait(msg, "Second device using SA 0xF9", ERROR);
             }
         }
-        // Check the Broadcast Period of the received packets1
-        // Map of PGN to (Map of Source Address to List of Packets)
-        Map<Integer, Map<Integer, List<GenericPacket>>> foundPackets = broadcastValidator.buildPGNPacketsMap(packets);
-
         List<Integer> supportedSPNs = getDataRepository().getObdModules()
                                                          .stream()
                                                          .flatMap(m -> m.getFilteredDataStreamSPNs().stream())
@@ -210,14 +208,15 @@ public class Part02Step17Controller extends StepController {
                                                          .collect(Collectors.toList());
 
         // 6.2.17.3.b - Fail if any parameter is not broadcast within ±10% of the specified broadcast period
-        broadcastValidator.reportBroadcastPeriod(foundPackets,
+        // the arrival times of each PGN were collected with the SPN values
+        broadcastValidator.reportBroadcastPeriod(timeSeries,
                                                  supportedSPNs,
                                                  getListener(),
                                                  getPartNumber(),
                                                  getStepNumber());
 
         // 6.2.17.3.e. Fail/warn per Table A-1, if two or more ECUs provide an SPN listed.
-        tableA1Validator.reportDuplicateSPNs(packets, getListener(), "6.2.17.3.e");
+        tableA1Validator.reportDuplicateSPNs(timeSeries, getListener(), "6.2.17.3.e");
 
         List<GenericPacket> onRequestPackets = new ArrayList<>();
         // Find and report any Supported SPNs which should have been received but weren't
@@ -250,12 +249,7 @@ public class Part02Step17Controller extends StepController {
             List<Integer> requestPGNs = busService.getPGNsForDSRequest(missingSPNs, dataStreamSPNs);
 
             // Remove the SPNs that were already received
-            Set<Integer> receivedSPNs = packets.stream()
-                                               .filter(p -> p.getSourceAddress() == moduleAddress)
-                                               .flatMap(p -> p.getSpns().stream())
-                                               .filter(s -> !s.isNotAvailable())
-                                               .map(Spn::getId)
-                                               .collect(Collectors.toSet());
+            Set<Integer> receivedSPNs = timeSeries.getAvailableSpns(moduleAddress);
             dataStreamSPNs.removeAll(receivedSPNs);
 
             for (int pgn : requestPGNs) {
@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part03;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 ;
 
@@ -23,29 +24,30 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part03Controller extends PartController {
 
     public Part03Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part03Step01Controller(),
-             new Part03Step02Controller(),
-             new Part03Step03Controller(),
-             new Part03Step04Controller(),
-             new Part03Step05Controller(),
-             new Part03Step06Controller(),
-             new Part03Step07Controller(),
-             new Part03Step08Controller(),
-             new Part03Step09Controller(),
-             new Part03Step10Controller(),
-             new Part03Step11Controller(),
-             new Part03Step12Controller(),
-             new Part03Step13Controller(),
-             new Part03Step14Controller(),
-             new Part03Step15Controller(),
-             new Part03Step16Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              3,
+              List.of(Part03Step01Controller::new,
+                      Part03Step02Controller::new,
+                      Part03Step03Controller::new,
+                      Part03Step04Controller::new,
+                      Part03Step05Controller::new,
+                      Part03Step06Controller::new,
+                      Part03Step07Controller::new,
+                      Part03Step08Controller::new,
+                      Part03Step09Controller::new,
+                      Part03Step10Controller::new,
+                      Part03Step11Controller::new,
+                      Part03Step12Controller::new,
+                      Part03Step13Controller::new,
+                      Part03Step14Controller::new,
+                      Part03Step15Controller::new,
+                      Part03Step16Controller::new));
     }
 
     /**
@@ -8,7 +8,6 @@ import static org.etools.j1939_84.controllers.ResultsListener.MessageType.QUESTI
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -22,6 +21,7 @@ import org.etools.j1939tools.j1939.packets.DM6PendingEmissionDTCPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.3.2 DM6: Emission related pending DTCs
@@ -33,7 +33,7 @@ public class Part03Step02Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part03Step02Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -7,7 +7,6 @@ import static org.etools.j1939tools.j1939.packets.AcknowledgmentPacket.Response.
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -21,6 +20,7 @@ import org.etools.j1939tools.j1939.packets.DM6PendingEmissionDTCPacket;
 import org.etools.j1939tools.j1939.packets.DTCLampStatus;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.3.5 DM31: DTC to lamp association
@@ -32,7 +32,7 @@ public class Part03Step05Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part03Step05Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -5,7 +5,6 @@ package org.etools.j1939_84.controllers.part03;
 
 import java.util.Collection;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -16,6 +15,7 @@ import org.etools.j1939tools.bus.BusResult;
 import org.etools.j1939tools.bus.RequestResult;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.3.14 DM20: Monitor performance ratio
@@ -27,7 +27,7 @@ public class Part03Step14Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part03Step14Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
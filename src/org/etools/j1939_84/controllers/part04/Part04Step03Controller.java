@@ -9,7 +9,6 @@ import static org.etools.j1939tools.j1939.packets.LampStatus.ON;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -25,6 +24,7 @@ import org.etools.j1939tools.j1939.packets.DiagnosticTroubleCodePacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.4.3 DM1: Active Diagnostic Trouble Codes (DTCs)
@@ -35,7 +35,7 @@ public class Part04Step03Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part04Step03Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -90,7 +90,7 @@ public class Part04Step03Controller extends StepController {
 
             packets.stream()
                    .filter(p -> p.getSourceAddress() == moduleAddress)
-                   .filter(p -> !getDTCs(moduleAddress).stream().allMatch(d -> p.getDtcs().contains(d)))
+                   .filter(p -> !p.getDtcs().containsAll(getDTCs(moduleAddress)))
                    .map(ParsedPacket::getModuleName)
                    .findFirst()
                    .ifPresent(moduleName -> addFailure("6.4.3.2.b - " + moduleName
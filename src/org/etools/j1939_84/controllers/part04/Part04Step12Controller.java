@@ -7,7 +7,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -17,10 +16,11 @@ import org.etools.j1939_84.modules.BannerModule;
 import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.j1939.Lookup;
-import org.etools.j1939tools.j1939.model.SpnFmi;
 import org.etools.j1939tools.j1939.packets.DM30ScaledTestResultsPacket;
+import org.etools.j1939tools.j1939.packets.ScaledTestResultTable;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.4.12 DM7/DM30: Command Non-Continuously Monitored Test/Scaled Test Results
@@ -31,7 +31,7 @@ public class Part04Step12Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part04Step12Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -106,18 +106,14 @@ public class Part04Step12Controller extends StepController {
                 // 6.4.12.2.a. Fail if there is any difference in each ECU’s provided
                 // test result labels (SPN and FMI combinations)
                 // from the test results received in part 1 test 11, paragraph 6.1.12
-                var currentTestResults = packets.stream()
-                                                .map(DM30ScaledTestResultsPacket::getTestResults)
-                                                .flatMap(Collection::stream)
-                                                .map(SpnFmi::of)
-                                                .collect(Collectors.toSet());
-
-                var previousTestResults = obdModuleInformation.getScaledTestResults()
-                                                              .stream()
-                                                              .map(SpnFmi::of)
-                                                              .collect(Collectors.toSet());
-
-                if (!previousTestResults.equals(currentTestResults)) {
+                var currentTestResults = ScaledTestResultTable.of(packets.stream()
+                                                                         .map(DM30ScaledTestResultsPacket::getTestResults)
+                                                                         .flatMap(Collection::stream)
+                                                                         .collect(Collectors.toList()));
+
+                var previousTestResults = obdModuleInformation.getScaledTestResultTable();
+
+                if (!currentTestResults.hasSameDistinctSpnFmis(previousTestResults)) {
                     addFailure("6.4.12.2.a - " + Lookup.getAddressName(moduleAddress)
                             + " reported a difference in test result labels from the test results received in part 1");
                 }
@@ -9,7 +9,6 @@ import static org.etools.j1939tools.j1939.packets.AcknowledgmentPacket.Response.
 
 import java.util.Collection;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -23,6 +22,7 @@ import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.4.13 DM3: Diagnostic Data Clear/Reset for Previously Active DTCs
@@ -35,7 +35,7 @@ public class Part04Step13Controller extends StepController {
     private final SectionA5Verifier verifier;
 
     Part04Step13Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part05;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 ;
 
@@ -23,20 +24,21 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part05Controller extends PartController {
 
     public Part05Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part05Step01Controller(),
-             new Part05Step02Controller(),
-             new Part05Step03Controller(),
-             new Part05Step04Controller(),
-             new Part05Step05Controller(),
-             new Part05Step06Controller(),
-             new Part05Step07Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              5,
+              List.of(Part05Step01Controller::new,
+                      Part05Step02Controller::new,
+                      Part05Step03Controller::new,
+                      Part05Step04Controller::new,
+                      Part05Step05Controller::new,
+                      Part05Step06Controller::new,
+                      Part05Step07Controller::new));
     }
 
     /**
@@ -4,7 +4,6 @@
 package org.etools.j1939_84.controllers.part05;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -16,6 +15,7 @@ import org.etools.j1939tools.bus.BusResult;
 import org.etools.j1939tools.j1939.packets.DM20MonitorPerformanceRatioPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.5.6 DM20: Monitor Performance Ratio
@@ -26,7 +26,7 @@ public class Part05Step06Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part05Step06Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part06;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.6 Complete Fault A Three Cycle Countdown
@@ -21,24 +22,25 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part06Controller extends PartController {
 
     public Part06Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part06Step01Controller(),
-             new Part06Step02Controller(),
-             new Part06Step03Controller(),
-             new Part06Step04Controller(),
-             new Part06Step05Controller(),
-             new Part06Step06Controller(),
-             new Part06Step07Controller(),
-             new Part06Step08Controller(),
-             new Part06Step09Controller(),
-             new Part06Step10Controller(),
-             new Part06Step11Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              6,
+              List.of(Part06Step01Controller::new,
+                      Part06Step02Controller::new,
+                      Part06Step03Controller::new,
+                      Part06Step04Controller::new,
+                      Part06Step05Controller::new,
+                      Part06Step06Controller::new,
+                      Part06Step07Controller::new,
+                      Part06Step08Controller::new,
+                      Part06Step09Controller::new,
+                      Part06Step10Controller::new,
+                      Part06Step11Controller::new));
     }
 
     /**
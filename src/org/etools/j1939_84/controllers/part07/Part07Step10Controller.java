@@ -4,7 +4,6 @@
 package org.etools.j1939_84.controllers.part07;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -16,6 +15,7 @@ import org.etools.j1939tools.j1939.packets.DM29DtcCounts;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.7.10 DM29: Regulated DTC Counts
@@ -26,7 +26,7 @@ public class Part07Step10Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part07Step10Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -9,7 +9,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -22,9 +21,11 @@ import org.etools.j1939tools.bus.BusResult;
 import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
 import org.etools.j1939tools.j1939.packets.DM30ScaledTestResultsPacket;
 import org.etools.j1939tools.j1939.packets.ScaledTestResult;
+import org.etools.j1939tools.j1939.packets.ScaledTestResultTable;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.7.15 DM7/DM30: Command Non-Continuously Monitored Test/Scaled Test Results
@@ -35,7 +36,7 @@ public class Part07Step15Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part07Step15Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -82,7 +83,8 @@ public class Part07Step15Controller extends StepController {
 
             // 6.7.15.2.a. Fail if any difference in the ECU address+SPN+FMI combinations that report test results
             // compared to list created in part 1.
-            if (!testResultsSame(testResults, obdModuleInformation.getScaledTestResults())) {
+            var testResultTable = ScaledTestResultTable.of(testResults);
+            if (!testResultTable.hasSameSpnFmis(obdModuleInformation.getScaledTestResultTable())) {
                 addFailure("6.7.15.2.a - Difference in tests results reported from "
                         + obdModuleInformation.getModuleName() + " compared to list created in part 1");
             }
@@ -104,19 +106,6 @@ public class Part07Step15Controller extends StepController {
         return getCommunicationsModule().requestTestResult(getListener(), address, 246, 5846, 31);
     }
 
-    private static boolean testResultsSame(Collection<ScaledTestResult> testResults1,
-                                           Collection<ScaledTestResult> testResults2) {
-        var results1 = testResults1.stream()
-                                   .map(r -> r.getSpn() + ":" + r.getFmi())
-                                   .sorted()
-                                   .collect(Collectors.joining(","));
-        var results2 = testResults2.stream()
-                                   .map(r -> r.getSpn() + ":" + r.getFmi())
-                                   .sorted()
-                                   .collect(Collectors.joining(","));
-        return results1.equals(results2);
-    }
-
     private static List<ScaledTestResult> parseTestResults(BusResult<DM30ScaledTestResultsPacket> result) {
         return result.getPacket()
                      .flatMap(r -> r.left)
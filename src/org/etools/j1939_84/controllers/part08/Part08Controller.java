@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part08;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 ;
 
@@ -23,29 +24,30 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part08Controller extends PartController {
 
     public Part08Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part08Step01Controller(),
-             new Part08Step02Controller(),
-             new Part08Step03Controller(),
-             new Part08Step04Controller(),
-             new Part08Step05Controller(),
-             new Part08Step06Controller(),
-             new Part08Step07Controller(),
-             new Part08Step08Controller(),
-             new Part08Step09Controller(),
-             new Part08Step10Controller(),
-             new Part08Step11Controller(),
-             new Part08Step12Controller(),
-             new Part08Step13Controller(),
-             new Part08Step14Controller(),
-             new Part08Step15Controller(),
-             new Part08Step16Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              8,
+              List.of(Part08Step01Controller::new,
+                      Part08Step02Controller::new,
+                      Part08Step03Controller::new,
+                      Part08Step04Controller::new,
+                      Part08Step05Controller::new,
+                      Part08Step06Controller::new,
+                      Part08Step07Controller::new,
+                      Part08Step08Controller::new,
+                      Part08Step09Controller::new,
+                      Part08Step10Controller::new,
+                      Part08Step11Controller::new,
+                      Part08Step12Controller::new,
+                      Part08Step13Controller::new,
+                      Part08Step14Controller::new,
+                      Part08Step15Controller::new,
+                      Part08Step16Controller::new));
     }
 
     /**
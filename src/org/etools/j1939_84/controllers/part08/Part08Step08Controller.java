@@ -4,7 +4,6 @@
 package org.etools.j1939_84.controllers.part08;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -18,6 +17,7 @@ import org.etools.j1939tools.j1939.packets.DM28PermanentEmissionDTCPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.8.8 DM29: Regulated DTC Counts
@@ -28,7 +28,7 @@ public class Part08Step08Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part08Step08Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
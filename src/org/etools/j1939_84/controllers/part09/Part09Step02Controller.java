@@ -6,7 +6,6 @@ package org.etools.j1939_84.controllers.part09;
 import static org.etools.j1939tools.j1939.packets.LampStatus.ON;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -19,6 +18,7 @@ import org.etools.j1939tools.j1939.packets.DiagnosticTroubleCodePacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.9.2 DM12: Emissions Related Active DTCs
@@ -29,7 +29,7 @@ public class Part09Step02Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part09Step02Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
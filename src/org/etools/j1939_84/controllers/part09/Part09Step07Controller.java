@@ -4,7 +4,6 @@
 package org.etools.j1939_84.controllers.part09;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.StepController;
@@ -15,6 +14,7 @@ import org.etools.j1939tools.j1939.packets.DM33EmissionIncreasingAECDActiveTime;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.9.7 DM33: Emission Increasing Auxiliary Emission Control Device Active Time
@@ -25,7 +25,7 @@ public class Part09Step07Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part09Step07Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -6,7 +6,6 @@ package org.etools.j1939_84.controllers.part09;
 import static org.etools.j1939tools.j1939.packets.ParsedPacket.NOT_AVAILABLE;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -17,6 +16,7 @@ import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.9.9 DM21: Diagnostic Readiness 2
@@ -27,7 +27,7 @@ public class Part09Step09Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part09Step09Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
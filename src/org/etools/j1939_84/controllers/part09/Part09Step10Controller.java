@@ -4,10 +4,8 @@
 package org.etools.j1939_84.controllers.part09;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -20,8 +18,10 @@ import org.etools.j1939tools.j1939.model.SpnFmi;
 import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket.Response;
 import org.etools.j1939tools.j1939.packets.DM30ScaledTestResultsPacket;
 import org.etools.j1939tools.j1939.packets.ScaledTestResult;
+import org.etools.j1939tools.j1939.packets.ScaledTestResultTable;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.9.10 DM7/DM30: Command Non-Continuously Monitored Test/Scaled Test Results
@@ -32,7 +32,7 @@ public class Part09Step10Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part09Step10Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -103,9 +103,9 @@ public class Part09Step10Controller extends StepController {
 
             // 6.9.10.2.b. Fail if any difference in what ECU+SPN+FMI combinations have test results compared to the
             // combinations identified in part 1 as having test results.
-            var prevResults = toString(moduleInformation.getScaledTestResults());
-            var currentResults = toString(scaledTestResults);
-            if (!currentResults.equals(prevResults)) {
+            var prevResults = moduleInformation.getScaledTestResultTable();
+            var currentResults = ScaledTestResultTable.of(scaledTestResults);
+            if (!currentResults.hasSameSpnFmis(prevResults)) {
                 addFailure("6.9.10.2.b - " + moduleName
                         + " reported different SPN+FMI combinations for tests results compared to the combinations in part 1");
             }
@@ -152,8 +152,4 @@ public class Part09Step10Controller extends StepController {
         return Optional.empty();
     }
 
-    private static String toString(List<ScaledTestResult> testResults) {
-        return testResults.stream().map(r -> r.getSpn() + ":" + r.getFmi()).sorted().collect(Collectors.joining(","));
-    }
-
 }
@@ -4,7 +4,6 @@
 package org.etools.j1939_84.controllers.part09;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -16,6 +15,7 @@ import org.etools.j1939tools.j1939.packets.DM26TripDiagnosticReadinessPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.9.16 DM26: Diagnostic Readiness 3
@@ -26,7 +26,7 @@ public class Part09Step16Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part09Step16Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
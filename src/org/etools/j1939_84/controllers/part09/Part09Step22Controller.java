@@ -7,7 +7,6 @@ import static java.lang.String.format;
 import static org.etools.j1939tools.j1939.packets.LampStatus.NOT_SUPPORTED;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -17,6 +16,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.9.22 DM2: Previously Active Diagnostic Trouble Codes (DTCs)
@@ -27,7 +27,7 @@ public class Part09Step22Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part09Step22Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part10;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.10 Part 10 Prime Diagnostic Executive for General Denominator Demonstration
@@ -21,18 +22,19 @@ import org.etools.j1939tools.modules.DateTimeModule;;
 public class Part10Controller extends PartController {
 
     public Part10Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part10Step01Controller(),
-             new Part10Step02Controller(),
-             new Part10Step03Controller(),
-             new Part10Step04Controller(),
-             new Part10Step05Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              10,
+              List.of(Part10Step01Controller::new,
+                      Part10Step02Controller::new,
+                      Part10Step03Controller::new,
+                      Part10Step04Controller::new,
+                      Part10Step05Controller::new));
     }
 
     /**
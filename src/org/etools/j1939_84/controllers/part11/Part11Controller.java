@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part11;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.11 Part 11 Exercise General Denominator
@@ -21,27 +22,28 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part11Controller extends PartController {
 
     public Part11Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part11Step01Controller(),
-             new Part11Step02Controller(),
-             new Part11Step03Controller(),
-             new Part11Step04Controller(),
-             new Part11Step05Controller(),
-             new Part11Step06Controller(),
-             new Part11Step07Controller(),
-             new Part11Step08Controller(),
-             new Part11Step09Controller(),
-             new Part11Step10Controller(),
-             new Part11Step11Controller(),
-             new Part11Step12Controller(),
-             new Part11Step13Controller(),
-             new Part11Step14Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              11,
+              List.of(Part11Step01Controller::new,
+                      Part11Step02Controller::new,
+                      Part11Step03Controller::new,
+                      Part11Step04Controller::new,
+                      Part11Step05Controller::new,
+                      Part11Step06Controller::new,
+                      Part11Step07Controller::new,
+                      Part11Step08Controller::new,
+                      Part11Step09Controller::new,
+                      Part11Step10Controller::new,
+                      Part11Step11Controller::new,
+                      Part11Step12Controller::new,
+                      Part11Step13Controller::new,
+                      Part11Step14Controller::new));
     }
 
     /**
@@ -10,7 +10,6 @@ import static org.etools.j1939_84.controllers.ResultsListener.MessageType.WARNIN
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,6 +34,7 @@ import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.j1939.packets.PerformanceRatio;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.11.7 DM20/DM28/Broadcast data: Waiting until General Denominator Is Met
@@ -55,7 +55,7 @@ public class Part11Step07Controller extends StepController {
     private int requestCount = 0;
 
     public Part11Step07Controller() {
-        this(Executors.newScheduledThreadPool(5),
+        this(ExecutorFactory.newScheduledThreadPool(5),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -24,7 +24,6 @@ import static org.etools.j1939tools.modules.NOxBinningModule.NOx_TRACKING_STORED
 
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -45,6 +44,7 @@ import org.etools.j1939tools.modules.DateTimeModule;
 import org.etools.j1939tools.modules.GhgTrackingModule;
 import org.etools.j1939tools.modules.NOxBinningModule;
 import org.etools.j1939tools.utils.CollectionUtils;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.11.13 NOx Binning and GHG tracking for MY2022+ Engines and Vehicles
@@ -58,7 +58,7 @@ public class Part11Step13Controller extends StepController {
     private final NOxBinningModule nOxBinningModule;
 
     Part11Step13Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DataRepository.getInstance(),
              new EngineSpeedModule(),
@@ -3,8 +3,8 @@
  */
 package org.etools.j1939_84.controllers.part12;
 
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.etools.j1939_84.controllers.DataRepository;
 import org.etools.j1939_84.controllers.PartController;
@@ -14,6 +14,7 @@ import org.etools.j1939_84.modules.EngineSpeedModule;
 import org.etools.j1939_84.modules.VehicleInformationModule;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.12 Part 12 Verify Deletion of Fault B from DM28
@@ -21,24 +22,25 @@ import org.etools.j1939tools.modules.DateTimeModule;
 public class Part12Controller extends PartController {
 
     public Part12Controller(DataRepository dataRepository) {
-        this(Executors.newSingleThreadScheduledExecutor(),
-             new BannerModule(),
-             DateTimeModule.getInstance(),
-             dataRepository,
-             new EngineSpeedModule(),
-             new VehicleInformationModule(),
-             new CommunicationsModule(),
-             new Part12Step01Controller(),
-             new Part12Step02Controller(),
-             new Part12Step03Controller(),
-             new Part12Step04Controller(),
-             new Part12Step05Controller(),
-             new Part12Step06Controller(),
-             new Part12Step07Controller(),
-             new Part12Step08Controller(),
-             new Part12Step09Controller(),
-             new Part12Step10Controller(),
-             new Part12Step11Controller());
+        super(ExecutorFactory.getSharedScheduledExecutor(),
+              new BannerModule(),
+              DateTimeModule.getInstance(),
+              dataRepository,
+              new EngineSpeedModule(),
+              new VehicleInformationModule(),
+              new CommunicationsModule(),
+              12,
+              List.of(Part12Step01Controller::new,
+                      Part12Step02Controller::new,
+                      Part12Step03Controller::new,
+                      Part12Step04Controller::new,
+                      Part12Step05Controller::new,
+                      Part12Step06Controller::new,
+                      Part12Step07Controller::new,
+                      Part12Step08Controller::new,
+                      Part12Step09Controller::new,
+                      Part12Step10Controller::new,
+                      Part12Step11Controller::new));
     }
 
     /**
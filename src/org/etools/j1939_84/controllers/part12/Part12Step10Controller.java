@@ -9,7 +9,6 @@ import static org.etools.j1939tools.j1939.packets.AcknowledgmentPacket.Response.
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -22,6 +21,7 @@ import org.etools.j1939tools.j1939.packets.DM11ClearActiveDTCsPacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.12.10 DM11: Diagnostic Data Clear/Reset for Active DTCs
@@ -33,7 +33,7 @@ public class Part12Step10Controller extends StepController {
     private final SectionA5Verifier verifier;
 
     Part12Step10Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -4,7 +4,6 @@
 package org.etools.j1939_84.controllers.part12;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.etools.j1939_84.controllers.DataRepository;
@@ -20,6 +19,7 @@ import org.etools.j1939tools.j1939.packets.DM58RationalityFaultSpData;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.etools.j1939tools.modules.CommunicationsModule;
 import org.etools.j1939tools.modules.DateTimeModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * 6.12.10 DM7/ DM30: Command Non-Continuously Monitored Test/Scaled Test Results
@@ -30,7 +30,7 @@ public class Part12Step11Controller extends StepController {
     private static final int TOTAL_STEPS = 0;
 
     Part12Step11Controller() {
-        this(Executors.newSingleThreadScheduledExecutor(),
+        this(ExecutorFactory.getSharedScheduledExecutor(),
              new BannerModule(),
              DateTimeModule.getInstance(),
              DataRepository.getInstance(),
@@ -37,7 +37,6 @@ import static org.etools.j1939tools.j1939.packets.LampStatus.ON;
 import static org.etools.j1939tools.j1939.packets.ParsedPacket.to2Bytes;
 import static org.etools.j1939tools.j1939.packets.ParsedPacket.to4Bytes;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -53,6 +52,7 @@ import org.etools.j1939_84.model.KeyState;
 import org.etools.j1939tools.bus.Bus;
 import org.etools.j1939tools.bus.BusException;
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.model.SpnFmi;
 import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
 import org.etools.j1939tools.j1939.packets.CompositeSystem;
@@ -180,17 +180,17 @@ public class Engine implements AutoCloseable {
         // Listeners for key state change
         sim.response(p -> isRequestFor(0x1FFFF, p), p -> {
             setKeyState(KEY_ON_ENGINE_RUNNING);
-            return Packet.create(0x1FFFF, ADDR, getKeyStateAsBytes());
+            return getKeyStatePacket(0x1FFFF);
         });
 
         sim.response(p -> isRequestFor(0x1FFFE, p), () -> {
             setKeyState(KeyState.KEY_ON_ENGINE_OFF);
-            return Packet.create(0x1FFFE, ADDR, getKeyStateAsBytes());
+            return getKeyStatePacket(0x1FFFE);
         });
 
         sim.response(p -> isRequestFor(0x1FFFC, p), () -> {
             setKeyState(KEY_OFF);
-            return Packet.create(0x1FFFC, ADDR, getKeyStateAsBytes());
+            return getKeyStatePacket(0x1FFFC);
         });
 
         // Listeners to implant faults
@@ -224,13 +224,15 @@ public class Engine implements AutoCloseable {
                              } else {
                                  engineSpeed = ENGINE_SPEED_ZERO;
                              }
-                             return Packet.create(EngineSpeedPacket.PGN,
-                                                  ADDR,
-                                                  combine(new byte[] { NA, (byte) 0xFF, (byte) 0xFF }, engineSpeed, NA3));
+                             return new PacketBuilder(EngineSpeedPacket.PGN, ADDR).put(NA)
+                                                                                  .fill(2, 0xFF)
+                                                                                  .put(engineSpeed)
+                                                                                  .put(NA3)
+                                                                                  .build();
                          }
                      });
 
-        sim.schedule(100, MILLISECONDS, () -> Packet.create(65248, ADDR, combine(NA4, DISTANCE)));
+        sim.schedule(100, MILLISECONDS, () -> new PacketBuilder(65248, ADDR).put(NA4).put(DISTANCE).build());
 
         sim.response(p -> isRequestFor(65259, p), () -> Packet.create(65259, ADDR, COMPONENT_ID));
 
@@ -344,9 +346,10 @@ public class Engine implements AutoCloseable {
 
         // DM19
         sim.response(p -> isRequestFor(DM19CalibrationInformationPacket.PGN, p),
-                     p -> Packet.create(DM19CalibrationInformationPacket.PGN | p.getSource(),
-                                        ADDR,
-                                        combine(ENGINE_CVN1, ENGINE_CAL_ID1)));
+                     p -> new PacketBuilder(DM19CalibrationInformationPacket.PGN | p.getSource(), ADDR, 20)
+                             .put(ENGINE_CVN1)
+                             .put(ENGINE_CAL_ID1)
+                             .build());
 
         // DM 20
         sim.response(p -> isRequestFor(DM20MonitorPerformanceRatioPacket.PGN, p),
@@ -1305,18 +1308,6 @@ public class Engine implements AutoCloseable {
                        SECONDARY_AIR_SYSTEM);
     }
 
-    private static byte[] combine(byte[]... bytes) {
-        int length = 0;
-        for (byte[] b : bytes) {
-            length += b.length;
-        }
-        ByteBuffer bb = ByteBuffer.allocate(length);
-        for (byte[] data : bytes) {
-            bb.put(data);
-        }
-        return bb.array();
-    }
-
     private static boolean isRequestForDM30(Packet packet) {
         if (packet.getPgn() == DM7CommandTestsPacket.PGN) {
             DM7CommandTestsPacket dm7 = new DM7CommandTestsPacket(packet);
@@ -1391,10 +1382,10 @@ public class Engine implements AutoCloseable {
         return keyState.isKeyOn;
     }
 
-    private byte[] getKeyStateAsBytes() {
+    private Packet getKeyStatePacket(int id) {
         long a = isEngineOn() ? 1 : 0;
         long a1 = isKeyOn() ? 1 : 0;
-        return combine(to4Bytes(a1), to4Bytes(a));
+        return new PacketBuilder(id, ADDR).put32(a1).put32(a).build();
     }
 
     private LampStatus getMilStatus() {
@@ -18,6 +18,7 @@ import org.etools.j1939_84.J1939_84;
 import org.etools.j1939tools.bus.Bus;
 import org.etools.j1939tools.bus.BusException;
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * Used to simulate responses from vehicle modules
@@ -41,13 +42,17 @@ public class Sim implements AutoCloseable {
     /**
      * The executor
      */
-    private final ScheduledExecutorService exec = new ScheduledThreadPoolExecutor(2, r -> new Thread(() -> {
-        try {
-            r.run();
-        } catch (Throwable t) {
-            t.printStackTrace();
-        }
-    }, "Sim Thread"));
+    private final ScheduledExecutorService exec = new ScheduledThreadPoolExecutor(2, Sim::newThread);
+
+    private static Thread newThread(Runnable r) {
+        return ExecutorFactory.newThread("Sim Thread", () -> {
+            try {
+                r.run();
+            } catch (Throwable t) {
+                t.printStackTrace();
+            }
+        });
+    }
 
     public Sim(Bus bus) throws BusException {
         this(bus, false);
@@ -4,19 +4,23 @@
 package org.etools.j1939_84.model;
 
 import static java.util.Comparator.comparingInt;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.etools.j1939tools.j1939.Lookup;
+import org.etools.j1939tools.j1939.PacketParserRegistry;
 import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
 import org.etools.j1939tools.j1939.packets.DM27AllPendingDTCsPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
 import org.etools.j1939tools.j1939.packets.ScaledTestResult;
+import org.etools.j1939tools.j1939.packets.ScaledTestResultTable;
 import org.etools.j1939tools.j1939.packets.SupportedSPN;
 
 /**
@@ -44,12 +48,23 @@ public class OBDModuleInformation implements Cloneable {
 
     private final List<ScaledTestResult> scaledTestResults = new ArrayList<>();
 
+    // the scaledTestResults by SPN, FMI and TID; null when it needs to be built
+    // again
+    private ScaledTestResultTable scaledTestResultTable;
+
     private final List<ScaledTestResult> nonInitializedTests = new ArrayList<>();
 
     private Double deltaEngineStart = null;
 
     private PacketArchive packetArchive = new PacketArchive();
 
+    // the views of the supported SPNs, built from spnSupportDm24 or the
+    // supportedSPNs when it's null; null when they need to be built again
+    private SpnSupport spnSupport;
+    private DM24SPNSupportPacket spnSupportDm24;
+
+    private List<Integer> omittedView;
+
     public OBDModuleInformation(int sourceAddress) {
         this(sourceAddress, -1);
     }
@@ -63,10 +78,17 @@ public class OBDModuleInformation implements Cloneable {
     public OBDModuleInformation clone() {
         OBDModuleInformation obdInfo = new OBDModuleInformation(getSourceAddress(), getFunction());
         obdInfo.setScaledTestResults(getScaledTestResults());
-        obdInfo.setSupportedSPNs(getSupportedSPNs());
+        obdInfo.scaledTestResultTable = scaledTestResultTable;
+        SpnSupport support = getSpnSupport();
+        obdInfo.setSupportedSPNs(support.supportedSPNs);
         obdInfo.setNonInitializedTests(getNonInitializedTests());
         obdInfo.setDeltaEngineStart(getDeltaEngineStart());
         obdInfo.packetArchive = packetArchive;
+        if (omittedSPNs.equals(obdInfo.omittedSPNs)) {
+            // the views are immutable, so the copy can share them
+            obdInfo.spnSupport = support;
+            obdInfo.spnSupportDm24 = spnSupportDm24;
+        }
 
         return obdInfo;
     }
@@ -90,54 +112,73 @@ public class OBDModuleInformation implements Cloneable {
     public void setSupportedSPNs(List<SupportedSPN> supportedSPNs) {
         this.supportedSPNs.clear();
         this.supportedSPNs.addAll(supportedSPNs);
+        spnSupport = null;
     }
 
     public boolean supportsSpn(int spn) {
-        return getSupportedSPNs()
-                                 .stream()
-                                 .map(SupportedSPN::getSpn)
-                                 .anyMatch(s -> s == spn);
+        return spn >= 0 && getSpnSupport().spns.get(spn);
     }
 
-    public List<SupportedSPN> getSupportedSPNs() {
+    /**
+     * Returns the ids of the supported SPNs in ascending order. The array is
+     * shared, so it must not be modified.
+     */
+    public int[] getSupportedSpnIds() {
+        return getSpnSupport().spnIds;
+    }
+
+    /**
+     * Returns the views of the supported SPNs, building them again if the DM24
+     * was replaced or the SPNs were changed
+     */
+    private SpnSupport getSpnSupport() {
         DM24SPNSupportPacket dm24 = get(DM24SPNSupportPacket.class, 1);
-        List<SupportedSPN> spns = dm24 == null ? supportedSPNs : dm24.getSupportedSpns();
-        return spns.stream().sorted(comparingInt(SupportedSPN::getSpn)).collect(toList());
+        SpnSupport support = spnSupport;
+        if (support == null || dm24 != spnSupportDm24) {
+            support = new SpnSupport(dm24 == null ? supportedSPNs : dm24.getSupportedSpns(),
+                                     getOmittedDataStreamSPNs());
+            spnSupport = support;
+            spnSupportDm24 = dm24;
+        }
+        return support;
+    }
+
+    public List<SupportedSPN> getSupportedSPNs() {
+        return getSpnSupport().supportedSPNs;
     }
 
     public List<SupportedSPN> getDataStreamSPNs() {
-        return getSupportedSPNs().stream()
-                                 .filter(SupportedSPN::supportsDataStream)
-                                 .collect(toList());
+        return getSpnSupport().dataStreamSPNs;
     }
 
     /**
      * Returns the List of SupportedSPNs filtering out 'dis-allowed' SPNs
      */
     public List<SupportedSPN> getFilteredDataStreamSPNs() {
-        return getDataStreamSPNs().stream()
-                                  .filter(s -> !getOmittedDataStreamSPNs().contains(s.getSpn()))
-                                  .collect(toList());
+        return getSpnSupport().filteredDataStreamSPNs;
     }
 
     public List<SupportedSPN> getFreezeFrameSPNs() {
-        return getSupportedSPNs().stream()
-                                 .filter(SupportedSPN::supportsExpandedFreezeFrame)
-                                 .collect(toList());
+        return getSpnSupport().freezeFrameSPNs;
     }
 
     public List<SupportedSPN> getTestResultSPNs() {
-        return getSupportedSPNs().stream()
-                                 .filter(SupportedSPN::supportsScaledTestResults)
-                                 .collect(toList());
+        return getSpnSupport().testResultSPNs;
     }
 
     public List<Integer> getOmittedDataStreamSPNs() {
-        return omittedSPNs.stream().distinct().sorted().collect(toList());
+        List<Integer> result = omittedView;
+        if (result == null) {
+            result = omittedSPNs.stream().distinct().sorted().collect(toUnmodifiableList());
+            omittedView = result;
+        }
+        return result;
     }
 
     public void addOmittedDataStreamSPN(int spn) {
         omittedSPNs.add(spn);
+        omittedView = null;
+        spnSupport = null;
     }
 
     public List<ScaledTestResult> getScaledTestResults() {
@@ -148,6 +189,20 @@ public class OBDModuleInformation implements Cloneable {
         this.scaledTestResults.clear();
         this.scaledTestResults.addAll(scaledTestResults);
         Collections.sort(this.scaledTestResults);
+        scaledTestResultTable = null;
+    }
+
+    /**
+     * Returns the Scaled Test Results sorted by SPN, FMI and TID for lookups
+     * and comparisons
+     */
+    public ScaledTestResultTable getScaledTestResultTable() {
+        ScaledTestResultTable table = scaledTestResultTable;
+        if (table == null) {
+            table = ScaledTestResultTable.of(scaledTestResults);
+            scaledTestResultTable = table;
+        }
+        return table;
     }
 
     public List<ScaledTestResult> getNonInitializedTests() {
@@ -188,6 +243,43 @@ public class OBDModuleInformation implements Cloneable {
         this.deltaEngineStart = deltaEngineStart;
     }
 
+    /**
+     * The supported SPNs sorted by SPN with the views of them, which are
+     * immutable so they're shared rather than rebuilt on every call
+     */
+    private static class SpnSupport {
+
+        private final List<SupportedSPN> supportedSPNs;
+        private final List<SupportedSPN> dataStreamSPNs;
+        private final List<SupportedSPN> filteredDataStreamSPNs;
+        private final List<SupportedSPN> freezeFrameSPNs;
+        private final List<SupportedSPN> testResultSPNs;
+        private final int[] spnIds;
+        private final BitSet spns = new BitSet();
+
+        private SpnSupport(List<SupportedSPN> supportedSPNs, List<Integer> omittedSPNs) {
+            this.supportedSPNs = supportedSPNs.stream()
+                                              .sorted(comparingInt(SupportedSPN::getSpn))
+                                              .collect(toUnmodifiableList());
+            dataStreamSPNs = filter(this.supportedSPNs, SupportedSPN::supportsDataStream);
+            BitSet omitted = new BitSet();
+            omittedSPNs.stream().filter(spn -> spn >= 0).forEach(omitted::set);
+            filteredDataStreamSPNs = filter(dataStreamSPNs, s -> s.getSpn() < 0 || !omitted.get(s.getSpn()));
+            freezeFrameSPNs = filter(this.supportedSPNs, SupportedSPN::supportsExpandedFreezeFrame);
+            testResultSPNs = filter(this.supportedSPNs, SupportedSPN::supportsScaledTestResults);
+            spnIds = this.supportedSPNs.stream().mapToInt(SupportedSPN::getSpn).distinct().toArray();
+            for (int spn : spnIds) {
+                if (spn >= 0) {
+                    spns.set(spn);
+                }
+            }
+        }
+
+        private static List<SupportedSPN> filter(List<SupportedSPN> spns, Predicate<SupportedSPN> predicate) {
+            return spns.stream().filter(predicate).collect(toUnmodifiableList());
+        }
+    }
+
     private static class PacketArchive {
 
         private final Map<Integer, GenericPacket[]> packetArchive = new HashMap<>();
@@ -230,13 +322,7 @@ public class OBDModuleInformation implements Cloneable {
 
     // Helper method to get the pg for the class object
     private static int getPg(Class<? extends GenericPacket> clazz) {
-        int pg = 0;
-        try {
-            pg = clazz.getField("PGN").getInt(null);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return pg;
+        return Math.max(PacketParserRegistry.getPgn(clazz), 0);
     }
 
 }
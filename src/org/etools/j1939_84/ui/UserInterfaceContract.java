@@ -89,6 +89,12 @@ public interface UserInterfaceContract {
          */
         void onReadVehicleInfoButtonClicked();
 
+        /**
+         * Called when the {@link UserInterfaceView} Reload J1939DA Button is
+         * clicked
+         */
+        void onReloadJ1939DaButtonClicked();
+
         /**
          * Called when the Select File Button has been clicked
          */
@@ -152,6 +158,15 @@ public interface UserInterfaceContract {
          */
         void setAdapterComboBoxEnabled(boolean enabled);
 
+        /**
+         * Sets the text in the Diagnostic State Field, which shows the state
+         * last observed on the vehicle bus
+         *
+         * @param text
+         *                 the text to set
+         */
+        void setDiagnosticState(String text);
+
         /**
          * Sets the text in the Engine Calibrations Field
          *
@@ -9,11 +9,12 @@ import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,6 +40,10 @@ import org.etools.j1939tools.bus.RP1210;
 import org.etools.j1939tools.bus.RP1210Bus;
 import org.etools.j1939tools.bus.RP1210Bus.ErrorType;
 import org.etools.j1939tools.j1939.J1939;
+import org.etools.j1939tools.j1939.J1939DaPlugins;
+import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.modules.DiagnosticStateModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * The Class that controls the behavior of the {@link UserInterfaceView}
@@ -63,6 +68,8 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
 
     private final VehicleInformationModule vehicleInformationModule;
 
+    private final DiagnosticStateModule diagnosticStateModule;
+
     private final UserInterfaceContract.View view;
 
     private List<Adapter> adapters;
@@ -75,7 +82,7 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
 
     private String vin;
 
-    private J1939 j1939;
+    private volatile J1939 j1939;
 
     private String selectedConnectionString;
 
@@ -98,9 +105,10 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
              new RP1210(),
              new ReportFileModule(),
              Runtime.getRuntime(),
-             Executors.newSingleThreadExecutor(),
+             ExecutorFactory.newSingleThreadExecutor("UI Presenter"),
              new OverallController(),
-             new J1939());
+             new J1939(),
+             new DiagnosticStateModule());
     }
 
     /**
@@ -122,6 +130,11 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
      * @param overallController
      *                                     the {@link OverallController} which will run all the other
      *                                     parts
+     * @param j1939
+     *                                     the {@link J1939} used before an adapter is selected
+     * @param diagnosticStateModule
+     *                                     the {@link DiagnosticStateModule} that follows the DM packets
+     *                                     on the bus
      */
     public UserInterfacePresenter(UserInterfaceContract.View view,
                                   VehicleInformationModule vehicleInformationModule,
@@ -130,7 +143,8 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
                                   Runtime runtime,
                                   Executor executor,
                                   OverallController overallController,
-                                  J1939 j1939) {
+                                  J1939 j1939,
+                                  DiagnosticStateModule diagnosticStateModule) {
         this.view = view;
         this.vehicleInformationModule = vehicleInformationModule;
         this.rp1210 = rp1210;
@@ -138,6 +152,7 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
         this.executor = executor;
         this.overallController = overallController;
         this.j1939 = j1939;
+        this.diagnosticStateModule = diagnosticStateModule;
         // vehicleInformationModule.setJ1939(this.j1939);
         runtime.addShutdownHook(new Thread(reportFileModule::onProgramExit, "Shutdown Hook Thread"));
     }
@@ -336,6 +351,33 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
         });
     }
 
+    /**
+     * Loads the J1939DA plugins again in the background, so OEM definitions
+     * added during the session are used without restarting, and tells the
+     * user which files were loaded or why they weren't
+     */
+    @Override
+    public void onReloadJ1939DaButtonClicked() {
+        Path directory = J1939DaPlugins.getDirectory().toAbsolutePath();
+        J1939DaRepository.getInstance().reloadPluginsInBackground().whenComplete((files, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                getLogger().log(Level.SEVERE, "Unable to reload the J1939DA plugins", cause);
+                String message = "The J1939DA plugins in " + directory + " were not loaded." + NL
+                        + "The previous definitions are still used.";
+                if (cause.getMessage() != null) {
+                    message += NL + cause.getMessage();
+                }
+                getView().displayDialog(message, "Unable to reload J1939DA", JOptionPane.ERROR_MESSAGE, false);
+            } else {
+                getView().displayDialog("Loaded " + files.size() + " J1939DA plugin file(s) from " + directory,
+                                        "J1939DA Reloaded",
+                                        JOptionPane.INFORMATION_MESSAGE,
+                                        false);
+            }
+        });
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -572,6 +614,9 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
             this.j1939.closeLogger();
             this.j1939 = null;
             vehicleInformationModule.setJ1939(null);
+            diagnosticStateModule.setJ1939(null);
+            diagnosticStateModule.reset();
+            getView().setDiagnosticState("");
         }
         // set new values
         if (bus != null) {
@@ -579,9 +624,22 @@ public class UserInterfacePresenter implements UserInterfaceContract.Presenter {
             this.j1939 = new J1939(bus);
             this.j1939.startLogger();
             vehicleInformationModule.setJ1939(getJ1939());
+            startDiagnosticStateMonitoring();
         }
     }
 
+    /**
+     * Follows the DM packets on the bus, whether broadcast or responses to the
+     * requests of the steps, and shows the diagnostic state as it changes. The
+     * reading stops with the first packet after the bus is replaced.
+     */
+    private void startDiagnosticStateMonitoring() {
+        J1939 monitored = getJ1939();
+        diagnosticStateModule.setJ1939(monitored);
+        diagnosticStateModule.startMonitoring(p -> getJ1939() == monitored,
+                                              p -> getView().setDiagnosticState(diagnosticStateModule.getSummary()));
+    }
+
     /**
      * Checks the given {@link File} to determine if it's a valid file for using
      * to store the Report. If it's valid, the report file is returned.
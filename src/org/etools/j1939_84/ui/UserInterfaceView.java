@@ -81,12 +81,15 @@ public class UserInterfaceView implements UserInterfaceContract.View {
     private JLabel calsLabel;
     private JScrollPane calsScrollPane;
     private JTextArea calsTextField;
+    private JLabel diagnosticStateLabel;
+    private JTextField diagnosticStateTextField;
     private JFileChooser fileChooser;
     private JLabel fileLabel;
     private JFrame frame;
     private JButton helpButton;
     private JProgressBar progressBar;
     private JButton readVehicleInfoButton;
+    private JButton reloadJ1939DaButton;
     private JPanel reportControlPanel;
     private JScrollPane reportScrollPane;
     private JPanel reportSetupPanel;
@@ -263,6 +266,11 @@ public class UserInterfaceView implements UserInterfaceContract.View {
         return speedComboBox;
     }
 
+    @Override
+    public void setDiagnosticState(String text) {
+        refreshUI(() -> getDiagnosticStateTextField().setText(text));
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -464,6 +472,34 @@ public class UserInterfaceView implements UserInterfaceContract.View {
         return calsTextField;
     }
 
+    /**
+     * Creates, caches and returns the label for the Diagnostic State Text
+     * Field
+     *
+     * @return JLabel
+     */
+    private JLabel getDiagnosticStateLabel() {
+        if (diagnosticStateLabel == null) {
+            diagnosticStateLabel = new JLabel("DTCs:");
+            diagnosticStateLabel.setToolTipText("Diagnostic State observed on the vehicle bus");
+        }
+        return diagnosticStateLabel;
+    }
+
+    /**
+     * Creates, caches and returns the Diagnostic State Text Field
+     *
+     * @return JTextField
+     */
+    JTextField getDiagnosticStateTextField() {
+        if (diagnosticStateTextField == null) {
+            diagnosticStateTextField = new JTextField();
+            diagnosticStateTextField.setToolTipText("Diagnostic State observed on the vehicle bus");
+            diagnosticStateTextField.setEditable(false);
+        }
+        return diagnosticStateTextField;
+    }
+
     /**
      * Returns the {@link UserInterfacePresenter} that controls the view
      *
@@ -535,6 +571,20 @@ public class UserInterfaceView implements UserInterfaceContract.View {
         return helpButton;
     }
 
+    /**
+     * Creates, caches and returns the Reload J1939DA Button. It stays enabled
+     * while tests run, so OEM definitions can be added at any time.
+     *
+     * @return JButton
+     */
+    JButton getReloadJ1939DaButton() {
+        if (reloadJ1939DaButton == null) {
+            reloadJ1939DaButton = new JButton("Reload J1939DA");
+            reloadJ1939DaButton.addActionListener(e -> getController().onReloadJ1939DaButtonClicked());
+        }
+        return reloadJ1939DaButton;
+    }
+
     /**
      * Creates, caches and returns the Progress Bar
      *
@@ -629,7 +679,7 @@ public class UserInterfaceView implements UserInterfaceContract.View {
             GridBagLayout layout = new GridBagLayout();
             layout.columnWidths = new int[] { 0, 0, 0 };
             layout.rowHeights = new int[] { 0, 0 };
-            layout.columnWeights = new double[] { 0.0, Double.MIN_VALUE, Double.MIN_VALUE, 0.0 };
+            layout.columnWeights = new double[] { 0.0, Double.MIN_VALUE, Double.MIN_VALUE, 0.0, 0.0 };
             layout.rowWeights = new double[] { 0, 0 };
             reportSetupPanel.setLayout(layout);
 
@@ -677,6 +727,15 @@ public class UserInterfaceView implements UserInterfaceContract.View {
             helpButtonGbc.gridheight = 2;
             helpButtonGbc.fill = GridBagConstraints.BOTH;
             reportSetupPanel.add(getHelpButton(), helpButtonGbc);
+
+            GridBagConstraints reloadJ1939DaButtonGbc = new GridBagConstraints();
+            reloadJ1939DaButtonGbc.insets = new Insets(5, 0, 5, 5);
+            reloadJ1939DaButtonGbc.anchor = GridBagConstraints.WEST;
+            reloadJ1939DaButtonGbc.gridx = 4;
+            reloadJ1939DaButtonGbc.gridy = 0;
+            reloadJ1939DaButtonGbc.gridheight = 2;
+            reloadJ1939DaButtonGbc.fill = GridBagConstraints.BOTH;
+            reportSetupPanel.add(getReloadJ1939DaButton(), reloadJ1939DaButtonGbc);
         }
         return reportSetupPanel;
     }
@@ -831,9 +890,9 @@ public class UserInterfaceView implements UserInterfaceContract.View {
 
             GridBagLayout panelLayout = new GridBagLayout();
             panelLayout.columnWidths = new int[] { 0, 0, 0 };
-            panelLayout.rowHeights = new int[] { 0, 30 };
+            panelLayout.rowHeights = new int[] { 0, 30, 0 };
             panelLayout.columnWeights = new double[] { 0.0, Double.MIN_VALUE, 0.0 };
-            panelLayout.rowWeights = new double[] { 0.0, 1.0 };
+            panelLayout.rowWeights = new double[] { 0.0, 1.0, 0.0 };
             vehicleInfoPanel.setLayout(panelLayout);
 
             GridBagConstraints vinLabelGbc = new GridBagConstraints();
@@ -867,12 +926,27 @@ public class UserInterfaceView implements UserInterfaceContract.View {
             calsTextFieldGbc.gridy = 1;
             vehicleInfoPanel.add(getCalsScrollPane(), calsTextFieldGbc);
 
+            GridBagConstraints diagnosticStateLabelGbc = new GridBagConstraints();
+            diagnosticStateLabelGbc.insets = new Insets(0, 5, 5, 5);
+            diagnosticStateLabelGbc.anchor = GridBagConstraints.EAST;
+            diagnosticStateLabelGbc.gridx = 0;
+            diagnosticStateLabelGbc.gridy = 2;
+            vehicleInfoPanel.add(getDiagnosticStateLabel(), diagnosticStateLabelGbc);
+
+            GridBagConstraints diagnosticStateTextFieldGbc = new GridBagConstraints();
+            diagnosticStateTextFieldGbc.insets = new Insets(0, 0, 5, 5);
+            diagnosticStateTextFieldGbc.anchor = GridBagConstraints.WEST;
+            diagnosticStateTextFieldGbc.fill = GridBagConstraints.BOTH;
+            diagnosticStateTextFieldGbc.gridx = 1;
+            diagnosticStateTextFieldGbc.gridy = 2;
+            vehicleInfoPanel.add(getDiagnosticStateTextField(), diagnosticStateTextFieldGbc);
+
             GridBagConstraints readVehicleInfoButtonGbc = new GridBagConstraints();
             readVehicleInfoButtonGbc.insets = new Insets(5, 0, 5, 5);
             readVehicleInfoButtonGbc.fill = GridBagConstraints.BOTH;
             readVehicleInfoButtonGbc.gridx = 2;
             readVehicleInfoButtonGbc.gridy = 0;
-            readVehicleInfoButtonGbc.gridheight = 2;
+            readVehicleInfoButtonGbc.gridheight = 3;
             vehicleInfoPanel.add(getReadVehicleInfoButton(), readVehicleInfoButtonGbc);
         }
         return vehicleInfoPanel;
@@ -37,6 +37,7 @@ import org.etools.j1939_84.ui.widgets.TextChangeListener;
 import org.etools.j1939_84.ui.widgets.VinSanitizingDocumentFilter;
 import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.model.FuelType;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * Dialog used to collect information about the vehicle
@@ -566,7 +567,7 @@ public class VehicleInformationDialog extends JDialog implements VehicleInformat
     public void setVisible(boolean isVisible) {
         super.setVisible(isVisible);
         if (isVisible) {
-            new Thread(presenter::readVehicle).start();
+            ExecutorFactory.startThread("Read Vehicle", presenter::readVehicle);
         } else {
             super.dispose();
             dispatchEvent(new WindowEvent(this, WindowEvent.WINDOW_CLOSING));
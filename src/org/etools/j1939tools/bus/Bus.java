@@ -4,6 +4,7 @@
 package org.etools.j1939tools.bus;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.etools.j1939tools.utils.ExecutorFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -44,9 +45,9 @@ public interface Bus extends AutoCloseable {
     @SuppressFBWarnings(value = { "UW_UNCOND_WAIT", "WA_NOT_IN_LOOP" }, justification = "Wait for stream open.")
     default AutoCloseable log(Function<Packet, String> prefix) throws BusException {
         Stream<Packet> stream = read(999, TimeUnit.DAYS);
-        new Thread(() -> stream.forEach(p -> {
+        ExecutorFactory.startThread("Bus Log", () -> stream.forEach(p -> {
             System.err.println(prefix.apply(p));
-        })).start();
+        }));
         return () -> stream.close();
     }
 
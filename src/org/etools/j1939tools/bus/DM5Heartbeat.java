@@ -5,6 +5,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.etools.j1939_84.controllers.ResultsListener;
 import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.packets.DM5DiagnosticReadinessPacket;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 /**
  * Helper to ping for DM5 to alert other tools that service tool is still connected.
@@ -13,7 +14,7 @@ import org.etools.j1939tools.j1939.packets.DM5DiagnosticReadinessPacket;
 public class DM5Heartbeat {
     static public AutoCloseable run(J1939 j1939, ResultsListener listener) {
         AtomicBoolean running = new AtomicBoolean(true);
-        new Thread(() -> {
+        ExecutorFactory.startThread("DM5Ping", () -> {
             try {
                 Thread.sleep(10_000);
                 while (running.get()) {
@@ -23,7 +24,7 @@ public class DM5Heartbeat {
             } catch (InterruptedException e) {
                 System.err.println("DM5 Heartbeat interrupted.");
             }
-        }, "DM5Ping").start();
+        });
         return () -> running.set(false);
     }
 }
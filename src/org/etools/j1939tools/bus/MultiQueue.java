@@ -9,10 +9,15 @@ import java.util.List;
 import java.util.Spliterator;
 import java.util.WeakHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.etools.j1939tools.utils.ExecutorFactory;
+
 /**
  * The multiqueue is a linked list that multiple visitors can traverse
  * concurrently. Adding items only adds them to open streams. The MultiQueue is
@@ -36,7 +41,7 @@ public class MultiQueue<T> implements AutoCloseable {
 
     static {
         // monitor for stream leaks greater than 10,000 items.
-        new Thread(() -> {
+        ExecutorFactory.startThread("MultiQueue Monitor", () -> {
             try {
                 while (true) {
                     // only check every 30 s
@@ -58,7 +63,7 @@ public class MultiQueue<T> implements AutoCloseable {
             } catch (Throwable t) {
                 t.printStackTrace();
             }
-        }, "MultiQueue Monitor").start();
+        });
     }
 
     synchronized public void add(T v) {
@@ -137,32 +142,58 @@ public class MultiQueue<T> implements AutoCloseable {
         return stream;
     }
 
+    /**
+     * Readers only wait on the tail item, so all items of a queue share the one
+     * lock and condition. A lock is used rather than the item's monitor so a
+     * waiting reader doesn't pin a carrier thread when running on virtual
+     * threads.
+     */
     static private class Item<T> {
         final T value;
-        Item<T> next;
+        volatile Item<T> next;
+        private final Lock lock;
+        private final Condition added;
 
         Item(T v) {
             value = v;
+            lock = new ReentrantLock();
+            added = lock.newCondition();
         }
 
-        synchronized Item<T> add(T v) {
-            next = new Item<>(v);
-            notifyAll();
-            return next;
+        private Item(T v, Lock lock, Condition added) {
+            value = v;
+            this.lock = lock;
+            this.added = added;
         }
 
-        synchronized Item<T> next(long delay) {
+        Item<T> add(T v) {
+            lock.lock();
+            try {
+                next = new Item<>(v, lock, added);
+                added.signalAll();
+                return next;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Item<T> next(long delay) {
             if (next == null) {
+                lock.lock();
                 try {
-                    wait(delay);
+                    if (next == null) {
+                        added.await(delay, TimeUnit.MILLISECONDS);
+                    }
                 } catch (InterruptedException e) {
                     // no problem
+                } finally {
+                    lock.unlock();
                 }
             }
             return next;
         }
 
-        synchronized public boolean isReady() {
+        public boolean isReady() {
             return next != null;
         }
     }
@@ -14,12 +14,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.etools.j1939_84.J1939_84;
 import org.etools.j1939tools.j1939.J1939;
+import org.etools.j1939tools.j1939.packets.ParsedPacket;
 import org.etools.j1939tools.modules.DateTimeModule;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -31,6 +35,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public class Packet {
     private static final int[] FAIL = new int[0];
+    private static final AtomicReferenceFieldUpdater<Packet, int[]> DATA = AtomicReferenceFieldUpdater.newUpdater(Packet.class,
+                                                                                                                int[].class,
+                                                                                                                "data");
+    private static final AtomicReferenceFieldUpdater<Packet, CountDownLatch> COMPLETION = AtomicReferenceFieldUpdater.newUpdater(Packet.class,
+                                                                                                                              CountDownLatch.class,
+                                                                                                                              "completion");
     // FIXME, eventually change to (RX)
     public static final String RX = "";
     /**
@@ -41,9 +51,22 @@ public class Packet {
     private final int priority;
     private final int source;
     private final boolean transmitted;
-    private int[] data;
+    private volatile int[] data;
+    /**
+     * Released when the data of a packet that arrives later (transport
+     * protocol) is set or fails. It's only created when a thread waits for the
+     * data, so only the threads waiting for this packet are woken and none
+     * hold a monitor while they wait.
+     */
+    private volatile CountDownLatch completion;
     private List<Packet> fragments = Collections.singletonList(this);
     private LocalDateTime timestamp;
+    /**
+     * The {@link ParsedPacket} decoded from this packet. The same Packet is
+     * handed to every stream reading the bus, so the decoded form is attached
+     * here to be shared by all of them.
+     */
+    private volatile ParsedPacket parsedPacket;
 
     /**
      * Creates a Packet
@@ -73,6 +96,21 @@ public class Packet {
         }
     }
 
+    /**
+     * Creates a Packet with data that's already masked to bytes, so it isn't
+     * masked again. Used by the {@link PacketBuilder}.
+     */
+    static Packet createMasked(LocalDateTime timestamp,
+                               int priority,
+                               int id,
+                               int source,
+                               boolean transmitted,
+                               int[] data) {
+        Packet packet = new Packet(timestamp, priority, id, source, transmitted, (int[]) null);
+        packet.data = data;
+        return packet;
+    }
+
     public static Packet create(int id, int source, boolean transmitted, int... data) {
         return new Packet(LocalDateTime.now(), 6, id, source, transmitted, data);
     }
@@ -220,9 +258,16 @@ public class Packet {
         return null;
     }
 
-    synchronized public void fail() {
+    public void fail() {
         data = FAIL;
-        notifyAll();
+        signalComplete();
+    }
+
+    private void signalComplete() {
+        CountDownLatch latch = completion;
+        if (latch != null) {
+            latch.countDown();
+        }
     }
 
     /**
@@ -333,7 +378,7 @@ public class Packet {
         return bytes;
     }
 
-    synchronized private int[] getData() {
+    private int[] getData() {
         if (!isValid()) {
             throw new PacketException(String.format("Failed Packet: %s %06X%02X [?]%n%s",
                                                     DateTimeModule.getInstance().getTimeFormatter().format(timestamp),
@@ -346,31 +391,42 @@ public class Packet {
         return data;
     }
 
-    synchronized public boolean isValid() {
-        long start = System.currentTimeMillis();
+    public boolean isValid() {
+        if (data == null) {
+            awaitData();
+        }
+        return data.length > 0;
+    }
+
+    private void awaitData() {
+        COMPLETION.compareAndSet(this, null, new CountDownLatch(1));
+        CountDownLatch latch = completion;
+        // the data is checked after the latch is published, so a packet
+        // completed in between isn't waited for
+        long deadline = System.currentTimeMillis() + 30_000;
         while (data == null) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                fail();
+                break;
+            }
             try {
-                wait(1000);
+                latch.await(remaining, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 // No worries
             }
-            if (System.currentTimeMillis() - start > 30_000) {
-                fail();
-                break;
-            }
         }
-        return data.length > 0;
     }
 
-    synchronized public void setData(byte... data) {
-        if (isComplete()) {
-            throw new PacketException("Packet already initialized.");
-        }
-        this.data = new int[data.length];
+    public void setData(byte... data) {
+        int[] values = new int[data.length];
         for (int i = 0; i < data.length; i++) {
-            this.data[i] = (0xFF & data[i]);
+            values[i] = (0xFF & data[i]);
+        }
+        if (!DATA.compareAndSet(this, null, values)) {
+            throw new PacketException("Packet already initialized.");
         }
-        notifyAll();
+        signalComplete();
     }
 
     /**
@@ -404,6 +460,27 @@ public class Packet {
         return getId(0x3FFFF) < 0xF000 ? getId(0xFF) : J1939.GLOBAL_ADDR;
     }
 
+    /**
+     * Returns the {@link ParsedPacket} previously decoded from this packet
+     *
+     * @return the {@link ParsedPacket} or null if this packet has not been
+     *         decoded
+     */
+    public ParsedPacket getParsedPacket() {
+        return parsedPacket;
+    }
+
+    /**
+     * Attaches the decoded form of this packet so it will be shared by all
+     * consumers of this packet
+     *
+     * @param parsedPacket
+     *                         the {@link ParsedPacket} wrapping this packet
+     */
+    public void setParsedPacket(ParsedPacket parsedPacket) {
+        this.parsedPacket = parsedPacket;
+    }
+
     public List<Packet> getFragments() {
         return fragments;
     }
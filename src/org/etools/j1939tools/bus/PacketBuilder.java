@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.bus;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Builds the data of a {@link Packet} in one buffer.
+ *
+ * Values are written little-endian, as J1939 sends them, and masked to bytes
+ * as they're written, so {@link #build()} hands the buffer to the Packet
+ * without copying or masking it again. When the builder is created with the
+ * exact length of the packet, building it takes one allocation for the data.
+ * A builder builds one Packet.
+ */
+public class PacketBuilder {
+
+    private final int id;
+    private final int source;
+    private int priority = 6;
+    private boolean transmitted;
+    private LocalDateTime timestamp;
+
+    private int[] data;
+    private int length;
+
+    /**
+     * @param id
+     *                   the ID of the packet
+     * @param source
+     *                   the source address of the packet
+     */
+    public PacketBuilder(int id, int source) {
+        this(id, source, 8);
+    }
+
+    /**
+     * @param id
+     *                     the ID of the packet
+     * @param source
+     *                     the source address of the packet
+     * @param capacity
+     *                     the number of bytes expected, so the buffer doesn't
+     *                     have to grow
+     */
+    public PacketBuilder(int id, int source, int capacity) {
+        this.id = id;
+        this.source = source;
+        data = new int[Math.max(capacity, 0)];
+    }
+
+    public PacketBuilder priority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public PacketBuilder transmitted(boolean transmitted) {
+        this.transmitted = transmitted;
+        return this;
+    }
+
+    public PacketBuilder timestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written
+     */
+    public int length() {
+        return length;
+    }
+
+    private int reserve(int count) {
+        if (data == null) {
+            throw new IllegalStateException("The packet was already built");
+        }
+        int index = length;
+        if (index + count > data.length) {
+            data = Arrays.copyOf(data, Math.max(index + count, data.length * 2));
+        }
+        length += count;
+        return index;
+    }
+
+    /**
+     * Writes one byte
+     */
+    public PacketBuilder put8(int value) {
+        int i = reserve(1);
+        data[i] = value & 0xFF;
+        return this;
+    }
+
+    /**
+     * Writes two bytes, least significant first
+     */
+    public PacketBuilder put16(int value) {
+        int i = reserve(2);
+        data[i] = value & 0xFF;
+        data[i + 1] = (value >> 8) & 0xFF;
+        return this;
+    }
+
+    /**
+     * Writes three bytes, least significant first
+     */
+    public PacketBuilder put24(int value) {
+        int i = reserve(3);
+        data[i] = value & 0xFF;
+        data[i + 1] = (value >> 8) & 0xFF;
+        data[i + 2] = (value >> 16) & 0xFF;
+        return this;
+    }
+
+    /**
+     * Writes four bytes, least significant first
+     */
+    public PacketBuilder put32(long value) {
+        int i = reserve(4);
+        data[i] = (int) (value & 0xFF);
+        data[i + 1] = (int) ((value >> 8) & 0xFF);
+        data[i + 2] = (int) ((value >> 16) & 0xFF);
+        data[i + 3] = (int) ((value >> 24) & 0xFF);
+        return this;
+    }
+
+    /**
+     * Writes the bytes in order
+     */
+    public PacketBuilder put(int... bytes) {
+        int i = reserve(bytes.length);
+        for (int j = 0; j < bytes.length; j++) {
+            data[i + j] = bytes[j] & 0xFF;
+        }
+        return this;
+    }
+
+    /**
+     * Writes the bytes in order
+     */
+    public PacketBuilder put(byte... bytes) {
+        int i = reserve(bytes.length);
+        for (int j = 0; j < bytes.length; j++) {
+            data[i + j] = bytes[j] & 0xFF;
+        }
+        return this;
+    }
+
+    /**
+     * Writes count bytes from the offset of the bytes
+     */
+    public PacketBuilder put(byte[] bytes, int offset, int count) {
+        int i = reserve(count);
+        for (int j = 0; j < count; j++) {
+            data[i + j] = bytes[offset + j] & 0xFF;
+        }
+        return this;
+    }
+
+    /**
+     * Writes the byte value count times, as for padding with 0xFF
+     */
+    public PacketBuilder fill(int count, int value) {
+        int i = reserve(count);
+        Arrays.fill(data, i, i + count, value & 0xFF);
+        return this;
+    }
+
+    /**
+     * Sets bits of a byte already written, leaving the others as they are
+     *
+     * @param  index
+     *                       the index of the byte
+     * @param  startBit
+     *                       the first bit, from 1 for the least significant
+     * @param  bitLength
+     *                       the number of bits
+     * @param  value
+     *                       the value of the bits
+     * @return           this
+     */
+    public PacketBuilder putBits(int index, int startBit, int bitLength, int value) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Byte " + index + " hasn't been written");
+        }
+        int mask = ((1 << bitLength) - 1) << (startBit - 1);
+        data[index] = (data[index] & ~mask) | ((value << (startBit - 1)) & mask);
+        return this;
+    }
+
+    /**
+     * Writes the text as ASCII
+     */
+    public PacketBuilder putAscii(String text) {
+        int i = reserve(text.length());
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            // as US_ASCII encodes the characters it can't
+            data[i + j] = c < 0x80 ? c : '?';
+        }
+        return this;
+    }
+
+    /**
+     * Writes the text as ASCII followed by the '*' that ends a J1939 text
+     * field
+     */
+    public PacketBuilder putAsciiTerminated(String text) {
+        return putAscii(text).put8('*');
+    }
+
+    /**
+     * Returns the Packet with the data written. The builder can't be used
+     * after.
+     */
+    public Packet build() {
+        if (data == null) {
+            throw new IllegalStateException("The packet was already built");
+        }
+        int[] result = length == data.length ? data : Arrays.copyOf(data, length);
+        data = null;
+        return Packet.createMasked(timestamp == null ? LocalDateTime.now() : timestamp,
+                                   priority,
+                                   id,
+                                   source,
+                                   transmitted,
+                                   result);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -39,44 +40,14 @@ import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.bus.Packet.PacketException;
 import org.etools.j1939tools.bus.RequestResult;
 import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
-import org.etools.j1939tools.j1939.packets.AddressClaimPacket;
-import org.etools.j1939tools.j1939.packets.ComponentIdentificationPacket;
-import org.etools.j1939tools.j1939.packets.DM11ClearActiveDTCsPacket;
-import org.etools.j1939tools.j1939.packets.DM12MILOnEmissionDTCPacket;
-import org.etools.j1939tools.j1939.packets.DM19CalibrationInformationPacket;
-import org.etools.j1939tools.j1939.packets.DM1ActiveDTCsPacket;
-import org.etools.j1939tools.j1939.packets.DM20MonitorPerformanceRatioPacket;
-import org.etools.j1939tools.j1939.packets.DM21DiagnosticReadinessPacket;
-import org.etools.j1939tools.j1939.packets.DM22IndividualClearPacket;
-import org.etools.j1939tools.j1939.packets.DM23PreviouslyMILOnEmissionDTCPacket;
-import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
-import org.etools.j1939tools.j1939.packets.DM25ExpandedFreezeFrame;
-import org.etools.j1939tools.j1939.packets.DM26TripDiagnosticReadinessPacket;
-import org.etools.j1939tools.j1939.packets.DM27AllPendingDTCsPacket;
-import org.etools.j1939tools.j1939.packets.DM28PermanentEmissionDTCPacket;
-import org.etools.j1939tools.j1939.packets.DM29DtcCounts;
-import org.etools.j1939tools.j1939.packets.DM2PreviouslyActiveDTC;
 import org.etools.j1939tools.j1939.packets.DM30ScaledTestResultsPacket;
-import org.etools.j1939tools.j1939.packets.DM31DtcToLampAssociation;
-import org.etools.j1939tools.j1939.packets.DM33EmissionIncreasingAECDActiveTime;
-import org.etools.j1939tools.j1939.packets.DM34NTEStatus;
-import org.etools.j1939tools.j1939.packets.DM3DiagnosticDataClearPacket;
-import org.etools.j1939tools.j1939.packets.DM56EngineFamilyPacket;
 import org.etools.j1939tools.j1939.packets.DM58RationalityFaultSpData;
 import org.etools.j1939tools.j1939.packets.DM5DiagnosticReadinessPacket;
-import org.etools.j1939tools.j1939.packets.DM6PendingEmissionDTCPacket;
 import org.etools.j1939tools.j1939.packets.DM7CommandTestsPacket;
-import org.etools.j1939tools.j1939.packets.EngineHoursPacket;
-import org.etools.j1939tools.j1939.packets.EngineSpeedPacket;
 import org.etools.j1939tools.j1939.packets.GenericPacket;
-import org.etools.j1939tools.j1939.packets.GhgActiveTechnologyPacket;
-import org.etools.j1939tools.j1939.packets.GhgLifetimeActiveTechnologyPacket;
-import org.etools.j1939tools.j1939.packets.HighResVehicleDistancePacket;
 import org.etools.j1939tools.j1939.packets.ParsedPacket;
-import org.etools.j1939tools.j1939.packets.TotalVehicleDistancePacket;
-import org.etools.j1939tools.j1939.packets.VehicleIdentificationPacket;
 import org.etools.j1939tools.modules.DateTimeModule;
-import org.etools.j1939tools.modules.GhgTrackingModule;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -118,6 +89,27 @@ public class J1939 {
 
     private static final String TIMEOUT_MESSAGE = "Timeout - No Response";
 
+    /**
+     * The name of the System Property that turns on the eager decode mode
+     */
+    public static final String EAGER_DECODE_PROPERTY_NAME = "EAGER_DECODE";
+
+    /**
+     * The eager decode mode, read from the System Property once instead of on
+     * every packet processed
+     */
+    private static volatile boolean eagerDecode = Boolean.getBoolean(EAGER_DECODE_PROPERTY_NAME);
+
+    /**
+     * The number of times a {@link Packet} was already decoded when processed
+     */
+    private static final LongAdder parseCacheHits = new LongAdder();
+
+    /**
+     * The number of times a {@link Packet} had to be decoded when processed
+     */
+    private static final LongAdder parseCacheMisses = new LongAdder();
+
     private final Bus bus;
 
     private int warnings;
@@ -140,18 +132,14 @@ public class J1939 {
     }
 
     /**
-     * Reads the static field PGN from the given class. Returns null if the PGN
+     * Reads the static field PGN from the given class. Returns -1 if the PGN
      * can't be read.
      *
      * @param  cls the class of interest
      * @return     PGN number based on ParsedPacket class
      */
     public static <T extends ParsedPacket> int getPgn(Class<T> cls) {
-        try {
-            return cls.getField("PGN").getInt(null);
-        } catch (Exception e) {
-            return -1;
-        }
+        return PacketParserRegistry.getPgn(cls);
     }
 
     /**
@@ -165,8 +153,7 @@ public class J1939 {
      * Used for development to detect DMs that are manually parsed.
      */
     static public boolean isManual(int pgn) {
-        ParsedPacket processRaw = J1939.processRaw(pgn, Packet.create(pgn, 0x0, new byte[8]));
-        return processRaw.getClass() != GenericPacket.class;
+        return PacketParserRegistry.getInstance().isRegistered(pgn);
     }
 
     /**
@@ -325,118 +312,91 @@ public class J1939 {
         return read(time, unit).map(p -> processRaw(p.getPgn(), p));
     }
 
-    static public ParsedPacket processRaw(int pgn, Packet packet) {
-        switch (pgn) {
-
-            case DM1ActiveDTCsPacket.PGN:
-                return new DM1ActiveDTCsPacket(packet);
-
-            case DM2PreviouslyActiveDTC.PGN:
-                return new DM2PreviouslyActiveDTC(packet);
-
-            case DM3DiagnosticDataClearPacket.PGN:
-                return new DM3DiagnosticDataClearPacket(packet);
-
-            case DM5DiagnosticReadinessPacket.PGN:
-                return new DM5DiagnosticReadinessPacket(packet);
-
-            case DM6PendingEmissionDTCPacket.PGN:
-                return new DM6PendingEmissionDTCPacket(packet);
-
-            case DM7CommandTestsPacket.PGN:
-                return new DM7CommandTestsPacket(packet);
-
-            case DM11ClearActiveDTCsPacket.PGN:
-                return new DM11ClearActiveDTCsPacket(packet);
-
-            case DM12MILOnEmissionDTCPacket.PGN:
-                return new DM12MILOnEmissionDTCPacket(packet);
-
-            case DM19CalibrationInformationPacket.PGN:
-                return new DM19CalibrationInformationPacket(packet);
-
-            case DM20MonitorPerformanceRatioPacket.PGN:
-                return new DM20MonitorPerformanceRatioPacket(packet);
-
-            case DM21DiagnosticReadinessPacket.PGN:
-                return new DM21DiagnosticReadinessPacket(packet);
-
-            case DM22IndividualClearPacket.PGN:
-                return new DM22IndividualClearPacket(packet);
-
-            case DM23PreviouslyMILOnEmissionDTCPacket.PGN:
-                return new DM23PreviouslyMILOnEmissionDTCPacket(packet);
-
-            case DM24SPNSupportPacket.PGN:
-                return new DM24SPNSupportPacket(packet);
-
-            case DM25ExpandedFreezeFrame.PGN:
-                return new DM25ExpandedFreezeFrame(packet);
-
-            case DM26TripDiagnosticReadinessPacket.PGN:
-                return new DM26TripDiagnosticReadinessPacket(packet);
-
-            case DM27AllPendingDTCsPacket.PGN:
-                return new DM27AllPendingDTCsPacket(packet);
-
-            case DM28PermanentEmissionDTCPacket.PGN:
-                return new DM28PermanentEmissionDTCPacket(packet);
-
-            case DM29DtcCounts.PGN:
-                return new DM29DtcCounts(packet);
-
-            case DM30ScaledTestResultsPacket.PGN:
-                return new DM30ScaledTestResultsPacket(packet);
-
-            case DM31DtcToLampAssociation.PGN:
-                return new DM31DtcToLampAssociation(packet);
-
-            case DM33EmissionIncreasingAECDActiveTime.PGN:
-                return new DM33EmissionIncreasingAECDActiveTime(packet);
-
-            case DM34NTEStatus.PGN:
-                return new DM34NTEStatus(packet);
-
-            case DM56EngineFamilyPacket.PGN:
-                return new DM56EngineFamilyPacket(packet);
-
-            case DM58RationalityFaultSpData.PGN:
-                return new DM58RationalityFaultSpData(packet);
-
-            case AcknowledgmentPacket.PGN:
-                return new AcknowledgmentPacket(packet);
-
-            case AddressClaimPacket.PGN:
-                return new AddressClaimPacket(packet);
-
-            case ComponentIdentificationPacket.PGN:
-                return new ComponentIdentificationPacket(packet);
-
-            case EngineSpeedPacket.PGN:
-                return new EngineSpeedPacket(packet);
-
-            case EngineHoursPacket.PGN:
-                return new EngineHoursPacket(packet);
-
-            case HighResVehicleDistancePacket.PGN:
-                return new HighResVehicleDistancePacket(packet);
+    /**
+     * Returns the number of times {@link #processRaw(int, Packet)} returned the
+     * {@link ParsedPacket} already attached to the {@link Packet}
+     */
+    public static long getParseCacheHits() {
+        return parseCacheHits.sum();
+    }
 
-            case TotalVehicleDistancePacket.PGN:
-                return new TotalVehicleDistancePacket(packet);
+    /**
+     * Returns the number of times {@link #processRaw(int, Packet)} had to decode
+     * the {@link Packet}
+     */
+    public static long getParseCacheMisses() {
+        return parseCacheMisses.sum();
+    }
 
-            case VehicleIdentificationPacket.PGN:
-                return new VehicleIdentificationPacket(packet);
+    /**
+     * Returns true if packets are decoded eagerly. In that mode a
+     * {@link ParsedPacket} is fully decoded before it's attached to its
+     * {@link Packet}, and the transport protocol decodes each packet it
+     * receives on its own threads, so the consumers of the packet only read
+     * it.
+     */
+    public static boolean isEagerDecode() {
+        return eagerDecode;
+    }
 
-            case GhgTrackingModule.GHG_STORED_GREEN_HOUSE_100_HR:
-            case GhgTrackingModule.GHG_ACTIVE_GREEN_HOUSE_100_HR:
-                return new GhgActiveTechnologyPacket(packet);
+    /**
+     * Sets the eager decode mode and its System Property
+     *
+     * @param eager
+     *                  true to decode packets eagerly
+     */
+    public static void setEagerDecode(boolean eager) {
+        eagerDecode = eager;
+        System.setProperty(EAGER_DECODE_PROPERTY_NAME, Boolean.toString(eager));
+    }
 
-            case GhgTrackingModule.GHG_TRACKING_LIFETIME_GREEN_HOUSE_PG:
-                return new GhgLifetimeActiveTechnologyPacket(packet);
+    /**
+     * In the eager decode mode, decodes the packet on the calling thread so
+     * it's already decoded when consumers process it
+     */
+    static void decodeEagerly(Packet packet) {
+        if (isEagerDecode()) {
+            try {
+                processRaw(packet.getPgn(), packet);
+            } catch (RuntimeException e) {
+                // nothing was attached, so the consumer decodes it again and gets the error
+            }
+        }
+    }
 
-            default:
-                return new GenericPacket(packet);
+    /**
+     * Returns the {@link ParsedPacket} for the given {@link Packet}. A packet is
+     * decoded at most once, no matter how many streams observe it. The result
+     * is attached to the {@link Packet} and returned to later callers. In the
+     * eager decode mode, the result is fully decoded before it's attached.
+     *
+     * @param  pgn    the PGN used to select the decoder
+     * @param  packet the {@link Packet} to decode
+     * @return        a subclass of {@link ParsedPacket}
+     */
+    static public ParsedPacket processRaw(int pgn, Packet packet) {
+        // only the packet's own PGN is cached; other PGNs are used to force a decoder
+        boolean cacheable = pgn == packet.getPgn();
+        if (cacheable) {
+            ParsedPacket parsedPacket = packet.getParsedPacket();
+            if (parsedPacket != null) {
+                parseCacheHits.increment();
+                return parsedPacket;
+            }
+        }
+        parseCacheMisses.increment();
+        ParsedPacket parsedPacket = PacketParserRegistry.getInstance().parse(pgn, packet);
+        if (isEagerDecode()) {
+            try {
+                parsedPacket.decode();
+            } catch (RuntimeException e) {
+                // a malformed part fails again when it's used, as it would have lazily
+            }
+        }
+        if (cacheable) {
+            packet.setParsedPacket(parsedPacket);
         }
+        return parsedPacket;
     }
 
     public Stream<GenericPacket> readGenericPacket(Predicate<Either<GenericPacket, AcknowledgmentPacket>> predicate) {
@@ -1002,7 +962,7 @@ public class J1939 {
         Instant start = Instant.now();
         // do not crash tests that do not include a raw bus.
         loggerStream = (bus.getRawBus() == null ? bus : bus.getRawBus()).read(Integer.MAX_VALUE, TimeUnit.DAYS);
-        new Thread(() -> {
+        ExecutorFactory.startThread("CAN Logger", () -> {
             try {
                 final String PREFIX = "J1939-84-CAN-";
                 final String SUFFIX = ".asc";
@@ -1027,7 +987,7 @@ public class J1939 {
             } catch (Throwable e) {
                 J1939_84.getLogger().log(Level.SEVERE, "Unable to log packets.", e);
             }
-        }).start();
+        });
     }
 
     public void closeLogger() {
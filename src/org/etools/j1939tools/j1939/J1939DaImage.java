@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import org.etools.j1939_84.J1939_84;
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.packets.BitSlot;
+import org.etools.j1939tools.j1939.packets.Slot;
+import org.etools.j1939tools.resources.J1939ToolsResources;
+
+/**
+ * The J1939DA definitions compiled into a compact binary image.
+ *
+ * Parsing the J1939DA CSV files takes seconds, so the build compiles them
+ * with {@link #main(String[])} into {@value #RESOURCE_NAME}, which
+ * {@link J1939DaRepository} loads in milliseconds. The image is a string table
+ * followed by the SPN, PGN and SLOT records sorted by id, with every string
+ * stored as an index into the string table.
+ */
+public class J1939DaImage {
+
+    /**
+     * The name of the compiled image in the resources package
+     */
+    public static final String RESOURCE_NAME = "j1939da.bin";
+
+    private static final int MAGIC = 0x4A444131; // "JDA1"
+
+    /**
+     * Increment when the layout changes, so older images are ignored
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int SLOT = 0;
+    private static final int BIT_SLOT = 1;
+
+    private final Map<Integer, PgnDefinition> pgnDefinitions;
+    private final Map<Integer, SpnDefinition> spnDefinitions;
+    private final Map<Integer, Slot> slots;
+
+    J1939DaImage(Map<Integer, PgnDefinition> pgnDefinitions,
+                 Map<Integer, SpnDefinition> spnDefinitions,
+                 Map<Integer, Slot> slots) {
+        this.pgnDefinitions = pgnDefinitions;
+        this.spnDefinitions = spnDefinitions;
+        this.slots = slots;
+    }
+
+    /**
+     * Compiles the J1939DA CSV files into the image, or the files of a
+     * {@link J1939DaPlugins} directory into an image for that directory
+     *
+     * @param  args
+     *                         the file the image is written to, then
+     *                         optionally the plugin directory to compile
+     * @throws IOException
+     *                         if the image can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args[0]);
+        J1939DaImage image = args.length > 1 ? J1939DaPlugins.load(Paths.get(args[1])).toImage()
+                : J1939DaRepository.compileCsv();
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(path)) {
+            image.write(out);
+        }
+    }
+
+    /**
+     * Loads the image from the resources. Returns null if the image is missing
+     * or was written by another version, in which case the CSV files are used.
+     */
+    static J1939DaImage load() {
+        URL url = J1939ToolsResources.class.getResource(RESOURCE_NAME);
+        if (url == null) {
+            return null;
+        }
+        try {
+            return read(map(url));
+        } catch (Exception e) {
+            J1939_84.getLogger().log(Level.WARNING, "Unable to load " + RESOURCE_NAME, e);
+            return null;
+        }
+    }
+
+    /**
+     * Maps the image into memory when it's a file; otherwise, as from a jar,
+     * it's read into a buffer
+     */
+    private static ByteBuffer map(URL url) throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+
+    static J1939DaImage read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported J1939DA image");
+        }
+
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        SpnDefinition[] records = new SpnDefinition[buffer.getInt()];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new SpnDefinition(buffer.getInt(),
+                                           string(strings, buffer.getInt()),
+                                           buffer.getInt(),
+                                           buffer.getInt(),
+                                           buffer.getInt());
+        }
+
+        int spnCount = buffer.getInt();
+        Map<Integer, SpnDefinition> spnDefinitions = new HashMap<>(spnCount * 2);
+        for (int i = 0; i < spnCount; i++) {
+            spnDefinitions.put(buffer.getInt(), records[buffer.getInt()]);
+        }
+
+        int pgnCount = buffer.getInt();
+        Map<Integer, PgnDefinition> pgnDefinitions = new HashMap<>(pgnCount * 2);
+        for (int i = 0; i < pgnCount; i++) {
+            int id = buffer.getInt();
+            String label = string(strings, buffer.getInt());
+            String acronym = string(strings, buffer.getInt());
+            byte flags = buffer.get();
+            int broadcastPeriod = buffer.getInt();
+            int count = buffer.getInt();
+            List<SpnDefinition> spns = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                spns.add(records[buffer.getInt()]);
+            }
+            pgnDefinitions.put(id,
+                               new PgnDefinition(id,
+                                                 label,
+                                                 acronym,
+                                                 (flags & 1) != 0,
+                                                 (flags & 2) != 0,
+                                                 broadcastPeriod,
+                                                 spns));
+        }
+
+        int slotCount = buffer.getInt();
+        Map<Integer, Slot> slots = new HashMap<>(slotCount * 2);
+        for (int i = 0; i < slotCount; i++) {
+            int key = buffer.getInt();
+            byte kind = buffer.get();
+            int id = buffer.getInt();
+            String name = string(strings, buffer.getInt());
+            int length = buffer.getInt();
+            if (kind == BIT_SLOT) {
+                BitSlot bitSlot = new BitSlot(id, name, length);
+                int valueCount = buffer.getInt();
+                for (int j = 0; j < valueCount; j++) {
+                    bitSlot.addValue(buffer.getInt(), string(strings, buffer.getInt()));
+                }
+                slots.put(key, bitSlot);
+            } else {
+                String type = string(strings, buffer.getInt());
+                Double scaling = buffer.get() == 0 ? null : buffer.getDouble();
+                Double offset = buffer.get() == 0 ? null : buffer.getDouble();
+                String unit = string(strings, buffer.getInt());
+                slots.put(key, new Slot(id, name, type, scaling, offset, unit, length));
+            }
+        }
+
+        return new J1939DaImage(pgnDefinitions, spnDefinitions, slots);
+    }
+
+    private static String string(String[] strings, int index) {
+        return index < 0 ? null : strings[index];
+    }
+
+    void write(OutputStream outputStream) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<List<Object>, Integer> recordIndexes = new LinkedHashMap<>();
+        List<SpnDefinition> records = new ArrayList<>();
+
+        // SPN definitions are shared by the SPN table and the PGNs
+        Map<Integer, SpnDefinition> sortedSpns = new TreeMap<>(spnDefinitions);
+        Map<Integer, PgnDefinition> sortedPgns = new TreeMap<>(pgnDefinitions);
+        List<SpnDefinition> allSpns = new ArrayList<>(sortedSpns.values());
+        sortedPgns.values().forEach(p -> allSpns.addAll(p.getSpnDefinitions()));
+        for (SpnDefinition spn : allSpns) {
+            recordIndexes.computeIfAbsent(key(spn), k -> {
+                records.add(spn);
+                return records.size() - 1;
+            });
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            // collect the strings in the order they're written
+            records.forEach(s -> index(strings, s.getLabel()));
+            sortedPgns.values().forEach(p -> {
+                index(strings, p.getLabel());
+                index(strings, p.getAcronym());
+            });
+            Map<Integer, Slot> sortedSlots = new TreeMap<>(slots);
+            for (Slot slot : sortedSlots.values()) {
+                index(strings, slot.getName());
+                if (slot instanceof BitSlot) {
+                    new TreeMap<>(((BitSlot) slot).getValues()).values().forEach(v -> index(strings, v));
+                } else {
+                    index(strings, slot.getType());
+                    index(strings, slot.getUnit());
+                }
+            }
+
+            out.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(records.size());
+            for (SpnDefinition spn : records) {
+                out.writeInt(spn.getSpnId());
+                out.writeInt(index(strings, spn.getLabel()));
+                out.writeInt(spn.getStartByte());
+                out.writeInt(spn.getStartBit());
+                out.writeInt(spn.getSlotNumber());
+            }
+
+            out.writeInt(sortedSpns.size());
+            for (Map.Entry<Integer, SpnDefinition> entry : sortedSpns.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeInt(recordIndexes.get(key(entry.getValue())));
+            }
+
+            out.writeInt(sortedPgns.size());
+            for (PgnDefinition pgn : sortedPgns.values()) {
+                out.writeInt(pgn.getId());
+                out.writeInt(index(strings, pgn.getLabel()));
+                out.writeInt(index(strings, pgn.getAcronym()));
+                out.writeByte((pgn.isOnRequest() ? 1 : 0) | (pgn.isVariableBroadcast() ? 2 : 0));
+                out.writeInt(pgn.getBroadcastPeriod());
+                out.writeInt(pgn.getSpnDefinitions().size());
+                for (SpnDefinition spn : pgn.getSpnDefinitions()) {
+                    out.writeInt(recordIndexes.get(key(spn)));
+                }
+            }
+
+            out.writeInt(sortedSlots.size());
+            for (Map.Entry<Integer, Slot> entry : sortedSlots.entrySet()) {
+                Slot slot = entry.getValue();
+                out.writeInt(entry.getKey());
+                out.writeByte(slot instanceof BitSlot ? BIT_SLOT : SLOT);
+                out.writeInt(slot.getId());
+                out.writeInt(index(strings, slot.getName()));
+                out.writeInt(slot.getLength());
+                if (slot instanceof BitSlot) {
+                    Map<Integer, String> values = new TreeMap<>(((BitSlot) slot).getValues());
+                    out.writeInt(values.size());
+                    for (Map.Entry<Integer, String> value : values.entrySet()) {
+                        out.writeInt(value.getKey());
+                        out.writeInt(index(strings, value.getValue()));
+                    }
+                } else {
+                    out.writeInt(index(strings, slot.getType()));
+                    writeDouble(out, slot.getScaling());
+                    writeDouble(out, slot.getOffset());
+                    out.writeInt(index(strings, slot.getUnit()));
+                }
+            }
+        }
+    }
+
+    private static List<Object> key(SpnDefinition spn) {
+        return List.of(spn.getSpnId(), spn.getLabel(), spn.getStartByte(), spn.getStartBit(), spn.getSlotNumber());
+    }
+
+    private static int index(Map<String, Integer> strings, String string) {
+        return string == null ? -1 : strings.computeIfAbsent(string, s -> strings.size());
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeByte(value == null ? 0 : 1);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    Map<Integer, PgnDefinition> getPgnDefinitions() {
+        return pgnDefinitions;
+    }
+
+    Map<Integer, SpnDefinition> getSpnDefinitions() {
+        return spnDefinitions;
+    }
+
+    Map<Integer, Slot> getSlots() {
+        return slots;
+    }
+}
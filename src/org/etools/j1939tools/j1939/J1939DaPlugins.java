@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.etools.j1939_84.J1939_84;
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.packets.Slot;
+import org.etools.j1939tools.utils.IntObjectMap;
+
+/**
+ * PGN, SPN and SLOT definitions added to the J1939DA, as for OEM proprietary
+ * PGNs, loaded from the files of a plugin directory.
+ *
+ * The directory is given by the {@value #DIRECTORY_PROPERTY_NAME} System
+ * Property and is {@value #DEFAULT_DIRECTORY} in the working directory
+ * otherwise. Its files are loaded in order of name:
+ * <ul>
+ * <li>*.bin are images compiled by {@link J1939DaImage#main(String[])}</li>
+ * <li>*-slots.csv are SLOTs in the columns of j1939da-slots.csv</li>
+ * <li>other *.csv are PGNs and SPNs in the columns of j1939da-addendum.csv,
+ * one line per SPN of a PGN</li>
+ * </ul>
+ * A definition replaces those of earlier files and of the J1939DA with the
+ * same id. A file that can't be read is logged and skipped.
+ *
+ * The definitions can't be modified. {@link J1939DaRepository#reloadPlugins()}
+ * loads new ones into a new {@link J1939DaSnapshot} and swaps it in with one
+ * write, so a lookup uses either the previous or the new definitions, never
+ * some of each.
+ */
+public class J1939DaPlugins {
+
+    /**
+     * The name of the System Property with the plugin directory
+     */
+    public static final String DIRECTORY_PROPERTY_NAME = "J1939DA_PLUGINS";
+
+    /**
+     * The plugin directory when the System Property isn't set
+     */
+    public static final String DEFAULT_DIRECTORY = "j1939da-plugins";
+
+    static final J1939DaPlugins EMPTY = new J1939DaPlugins(List.of(), Map.of(), Map.of(), Map.of());
+
+    private static final int[] NO_PGNS = new int[0];
+
+    private final List<Path> files;
+    private final Map<Integer, PgnDefinition> pgnDefinitions;
+    private final Map<Integer, SpnDefinition> spnDefinitions;
+    private final Map<Integer, Slot> slots;
+
+    private final IntObjectMap<PgnDefinition> pgnIndex;
+    private final IntObjectMap<SpnDefinition> spnIndex;
+    private final IntObjectMap<Slot> slotIndex;
+    private final IntObjectMap<int[]> spnToPgns;
+
+    private J1939DaPlugins(List<Path> files,
+                           Map<Integer, PgnDefinition> pgnDefinitions,
+                           Map<Integer, SpnDefinition> spnDefinitions,
+                           Map<Integer, Slot> slots) {
+        this.files = files;
+        this.pgnDefinitions = Collections.unmodifiableMap(pgnDefinitions);
+        this.spnDefinitions = Collections.unmodifiableMap(spnDefinitions);
+        this.slots = Collections.unmodifiableMap(slots);
+        pgnIndex = IntObjectMap.of(pgnDefinitions);
+        spnIndex = IntObjectMap.of(spnDefinitions);
+        slotIndex = IntObjectMap.of(slots);
+
+        Map<Integer, TreeSet<Integer>> pgnsBySpn = new HashMap<>();
+        for (PgnDefinition pgnDefinition : pgnDefinitions.values()) {
+            for (SpnDefinition spnDefinition : pgnDefinition.getSpnDefinitions()) {
+                pgnsBySpn.computeIfAbsent(spnDefinition.getSpnId(), k -> new TreeSet<>()).add(pgnDefinition.getId());
+            }
+        }
+        spnToPgns = new IntObjectMap<>(pgnsBySpn.size());
+        pgnsBySpn.forEach((spn, pgns) -> spnToPgns.put(spn, pgns.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Returns the plugin directory
+     */
+    public static Path getDirectory() {
+        return Paths.get(System.getProperty(DIRECTORY_PROPERTY_NAME, DEFAULT_DIRECTORY));
+    }
+
+    /**
+     * Loads the definitions of the files in the directory. There are none if
+     * the directory doesn't exist.
+     *
+     * @param  directory
+     *                       the plugin directory
+     * @return           the definitions
+     */
+    public static J1939DaPlugins load(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return EMPTY;
+        }
+
+        List<Path> paths;
+        try (Stream<Path> list = Files.list(directory)) {
+            paths = list.filter(Files::isRegularFile).filter(J1939DaPlugins::isPluginFile).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            J1939_84.getLogger().log(Level.WARNING, "Unable to list J1939DA plugins in " + directory, e);
+            return EMPTY;
+        }
+
+        List<Path> files = new ArrayList<>();
+        Map<Integer, PgnDefinition> pgnDefinitions = new HashMap<>();
+        Map<Integer, SpnDefinition> spnDefinitions = new HashMap<>();
+        Map<Integer, Slot> slots = new HashMap<>();
+        for (Path path : paths) {
+            try {
+                J1939DaImage image = read(path);
+                pgnDefinitions.putAll(image.getPgnDefinitions());
+                spnDefinitions.putAll(image.getSpnDefinitions());
+                slots.putAll(image.getSlots());
+                files.add(path);
+            } catch (Exception e) {
+                J1939_84.getLogger().log(Level.WARNING, "Unable to load J1939DA plugin " + path, e);
+            }
+        }
+        if (files.isEmpty()) {
+            return EMPTY;
+        }
+        J1939_84.getLogger()
+                .log(Level.INFO,
+                     "Loaded " + pgnDefinitions.size() + " PGNs, " + spnDefinitions.size() + " SPNs and "
+                             + slots.size() + " SLOTs from J1939DA plugins " + files);
+        return new J1939DaPlugins(Collections.unmodifiableList(files), pgnDefinitions, spnDefinitions, slots);
+    }
+
+    private static boolean isPluginFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(".csv") || name.endsWith(".bin");
+    }
+
+    private static J1939DaImage read(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        if (name.endsWith(".bin")) {
+            return J1939DaImage.read(ByteBuffer.wrap(Files.readAllBytes(path)));
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            if (name.endsWith("-slots.csv")) {
+                return new J1939DaImage(Map.of(), Map.of(), J1939DaRepository.parseCsvSlots(in));
+            }
+            return J1939DaRepository.parseCsvDefinitions(in);
+        }
+    }
+
+    /**
+     * Returns the definitions as a {@link J1939DaImage}, as written to a
+     * compiled plugin
+     */
+    J1939DaImage toImage() {
+        return new J1939DaImage(pgnDefinitions, spnDefinitions, slots);
+    }
+
+    /**
+     * Returns the files the definitions were loaded from
+     */
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    public boolean isEmpty() {
+        return pgnDefinitions.isEmpty() && spnDefinitions.isEmpty() && slots.isEmpty();
+    }
+
+    Map<Integer, PgnDefinition> getPgnDefinitions() {
+        return pgnDefinitions;
+    }
+
+    Map<Integer, SpnDefinition> getSpnDefinitions() {
+        return spnDefinitions;
+    }
+
+    Map<Integer, Slot> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the definition of the PGN or null if no plugin defines it
+     */
+    PgnDefinition findPgnDefinition(int pgn) {
+        return pgnIndex.get(pgn);
+    }
+
+    /**
+     * Returns the definition of the SPN or null if no plugin defines it
+     */
+    SpnDefinition findSpnDefinition(int spn) {
+        return spnIndex.get(spn);
+    }
+
+    /**
+     * Returns the SLOT a plugin defines for the SPN, or else the SLOT with the
+     * id, or null if no plugin defines either
+     */
+    Slot findSlot(int id, int spn) {
+        if (slotIndex.isEmpty()) {
+            return null;
+        }
+        Slot slot = slotIndex.get(-spn);
+        return slot != null ? slot : slotIndex.get(id);
+    }
+
+    /**
+     * Returns the PGNs of the plugins that include the SPN, in ascending order
+     */
+    int[] getPgnsForSpn(int spn) {
+        return spnToPgns.getOrDefault(spn, NO_PGNS);
+    }
+}
@@ -6,16 +6,18 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -27,8 +29,12 @@ import org.etools.j1939_84.J1939_84;
 import org.etools.j1939tools.j1939.model.PgnDefinition;
 import org.etools.j1939tools.j1939.model.SpnDefinition;
 import org.etools.j1939tools.j1939.packets.BitSlot;
+import org.etools.j1939tools.j1939.packets.FreezeFrameLayout;
+import org.etools.j1939tools.j1939.packets.PgnDecoder;
 import org.etools.j1939tools.j1939.packets.Slot;
+import org.etools.j1939tools.j1939.packets.SupportedSPN;
 import org.etools.j1939tools.resources.J1939ToolsResources;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
@@ -45,36 +51,47 @@ public class J1939DaRepository {
 
     private static final J1939DaRepository instance = new J1939DaRepository();
 
-    private Map<Integer, Slot> slots;
+    /**
+     * The most freeze frame layouts kept in a snapshot; they're cleared when
+     * there are more
+     */
+    private static final int MAX_FREEZE_FRAME_LAYOUTS = 64;
+
+    /**
+     * The definitions and indexes every lookup reads. It's replaced as a
+     * whole, so a lookup that reads it once never sees part of a reload.
+     */
+    private volatile J1939DaSnapshot snapshot;
+
+    /*
+     * Lookups that missed, so they're only logged once
+     */
+    private final Map<Integer, Slot> unknownSlots = new ConcurrentHashMap<>();
 
+    private final Map<Integer, PgnDefinition> unknownPgns = new ConcurrentHashMap<>();
+
+    private final Map<Integer, SpnDefinition> unknownSpns = new ConcurrentHashMap<>();
+
+    /*
+     * The tables parsed from the CSV files
+     */
     private Map<Integer, PgnDefinition> pgnLut;
 
-    public Slot findSLOT(int id, int spn) {
-        if (slots == null) {
-            slots = new HashMap<>();
-            slots.putAll(loadSlots());
-            slots.putAll(loadBitSlots());
-        }
+    private Map<Integer, SpnDefinition> spnLut;
 
-        // first check for overriding custom slot
-        Slot slot = slots.get(-spn);
-        // otherwise use SAE specified slot
-        if (slot == null) {
-            slot = slots.get(id);
-        }
+    public Slot findSLOT(int id, int spn) {
+        Slot slot = getSnapshot().findSlot(id, spn);
         if (slot == null) {
-            if (id != -1) {
-                J1939_84.getLogger().log(Level.INFO, "Unable to find SLOT " + id);
-            }
-            return new Slot(id, "Unknown", "UNK", 1.0, 0.0, null, 0);
+            return unknownSlots.computeIfAbsent(id, k -> {
+                if (id != -1) {
+                    J1939_84.getLogger().log(Level.INFO, "Unable to find SLOT " + id);
+                }
+                return new Slot(id, "Unknown", "UNK", 1.0, 0.0, null, 0);
+            });
         }
         return slot;
     }
 
-    private Map<Integer, SpnDefinition> spnLut;
-
-    private Map<Integer, Set<Integer>> spnToPgnMap = null;
-
     private J1939DaRepository() {
     }
 
@@ -103,150 +120,264 @@ public class J1939DaRepository {
         return getInstance().findSLOT(slotId, spn);
     }
 
+    /**
+     * Returns the {@link PgnDecoder} for the PGN, which is compiled the first
+     * time the PGN is decoded
+     *
+     * @param  pgnDefinition
+     *                           the definition returned by
+     *                           {@link #findPgnDefinition(int)}
+     * @return               the {@link PgnDecoder}
+     */
+    public PgnDecoder getPgnDecoder(PgnDefinition pgnDefinition) {
+        J1939DaSnapshot current = getSnapshot();
+        if (findPgnDefinition(current, pgnDefinition.getId()) != pgnDefinition) {
+            // it's not one of the snapshot's definitions, as one found before a reload
+            return new PgnDecoder(pgnDefinition, this);
+        }
+        return current.getPgnDecoders().computeIfAbsent(pgnDefinition.getId(),
+                                                        k -> new PgnDecoder(pgnDefinition, this));
+    }
+
+    /**
+     * Returns the {@link FreezeFrameLayout} of the SPNs that support Expanded
+     * Freeze Frames in the list of Supported SPNs, so the layout of a module is
+     * reused for all its DM25s. The layouts are kept with the snapshot of the
+     * definitions, so those of the plugins replaced by a reload aren't used.
+     *
+     * @param  supportedSPNs
+     *                           the Supported SPNs of the module's DM24
+     * @return               the {@link FreezeFrameLayout}
+     */
+    public FreezeFrameLayout getFreezeFrameLayout(List<SupportedSPN> supportedSPNs) {
+        Map<List<SupportedSPN>, FreezeFrameLayout> layouts = getSnapshot().getFreezeFrameLayouts();
+        FreezeFrameLayout layout = layouts.get(supportedSPNs);
+        if (layout == null) {
+            layout = new FreezeFrameLayout(supportedSPNs, this);
+            if (layouts.size() >= MAX_FREEZE_FRAME_LAYOUTS) {
+                layouts.clear();
+            }
+            layouts.put(List.copyOf(supportedSPNs), layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Compiles the J1939DA CSV files, as done by the build to create the
+     * {@link J1939DaImage}
+     */
+    static J1939DaImage compileCsv() {
+        J1939DaRepository repository = new J1939DaRepository();
+        repository.loadCsvLookUpTables();
+        return new J1939DaImage(repository.pgnLut, repository.spnLut, repository.loadCsvSlots());
+    }
+
+    /**
+     * Returns the snapshot of the definitions, which is built the first time.
+     * Only that first time takes a lock.
+     */
+    J1939DaSnapshot getSnapshot() {
+        J1939DaSnapshot result = snapshot;
+        if (result == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = loadSnapshot();
+                }
+                result = snapshot;
+            }
+        }
+        return result;
+    }
+
+    private static J1939DaSnapshot loadSnapshot() {
+        J1939DaImage da = J1939DaImage.load();
+        if (da == null) {
+            // the image is missing when running from the sources without the build
+            da = compileCsv();
+        }
+        J1939DaSnapshot result = J1939DaSnapshot.build(da, J1939DaPlugins.load(J1939DaPlugins.getDirectory()));
+        List<String> problems = result.validate();
+        if (!problems.isEmpty()) {
+            J1939_84.getLogger().log(Level.WARNING, "J1939DA plugins are not used: " + problems);
+            result = J1939DaSnapshot.build(da, J1939DaPlugins.EMPTY);
+        }
+        return result;
+    }
+
+    /**
+     * Loads the definitions of the plugin directory again and swaps them in,
+     * as when OEM definitions were added during a session. The new snapshot
+     * is built and validated before the swap, so lookups in progress keep
+     * using the previous definitions and never see part of the new ones. If
+     * it isn't valid the previous definitions are kept.
+     *
+     * @return                       the files the definitions were loaded
+     *                               from
+     * @throws IllegalStateException
+     *                                   if the definitions aren't valid, as
+     *                                   when an SPN's SLOT isn't defined
+     */
+    public List<Path> reloadPlugins() {
+        J1939DaSnapshot next = J1939DaSnapshot.build(getSnapshot().getDa(),
+                                                     J1939DaPlugins.load(J1939DaPlugins.getDirectory()));
+        List<String> problems = next.validate();
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid J1939DA plugins: " + problems);
+        }
+        snapshot = next;
+        return next.getPlugins().getFiles();
+    }
+
+    /**
+     * Does {@link #reloadPlugins()} on a thread of its own, so the caller
+     * isn't held up by reading and indexing the definitions. Lookups use the
+     * previous definitions until the new ones are swapped in.
+     *
+     * @return the files the definitions were loaded from, or the exception
+     *         when they aren't valid
+     */
+    public CompletableFuture<List<Path>> reloadPluginsInBackground() {
+        return CompletableFuture.supplyAsync(this::reloadPlugins,
+                                             r -> ExecutorFactory.startThread("J1939DA Reload", r));
+    }
+
+    private void loadCsvLookUpTables() {
+        InputStream is = new SequenceInputStream(J1939ToolsResources.class.getResourceAsStream("j1939da-extract.csv"),
+                                                 J1939ToolsResources.class.getResourceAsStream("j1939da-addendum.csv"));
+        loadCsvLookUpTables(is, 2);
+    }
+
     @SuppressFBWarnings(value = {
             "RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE",
             "REC_CATCH_EXCEPTION" }, justification = "Several places in the calls down the stack can return null")
-    private synchronized void loadLookUpTables() {
-        if (pgnLut == null) {
-            // parse the selected columns from J1939DA. The source data is
-            // unaltered, so some processing is required to convert byte.bit
-            // specifications into ints.
-            InputStream is = new SequenceInputStream(J1939ToolsResources.class.getResourceAsStream("j1939da-extract.csv"),
-                                                     J1939ToolsResources.class.getResourceAsStream("j1939da-addendum.csv"));
-            InputStreamReader isReader = new InputStreamReader(is, StandardCharsets.ISO_8859_1);
-            try (CSVReader reader = new CSVReaderBuilder(isReader).withSkipLines(2).build()) {
-                // collect [pgn,spn]
-                Collection<Object[]> table = StreamSupport.stream(reader.spliterator(), false)
-                                                          // allow for blank lines
-                                                          .filter(line -> line.length > 1)
-                                                          // map line to [pgn,spn] where pgn may be null
-                                                          .map(line -> {
-                                                              try {
-                                                                  String position = line[4];
-                                                                  int startByte;
-                                                                  int startBit;
-                                                                  position = position.toLowerCase();
-                                                                  if (position.isBlank()) {
-                                                                      // must be a non-pgn spn
-                                                                      startByte = -1;
-                                                                      startBit = -1;
-                                                                  } else if (position.matches("[a-z]")) {
-                                                                      startByte = position.charAt(0) - 'a' + 1;
-                                                                      startBit = 1;
-                                                                  } else if (position.matches("\\d+((,|-| to ).*)?")) {
-                                                                      startByte = parseInt(position.split("[^\\d]")[0]);
-                                                                      startBit = 1;
-                                                                  } else if (position.matches("\\d+\\.\\d+((,|-| to ).*)?")) {
-                                                                      String[] a = position.split("[^\\d]");
-                                                                      startByte = parseInt(a[0]);
-                                                                      startBit = parseInt(a[1]);
-                                                                  } else if ("a (starts at byte 10)".equals(position)) {
-                                                                      startByte = 10;
-                                                                      startBit = 1;
-                                                                  } else {
-                                                                      throw new ParseError("Unable to parse position: "
-                                                                              + position);
-                                                                  }
+    private void loadCsvLookUpTables(InputStream is, int skipLines) {
+        // parse the selected columns from J1939DA. The source data is
+        // unaltered, so some processing is required to convert byte.bit
+        // specifications into ints.
+        InputStreamReader isReader = new InputStreamReader(is, StandardCharsets.ISO_8859_1);
+        try (CSVReader reader = new CSVReaderBuilder(isReader).withSkipLines(skipLines).build()) {
+            // collect [pgn,spn]
+            Collection<Object[]> table = StreamSupport.stream(reader.spliterator(), false)
+                                                      // allow for blank and comment lines
+                                                      .filter(line -> line.length > 1 && !line[0].startsWith(";"))
+                                                      // map line to [pgn,spn] where pgn may be null
+                                                      .map(line -> {
+                                                          try {
+                                                              String position = line[4];
+                                                              int startByte;
+                                                              int startBit;
+                                                              position = position.toLowerCase();
+                                                              if (position.isBlank()) {
+                                                                  // must be a non-pgn spn
+                                                                  startByte = -1;
+                                                                  startBit = -1;
+                                                              } else if (position.matches("[a-z]")) {
+                                                                  startByte = position.charAt(0) - 'a' + 1;
+                                                                  startBit = 1;
+                                                              } else if (position.matches("\\d+((,|-| to ).*)?")) {
+                                                                  startByte = parseInt(position.split("[^\\d]")[0]);
+                                                                  startBit = 1;
+                                                              } else if (position.matches("\\d+\\.\\d+((,|-| to ).*)?")) {
+                                                                  String[] a = position.split("[^\\d]");
+                                                                  startByte = parseInt(a[0]);
+                                                                  startBit = parseInt(a[1]);
+                                                              } else if ("a (starts at byte 10)".equals(position)) {
+                                                                  startByte = 10;
+                                                                  startBit = 1;
+                                                              } else {
+                                                                  throw new ParseError("Unable to parse position: "
+                                                                          + position);
+                                                              }
 
-                                                                  SpnDefinition spnDef = null;
-                                                                  String spnIdStr = line[5];
-                                                                  if (!isBlankOrNA(spnIdStr)) {
-                                                                      String label = shortenLabel(line[6]);
-                                                                      int spnId = parseInt(spnIdStr);
-                                                                      spnDef = new SpnDefinition(spnId,
-                                                                                                 label,
-                                                                                                 startByte,
-                                                                                                 startBit,
-                                                                                                 isBlankOrNA(line[7])
-                                                                                                         ? -1
-                                                                                                         : parseInt(line[7]));
-                                                                  }
-                                                                  String pgnIdStr = line[0];
-                                                                  PgnDefinition pgnDef = null;
-                                                                  // we don't care about the PGN that have no
-                                                                  // SPNs.
-                                                                  if (!isBlankOrNA(pgnIdStr)) {
-                                                                      if (spnDef == null) {
-                                                                          spnDef = new SpnDefinition(-1,
-                                                                                                     "Unknown",
-                                                                                                     0,
-                                                                                                     0,
-                                                                                                     -1);
-                                                                      }
-                                                                      int transmissionRate = parseTransmissionRate(line[3]);
-                                                                      String label = shortenLabel(line[1]).trim();
-                                                                      pgnDef = new PgnDefinition(parseInt(pgnIdStr),
-                                                                                                 label,
-                                                                                                 line[2].trim(),
-                                                                                                 transmissionRate == 0,
-                                                                                                 transmissionRate < 0,
-                                                                                                 Math.abs(transmissionRate),
-                                                                                                 Collections.singletonList(spnDef));
+                                                              SpnDefinition spnDef = null;
+                                                              String spnIdStr = line[5];
+                                                              if (!isBlankOrNA(spnIdStr)) {
+                                                                  String label = shortenLabel(line[6]);
+                                                                  int spnId = parseInt(spnIdStr);
+                                                                  spnDef = new SpnDefinition(spnId,
+                                                                                             label,
+                                                                                             startByte,
+                                                                                             startBit,
+                                                                                             isBlankOrNA(line[7])
+                                                                                                     ? -1
+                                                                                                     : parseInt(line[7]));
+                                                              }
+                                                              String pgnIdStr = line[0];
+                                                              PgnDefinition pgnDef = null;
+                                                              // we don't care about the PGN that have no
+                                                              // SPNs.
+                                                              if (!isBlankOrNA(pgnIdStr)) {
+                                                                  if (spnDef == null) {
+                                                                      spnDef = new SpnDefinition(-1,
+                                                                                                 "Unknown",
+                                                                                                 0,
+                                                                                                 0,
+                                                                                                 -1);
                                                                   }
-                                                                  return new Object[] { pgnDef, spnDef };
-                                                              } catch (ParseError e) {
-                                                                  System.err.format("%d %s %n\t%s%n",
-                                                                                    reader.getLinesRead(),
-                                                                                    e.getMessage(),
-                                                                                    Arrays.asList(line));
-                                                                  return null;
+                                                                  int transmissionRate = parseTransmissionRate(line[3]);
+                                                                  String label = shortenLabel(line[1]).trim();
+                                                                  pgnDef = new PgnDefinition(parseInt(pgnIdStr),
+                                                                                             label,
+                                                                                             line[2].trim(),
+                                                                                             transmissionRate == 0,
+                                                                                             transmissionRate < 0,
+                                                                                             Math.abs(transmissionRate),
+                                                                                             Collections.singletonList(spnDef));
                                                               }
-                                                          })
-                                                          .filter(Objects::nonNull)
-                                                          .collect(Collectors.toList());
-                spnLut = table.stream()
-                              .map(row -> ((SpnDefinition) row[1]))
-                              .filter(Objects::nonNull)
-                              // prefer the spn with a start byte over the one without
-                              .sorted(Comparator.comparing(SpnDefinition::getStartByte)
-                                                .reversed()
-                                                // then prefer the one with custom slot definition
-                                                .thenComparing(SpnDefinition::getSlotNumber))
-                              .collect(Collectors.toMap(SpnDefinition::getSpnId, s -> s, (a, b) -> {
-                                  if (a.getSlotNumber() != b.getSlotNumber() || !a.getLabel().equals(b.getLabel()))
-                                      System.err.println("Duplicate SPNs: slots:"
-                                              + a.getSlotNumber() + "," + b.getSlotNumber()
-                                              + " name:" + a.getLabel() + ", " + b.getLabel());
-                                  return a;
-                              }));
-
-                pgnLut = table.stream()
-                              .flatMap(row -> row[0] == null ? Stream.empty() : Stream.of((PgnDefinition) row[0]))
-                              .collect(Collectors.toMap(PgnDefinition::getId,
-                                                        pgnDef -> pgnDef,
-                                                        (a, b) -> new PgnDefinition(a.getId(),
-                                                                                    shortenLabel(a.getLabel()),
-                                                                                    a.getAcronym(),
-                                                                                    a.isOnRequest(),
-                                                                                    a.isVariableBroadcast(),
-                                                                                    a.getBroadcastPeriod(),
-                                                                                    Stream.concat(a.getSpnDefinitions()
-                                                                                                   .stream(),
-                                                                                                  b
-                                                                                                   .getSpnDefinitions()
-                                                                                                   .stream())
-                                                                                          .map(SpnDefinition::getSpnId)
-                                                                                          .distinct()
-                                                                                          .map(id -> spnLut.get(id))
-                                                                                          .sorted(Comparator
-                                                                                                            .comparing(s -> s.getStartByte()
-                                                                                                                    * 8
-                                                                                                                    + s
-                                                                                                                       .getStartBit()))
-                                                                                          .collect(Collectors.toList()))));
-
-                spnToPgnMap = new HashMap<>();
-                for (PgnDefinition pgnDefinition : pgnLut.values()) {
-                    for (SpnDefinition spnDefinition : pgnDefinition.getSpnDefinitions()) {
-                        Set<Integer> pgns = spnToPgnMap.getOrDefault(spnDefinition.getSpnId(), new HashSet<>());
-                        pgns.add(pgnDefinition.getId());
-                        spnToPgnMap.put(spnDefinition.getSpnId(), pgns);
-                    }
-                }
-            } catch (Exception e) {
-                logError("Error loading J1939DA data.", e);
-                throw new RuntimeException("Unable to load J1939DA", e);
-            }
+                                                              return new Object[] { pgnDef, spnDef };
+                                                          } catch (ParseError e) {
+                                                              System.err.format("%d %s %n\t%s%n",
+                                                                                reader.getLinesRead(),
+                                                                                e.getMessage(),
+                                                                                Arrays.asList(line));
+                                                              return null;
+                                                          }
+                                                      })
+                                                      .filter(Objects::nonNull)
+                                                      .collect(Collectors.toList());
+            spnLut = table.stream()
+                          .map(row -> ((SpnDefinition) row[1]))
+                          .filter(Objects::nonNull)
+                          // prefer the spn with a start byte over the one without
+                          .sorted(Comparator.comparing(SpnDefinition::getStartByte)
+                                            .reversed()
+                                            // then prefer the one with custom slot definition
+                                            .thenComparing(SpnDefinition::getSlotNumber))
+                          .collect(Collectors.toMap(SpnDefinition::getSpnId, s -> s, (a, b) -> {
+                              if (a.getSlotNumber() != b.getSlotNumber() || !a.getLabel().equals(b.getLabel()))
+                                  System.err.println("Duplicate SPNs: slots:"
+                                          + a.getSlotNumber() + "," + b.getSlotNumber()
+                                          + " name:" + a.getLabel() + ", " + b.getLabel());
+                              return a;
+                          }));
+
+            pgnLut = table.stream()
+                          .flatMap(row -> row[0] == null ? Stream.empty() : Stream.of((PgnDefinition) row[0]))
+                          .collect(Collectors.toMap(PgnDefinition::getId,
+                                                    pgnDef -> pgnDef,
+                                                    (a, b) -> new PgnDefinition(a.getId(),
+                                                                                shortenLabel(a.getLabel()),
+                                                                                a.getAcronym(),
+                                                                                a.isOnRequest(),
+                                                                                a.isVariableBroadcast(),
+                                                                                a.getBroadcastPeriod(),
+                                                                                Stream.concat(a.getSpnDefinitions()
+                                                                                               .stream(),
+                                                                                              b
+                                                                                               .getSpnDefinitions()
+                                                                                               .stream())
+                                                                                      .map(SpnDefinition::getSpnId)
+                                                                                      .distinct()
+                                                                                      .map(id -> spnLut.get(id))
+                                                                                      .sorted(Comparator
+                                                                                                        .comparing(s -> s.getStartByte()
+                                                                                                                * 8
+                                                                                                                + s
+                                                                                                                   .getStartBit()))
+                                                                                      .collect(Collectors.toList()))));
+        } catch (Exception e) {
+            logError("Error loading J1939DA data.", e);
+            throw new RuntimeException("Unable to load J1939DA", e);
         }
     }
 
@@ -254,21 +385,53 @@ public class J1939DaRepository {
         return str.isBlank() || "N/A".equals(str.toUpperCase());
     }
 
+    private Map<Integer, Slot> loadCsvSlots() {
+        Map<Integer, Slot> slots = new HashMap<>();
+        slots.putAll(loadSlots());
+        slots.putAll(loadBitSlots());
+        return slots;
+    }
+
+    /**
+     * Parses PGN and SPN definitions in the columns of j1939da-addendum.csv,
+     * as a {@link J1939DaPlugins} file gives them
+     *
+     * @throws RuntimeException
+     *                              if the definitions can't be parsed
+     */
+    static J1939DaImage parseCsvDefinitions(InputStream is) {
+        J1939DaRepository repository = new J1939DaRepository();
+        repository.loadCsvLookUpTables(is, 0);
+        return new J1939DaImage(repository.pgnLut, repository.spnLut, Map.of());
+    }
+
+    /**
+     * Parses SLOTs in the columns of j1939da-slots.csv, as a
+     * {@link J1939DaPlugins} file gives them
+     */
+    static Map<Integer, Slot> parseCsvSlots(InputStream is) {
+        return new J1939DaRepository().loadSlots(is, 0);
+    }
+
     /**
      * Read the slots.csv file which contains all the SLOTs
      *
      * @return Map of SLOT ID to Slot
      */
-    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE", justification = "Several places in the calls down the stack can return null")
     private Map<Integer, Slot> loadSlots() {
+        InputStream is = new SequenceInputStream(J1939ToolsResources.class.getResourceAsStream("j1939da-slots.csv"),
+                                                 J1939ToolsResources.class.getResourceAsStream("j1939da-slots-addendum.csv"));
+        return loadSlots(is, 2);
+    }
+
+    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE", justification = "Several places in the calls down the stack can return null")
+    private Map<Integer, Slot> loadSlots(InputStream is, int skipLines) {
         Map<Integer, Slot> slots = new HashMap<>();
         String[] values;
 
-        InputStream is = new SequenceInputStream(J1939ToolsResources.class.getResourceAsStream("j1939da-slots.csv"),
-                                                 J1939ToolsResources.class.getResourceAsStream("j1939da-slots-addendum.csv"));
         InputStreamReader isReader = new InputStreamReader(is, StandardCharsets.UTF_8);
         try (CSVReader reader = new CSVReaderBuilder(isReader)
-                                                              .withSkipLines(2)
+                                                              .withSkipLines(skipLines)
                                                               .build()) {
             while ((values = reader.readNext()) != null) {
                 if (values.length > 1 && !values[0].startsWith(";")) {
@@ -497,11 +660,16 @@ public class J1939DaRepository {
     }
 
     public PgnDefinition findPgnDefinition(int pgn) {
-        loadLookUpTables();
-        PgnDefinition pgnDefinition = pgnLut.get(pgn);
+        return findPgnDefinition(getSnapshot(), pgn);
+    }
+
+    private PgnDefinition findPgnDefinition(J1939DaSnapshot current, int pgn) {
+        PgnDefinition pgnDefinition = current.findPgnDefinition(pgn);
         if (pgnDefinition == null) {
-            J1939_84.getLogger().log(Level.INFO, "Unable to find PgnDefinition for " + pgn);
-            return new PgnDefinition(pgn, "Unknown", "UNK", false, false, 0, List.of());
+            return unknownPgns.computeIfAbsent(pgn, k -> {
+                J1939_84.getLogger().log(Level.INFO, "Unable to find PgnDefinition for " + pgn);
+                return new PgnDefinition(pgn, "Unknown", "UNK", false, false, 0, List.of());
+            });
         }
         return pgnDefinition;
     }
@@ -520,28 +688,67 @@ public class J1939DaRepository {
     }
 
     public SpnDefinition findSpnDefinition(int spn) {
-        loadLookUpTables();
-        SpnDefinition spnDefinition = spnLut.get(spn);
+        SpnDefinition spnDefinition = getSnapshot().findSpnDefinition(spn);
         if (spnDefinition == null) {
-            J1939_84.getLogger().log(Level.INFO, "Unable to find SpnDefinition for " + spn);
-            return new SpnDefinition(spn, "Unknown", 0, 0, -1);
+            return unknownSpns.computeIfAbsent(spn, k -> {
+                J1939_84.getLogger().log(Level.INFO, "Unable to find SpnDefinition for " + spn);
+                return new SpnDefinition(spn, "Unknown", 0, 0, -1);
+            });
         }
         return spnDefinition;
     }
 
+    /**
+     * Returns the label of the SPN, or "Unknown" if the SPN isn't defined.
+     * Labels that are the same are the same String.
+     *
+     * @param  spn
+     *                 the SPN of interest
+     * @return     the label
+     */
+    public String getSpnLabel(int spn) {
+        String label = getSnapshot().getSpnLabel(spn);
+        return label == null ? "Unknown" : label;
+    }
+
     public Map<Integer, PgnDefinition> getPgnDefinitions() {
-        loadLookUpTables();
-        return Collections.unmodifiableMap(pgnLut);
+        return getSnapshot().getPgnDefinitions();
     }
 
     public Set<Integer> getPgnForSpn(int spn) {
-        loadLookUpTables();
-        return spnToPgnMap.get(spn);
+        return getSnapshot().getPgnForSpn(spn);
+    }
+
+    /**
+     * Returns the PGNs that include the SPN, in ascending order. The array is
+     * shared, so it must not be modified.
+     *
+     * @param  spn
+     *                 the SPN of interest
+     * @return     the PGNs, which is empty if the SPN isn't known
+     */
+    public int[] getPgnsForSpn(int spn) {
+        return getSnapshot().getPgnsForSpn(spn);
+    }
+
+    /**
+     * Returns the broadcast period of the PGN in milliseconds, which is 0 for
+     * PGNs that aren't known
+     */
+    public int getBroadcastPeriod(int pgn) {
+        PgnDefinition pgnDefinition = getSnapshot().findPgnDefinition(pgn);
+        return pgnDefinition == null ? 0 : pgnDefinition.getBroadcastPeriod();
+    }
+
+    /**
+     * Returns true if the PGN is only sent on request
+     */
+    public boolean isOnRequest(int pgn) {
+        return getSnapshot().isOnRequest(pgn);
     }
 
     public Map<Integer, SpnDefinition> getSpnDefinitions() {
-        loadLookUpTables();
-        return Collections.unmodifiableMap(spnLut);
+        return getSnapshot().getSpnDefinitions();
     }
 
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.j1939.packets.FreezeFrameLayout;
+import org.etools.j1939tools.j1939.packets.PgnDecoder;
+import org.etools.j1939tools.j1939.packets.Slot;
+import org.etools.j1939tools.j1939.packets.SupportedSPN;
+import org.etools.j1939tools.utils.IntObjectMap;
+
+/**
+ * The definitions of the J1939DA with those of the {@link J1939DaPlugins}
+ * applied, and every index {@link J1939DaRepository} looks them up with.
+ *
+ * A snapshot is built completely before it's published and isn't modified
+ * after, so it can be read by any number of threads without locking. The
+ * repository publishes one snapshot at a time through a volatile field;
+ * reloading builds and validates a new one, then replaces the field. A lookup
+ * that reads the field once uses one snapshot, never parts of two. Only the
+ * {@link PgnDecoder}s and {@link FreezeFrameLayout}s are added to a snapshot
+ * after, as they're first used, so a reload drops those resolved from the
+ * definitions it replaced.
+ */
+final class J1939DaSnapshot {
+
+    private static final int[] NO_PGNS = new int[0];
+
+    private final J1939DaImage da;
+    private final J1939DaPlugins plugins;
+
+    private final Map<Integer, PgnDefinition> pgnDefinitions;
+    private final Map<Integer, SpnDefinition> spnDefinitions;
+
+    private final IntObjectMap<PgnDefinition> pgnIndex;
+    private final IntObjectMap<SpnDefinition> spnIndex;
+    private final IntObjectMap<Slot> slotIndex;
+
+    /**
+     * The slot of each SPN, with any custom override slot already applied
+     */
+    private final IntObjectMap<Slot> spnSlotIndex;
+
+    /**
+     * The label of each SPN, which report output looks up for every DTC and
+     * SPN it names. Labels that are the same are the same String.
+     */
+    private final IntObjectMap<String> spnLabels;
+
+    /*
+     * Reverse indexes for the queries that select the PGNs to request
+     */
+    private final IntObjectMap<Set<Integer>> spnToPgnIndex;
+    private final IntObjectMap<int[]> spnToPgnArrays;
+    private final BitSet onRequestPgns;
+
+    private final Map<Integer, PgnDecoder> pgnDecoders = new ConcurrentHashMap<>();
+
+    // by the list of Supported SPNs of the DM24 they were resolved for
+    private final Map<List<SupportedSPN>, FreezeFrameLayout> freezeFrameLayouts = new ConcurrentHashMap<>();
+
+    private J1939DaSnapshot(J1939DaImage da, J1939DaPlugins plugins) {
+        this.da = da;
+        this.plugins = plugins;
+
+        pgnDefinitions = withPlugins(da.getPgnDefinitions(), plugins.getPgnDefinitions());
+        spnDefinitions = withPlugins(da.getSpnDefinitions(), plugins.getSpnDefinitions());
+        Map<Integer, Slot> slots = withPlugins(da.getSlots(), plugins.getSlots());
+
+        pgnIndex = IntObjectMap.of(pgnDefinitions);
+        spnIndex = IntObjectMap.of(spnDefinitions);
+        slotIndex = IntObjectMap.of(slots);
+
+        spnSlotIndex = new IntObjectMap<>(spnDefinitions.size());
+        spnLabels = new IntObjectMap<>(spnDefinitions.size());
+        Map<String, String> interned = new HashMap<>();
+        spnDefinitions.forEach((spn, definition) -> {
+            Slot slot = slotIndex.get(-spn);
+            if (slot == null) {
+                slot = slotIndex.get(definition.getSlotNumber());
+            }
+            if (slot != null) {
+                spnSlotIndex.put(spn, slot);
+            }
+            String label = definition.getLabel();
+            if (label != null) {
+                spnLabels.put(spn, interned.computeIfAbsent(label, l -> l));
+            }
+        });
+
+        Map<Integer, TreeSet<Integer>> pgnsBySpn = new HashMap<>();
+        onRequestPgns = new BitSet();
+        for (PgnDefinition pgnDefinition : pgnDefinitions.values()) {
+            for (SpnDefinition spnDefinition : pgnDefinition.getSpnDefinitions()) {
+                pgnsBySpn.computeIfAbsent(spnDefinition.getSpnId(), k -> new TreeSet<>()).add(pgnDefinition.getId());
+            }
+            if (pgnDefinition.isOnRequest() && pgnDefinition.getId() >= 0) {
+                onRequestPgns.set(pgnDefinition.getId());
+            }
+        }
+        spnToPgnIndex = new IntObjectMap<>(pgnsBySpn.size());
+        spnToPgnArrays = new IntObjectMap<>(pgnsBySpn.size());
+        pgnsBySpn.forEach((spn, pgns) -> {
+            spnToPgnIndex.put(spn, Collections.unmodifiableSet(pgns));
+            spnToPgnArrays.put(spn, pgns.stream().mapToInt(Integer::intValue).toArray());
+        });
+    }
+
+    /**
+     * Builds the snapshot of the J1939DA with the plugins applied
+     *
+     * @param  da
+     *                     the definitions of the J1939DA
+     * @param  plugins
+     *                     the definitions that replace the J1939DA's
+     * @return         the snapshot, which hasn't been validated
+     */
+    static J1939DaSnapshot build(J1939DaImage da, J1939DaPlugins plugins) {
+        return new J1939DaSnapshot(da, plugins);
+    }
+
+    private static <T> Map<Integer, T> withPlugins(Map<Integer, T> definitions, Map<Integer, T> pluginDefinitions) {
+        if (pluginDefinitions.isEmpty()) {
+            return Collections.unmodifiableMap(definitions);
+        }
+        Map<Integer, T> result = new HashMap<>(definitions);
+        result.putAll(pluginDefinitions);
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the problems that keep the snapshot from being used, which is
+     * empty if there are none. The J1939DA must have definitions, and the
+     * SLOT of every SPN a plugin defines must be found.
+     */
+    List<String> validate() {
+        List<String> problems = new ArrayList<>();
+        if (da.getPgnDefinitions().isEmpty() || da.getSpnDefinitions().isEmpty()) {
+            problems.add("The J1939DA has no definitions");
+        }
+        Map<Integer, SpnDefinition> pluginSpns = new HashMap<>(plugins.getSpnDefinitions());
+        for (PgnDefinition pgnDefinition : plugins.getPgnDefinitions().values()) {
+            for (SpnDefinition spnDefinition : pgnDefinition.getSpnDefinitions()) {
+                pluginSpns.putIfAbsent(spnDefinition.getSpnId(), spnDefinition);
+            }
+        }
+        pluginSpns.forEach((spn, definition) -> {
+            if (definition.getSlotNumber() != -1 && !spnSlotIndex.containsKey(spn)) {
+                problems.add("SPN " + spn + " has unknown SLOT " + definition.getSlotNumber());
+            }
+        });
+        return problems;
+    }
+
+    J1939DaImage getDa() {
+        return da;
+    }
+
+    J1939DaPlugins getPlugins() {
+        return plugins;
+    }
+
+    Map<Integer, PgnDefinition> getPgnDefinitions() {
+        return pgnDefinitions;
+    }
+
+    Map<Integer, SpnDefinition> getSpnDefinitions() {
+        return spnDefinitions;
+    }
+
+    /**
+     * Returns the definition of the PGN or null if it isn't defined
+     */
+    PgnDefinition findPgnDefinition(int pgn) {
+        return pgnIndex.get(pgn);
+    }
+
+    /**
+     * Returns the definition of the SPN or null if it isn't defined
+     */
+    SpnDefinition findSpnDefinition(int spn) {
+        return spnIndex.get(spn);
+    }
+
+    /**
+     * Returns the custom override SLOT of the SPN, or else the SLOT with the
+     * id, or null if there's neither
+     */
+    Slot findSlot(int id, int spn) {
+        // the SPN's own slot is usually the one asked for
+        Slot slot = spnSlotIndex.get(spn);
+        if (slot != null && (slot.getId() == -spn || slot.getId() == id)) {
+            return slot;
+        }
+        slot = slotIndex.get(-spn);
+        return slot != null ? slot : slotIndex.get(id);
+    }
+
+    /**
+     * Returns the label of the SPN or null if it isn't defined
+     */
+    String getSpnLabel(int spn) {
+        return spnLabels.get(spn);
+    }
+
+    /**
+     * Returns the PGNs that include the SPN or null if there are none
+     */
+    Set<Integer> getPgnForSpn(int spn) {
+        return spnToPgnIndex.get(spn);
+    }
+
+    /**
+     * Returns the PGNs that include the SPN, in ascending order
+     */
+    int[] getPgnsForSpn(int spn) {
+        return spnToPgnArrays.getOrDefault(spn, NO_PGNS);
+    }
+
+    boolean isOnRequest(int pgn) {
+        return pgn >= 0 && onRequestPgns.get(pgn);
+    }
+
+    /**
+     * Returns the decoders compiled for the PGNs of this snapshot
+     */
+    Map<Integer, PgnDecoder> getPgnDecoders() {
+        return pgnDecoders;
+    }
+
+    /**
+     * Returns the freeze frame layouts resolved from the definitions of this
+     * snapshot
+     */
+    Map<List<SupportedSPN>, FreezeFrameLayout> getFreezeFrameLayouts() {
+        return freezeFrameLayouts;
+    }
+}
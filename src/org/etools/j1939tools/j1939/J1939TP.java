@@ -9,8 +9,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -22,6 +20,7 @@ import org.etools.j1939tools.bus.BusException;
 import org.etools.j1939tools.bus.EchoBus;
 import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.bus.Packet.PacketException;
+import org.etools.j1939tools.utils.ExecutorFactory;
 
 public class J1939TP implements Bus {
 
@@ -65,12 +64,7 @@ public class J1939TP implements Bus {
      * Support up to 255 concurrent TP sessions plus main kickoff thread, but we
      * only expect there to normally be 5, so shut down idle threads after 1 s.
      */
-    private final ExecutorService exec = new ThreadPoolExecutor(5 + 1,
-                                                                255 + 1,
-                                                                1L,
-                                                                TimeUnit.SECONDS,
-                                                                new LinkedBlockingQueue<>(),
-                                                                r -> new Thread(r, "J1939TP"));
+    private final ExecutorService exec = ExecutorFactory.newTaskExecutor("J1939TP", 5 + 1, 255 + 1);
     /** Application side bus. */
     private final EchoBus inbound;
 
@@ -225,8 +219,10 @@ public class J1939TP implements Bus {
                         return;
                 }
                 // everything else, pass through
-                if (!passAll)
+                if (!passAll) {
+                    J1939.decodeEagerly(packet);
                     inbound.send(packet);
+                }
             }
         } catch (Throwable t) {
             error("Failed to process packet:" + packet, t);
@@ -250,42 +246,41 @@ public class J1939TP implements Bus {
         packet.setFragments(new ArrayList<>());
         packet.getFragments().add(bam);
         packet.setTimestamp(bam.getTimestamp());
-        synchronized (packet) {
-            inbound.send(packet);
-
-            bus.resetTimeout(stream, T2, TimeUnit.MILLISECONDS);
-            if (stream
-                      .filter(p -> {
-                          int id = p.getId(0xFFFF);
-                          return p.getSource() == source && (id == dataId || id == controlId);
-                      })
-                      .peek(p -> bus.resetTimeout(stream, T1, TimeUnit.MILLISECONDS))
-                      .map(p -> {
-                          if (p.getId(0xFFFF) == controlId) {
-                              packet.fail();
-                              warn("BAM canceled or aborted: " + bam + " -> " + p);
-                              return true;
-                          }
-                          fine("rx DT", p);
-                          packet.getFragments().add(p);
-                          received.set(p.get(0));
-                          int offset = (p.get(0) - 1) * 7;
-                          System.arraycopy(p.getBytes(), 1, data, offset, Math.min(offset + 7, data.length) - offset);
-                          packet.setTimestamp(p.getTimestamp());
-                          return received.cardinality() == numberOfPackets;
-                      })
-                      .filter(b -> b)
-                      .findFirst()
-                      .orElse(false)
-                    && received.cardinality() == numberOfPackets) {
-                packet.setData(data);
-            } else {
-                warn("BAM missing DT %d != %d %s",
-                     received.cardinality(),
-                     numberOfPackets,
-                     packet.getFragments());
-                packet.fail();
-            }
+        inbound.send(packet);
+
+        bus.resetTimeout(stream, T2, TimeUnit.MILLISECONDS);
+        if (stream
+                  .filter(p -> {
+                      int id = p.getId(0xFFFF);
+                      return p.getSource() == source && (id == dataId || id == controlId);
+                  })
+                  .peek(p -> bus.resetTimeout(stream, T1, TimeUnit.MILLISECONDS))
+                  .map(p -> {
+                      if (p.getId(0xFFFF) == controlId) {
+                          packet.fail();
+                          warn("BAM canceled or aborted: " + bam + " -> " + p);
+                          return true;
+                      }
+                      fine("rx DT", p);
+                      packet.getFragments().add(p);
+                      received.set(p.get(0));
+                      int offset = (p.get(0) - 1) * 7;
+                      System.arraycopy(p.getBytes(), 1, data, offset, Math.min(offset + 7, data.length) - offset);
+                      packet.setTimestamp(p.getTimestamp());
+                      return received.cardinality() == numberOfPackets;
+                  })
+                  .filter(b -> b)
+                  .findFirst()
+                  .orElse(false)
+                && received.cardinality() == numberOfPackets) {
+            packet.setData(data);
+            J1939.decodeEagerly(packet);
+        } else {
+            warn("BAM missing DT %d != %d %s",
+                 received.cardinality(),
+                 numberOfPackets,
+                 packet.getFragments());
+            packet.fail();
         }
     }
 
@@ -310,89 +305,88 @@ public class J1939TP implements Bus {
         Packet packet = createEmptyPacket(id, source);
         packet.setFragments(new ArrayList<>());
         packet.getFragments().add(rts);
-        synchronized (packet) {
-            inbound.send(packet);
-            while ((cardinality = received.cardinality()) < numberOfPackets) {
-                if (cardinality == lastCardinality) {
-                    if (receivedNone++ > 3) {
-                        packet.fail();
-                        throw new BusException("Failed to receive DT");
-                    }
-                } else {
-                    lastCardinality = cardinality;
-                    receivedNone = 0;
-                }
-                int nextPacket = received.nextClearBit(1);
-                int packetCount = received.nextSetBit(nextPacket) - nextPacket;
-                if (packetCount < 0) {
-                    packetCount = numberOfPackets - nextPacket + 1;
-                }
-                if (packetCount > maxResponsePackets) {
-                    packetCount = maxResponsePackets;
-                }
-                try (Stream<Packet> dataStream = bus.read(T2, TimeUnit.MILLISECONDS);) {
-                    Stream<Packet> stream = dataStream
-                                                      .filter(p -> p.getSource() == source)
-                                                      .peek(p -> {
-                                                          if (p.getId(0xFFFF) == (CM | rts.getId(0xFF))) {
-                                                              if (p.get(0) == CM_ConnAbort) {
-                                                                  warn(getAbortError(p.get(1)), p);
-                                                              }
-                                                              warn("TP canceled", p);
-                                                              packet.fail();
-                                                              throw new PacketException("TP canceled");
-                                                          }
-                                                      })
-                                                      // only consider DT packet that are part of this
-                                                      // connection
-                                                      .filter(p -> p.getId(0xFFFF) == (DT | rts.getId(0xFF)))
-                                                      // After every TP.DT, reset timeout to T1 from now.
-                                                      .peek(p -> bus.resetTimeout(dataStream,
-                                                                                  T1,
-                                                                                  TimeUnit.MILLISECONDS))
-                                                      .limit(packetCount);
-                    Packet cts = createPacket(CM | source,
-                                              getAddress(),
-                                              CM_CTS,
-                                              packetCount,
-                                              nextPacket,
-                                              0xFF,
-                                              0xFF,
-                                              rts.get(5),
-                                              rts.get(6),
-                                              rts.get(7));
-                    fine("tx CTS", cts);
-                    packet.getFragments().add(bus.send(cts));
-                    stream.forEach(p -> {
-                        packet.getFragments().add(p);
-                        fine("rx DT", rts);
-                        received.set(p.get(0));
-                        packet.setTimestamp(p.getTimestamp());
-                        int offset = (p.get(0) - 1) * 7;
-                        System.arraycopy(p.getBytes(), 1, data, offset, Math.min(offset + 7, data.length) - offset);
-                    });
-                } catch (PacketException e) {
-                    // TP failed.
+        inbound.send(packet);
+        while ((cardinality = received.cardinality()) < numberOfPackets) {
+            if (cardinality == lastCardinality) {
+                if (receivedNone++ > 3) {
                     packet.fail();
-                    return;
+                    throw new BusException("Failed to receive DT");
                 }
+            } else {
+                lastCardinality = cardinality;
+                receivedNone = 0;
+            }
+            int nextPacket = received.nextClearBit(1);
+            int packetCount = received.nextSetBit(nextPacket) - nextPacket;
+            if (packetCount < 0) {
+                packetCount = numberOfPackets - nextPacket + 1;
+            }
+            if (packetCount > maxResponsePackets) {
+                packetCount = maxResponsePackets;
+            }
+            try (Stream<Packet> dataStream = bus.read(T2, TimeUnit.MILLISECONDS);) {
+                Stream<Packet> stream = dataStream
+                                                  .filter(p -> p.getSource() == source)
+                                                  .peek(p -> {
+                                                      if (p.getId(0xFFFF) == (CM | rts.getId(0xFF))) {
+                                                          if (p.get(0) == CM_ConnAbort) {
+                                                              warn(getAbortError(p.get(1)), p);
+                                                          }
+                                                          warn("TP canceled", p);
+                                                          packet.fail();
+                                                          throw new PacketException("TP canceled");
+                                                      }
+                                                  })
+                                                  // only consider DT packet that are part of this
+                                                  // connection
+                                                  .filter(p -> p.getId(0xFFFF) == (DT | rts.getId(0xFF)))
+                                                  // After every TP.DT, reset timeout to T1 from now.
+                                                  .peek(p -> bus.resetTimeout(dataStream,
+                                                                              T1,
+                                                                              TimeUnit.MILLISECONDS))
+                                                  .limit(packetCount);
+                Packet cts = createPacket(CM | source,
+                                          getAddress(),
+                                          CM_CTS,
+                                          packetCount,
+                                          nextPacket,
+                                          0xFF,
+                                          0xFF,
+                                          rts.get(5),
+                                          rts.get(6),
+                                          rts.get(7));
+                fine("tx CTS", cts);
+                packet.getFragments().add(bus.send(cts));
+                stream.forEach(p -> {
+                    packet.getFragments().add(p);
+                    fine("rx DT", rts);
+                    received.set(p.get(0));
+                    packet.setTimestamp(p.getTimestamp());
+                    int offset = (p.get(0) - 1) * 7;
+                    System.arraycopy(p.getBytes(), 1, data, offset, Math.min(offset + 7, data.length) - offset);
+                });
+            } catch (PacketException e) {
+                // TP failed.
+                packet.fail();
+                return;
             }
-            Packet eom = createPacket(CM | source,
-                                      getAddress(),
-                                      CM_EndOfMessageACK,
-                                      rts.get(1),
-                                      rts.get(2),
-                                      rts.get(3),
-                                      0xFF,
-                                      rts.get(5),
-                                      rts.get(6),
-                                      rts.get(7));
-            fine("tx EOM", eom);
-            packet.getFragments().add(bus.send(eom));
-
-            // signal done collecting packet data
-            packet.setData(data);
         }
+        Packet eom = createPacket(CM | source,
+                                  getAddress(),
+                                  CM_EndOfMessageACK,
+                                  rts.get(1),
+                                  rts.get(2),
+                                  rts.get(3),
+                                  0xFF,
+                                  rts.get(5),
+                                  rts.get(6),
+                                  rts.get(7));
+        fine("tx EOM", eom);
+        packet.getFragments().add(bus.send(eom));
+
+        // signal done collecting packet data
+        packet.setData(data);
+        J1939.decodeEagerly(packet);
     }
 
     private Packet sendBam(Packet packet) throws BusException {
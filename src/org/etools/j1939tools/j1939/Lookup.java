@@ -6,8 +6,7 @@ package org.etools.j1939tools.j1939;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.logging.Level;
 
 import org.etools.j1939_84.J1939_84;
@@ -23,20 +22,23 @@ import com.opencsv.CSVReader;
  */
 public class Lookup {
 
+    private static final String UNKNOWN = "Unknown";
+
     /**
-     * The Map that holds the values for the Source Addresses
+     * The names of the Source Addresses formatted with the address, as
+     * returned by {@link #getAddressName(int)}
      */
-    private static final Map<Integer, String> addresses = loadMap("addresses.csv");
+    private static final String[] addressNames = formatAddressNames(loadNames("addresses.csv", 256));
 
     /**
-     * The Map that holds the values for the Failure Mode Indicators
+     * The descriptions of the Failure Mode Indicators
      */
-    private static final Map<Integer, String> fmis = loadMap("fmis.csv");
+    private static final String[] fmis = loadNames("fmis.csv", 32);
 
     /**
-     * The Map that holds the values for the Manufacturers
+     * The names of the Manufacturers, by their 11 bit code
      */
-    private static final Map<Integer, String> manufacturers = loadMap("manufacturers.csv");
+    private static final String[] manufacturers = loadNames("manufacturers.csv", 2048);
 
     /**
      * Not used. Use as a static
@@ -46,18 +48,17 @@ public class Lookup {
     }
 
     /**
-     * Helper method to find a value in the given map
+     * Helper method to find a value in the given table
      *
-     * @param  map
-     *                 the map that contains the values
+     * @param  names
+     *                   the table that contains the values
      * @param  key
-     *                 the key to find in the map
-     * @return     the value from the map or "Unknown" if the key does not have a
-     *             value in the map
+     *                   the key to find in the table
+     * @return       the value from the table or "Unknown" if the key is outside
+     *               the table
      */
-    private static String find(Map<Integer, String> map, int key) {
-        String name = map != null ? map.get(key) : null;
-        return name != null ? name : "Unknown";
+    private static String find(String[] names, int key) {
+        return key >= 0 && key < names.length ? names[key] : UNKNOWN;
     }
 
     /**
@@ -68,7 +69,10 @@ public class Lookup {
      * @return               The name as defined by SAE or "Unknown" if it's not defined
      */
     public static String getAddressName(int sourceAddress) {
-        return find(addresses, sourceAddress) + " (" + sourceAddress + ")";
+        if (sourceAddress >= 0 && sourceAddress < addressNames.length) {
+            return addressNames[sourceAddress];
+        }
+        return UNKNOWN + " (" + sourceAddress + ")";
     }
 
     /**
@@ -104,31 +108,46 @@ public class Lookup {
      * @return     The name as defined by SAE or "Unknown" if it's not defined
      */
     public static String getSpnName(int spn) {
-        return J1939DaRepository.getInstance().findSpnDefinition(spn).getLabel();
+        return J1939DaRepository.getInstance().getSpnLabel(spn);
     }
 
     /**
-     * Reads the given file and returns a map populated the values. It's assumed
-     * the file is a Comma Separated Values file with the first column being an
-     * integer (key) and the second column being the String (value)
+     * Reads the given file and returns a table of the values indexed by key.
+     * It's assumed the file is a Comma Separated Values file with the first
+     * column being an integer (key) and the second column being the String
+     * (value)
      *
      * @param  fileName
      *                      the name of the file to read
-     * @return          a Map of Integers to Strings
+     * @param  size
+     *                      the number of possible keys
+     * @return          the values, with "Unknown" for the keys not in the file
      */
-    private static Map<Integer, String> loadMap(String fileName) {
-        Map<Integer, String> map = new HashMap<>();
+    private static String[] loadNames(String fileName, int size) {
+        String[] names = new String[size];
+        Arrays.fill(names, UNKNOWN);
         String[] values;
 
         InputStream is = J1939ToolsResources.class.getResourceAsStream(fileName);
         InputStreamReader isReader = new InputStreamReader(is, StandardCharsets.ISO_8859_1);
         try (CSVReader reader = new CSVReader(isReader)) {
             while ((values = reader.readNext()) != null) {
-                map.put(Integer.valueOf(values[0]), values[1]);
+                int key = Integer.parseInt(values[0]);
+                if (key >= 0 && key < size) {
+                    names[key] = values[1];
+                }
             }
         } catch (Exception e) {
             J1939_84.getLogger().log(Level.SEVERE, "Error loading map from " + fileName, e);
         }
-        return map;
+        return names;
+    }
+
+    private static String[] formatAddressNames(String[] names) {
+        String[] result = new String[names.length];
+        for (int address = 0; address < names.length; address++) {
+            result[address] = names[address] + " (" + address + ")";
+        }
+        return result;
     }
 }
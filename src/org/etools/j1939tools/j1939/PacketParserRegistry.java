@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
+import org.etools.j1939tools.j1939.packets.AddressClaimPacket;
+import org.etools.j1939tools.j1939.packets.ComponentIdentificationPacket;
+import org.etools.j1939tools.j1939.packets.DM11ClearActiveDTCsPacket;
+import org.etools.j1939tools.j1939.packets.DM12MILOnEmissionDTCPacket;
+import org.etools.j1939tools.j1939.packets.DM19CalibrationInformationPacket;
+import org.etools.j1939tools.j1939.packets.DM1ActiveDTCsPacket;
+import org.etools.j1939tools.j1939.packets.DM20MonitorPerformanceRatioPacket;
+import org.etools.j1939tools.j1939.packets.DM21DiagnosticReadinessPacket;
+import org.etools.j1939tools.j1939.packets.DM22IndividualClearPacket;
+import org.etools.j1939tools.j1939.packets.DM23PreviouslyMILOnEmissionDTCPacket;
+import org.etools.j1939tools.j1939.packets.DM24SPNSupportPacket;
+import org.etools.j1939tools.j1939.packets.DM25ExpandedFreezeFrame;
+import org.etools.j1939tools.j1939.packets.DM26TripDiagnosticReadinessPacket;
+import org.etools.j1939tools.j1939.packets.DM27AllPendingDTCsPacket;
+import org.etools.j1939tools.j1939.packets.DM28PermanentEmissionDTCPacket;
+import org.etools.j1939tools.j1939.packets.DM29DtcCounts;
+import org.etools.j1939tools.j1939.packets.DM2PreviouslyActiveDTC;
+import org.etools.j1939tools.j1939.packets.DM30ScaledTestResultsPacket;
+import org.etools.j1939tools.j1939.packets.DM31DtcToLampAssociation;
+import org.etools.j1939tools.j1939.packets.DM33EmissionIncreasingAECDActiveTime;
+import org.etools.j1939tools.j1939.packets.DM34NTEStatus;
+import org.etools.j1939tools.j1939.packets.DM3DiagnosticDataClearPacket;
+import org.etools.j1939tools.j1939.packets.DM56EngineFamilyPacket;
+import org.etools.j1939tools.j1939.packets.DM58RationalityFaultSpData;
+import org.etools.j1939tools.j1939.packets.DM5DiagnosticReadinessPacket;
+import org.etools.j1939tools.j1939.packets.DM6PendingEmissionDTCPacket;
+import org.etools.j1939tools.j1939.packets.DM7CommandTestsPacket;
+import org.etools.j1939tools.j1939.packets.EngineHoursPacket;
+import org.etools.j1939tools.j1939.packets.EngineSpeedPacket;
+import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.etools.j1939tools.j1939.packets.GhgActiveTechnologyPacket;
+import org.etools.j1939tools.j1939.packets.GhgLifetimeActiveTechnologyPacket;
+import org.etools.j1939tools.j1939.packets.HighResVehicleDistancePacket;
+import org.etools.j1939tools.j1939.packets.ParsedPacket;
+import org.etools.j1939tools.j1939.packets.TotalVehicleDistancePacket;
+import org.etools.j1939tools.j1939.packets.VehicleIdentificationPacket;
+import org.etools.j1939tools.modules.GhgTrackingModule;
+
+/**
+ * Maps PGNs to the factory that decodes a {@link Packet} into the matching
+ * {@link ParsedPacket}. The SAE defined DMs are registered when the registry
+ * is created; OEM proprietary PGNs may be registered at runtime. Anything not
+ * registered is decoded as a {@link GenericPacket}.
+ *
+ * The PGN of a {@link ParsedPacket} class is read from its static PGN field
+ * once and then cached, so the reflection isn't repeated on every request.
+ */
+public class PacketParserRegistry {
+
+    /**
+     * The PGN of each class, read from its static PGN field the first time the
+     * class is used.
+     */
+    private static final ClassValue<Integer> classPgns = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> cls) {
+            try {
+                return cls.getField("PGN").getInt(null);
+            } catch (Exception e) {
+                return -1;
+            }
+        }
+    };
+
+    // created after classPgns, which the constructor uses
+    private static final PacketParserRegistry instance = new PacketParserRegistry();
+
+    public static PacketParserRegistry getInstance() {
+        return instance;
+    }
+
+    private final Map<Integer, Function<Packet, ? extends ParsedPacket>> parsers = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Class<? extends ParsedPacket>> classes = new ConcurrentHashMap<>();
+
+    private PacketParserRegistry() {
+        register(DM1ActiveDTCsPacket.class, DM1ActiveDTCsPacket::new);
+        register(DM2PreviouslyActiveDTC.class, DM2PreviouslyActiveDTC::new);
+        register(DM3DiagnosticDataClearPacket.class, DM3DiagnosticDataClearPacket::new);
+        register(DM5DiagnosticReadinessPacket.class, DM5DiagnosticReadinessPacket::new);
+        register(DM6PendingEmissionDTCPacket.class, DM6PendingEmissionDTCPacket::new);
+        register(DM7CommandTestsPacket.class, DM7CommandTestsPacket::new);
+        register(DM11ClearActiveDTCsPacket.class, DM11ClearActiveDTCsPacket::new);
+        register(DM12MILOnEmissionDTCPacket.class, DM12MILOnEmissionDTCPacket::new);
+        register(DM19CalibrationInformationPacket.class, DM19CalibrationInformationPacket::new);
+        register(DM20MonitorPerformanceRatioPacket.class, DM20MonitorPerformanceRatioPacket::new);
+        register(DM21DiagnosticReadinessPacket.class, DM21DiagnosticReadinessPacket::new);
+        register(DM22IndividualClearPacket.class, DM22IndividualClearPacket::new);
+        register(DM23PreviouslyMILOnEmissionDTCPacket.class, DM23PreviouslyMILOnEmissionDTCPacket::new);
+        register(DM24SPNSupportPacket.class, DM24SPNSupportPacket::new);
+        register(DM25ExpandedFreezeFrame.class, DM25ExpandedFreezeFrame::new);
+        register(DM26TripDiagnosticReadinessPacket.class, DM26TripDiagnosticReadinessPacket::new);
+        register(DM27AllPendingDTCsPacket.class, DM27AllPendingDTCsPacket::new);
+        register(DM28PermanentEmissionDTCPacket.class, DM28PermanentEmissionDTCPacket::new);
+        register(DM29DtcCounts.class, DM29DtcCounts::new);
+        register(DM30ScaledTestResultsPacket.class, DM30ScaledTestResultsPacket::new);
+        register(DM31DtcToLampAssociation.class, DM31DtcToLampAssociation::new);
+        register(DM33EmissionIncreasingAECDActiveTime.class, DM33EmissionIncreasingAECDActiveTime::new);
+        register(DM34NTEStatus.class, DM34NTEStatus::new);
+        register(DM56EngineFamilyPacket.class, DM56EngineFamilyPacket::new);
+        register(DM58RationalityFaultSpData.class, DM58RationalityFaultSpData::new);
+        register(AcknowledgmentPacket.class, AcknowledgmentPacket::new);
+        register(AddressClaimPacket.class, AddressClaimPacket::new);
+        register(ComponentIdentificationPacket.class, ComponentIdentificationPacket::new);
+        register(EngineSpeedPacket.class, EngineSpeedPacket::new);
+        register(EngineHoursPacket.class, EngineHoursPacket::new);
+        register(HighResVehicleDistancePacket.class, HighResVehicleDistancePacket::new);
+        register(TotalVehicleDistancePacket.class, TotalVehicleDistancePacket::new);
+        register(VehicleIdentificationPacket.class, VehicleIdentificationPacket::new);
+
+        // GHG packets share a class across several PGNs
+        register(GhgTrackingModule.GHG_STORED_GREEN_HOUSE_100_HR, GhgActiveTechnologyPacket::new);
+        register(GhgTrackingModule.GHG_ACTIVE_GREEN_HOUSE_100_HR, GhgActiveTechnologyPacket::new);
+        register(GhgTrackingModule.GHG_TRACKING_LIFETIME_GREEN_HOUSE_PG, GhgLifetimeActiveTechnologyPacket::new);
+    }
+
+    /**
+     * Returns the PGN declared by the given class in its static PGN field
+     *
+     * @param  cls the class of interest
+     * @return     the PGN or -1 if the class doesn't declare one
+     */
+    public static int getPgn(Class<?> cls) {
+        return classPgns.get(cls);
+    }
+
+    /**
+     * Registers the parser for the PGN declared by the given class
+     *
+     * @param cls    the class of the {@link ParsedPacket} with a static PGN field
+     * @param parser the factory that wraps the {@link Packet}
+     */
+    public <T extends ParsedPacket> void register(Class<T> cls, Function<Packet, T> parser) {
+        int pgn = getPgn(cls);
+        if (pgn < 0) {
+            throw new IllegalArgumentException(cls.getSimpleName() + " does not declare a PGN");
+        }
+        register(pgn, parser);
+        classes.put(pgn, cls);
+    }
+
+    /**
+     * Registers the parser for the given PGN, replacing any existing parser
+     *
+     * @param pgn    the PGN the parser decodes
+     * @param parser the factory that wraps the {@link Packet}
+     */
+    public void register(int pgn, Function<Packet, ? extends ParsedPacket> parser) {
+        parsers.put(pgn, parser);
+    }
+
+    /**
+     * Returns true if a parser, other than the {@link GenericPacket}, has been
+     * registered for the PGN
+     */
+    public boolean isRegistered(int pgn) {
+        return parsers.containsKey(pgn);
+    }
+
+    /**
+     * Returns the class registered for the PGN
+     *
+     * @param  pgn the PGN of interest
+     * @return     the {@link ParsedPacket} class or {@link GenericPacket} if there
+     *             isn't a class registered for the PGN
+     */
+    public Class<? extends ParsedPacket> getPacketClass(int pgn) {
+        return classes.getOrDefault(pgn, GenericPacket.class);
+    }
+
+    /**
+     * Decodes the {@link Packet} with the parser registered for the given PGN
+     *
+     * @param  pgn    the PGN used to select the parser
+     * @param  packet the {@link Packet} to decode
+     * @return        a subclass of {@link ParsedPacket}
+     */
+    public ParsedPacket parse(int pgn, Packet packet) {
+        Function<Packet, ? extends ParsedPacket> parser = parsers.get(pgn);
+        return parser == null ? new GenericPacket(packet) : parser.apply(packet);
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.etools.j1939tools.j1939.packets.PgnDecoder;
+import org.etools.j1939tools.j1939.packets.Slot;
+import org.etools.j1939tools.utils.IntObjectMap;
+
+/**
+ * The values of the SPNs received from each module, stored by column.
+ *
+ * Each (source address, SPN) has a {@link Column} of the packet timestamps and
+ * raw values with bitsets marking the samples that were NOT_AVAILABLE or
+ * ERROR. Each (source address, PGN) has the arrival times of its packets, as
+ * {@link PgnSamples}. The columns are filled as the packets are received, so
+ * the checks made on broadcast data scan primitive arrays instead of walking
+ * the {@link Spn}s of every packet again.
+ */
+public class SpnTimeSeries {
+
+    /**
+     * The samples of one SPN from one module, in the order received
+     */
+    public static class Column {
+        private final int sourceAddress;
+        private final int spn;
+        private final Slot slot;
+        private long[] timestamps = new long[8];
+        private long[] rawValues = new long[8];
+        private final BitSet notAvailable = new BitSet();
+        private final BitSet error = new BitSet();
+        private int size;
+
+        private Column(int sourceAddress, int spn, Slot slot) {
+            this.sourceAddress = sourceAddress;
+            this.spn = spn;
+            this.slot = slot;
+        }
+
+        private void add(long timestamp, long rawValue, boolean isNotAvailable, boolean isError) {
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                rawValues = Arrays.copyOf(rawValues, size * 2);
+            }
+            timestamps[size] = timestamp;
+            rawValues[size] = rawValue;
+            notAvailable.set(size, isNotAvailable);
+            error.set(size, isError);
+            size++;
+        }
+
+        public int getSourceAddress() {
+            return sourceAddress;
+        }
+
+        public int getSpn() {
+            return spn;
+        }
+
+        public Slot getSlot() {
+            return slot;
+        }
+
+        /**
+         * Returns the number of samples
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the time the sample was received in nanoseconds since the
+         * epoch
+         */
+        public long getTimestamp(int index) {
+            return timestamps[index];
+        }
+
+        public long getRawValue(int index) {
+            return rawValues[index];
+        }
+
+        /**
+         * Returns the scaled value of the sample or null, as
+         * {@link Spn#getValue()}
+         */
+        public Double getValue(int index) {
+            return slot.asValue(rawValues[index]);
+        }
+
+        public boolean isNotAvailable(int index) {
+            return notAvailable.get(index);
+        }
+
+        public boolean isError(int index) {
+            return error.get(index);
+        }
+
+        /**
+         * Returns true if any sample was NOT_AVAILABLE
+         */
+        public boolean hasNotAvailable() {
+            return !notAvailable.isEmpty();
+        }
+
+        /**
+         * Returns true if any sample wasn't NOT_AVAILABLE
+         */
+        public boolean hasAvailable() {
+            return notAvailable.cardinality() < size;
+        }
+
+        public int getErrorCount() {
+            return error.cardinality();
+        }
+    }
+
+    /**
+     * The arrival times of the packets of one PGN from one module, in the
+     * order received
+     */
+    public static class PgnSamples {
+        /**
+         * The number of packets kept to be reported
+         */
+        public static final int FIRST_PACKETS = 3;
+
+        private final int sourceAddress;
+        private final int pgn;
+        private final List<GenericPacket> firstPackets = new ArrayList<>(FIRST_PACKETS);
+        private long[] timestamps = new long[8];
+        private int size;
+
+        private PgnSamples(int sourceAddress, int pgn) {
+            this.sourceAddress = sourceAddress;
+            this.pgn = pgn;
+        }
+
+        private void add(GenericPacket packet, long timestamp) {
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+            }
+            timestamps[size++] = timestamp;
+            if (firstPackets.size() < FIRST_PACKETS) {
+                firstPackets.add(packet);
+            }
+        }
+
+        public int getSourceAddress() {
+            return sourceAddress;
+        }
+
+        public int getPgn() {
+            return pgn;
+        }
+
+        /**
+         * Returns the number of packets received
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the time the packet was received in nanoseconds since the
+         * epoch
+         */
+        public long getTimestamp(int index) {
+            return timestamps[index];
+        }
+
+        /**
+         * Returns the first {@value #FIRST_PACKETS} packets received
+         */
+        public List<GenericPacket> getFirstPackets() {
+            return Collections.unmodifiableList(firstPackets);
+        }
+    }
+
+    // source address to SPN to column
+    private final IntObjectMap<IntObjectMap<Column>> columns = new IntObjectMap<>();
+
+    // PGN to source address to samples
+    private final IntObjectMap<IntObjectMap<PgnSamples>> pgnSamples = new IntObjectMap<>();
+
+    /**
+     * Returns the store filled with the given packets
+     */
+    public static SpnTimeSeries of(Collection<? extends GenericPacket> packets) {
+        SpnTimeSeries result = new SpnTimeSeries();
+        packets.forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Returns the store filled with the given packets, decoding the packets of
+     * each PGN together as a {@link PgnDecoder.Batch} instead of one at a time.
+     * The columns are the same as those {@link #of(Collection)} fills; this is
+     * for packets that were collected without being decoded. A packet without
+     * a {@link Packet} is added on its own, as {@link #add(GenericPacket)}
+     * does.
+     */
+    public static SpnTimeSeries decode(List<? extends GenericPacket> packets) {
+        J1939DaRepository repository = J1939DaRepository.getInstance();
+
+        // the packets of each PGN and the position of each packet in its batch
+        IntObjectMap<List<Packet>> pgnPackets = new IntObjectMap<>();
+        int[] positions = new int[packets.size()];
+        for (int k = 0; k < packets.size(); k++) {
+            if (packets.get(k).getPacket() == null) {
+                continue;
+            }
+            int pgn = packets.get(k).getPacket().getPgn();
+            List<Packet> list = pgnPackets.get(pgn);
+            if (list == null) {
+                list = new ArrayList<>();
+                pgnPackets.put(pgn, list);
+            }
+            positions[k] = list.size();
+            list.add(packets.get(k).getPacket());
+        }
+
+        IntObjectMap<PgnDecoder.Batch> batches = new IntObjectMap<>(pgnPackets.size());
+        for (GenericPacket packet : packets) {
+            if (packet.getPacket() == null) {
+                continue;
+            }
+            int pgn = packet.getPacket().getPgn();
+            if (!batches.containsKey(pgn)) {
+                PgnDecoder decoder = repository.getPgnDecoder(packet.getPgnDefinition());
+                batches.put(pgn, decoder.decode(pgnPackets.get(pgn)));
+            }
+        }
+
+        // the columns are filled in the order the packets were received
+        SpnTimeSeries result = new SpnTimeSeries();
+        for (int k = 0; k < packets.size(); k++) {
+            GenericPacket packet = packets.get(k);
+            if (packet.getPacket() == null) {
+                result.add(packet);
+            } else {
+                result.add(packet, batches.get(packet.getPacket().getPgn()), positions[k]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the SPNs of the packet to the columns of its source address
+     */
+    public synchronized void add(GenericPacket packet) {
+        long timestamp = toNanos(packet.getPacket());
+        addSample(packet, timestamp);
+
+        IntObjectMap<Column> sourceColumns = getSourceColumns(packet.getSourceAddress());
+        for (Spn spn : packet.getSpns()) {
+            Column column = getColumn(sourceColumns, packet.getSourceAddress(), spn.getId(), spn.getSlot());
+            column.add(timestamp, spn.getRawValue(), spn.isNotAvailable(), spn.isError());
+        }
+    }
+
+    private synchronized void add(GenericPacket packet, PgnDecoder.Batch batch, int position) {
+        long timestamp = toNanos(packet.getPacket());
+        addSample(packet, timestamp);
+
+        IntObjectMap<Column> sourceColumns = getSourceColumns(packet.getSourceAddress());
+        PgnDecoder decoder = batch.getDecoder();
+        for (int i = 0; i < decoder.size(); i++) {
+            Column column = getColumn(sourceColumns, packet.getSourceAddress(), decoder.getSpnId(i), decoder.getSlot(i));
+            column.add(timestamp,
+                       batch.getRawValues(i)[position],
+                       batch.isNotAvailable(i, position),
+                       batch.isError(i, position));
+        }
+    }
+
+    private IntObjectMap<Column> getSourceColumns(int sourceAddress) {
+        IntObjectMap<Column> sourceColumns = columns.get(sourceAddress);
+        if (sourceColumns == null) {
+            sourceColumns = new IntObjectMap<>();
+            columns.put(sourceAddress, sourceColumns);
+        }
+        return sourceColumns;
+    }
+
+    private static Column getColumn(IntObjectMap<Column> sourceColumns, int sourceAddress, int spn, Slot slot) {
+        Column column = sourceColumns.get(spn);
+        if (column == null) {
+            column = new Column(sourceAddress, spn, slot);
+            sourceColumns.put(spn, column);
+        }
+        return column;
+    }
+
+    private void addSample(GenericPacket packet, long timestamp) {
+        if (packet.getPacket() == null) {
+            return;
+        }
+        int pgn = packet.getPacket().getPgn();
+        IntObjectMap<PgnSamples> sourceSamples = pgnSamples.get(pgn);
+        if (sourceSamples == null) {
+            sourceSamples = new IntObjectMap<>();
+            pgnSamples.put(pgn, sourceSamples);
+        }
+        PgnSamples samples = sourceSamples.get(packet.getSourceAddress());
+        if (samples == null) {
+            samples = new PgnSamples(packet.getSourceAddress(), pgn);
+            sourceSamples.put(packet.getSourceAddress(), samples);
+        }
+        samples.add(packet, timestamp);
+    }
+
+    private static long toNanos(Packet packet) {
+        LocalDateTime timestamp = packet == null ? null : packet.getTimestamp();
+        if (timestamp == null) {
+            return 0;
+        }
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano();
+    }
+
+    /**
+     * Returns the source addresses of the modules that sent packets, in
+     * ascending order
+     */
+    public synchronized int[] getSourceAddresses() {
+        return columns.keys();
+    }
+
+    /**
+     * Returns the PGNs received, in ascending order
+     */
+    public synchronized int[] getPgns() {
+        return pgnSamples.keys();
+    }
+
+    /**
+     * Returns the samples of the PGN from each module that sent it, ordered by
+     * source address
+     */
+    public synchronized List<PgnSamples> getPgnSamples(int pgn) {
+        List<PgnSamples> result = new ArrayList<>();
+        IntObjectMap<PgnSamples> sourceSamples = pgnSamples.get(pgn);
+        if (sourceSamples != null) {
+            for (int sourceAddress : sourceSamples.keys()) {
+                result.add(sourceSamples.get(sourceAddress));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the column of the SPN from the module or null if the module
+     * didn't send the SPN
+     */
+    public synchronized Column getColumn(int sourceAddress, int spn) {
+        IntObjectMap<Column> sourceColumns = columns.get(sourceAddress);
+        return sourceColumns == null ? null : sourceColumns.get(spn);
+    }
+
+    /**
+     * Returns the columns of the module, ordered by SPN
+     */
+    public synchronized List<Column> getColumns(int sourceAddress) {
+        List<Column> result = new ArrayList<>();
+        IntObjectMap<Column> sourceColumns = columns.get(sourceAddress);
+        if (sourceColumns != null) {
+            for (int spn : sourceColumns.keys()) {
+                result.add(sourceColumns.get(spn));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the SPNs the module sent at least once with a value that wasn't
+     * NOT_AVAILABLE
+     */
+    public synchronized Set<Integer> getAvailableSpns(int sourceAddress) {
+        Set<Integer> result = new TreeSet<>();
+        for (Column column : getColumns(sourceAddress)) {
+            if (column.hasAvailable()) {
+                result.add(column.getSpn());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the SPNs any module sent as NOT_AVAILABLE
+     */
+    public synchronized Set<Integer> getNotAvailableSpns() {
+        Set<Integer> result = new TreeSet<>();
+        columns.forEach((sourceAddress, sourceColumns) -> sourceColumns.forEach((spn, column) -> {
+            if (column.hasNotAvailable()) {
+                result.add(spn);
+            }
+        }));
+        return result;
+    }
+
+    /**
+     * Returns the SPNs more than one module sent with a value that wasn't
+     * NOT_AVAILABLE
+     */
+    public synchronized Set<Integer> getDuplicateSpns() {
+        Set<Integer> seen = new TreeSet<>();
+        Set<Integer> result = new TreeSet<>();
+        columns.forEach((sourceAddress, sourceColumns) -> sourceColumns.forEach((spn, column) -> {
+            if (column.hasAvailable() && !seen.add(spn)) {
+                result.add(spn);
+            }
+        }));
+        return result;
+    }
+}
@@ -4,6 +4,7 @@
 package org.etools.j1939tools.j1939.packets;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.J1939;
 
 /**
@@ -27,19 +28,12 @@ public class AcknowledgmentPacket extends GenericPacket {
                                               int groupFunction,
                                               int addressAcknowledged,
                                               long pgnRequested) {
-        int[] data = new int[8];
-        data[0] = response.value;
-        data[1] = groupFunction;
-        data[2] = 0xFF;
-        data[3] = 0xFF;
-        data[4] = addressAcknowledged;
-
-        int[] pgnInts = to4Ints(pgnRequested);
-        data[5] = pgnInts[0];
-        data[6] = pgnInts[1];
-        data[7] = pgnInts[2];
-
-        Packet packet = Packet.create(PGN | J1939.GLOBAL_ADDR, sourceAddress, data);
+        Packet packet = new PacketBuilder(PGN | J1939.GLOBAL_ADDR, sourceAddress, 8).put8(response.value)
+                                                                                   .put8(groupFunction)
+                                                                                   .fill(2, 0xFF)
+                                                                                   .put8(addressAcknowledged)
+                                                                                   .put24((int) pgnRequested)
+                                                                                   .build();
         return new AcknowledgmentPacket(packet);
     }
 
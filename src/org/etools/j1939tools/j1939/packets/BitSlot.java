@@ -4,6 +4,7 @@
 
 package org.etools.j1939tools.j1939.packets;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -61,4 +62,11 @@ public class BitSlot extends Slot {
     public void addValue(int value, String meaning) {
         valuesMap.put(value, meaning);
     }
+
+    /**
+     * Returns the meaning of each value
+     */
+    public Map<Integer, String> getValues() {
+        return Collections.unmodifiableMap(valuesMap);
+    }
 }
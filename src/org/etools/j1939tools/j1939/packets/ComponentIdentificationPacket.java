@@ -8,6 +8,7 @@ import static org.etools.j1939_84.J1939_84.NL;
 import static org.etools.j1939tools.utils.StringUtils.stripLeadingAndTrailingNulls;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.model.ComponentIdentification;
 
 /**
@@ -56,9 +57,18 @@ public class ComponentIdentificationPacket extends GenericPacket {
                                                        String model,
                                                        String serialNumber,
                                                        String unitNumber) {
-
-        byte[] bytes = (make + "*" + model + "*" + serialNumber + "*" + unitNumber + "*").getBytes(UTF_8);
-        return new ComponentIdentificationPacket(Packet.create(PGN, sourceAddress, bytes));
+        byte[] makeBytes = make.getBytes(UTF_8);
+        byte[] modelBytes = model.getBytes(UTF_8);
+        byte[] serialNumberBytes = serialNumber.getBytes(UTF_8);
+        byte[] unitNumberBytes = unitNumber.getBytes(UTF_8);
+        // each field ends with a '*'
+        int length = makeBytes.length + modelBytes.length + serialNumberBytes.length + unitNumberBytes.length + 4;
+        PacketBuilder builder = new PacketBuilder(PGN, sourceAddress, length);
+        builder.put(makeBytes).put8('*');
+        builder.put(modelBytes).put8('*');
+        builder.put(serialNumberBytes).put8('*');
+        builder.put(unitNumberBytes).put8('*');
+        return new ComponentIdentificationPacket(builder.build());
     }
 
     public String getMake() {
@@ -8,10 +8,12 @@ import static org.etools.j1939_84.J1939_84.NL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.utils.CollectionUtils;
 
 /**
@@ -26,19 +28,15 @@ public class DM19CalibrationInformationPacket extends GenericPacket {
     public static DM19CalibrationInformationPacket create(int address,
                                                           int destination,
                                                           CalibrationInformation... calInfos) {
-        // DM19 are 20 bytes long
-        int totalBytes = 20;
-        byte[] data = new byte[0];
-
+        // each calibration is 20 bytes long
+        PacketBuilder builder = new PacketBuilder(PGN | destination, address, calInfos.length * 20);
         for (CalibrationInformation calInfo : calInfos) {
-            // Correctly pad message - Java pads/cuts to specified length
-            data = Arrays.copyOf(calInfo.getBytes(), totalBytes);
-
+            calInfo.writeTo(builder);
         }
-        return new DM19CalibrationInformationPacket(Packet.create(PGN | destination, address, data));
+        return new DM19CalibrationInformationPacket(builder.build());
     }
 
-    private List<CalibrationInformation> info;
+    private volatile List<CalibrationInformation> info;
 
     public DM19CalibrationInformationPacket(Packet packet) {
         super(packet);
@@ -50,10 +48,20 @@ public class DM19CalibrationInformationPacket extends GenericPacket {
      * @return List of {@link CalibrationInformation}
      */
     public List<CalibrationInformation> getCalibrationInformation() {
-        if (info == null || info.size() == 0) {
-            info = parseAllInformation();
+        List<CalibrationInformation> result = info;
+        if (result == null) {
+            result = parseAllInformation();
+            info = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        for (CalibrationInformation calibrationInformation : getCalibrationInformation()) {
+            calibrationInformation.getCalibrationIdentification();
+            calibrationInformation.getCalibrationVerificationNumber();
         }
-        return info;
     }
 
     @Override
@@ -101,32 +109,14 @@ public class DM19CalibrationInformationPacket extends GenericPacket {
      * @return a List of {@link CalibrationInformation}
      */
     private List<CalibrationInformation> parseAllInformation() {
-        List<CalibrationInformation> result = new ArrayList<>();
-        int length = getPacket().getLength();
-        for (int i = 0; i + 20 <= length; i = i + 20) {
-            CalibrationInformation info = parseInformation(i);
-            result.add(info);
-        }
-        return result;
-    }
-
-    /**
-     * Parses one calibration information from the packet
-     *
-     * @param  startingIndex
-     *                           the index of the data to start the parsing at
-     * @return               The parsed {@link CalibrationInformation}
-     */
-    private CalibrationInformation parseInformation(int startingIndex) {
-        String cvn = String.format("%08X", getPacket().get32(startingIndex) & 0xFFFFFFFFL);
+        // the payload is copied once and each entry takes its slices of it
         byte[] bytes = getPacket().getBytes();
-        byte[] cvnBytes = Arrays.copyOfRange(bytes, startingIndex, startingIndex + 4);
-        byte[] idBytes = Arrays.copyOfRange(bytes, startingIndex + 4, startingIndex + 20);
-        String calId = format(idBytes);
-        if (!cvn.isEmpty()) {
-            cvn = "0x" + cvn;
+        List<CalibrationInformation> result = new ArrayList<>(bytes.length / 20);
+        for (int i = 0; i + 20 <= bytes.length; i = i + 20) {
+            result.add(new CalibrationInformation(Arrays.copyOfRange(bytes, i + 4, i + 20),
+                                                  Arrays.copyOfRange(bytes, i, i + 4)));
         }
-        return new CalibrationInformation(calId, cvn, idBytes, cvnBytes);
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -138,8 +128,10 @@ public class DM19CalibrationInformationPacket extends GenericPacket {
      */
     public static class CalibrationInformation {
 
-        private final String calibrationIdentification;
-        private final String calibrationVerificationNumber;
+        // decoded from the raw values when first used, for those parsed from a
+        // packet
+        private volatile String calibrationIdentification;
+        private volatile String calibrationVerificationNumber;
         private final byte[] rawCalId;
         private final byte[] rawCvn;
 
@@ -169,12 +161,34 @@ public class DM19CalibrationInformationPacket extends GenericPacket {
             this.rawCvn = Arrays.copyOf(rawCvn, rawCvn.length);
         }
 
+        /**
+         * Creates the information parsed from a packet, which keeps the given
+         * arrays
+         */
+        private CalibrationInformation(byte[] rawCalId, byte[] rawCvn) {
+            this.rawCalId = rawCalId;
+            this.rawCvn = rawCvn;
+        }
+
         public String getCalibrationIdentification() {
-            return calibrationIdentification;
+            String result = calibrationIdentification;
+            if (result == null) {
+                result = format(rawCalId);
+                calibrationIdentification = result;
+            }
+            return result;
         }
 
         public String getCalibrationVerificationNumber() {
-            return calibrationVerificationNumber;
+            String result = calibrationVerificationNumber;
+            if (result == null) {
+                // the CVN is sent least significant byte first
+                long cvn = (rawCvn[0] & 0xFFL) | (rawCvn[1] & 0xFFL) << 8 | (rawCvn[2] & 0xFFL) << 16
+                        | (rawCvn[3] & 0xFFL) << 24;
+                result = String.format("0x%08X", cvn);
+                calibrationVerificationNumber = result;
+            }
+            return result;
         }
 
         public byte[] getRawCalId() {
@@ -185,6 +199,18 @@ public class DM19CalibrationInformationPacket extends GenericPacket {
             return Arrays.copyOf(rawCvn, rawCvn.length);
         }
 
+        /**
+         * Writes the 20 bytes of the calibration to the builder: the CVN then
+         * the Calibration ID, cut or padded with zeros to fit
+         */
+        void writeTo(PacketBuilder builder) {
+            int cvnLength = Math.min(rawCvn.length, 20);
+            int calIdLength = Math.min(rawCalId.length, 20 - cvnLength);
+            builder.put(rawCvn, 0, cvnLength)
+                   .put(rawCalId, 0, calIdLength)
+                   .fill(20 - cvnLength - calIdLength, 0);
+        }
+
         public byte[] getBytes() {
             return CollectionUtils.join(Arrays.copyOf(rawCvn, rawCvn.length), Arrays.copyOf(rawCalId, rawCalId.length));
         }
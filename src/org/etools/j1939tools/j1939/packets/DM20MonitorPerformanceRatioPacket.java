@@ -4,16 +4,16 @@
 package org.etools.j1939tools.j1939.packets;
 
 import static org.etools.j1939_84.J1939_84.NL;
-import static org.etools.j1939tools.utils.CollectionUtils.join;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.utils.NumberFormatter;
 
-
 /**
  * The Parsed DM20 {@link Packet}
  *
@@ -22,7 +22,7 @@ import org.etools.j1939tools.utils.NumberFormatter;
 public class DM20MonitorPerformanceRatioPacket extends GenericPacket {
 
     public static final int PGN = 49664; // 0xC200
-    private List<PerformanceRatio> ratios;
+    private volatile List<PerformanceRatio> ratios;
 
     public DM20MonitorPerformanceRatioPacket(Packet packet) {
         super(packet);
@@ -33,13 +33,12 @@ public class DM20MonitorPerformanceRatioPacket extends GenericPacket {
                                                            int ignitionCycles,
                                                            int obdConditions,
                                                            PerformanceRatio... ratios) {
-        int[] data = new int[0];
-        data = join(data, to2Ints(ignitionCycles));
-        data = join(data, to2Ints(obdConditions));
+        PacketBuilder builder = new PacketBuilder(PGN | destination, sourceAddress, 4 + ratios.length * 7);
+        builder.put16(ignitionCycles).put16(obdConditions);
         for (PerformanceRatio ratio : ratios) {
-            data = join(data, ratio.getData());
+            ratio.writeTo(builder);
         }
-        return new DM20MonitorPerformanceRatioPacket(Packet.create(PGN | destination, sourceAddress, data));
+        return new DM20MonitorPerformanceRatioPacket(builder.build());
     }
 
     public static DM20MonitorPerformanceRatioPacket create(int sourceAddress,
@@ -130,10 +129,17 @@ public class DM20MonitorPerformanceRatioPacket extends GenericPacket {
      * @return {@link List}
      */
     public List<PerformanceRatio> getRatios() {
-        if (ratios == null) {
-            ratios = parsePacket();
+        List<PerformanceRatio> result = ratios;
+        if (result == null) {
+            result = parsePacket();
+            ratios = result;
         }
-        return ratios;
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        getRatios();
     }
 
     /**
@@ -168,7 +174,7 @@ public class DM20MonitorPerformanceRatioPacket extends GenericPacket {
         for (int i = 4; i + 6 < length; i = i + 7) {
             results.add(parseRatio(i));
         }
-        return results;
+        return Collections.unmodifiableList(results);
     }
 
     private PerformanceRatio parseRatio(int index) {
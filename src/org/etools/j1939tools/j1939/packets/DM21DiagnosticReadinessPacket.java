@@ -3,11 +3,10 @@
  */
 package org.etools.j1939tools.j1939.packets;
 
-
 import static org.etools.j1939_84.J1939_84.NL;
-import static org.etools.j1939tools.utils.CollectionUtils.join;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * Parses the DM21 Diagnostic Readiness Packet
@@ -28,11 +27,12 @@ public class DM21DiagnosticReadinessPacket extends GenericPacket {
                                                        int kmSinceCodeClear,
                                                        int minutesWithMIL,
                                                        int minutesSinceCodeClear) {
-        byte[] bytes = join(to2Bytes(kmWithMIL),
-                            to2Bytes(kmSinceCodeClear),
-                            to2Bytes(minutesWithMIL),
-                            to2Bytes(minutesSinceCodeClear));
-        return new DM21DiagnosticReadinessPacket(Packet.create(PGN | destination, source, bytes));
+        Packet packet = new PacketBuilder(PGN | destination, source, 8).put16(kmWithMIL)
+                                                                       .put16(kmSinceCodeClear)
+                                                                       .put16(minutesWithMIL)
+                                                                       .put16(minutesSinceCodeClear)
+                                                                       .build();
+        return new DM21DiagnosticReadinessPacket(packet);
     }
 
     private String getDistanceSinceDTCsClearedAsString() {
@@ -4,16 +4,16 @@
 package org.etools.j1939tools.j1939.packets;
 
 import static org.etools.j1939_84.J1939_84.NL;
-import static org.etools.j1939tools.utils.CollectionUtils.join;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.Lookup;
 
-
 /**
  * Parses the SPN Support (DM24) Packet
  *
@@ -22,31 +22,24 @@ import org.etools.j1939tools.j1939.Lookup;
 public class DM24SPNSupportPacket extends GenericPacket {
 
     public static final int PGN = 64950; // 0xFDB6
-    private List<SupportedSPN> spns;
-    private List<SupportedSPN> freezeFrameSPNs;
+    private volatile List<SupportedSPN> spns;
+    private volatile List<SupportedSPN> freezeFrameSPNs;
 
     public DM24SPNSupportPacket(Packet packet) {
         super(packet);
     }
 
     public static DM24SPNSupportPacket create(int source, SupportedSPN... spns) {
-
-        int[] data = new int[0];
-        for (SupportedSPN spn : spns) {
-            data = join(data, spn.getData());
-        }
-
-        return new DM24SPNSupportPacket(Packet.create(PGN, source, data));
+        return create(source, List.of(spns));
     }
 
     public static DM24SPNSupportPacket create(int source, List<SupportedSPN> spns) {
 
-        int[] data = new int[0];
+        PacketBuilder builder = new PacketBuilder(PGN, source, spns.size() * 4);
         for (SupportedSPN spn : spns) {
-            data = join(data, spn.getData());
+            spn.writeTo(builder);
         }
-
-        return new DM24SPNSupportPacket(Packet.create(PGN, source, data));
+        return new DM24SPNSupportPacket(builder.build());
     }
 
     @Override
@@ -123,26 +116,38 @@ public class DM24SPNSupportPacket extends GenericPacket {
      * @return {@link List}
      */
     public List<SupportedSPN> getSupportedSpns() {
-        if (spns == null) {
-            spns = new ArrayList<>();
-            parsePacket();
-            spns.sort(Comparator.comparingInt(SupportedSPN::getSpn));
+        // decoded packets are shared between threads, so only publish complete lists
+        List<SupportedSPN> result = spns;
+        if (result == null) {
+            result = parsePacket();
+            result.sort(Comparator.comparingInt(SupportedSPN::getSpn));
+            result = Collections.unmodifiableList(result);
+            spns = result;
         }
-        return spns;
+        return result;
     }
 
     public List<SupportedSPN> getFreezeFrameSPNsInOrder() {
-        if (freezeFrameSPNs == null) {
-            freezeFrameSPNs = new ArrayList<>();
+        List<SupportedSPN> result = freezeFrameSPNs;
+        if (result == null) {
+            result = new ArrayList<>();
             int length = getPacket().getLength();
             for (int i = 0; i + 3 < length; i = i + 4) {
                 SupportedSPN parsedSpn = parseSpn(i);
                 if (parsedSpn.getSpn() != 0 && parsedSpn.supportsExpandedFreezeFrame()) {
-                    freezeFrameSPNs.add(parsedSpn);
+                    result.add(parsedSpn);
                 }
             }
+            result = Collections.unmodifiableList(result);
+            freezeFrameSPNs = result;
         }
-        return freezeFrameSPNs;
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        getSupportedSpns();
+        getFreezeFrameSPNsInOrder();
     }
 
     public String printFreezeFrameSPNsInOrder() {
@@ -165,14 +170,16 @@ public class DM24SPNSupportPacket extends GenericPacket {
     /**
      * Parses the packet to populate all the {@link SupportedSPN}s
      */
-    private void parsePacket() {
+    private List<SupportedSPN> parsePacket() {
+        List<SupportedSPN> result = new ArrayList<>();
         int length = getPacket().getLength();
         for (int i = 0; i + 3 < length; i = i + 4) {
             SupportedSPN parsedSpn = parseSpn(i);
             if (parsedSpn.getSpn() != 0) {
-                spns.add(parsedSpn);
+                result.add(parsedSpn);
             }
         }
+        return result;
     }
 
     /**
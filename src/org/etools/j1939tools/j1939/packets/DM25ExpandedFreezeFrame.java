@@ -7,11 +7,12 @@ import static org.etools.j1939_84.J1939_84.NL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.etools.j1939_84.controllers.FreezeFrameDataTranslator;
 import org.etools.j1939tools.bus.Packet;
-import org.etools.j1939tools.utils.CollectionUtils;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * The {@link ParsedPacket} for Expanded Freeze Frame Codes (DM25)
@@ -20,7 +21,7 @@ import org.etools.j1939tools.utils.CollectionUtils;
  */
 public class DM25ExpandedFreezeFrame extends GenericPacket {
     public static final int PGN = 64951; // 0xFDB7
-    private List<FreezeFrame> freezeFrames;
+    private volatile List<FreezeFrame> freezeFrames;
 
     public DM25ExpandedFreezeFrame(Packet packet) {
         super(packet);
@@ -28,16 +29,16 @@ public class DM25ExpandedFreezeFrame extends GenericPacket {
 
     public static DM25ExpandedFreezeFrame create(int sourceAddress, FreezeFrame... freezeFrames) {
 
-        int[] data = new int[0];
+        PacketBuilder builder = new PacketBuilder(PGN, sourceAddress);
         if (freezeFrames.length > 0) {
             for (FreezeFrame freezeFrame : freezeFrames) {
-                data = CollectionUtils.join(data, freezeFrame.getData());
+                freezeFrame.writeTo(builder);
             }
         } else {
-            data = new int[] { 0, 0, 0, 0, 0, 0xFF, 0xFF, 0xFF };
+            builder.put(0, 0, 0, 0, 0, 0xFF, 0xFF, 0xFF);
         }
 
-        return new DM25ExpandedFreezeFrame(Packet.create(PGN, sourceAddress, data));
+        return new DM25ExpandedFreezeFrame(builder.build());
     }
 
     /**
@@ -46,10 +47,17 @@ public class DM25ExpandedFreezeFrame extends GenericPacket {
      * @return {@link List}
      */
     public List<FreezeFrame> getFreezeFrames() {
-        if (freezeFrames == null) {
-            parsePacket();
+        List<FreezeFrame> result = freezeFrames;
+        if (result == null) {
+            result = parsePacket();
+            freezeFrames = result;
         }
-        return freezeFrames;
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        getFreezeFrames();
     }
 
     @Override
@@ -89,7 +97,7 @@ public class DM25ExpandedFreezeFrame extends GenericPacket {
         return sb.toString();
     }
 
-    private void parseChunk(int chunkLength) {
+    private void parseChunk(List<FreezeFrame> freezeFrames, int chunkLength) {
         int index = 0;
         boolean done = false;
         while (!done) {
@@ -115,24 +123,29 @@ public class DM25ExpandedFreezeFrame extends GenericPacket {
     /**
      * Parses the packet to populate all the {@link FreezeFrame}s
      */
-    private void parsePacket() {
-        freezeFrames = new ArrayList<>();
+    private List<FreezeFrame> parsePacket() {
+        List<FreezeFrame> result = new ArrayList<>();
         int chunkLength = getPacket().get(0);
         if (chunkLength == 0) {
             int[] spnBytes = getPacket().getData(0, 5);
             int[] dataBytes = getPacket().getData(5, 8);
             if (Arrays.equals(spnBytes, new int[] { 0, 0, 0, 0, 0 })
                     && Arrays.equals(dataBytes, new int[] { 0xFF, 0xFF, 0xFF })) {
-                return;
+                return Collections.unmodifiableList(result);
             }
             chunkLength = 8; // The data doesn't match spec
         }
-        parseChunk(chunkLength);
+        parseChunk(result, chunkLength);
+        return Collections.unmodifiableList(result);
     }
 
+    /**
+     * Sets the SPNs of the {@link FreezeFrame}s from the Freeze Frame Supported
+     * SPNs of the module's DM24. The SPNs are decoded as they're used.
+     */
     public void setSupportedSpns(List<SupportedSPN> spns) {
         FreezeFrameDataTranslator translator = new FreezeFrameDataTranslator();
-        getFreezeFrames().forEach(ff -> ff.setSPNs(translator.getFreezeFrameSPNs(ff, spns)));
+        getFreezeFrames().forEach(ff -> translator.setFreezeFrameSPNs(ff, spns));
     }
 
 }
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 
 /**
@@ -38,17 +39,14 @@ public class DM29DtcCounts extends GenericPacket {
                                        int milOnCount,
                                        int previousMilOnCount,
                                        int permanentCount) {
-        byte[] data = new byte[8];
-        data[0] = (byte) (emissionPendingCount & 0xFF);
-        data[1] = (byte) (allPendingCount & 0xFF);
-        data[2] = (byte) (milOnCount & 0xFF);
-        data[3] = (byte) (previousMilOnCount & 0xFF);
-        data[4] = (byte) (permanentCount & 0xFF);
-        data[5] = (byte) 0xFF;
-        data[6] = (byte) 0xFF;
-        data[7] = (byte) 0xFF;
-
-        return new DM29DtcCounts(Packet.create(PGN | destination, source, data));
+        Packet packet = new PacketBuilder(PGN | destination, source, 8).put8(emissionPendingCount)
+                                                                       .put8(allPendingCount)
+                                                                       .put8(milOnCount)
+                                                                       .put8(previousMilOnCount)
+                                                                       .put8(permanentCount)
+                                                                       .fill(3, 0xFF)
+                                                                       .build();
+        return new DM29DtcCounts(packet);
     }
 
     public int getAllPendingDTCCount() {
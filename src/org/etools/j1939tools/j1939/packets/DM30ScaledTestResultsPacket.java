@@ -4,13 +4,13 @@
 package org.etools.j1939tools.j1939.packets;
 
 import static org.etools.j1939_84.J1939_84.NL;
-import static org.etools.j1939tools.utils.CollectionUtils.join;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.etools.j1939tools.bus.Packet;
-
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * Parses the DM30 Scaled Test Results packet
@@ -20,7 +20,8 @@ import org.etools.j1939tools.bus.Packet;
 public class DM30ScaledTestResultsPacket extends GenericPacket {
 
     public static final int PGN = 41984;
-    private List<ScaledTestResult> testResults;
+    private volatile List<ScaledTestResult> testResults;
+    private volatile ScaledTestResultTable testResultTable;
 
     public DM30ScaledTestResultsPacket(Packet packet) {
         super(packet);
@@ -28,12 +29,11 @@ public class DM30ScaledTestResultsPacket extends GenericPacket {
 
     public static DM30ScaledTestResultsPacket create(int source, int destination, ScaledTestResult... testResults) {
 
-        int[] data = new int[0];
+        PacketBuilder builder = new PacketBuilder(PGN | destination, source, testResults.length * 12);
         for (ScaledTestResult testResult : testResults) {
-            data = join(data, testResult.getData());
+            testResult.writeTo(builder);
         }
-
-        return new DM30ScaledTestResultsPacket(Packet.create(PGN | destination, source, data));
+        return new DM30ScaledTestResultsPacket(builder.build());
     }
 
     @Override
@@ -72,14 +72,39 @@ public class DM30ScaledTestResultsPacket extends GenericPacket {
      * @return a {@link List} of {@link ScaledTestResult}s
      */
     public List<ScaledTestResult> getTestResults() {
-        if (testResults == null) {
-            testResults = new ArrayList<>();
+        // decoded packets are shared between threads, so only publish complete lists
+        List<ScaledTestResult> result = testResults;
+        if (result == null) {
+            result = new ArrayList<>();
             int length = getPacket().getLength();
             for (int i = 0; i + 11 < length; i = i + 12) {
-                testResults.add(parseTestResult(i));
+                result.add(parseTestResult(i));
             }
+            result = Collections.unmodifiableList(result);
+            testResults = result;
         }
-        return testResults;
+        return result;
+    }
+
+    /**
+     * Returns the {@link ScaledTestResult}s sorted by SPN, FMI and TID, read
+     * from the packet without creating the {@link ScaledTestResult}s
+     *
+     * @return the {@link ScaledTestResultTable}
+     */
+    public ScaledTestResultTable getTestResultTable() {
+        ScaledTestResultTable result = testResultTable;
+        if (result == null) {
+            result = ScaledTestResultTable.of(getPacket());
+            testResultTable = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        getTestResults();
+        getTestResultTable();
     }
 
     private ScaledTestResult parseTestResult(int index) {
@@ -4,13 +4,13 @@
 package org.etools.j1939tools.j1939.packets;
 
 import static org.etools.j1939_84.J1939_84.NL;
-import static org.etools.j1939tools.utils.CollectionUtils.join;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.etools.j1939tools.bus.Packet;
-
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * The {@link ParsedPacket} for Diagnostic Trouble Code to Lamp Associations
@@ -22,32 +22,39 @@ import org.etools.j1939tools.bus.Packet;
  */
 public class DM31DtcToLampAssociation extends GenericPacket {
     public static final int PGN = 41728; // 0xA300
-    private List<DTCLampStatus> dtcLampStatuses;
+    private volatile List<DTCLampStatus> dtcLampStatuses;
 
     public DM31DtcToLampAssociation(Packet packet) {
         super(packet);
     }
 
     public static DM31DtcToLampAssociation create(int sourceAddress, int destination, DTCLampStatus... lampStatuses) {
-        int[] data = new int[0];
+        PacketBuilder builder = new PacketBuilder(PGN | destination, sourceAddress, Math.max(lampStatuses.length * 6, 8));
         if (lampStatuses.length > 0) {
             for (DTCLampStatus dtcLampStatus : lampStatuses) {
-                data = join(data, dtcLampStatus.getData());
+                dtcLampStatus.writeTo(builder);
             }
         } else {
-            data = new int[] { 0, 0, 0, 0, 0, 0xFF, 0xFF, 0xFF };
+            builder.put(0, 0, 0, 0, 0, 0xFF, 0xFF, 0xFF);
         }
-        return new DM31DtcToLampAssociation(Packet.create(PGN | destination, sourceAddress, data));
+        return new DM31DtcToLampAssociation(builder.build());
     }
 
     /**
      * @return the dtcLampStatuses
      */
     public List<DTCLampStatus> getDtcLampStatuses() {
-        if (dtcLampStatuses == null) {
-            parsePacket();
+        List<DTCLampStatus> result = dtcLampStatuses;
+        if (result == null) {
+            result = parsePacket();
+            dtcLampStatuses = result;
         }
-        return dtcLampStatuses;
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        getDtcLampStatuses();
     }
 
     @Override
@@ -90,14 +97,15 @@ public class DM31DtcToLampAssociation extends GenericPacket {
     /**
      * Parses the packet to populate all the member variables
      */
-    private void parsePacket() {
+    private List<DTCLampStatus> parsePacket() {
         int length = getPacket().getLength();
-        dtcLampStatuses = new ArrayList<>();
+        List<DTCLampStatus> result = new ArrayList<>();
         for (int i = 0; i + 6 <= length; i = i + 6) {
             if (getPacket().get32(0) != 0) {
-                dtcLampStatuses.add(new DTCLampStatus(getPacket().getData(i, i + 6)));
+                result.add(new DTCLampStatus(getPacket().getData(i, i + 6)));
             }
         }
+        return Collections.unmodifiableList(result);
     }
 
 }
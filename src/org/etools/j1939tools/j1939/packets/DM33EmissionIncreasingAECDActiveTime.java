@@ -6,10 +6,11 @@ package org.etools.j1939tools.j1939.packets;
 import static org.etools.j1939_84.J1939_84.NL;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.etools.j1939tools.bus.Packet;
-import org.etools.j1939tools.utils.CollectionUtils;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * The {@link ParsedPacket} for Emission Increasing Auxiliary Emission Control
@@ -21,18 +22,18 @@ import org.etools.j1939tools.utils.CollectionUtils;
  */
 public class DM33EmissionIncreasingAECDActiveTime extends GenericPacket {
     public static final int PGN = 41216; // 0xA100
-    private List<EngineHoursTimer> eiAecdEngineHoursTimers;
+    private volatile List<EngineHoursTimer> eiAecdEngineHoursTimers;
 
     public DM33EmissionIncreasingAECDActiveTime(Packet packet) {
         super(packet);
     }
 
     public static DM33EmissionIncreasingAECDActiveTime create(int source, int destination, EngineHoursTimer... timers) {
-        int[] data = new int[0];
+        PacketBuilder builder = new PacketBuilder(PGN | destination, source, timers.length * 9);
         for (EngineHoursTimer timer : timers) {
-            data = CollectionUtils.join(data, timer.getData());
+            timer.writeTo(builder);
         }
-        return new DM33EmissionIncreasingAECDActiveTime(Packet.create(PGN | destination, source, data));
+        return new DM33EmissionIncreasingAECDActiveTime(builder.build());
     }
 
     public EngineHoursTimer getTimer(int number) {
@@ -42,10 +43,17 @@ public class DM33EmissionIncreasingAECDActiveTime extends GenericPacket {
     }
 
     public List<EngineHoursTimer> getEiAecdEngineHoursTimers() {
-        if (eiAecdEngineHoursTimers == null) {
-            parsePacket();
+        List<EngineHoursTimer> result = eiAecdEngineHoursTimers;
+        if (result == null) {
+            result = parsePacket();
+            eiAecdEngineHoursTimers = result;
         }
-        return eiAecdEngineHoursTimers;
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        getEiAecdEngineHoursTimers();
     }
 
     @Override
@@ -71,13 +79,14 @@ public class DM33EmissionIncreasingAECDActiveTime extends GenericPacket {
         return sb.toString();
     }
 
-    private void parsePacket() {
-        eiAecdEngineHoursTimers = new ArrayList<>();
+    private List<EngineHoursTimer> parsePacket() {
+        List<EngineHoursTimer> result = new ArrayList<>();
         int length = getPacket().getLength();
         for (int i = 0; i + 8 < length; i = i + 9) {
             int[] copyOfRange = getPacket().getData(i, i + 9);
-            eiAecdEngineHoursTimers.add(new EngineHoursTimer(copyOfRange));
+            result.add(new EngineHoursTimer(copyOfRange));
         }
+        return Collections.unmodifiableList(result);
     }
 
 }
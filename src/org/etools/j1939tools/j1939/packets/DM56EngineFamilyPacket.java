@@ -6,21 +6,17 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import org.etools.j1939tools.bus.Packet;
-import org.etools.j1939tools.utils.CollectionUtils;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 public class DM56EngineFamilyPacket extends GenericPacket {
 
     public static final int PGN = 64711;
 
     public static DM56EngineFamilyPacket create(int address, int modelYear, boolean isEngine, String familyName) {
-        byte[] data = new byte[0];
-        if (isEngine) {
-            data = CollectionUtils.join(data, String.format("%1$dE-MY", modelYear).getBytes(StandardCharsets.UTF_8));
-        } else {
-            data = CollectionUtils.join(data, String.format("%1$dV-MY", modelYear).getBytes(StandardCharsets.UTF_8));
-        }
-        data = CollectionUtils.join(data, familyName.getBytes(StandardCharsets.UTF_8));
-        return new DM56EngineFamilyPacket(Packet.create(PGN, address, data));
+        PacketBuilder builder = new PacketBuilder(PGN, address, 8 + familyName.length());
+        builder.putAscii(modelYear + (isEngine ? "E-MY" : "V-MY"));
+        builder.put(familyName.getBytes(StandardCharsets.UTF_8));
+        return new DM56EngineFamilyPacket(builder.build());
     }
 
     private String familyName = null;
@@ -4,12 +4,12 @@
 package org.etools.j1939tools.j1939.packets;
 
 import static org.etools.j1939_84.J1939_84.NL;
-import static org.etools.j1939tools.utils.CollectionUtils.join;
 
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.Spn;
 import org.etools.j1939tools.j1939.model.SpnDefinition;
@@ -38,20 +38,21 @@ public class DM58RationalityFaultSpData extends GenericPacket {
     }
 
     public static DM58RationalityFaultSpData create(int address, int tid, SupportedSPN... spns) {
-        int[] data = new int[] { tid };
+        PacketBuilder builder = new PacketBuilder(PGN, address, 1 + spns.length * 4).put8(tid);
         for (SupportedSPN spn : spns) {
-            data = join(data, spn.getData());
+            spn.writeTo(builder);
         }
-        return new DM58RationalityFaultSpData(Packet.create(PGN, address, data));
+        return new DM58RationalityFaultSpData(builder.build());
     }
 
     public static DM58RationalityFaultSpData create(int address, int tid, int spn, int[] data) {
-        int[] packageData = { tid, spn & 0xFF, (spn >> 8) & 0xFF, ((((spn >> 16) & 0b111) << 5)) };
-        packageData = CollectionUtils.join(packageData, data);
-        return new DM58RationalityFaultSpData(Packet.create(DM58RationalityFaultSpData.PGN,
-                                                            address,
-                                                            true,
-                                                            packageData));
+        Packet packet = new PacketBuilder(PGN, address, 4 + data.length).transmitted(true)
+                                                                         .put8(tid)
+                                                                         .put16(spn)
+                                                                         .put8(((spn >> 16) & 0b111) << 5)
+                                                                         .put(data)
+                                                                         .build();
+        return new DM58RationalityFaultSpData(packet);
     }
 
     @Override
@@ -4,6 +4,7 @@
 package org.etools.j1939tools.j1939.packets;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * The DM7 Packet. This isn't used to parse any packets as it will only be sent
@@ -17,17 +18,13 @@ public class DM7CommandTestsPacket extends GenericPacket {
     public static final int PGN = 58112; // 0xE300
 
     public static DM7CommandTestsPacket create(int address, int destination, int tid, int spn, int fmi) {
-        return new DM7CommandTestsPacket(Packet.create(DM7CommandTestsPacket.PGN | destination,
-                                                       address,
-                                                       true,
-                                                       tid,
-                                                       spn & 0xFF,
-                                                       (spn >> 8) & 0xFF,
-                                                       ((((spn >> 16) & 0b111) << 5)) | (fmi & 0x1F),
-                                                       0xFF,
-                                                       0xFF,
-                                                       0xFF,
-                                                       0xFF));
+        PacketBuilder builder = new PacketBuilder(PGN | destination, address, 8).transmitted(true);
+        builder.put8(tid);
+        builder.put16(spn);
+        // the top 3 bits of the SPN and the FMI
+        builder.put8((((spn >> 16) & 0b111) << 5) | (fmi & 0x1F));
+        builder.fill(4, 0xFF);
+        return new DM7CommandTestsPacket(builder.build());
     }
 
     public DM7CommandTestsPacket(Packet packet) {
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 
 /**
@@ -79,6 +80,13 @@ public class DTCLampStatus {
         return (byte) (getData()[index] & 0xFF);
     }
 
+    /**
+     * Writes the DTC and lamp bytes to the builder
+     */
+    void writeTo(PacketBuilder builder) {
+        builder.put(data);
+    }
+
     /**
      * @return the data
      */
@@ -6,6 +6,7 @@ package org.etools.j1939tools.j1939.packets;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.Lookup;
 
 /**
@@ -83,6 +84,13 @@ public class DiagnosticTroubleCode {
         return Arrays.copyOf(data, data.length);
     }
 
+    /**
+     * Writes the bytes of the DTC to the builder
+     */
+    void writeTo(PacketBuilder builder) {
+        builder.put(data);
+    }
+
     /**
      * Returns the Conversation Method, range 0 to 1
      *
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.etools.j1939tools.bus.Packet;
+
+/**
+ * The {@link DiagnosticTroubleCode}s of a {@link DiagnosticTroubleCodePacket}
+ * read in place from the packet.
+ *
+ * The SPN, FMI, occurrence count and conversion method of each DTC are read
+ * from the payload as primitives; the {@link DiagnosticTroubleCode} objects are
+ * only created when an element of the list is used. Each DTC also has a key
+ * packing its SPN and FMI, which are what make DTCs equal, so comparing two of
+ * these lists is done on sorted arrays of keys without creating any DTCs. The
+ * list can't be modified.
+ */
+public class DiagnosticTroubleCodeList extends AbstractList<DiagnosticTroubleCode> implements RandomAccess {
+
+    private static final DiagnosticTroubleCodeList EMPTY = new DiagnosticTroubleCodeList(null, new int[0]);
+
+    private final Packet packet;
+
+    // the index in the payload of each DTC
+    private final int[] offsets;
+
+    private final DiagnosticTroubleCode[] dtcs;
+
+    private volatile long[] sortedKeys;
+
+    private DiagnosticTroubleCodeList(Packet packet, int[] offsets) {
+        this.packet = packet;
+        this.offsets = offsets;
+        dtcs = new DiagnosticTroubleCode[offsets.length];
+    }
+
+    /**
+     * Returns the DTCs of the packet, which are every 4 bytes after the lamps.
+     * As before, a "DTC" with an SPN of 0 or 524287 isn't included.
+     */
+    static DiagnosticTroubleCodeList of(Packet packet) {
+        int length = packet.getLength();
+        int[] offsets = new int[Math.max(0, (length - 2) / 4)];
+        int count = 0;
+        for (int i = 2; i + 4 <= length; i = i + 4) {
+            int spn = getSpn(packet, i);
+            if (spn != 0 && spn != 524287) {
+                offsets[count++] = i;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new DiagnosticTroubleCodeList(packet, count == offsets.length ? offsets : Arrays.copyOf(offsets, count));
+    }
+
+    private static int getSpn(Packet packet, int offset) {
+        return ((packet.get(offset + 2) & 0xE0) << 11) | ((packet.get(offset + 1) & 0xFF) << 8)
+                | (packet.get(offset) & 0xFF);
+    }
+
+    /**
+     * Returns the key of a DTC, which is equal for DTCs that are equal
+     */
+    public static long getKey(int spn, int fmi) {
+        return ((long) spn << 5) | (fmi & 0x1F);
+    }
+
+    public static long getKey(DiagnosticTroubleCode dtc) {
+        return getKey(dtc.getSuspectParameterNumber(), dtc.getFailureModeIndicator());
+    }
+
+    /**
+     * Returns true if the sorted keys a include all of the sorted keys b
+     */
+    public static boolean containsAll(long[] a, long[] b) {
+        int i = 0;
+        for (long key : b) {
+            while (i < a.length && a[i] < key) {
+                i++;
+            }
+            if (i == a.length || a[i] != key) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns the Suspect Parameter Number of the DTC at the index
+     */
+    public int getSuspectParameterNumber(int index) {
+        return getSpn(packet, offsets[index]);
+    }
+
+    /**
+     * Returns the Failure Mode Indicator of the DTC at the index
+     */
+    public int getFailureModeIndicator(int index) {
+        return packet.get(offsets[index] + 2) & 0x1F;
+    }
+
+    /**
+     * Returns the Occurrence Count of the DTC at the index
+     */
+    public int getOccurrenceCount(int index) {
+        return packet.get(offsets[index] + 3) & 0x7F;
+    }
+
+    /**
+     * Returns the Conversion Method of the DTC at the index
+     */
+    public int getConversionMethod(int index) {
+        return (packet.get(offsets[index] + 3) & 0x80) >> 7;
+    }
+
+    /**
+     * Returns the key of the DTC at the index
+     */
+    public long getKey(int index) {
+        return getKey(getSuspectParameterNumber(index), getFailureModeIndicator(index));
+    }
+
+    /**
+     * Returns the keys of the DTCs in ascending order without duplicates. The
+     * array is shared, so it must not be modified.
+     */
+    public long[] getSortedKeys() {
+        long[] result = sortedKeys;
+        if (result == null) {
+            result = new long[offsets.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = getKey(i);
+            }
+            Arrays.sort(result);
+            int count = 0;
+            for (int i = 0; i < result.length; i++) {
+                if (count == 0 || result[count - 1] != result[i]) {
+                    result[count++] = result[i];
+                }
+            }
+            result = count == result.length ? result : Arrays.copyOf(result, count);
+            sortedKeys = result;
+        }
+        return result;
+    }
+
+    /**
+     * Creates every {@link DiagnosticTroubleCode} and the sorted keys, as done
+     * for packets decoded eagerly
+     */
+    void decode() {
+        for (int i = 0; i < dtcs.length; i++) {
+            get(i);
+        }
+        getSortedKeys();
+    }
+
+    @Override
+    public DiagnosticTroubleCode get(int index) {
+        DiagnosticTroubleCode dtc = dtcs[index];
+        if (dtc == null) {
+            int offset = offsets[index];
+            dtc = new DiagnosticTroubleCode(packet.getData(offset, offset + 4));
+            dtcs[index] = dtc;
+        }
+        return dtc;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof DiagnosticTroubleCode) {
+            return Arrays.binarySearch(getSortedKeys(), getKey((DiagnosticTroubleCode) o)) >= 0;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (c instanceof DiagnosticTroubleCodeList) {
+            return containsAll(getSortedKeys(), ((DiagnosticTroubleCodeList) c).getSortedKeys());
+        }
+        return super.containsAll(c);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof DiagnosticTroubleCodeList)) {
+            return super.equals(o);
+        }
+        DiagnosticTroubleCodeList that = (DiagnosticTroubleCodeList) o;
+        if (size() != that.size()) {
+            return false;
+        }
+        for (int i = 0; i < size(); i++) {
+            if (getKey(i) != that.getKey(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // the same as the hashCode of a list of the DiagnosticTroubleCodes
+        int hashCode = 1;
+        for (int i = 0; i < size(); i++) {
+            int dtcHashCode = 31 * (31 + getSuspectParameterNumber(i)) + getFailureModeIndicator(i);
+            hashCode = 31 * hashCode + dtcHashCode;
+        }
+        return hashCode;
+    }
+}
@@ -3,18 +3,14 @@
  */
 package org.etools.j1939tools.j1939.packets;
 
-
 import static org.etools.j1939_84.J1939_84.NL;
-import static org.etools.j1939tools.utils.CollectionUtils.join;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.etools.j1939tools.bus.Packet;
-
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * Class that represents a packet that contains Diagnostic Trouble Codes
@@ -23,11 +19,11 @@ import org.etools.j1939tools.bus.Packet;
  */
 public class DiagnosticTroubleCodePacket extends GenericPacket {
 
-    private LampStatus awlStatus;
-    private List<DiagnosticTroubleCode> dtcs;
-    private LampStatus milStatus;
-    private LampStatus plStatus;
-    private LampStatus rslStatus;
+    private volatile LampStatus awlStatus;
+    private volatile DiagnosticTroubleCodeList dtcs;
+    private volatile LampStatus milStatus;
+    private volatile LampStatus plStatus;
+    private volatile LampStatus rslStatus;
 
     /**
      * Constructor
@@ -52,23 +48,23 @@ public class DiagnosticTroubleCodePacket extends GenericPacket {
         int[] amberData = LampStatus.getBytes(amber);
         int[] protectData = LampStatus.getBytes(protect);
 
-        int[] data = new int[2];
-        data[0] = milData[0] << 6 | stopData[0] << 4 | amberData[0] << 2 | protectData[0];
-        data[1] = milData[1] << 6 | stopData[1] << 4 | amberData[1] << 2 | protectData[1];
+        PacketBuilder builder = new PacketBuilder(pgn, address, Math.max(2 + dtcs.length * 4, 8));
+        builder.put8(milData[0] << 6 | stopData[0] << 4 | amberData[0] << 2 | protectData[0]);
+        builder.put8(milData[1] << 6 | stopData[1] << 4 | amberData[1] << 2 | protectData[1]);
 
         if (dtcs.length == 0) {
-            data = join(data, new int[] { 0, 0, 0, 0 });
+            builder.put(0, 0, 0, 0);
         } else {
             for (DiagnosticTroubleCode dtc : dtcs) {
-                data = join(data, dtc.getData());
+                dtc.writeTo(builder);
             }
         }
 
-        if (data.length < 8) {
-            data = join(data, new int[] { 0xFF, 0xFF });
+        if (builder.length() < 8) {
+            builder.put(0xFF, 0xFF);
         }
 
-        return Packet.create(pgn, address, data);
+        return builder.build();
     }
 
     /**
@@ -90,14 +86,39 @@ public class DiagnosticTroubleCodePacket extends GenericPacket {
      * @return List of DTCs
      */
     public List<DiagnosticTroubleCode> getDtcs() {
-        if (dtcs == null) {
-            dtcs = parseDTCs();
+        return getDtcList();
+    }
+
+    /**
+     * Returns the DTCs as a {@link DiagnosticTroubleCodeList}, which reads
+     * them from the packet without creating a {@link DiagnosticTroubleCode}
+     * for each
+     *
+     * @return the DTCs
+     */
+    public DiagnosticTroubleCodeList getDtcList() {
+        DiagnosticTroubleCodeList result = dtcs;
+        if (result == null) {
+            result = DiagnosticTroubleCodeList.of(getPacket());
+            dtcs = result;
         }
-        return Collections.unmodifiableList(dtcs);
+        return result;
+    }
+
+    /**
+     * Decodes the lamps and creates every DTC of the list
+     */
+    @Override
+    public void decode() {
+        getMalfunctionIndicatorLampStatus();
+        getRedStopLampStatus();
+        getAmberWarningLampStatus();
+        getProtectLampStatus();
+        getDtcList().decode();
     }
 
     public boolean hasDTCs() {
-        return !getDtcs().isEmpty();
+        return !getDtcList().isEmpty();
     }
 
     /**
@@ -172,30 +193,6 @@ public class DiagnosticTroubleCodePacket extends GenericPacket {
         return rslStatus;
     }
 
-    private DiagnosticTroubleCode parseDTC(int i) {
-        int[] data = getPacket().getData(i, i + 4);
-        return new DiagnosticTroubleCode(data);
-    }
-
-    /**
-     * Parses the data to create a {@link List} of {@link DiagnosticTroubleCode}
-     *
-     * @return List
-     */
-    private List<DiagnosticTroubleCode> parseDTCs() {
-        List<DiagnosticTroubleCode> dtcs = new ArrayList<>();
-        // Every 4 bytes is a DTC; there might be two extra bytes
-        int length = getPacket().getLength();
-        for (int i = 2; i + 4 <= length; i = i + 4) {
-            DiagnosticTroubleCode dtc = parseDTC(i);
-            int spn = dtc.getSuspectParameterNumber();
-            if (spn != 0 && spn != 524287) {
-                dtcs.add(dtc);
-            }
-        }
-        return dtcs;
-    }
-
     @Override
     public int hashCode() {
         return Objects.hash(super.hashCode(),
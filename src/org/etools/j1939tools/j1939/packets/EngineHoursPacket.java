@@ -4,6 +4,7 @@
 package org.etools.j1939tools.j1939.packets;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 public class EngineHoursPacket extends GenericPacket {
 
@@ -11,8 +12,7 @@ public class EngineHoursPacket extends GenericPacket {
 
     public static EngineHoursPacket create(int address, long engineHours) {
         long hours = (long) (engineHours / 0.05);
-        int[] data = ParsedPacket.to4Ints(hours);
-        return new EngineHoursPacket(Packet.create(PGN, address, data));
+        return new EngineHoursPacket(new PacketBuilder(PGN, address, 4).put32(hours).build());
     }
     public EngineHoursPacket(Packet packet) {
         super(packet);
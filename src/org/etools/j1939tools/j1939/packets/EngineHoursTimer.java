@@ -9,6 +9,8 @@ import static org.etools.j1939tools.utils.CollectionUtils.join;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.etools.j1939tools.bus.PacketBuilder;
+
 
 /**
  * @author Marianne Schaefer (marianne.m.schaefer@gmail.com)
@@ -74,6 +76,13 @@ public class EngineHoursTimer {
 
     }
 
+    /**
+     * Writes the number and both timers to the builder
+     */
+    void writeTo(PacketBuilder builder) {
+        builder.put(data);
+    }
+
     public int[] getData() {
         return Arrays.copyOf(data, data.length);
     }
@@ -4,7 +4,7 @@
 package org.etools.j1939tools.j1939.packets;
 
 import org.etools.j1939tools.bus.Packet;
-import org.etools.j1939tools.utils.CollectionUtils;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * The {@link ParsedPacket} responsible for translating Engine Speed (SPN 190)
@@ -17,10 +17,11 @@ public class EngineSpeedPacket extends GenericPacket {
     public static final int PGN = 61444;
 
     public static EngineSpeedPacket create(int sourceAddress, int engineRPMs) {
-        int[] data = new int[] { 0xFF, 0xFF, 0xFF };
-        data = CollectionUtils.join(data, to2Ints(engineRPMs * 8)); // Bytes 4 & 5
-        data = CollectionUtils.join(data, new int[] { 0xFF, 0xFF, 0xFF });
-        return new EngineSpeedPacket(Packet.create(PGN, sourceAddress, data));
+        Packet packet = new PacketBuilder(PGN, sourceAddress, 8).fill(3, 0xFF)
+                                                                .put16(engineRPMs * 8) // Bytes 4 & 5
+                                                                .fill(3, 0xFF)
+                                                                .build();
+        return new EngineSpeedPacket(packet);
     }
 
     private final double engineSpeed;
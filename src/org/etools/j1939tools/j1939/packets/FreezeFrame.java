@@ -10,17 +10,27 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.model.Spn;
 import org.etools.j1939tools.utils.CollectionUtils;
 
 /**
+ * The DTC and SPN data of one freeze frame of a DM25.
+ *
+ * When the SPNs are set from a {@link FreezeFrameLayout}, each SPN is only decoded from
+ * the data when it's used, so looking up one SPN doesn't decode the others.
+ *
  * @author Marianne Schaefer (marianne.m.schaefer@gmail.com)
  */
 public class FreezeFrame {
 
     private final DiagnosticTroubleCode dtc;
     private final int[] spnData;
-    private final List<Spn> spns = new ArrayList<>();
+    private List<Spn> spns;
+
+    // the SPNs decoded from the layout so far, by index in the layout
+    private FreezeFrameLayout layout;
+    private Spn[] layoutSpns;
 
     public FreezeFrame(DiagnosticTroubleCode dtc, Spn... spns) {
         this(dtc, Arrays.asList(spns));
@@ -29,11 +39,13 @@ public class FreezeFrame {
     public FreezeFrame(DiagnosticTroubleCode dtc, List<Spn> spns) {
         this.dtc = dtc;
         spnData = spns.stream().flatMapToInt(s -> Arrays.stream(s.getData())).toArray();
+        this.spns = new ArrayList<>();
     }
 
     public FreezeFrame(DiagnosticTroubleCode dtc, int[] spnData) {
         this.dtc = dtc;
         this.spnData = Arrays.copyOfRange(spnData, 0, spnData.length);
+        spns = new ArrayList<>();
     }
 
     public DiagnosticTroubleCode getDtc() {
@@ -49,17 +61,62 @@ public class FreezeFrame {
         return CollectionUtils.join(new int[] { joinedData.length }, joinedData);
     }
 
+    /**
+     * Writes the length, DTC and SPN data of the freeze frame to the builder
+     */
+    void writeTo(PacketBuilder builder) {
+        int lengthIndex = builder.length();
+        builder.put8(0);
+        dtc.writeTo(builder);
+        builder.put(spnData);
+        builder.putBits(lengthIndex, 1, 8, builder.length() - lengthIndex - 1);
+    }
+
+    public int getSpnDataLength() {
+        return spnData.length;
+    }
+
     public List<Spn> getSPNs() {
+        if (spns == null) {
+            spns = new ArrayList<>(layout.size());
+            for (int i = 0; i < layout.size(); i++) {
+                spns.add(getLayoutSpn(i));
+            }
+        }
         return spns;
     }
 
     public void setSPNs(List<Spn> spns) {
-        this.spns.clear();
-        this.spns.addAll(spns);
+        this.spns = new ArrayList<>(spns);
+        layout = null;
+        layoutSpns = null;
+    }
+
+    /**
+     * Sets the SPNs to be decoded from the data with the layout, which must
+     * be as long as the data
+     */
+    public void setLayout(FreezeFrameLayout layout) {
+        this.layout = layout;
+        layoutSpns = new Spn[layout.size()];
+        spns = null;
     }
 
     public Spn getSpn(int spnId) {
-        return getSPNs().stream().filter(s -> s.getId() == spnId).findFirst().orElse(null);
+        if (spns == null) {
+            int index = layout.indexOf(spnId);
+            return index < 0 ? null : getLayoutSpn(index);
+        }
+        return spns.stream().filter(s -> s.getId() == spnId).findFirst().orElse(null);
+    }
+
+    private Spn getLayoutSpn(int index) {
+        Spn spn = layoutSpns[index];
+        if (spn == null) {
+            spn = layout.getSpn(index, spnData);
+            layoutSpns[index] = spn;
+        }
+        return spn;
     }
 
     @Override
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnDefinition;
+import org.etools.j1939tools.utils.IntObjectMap;
+
+/**
+ * Where each SPN is in the data of a {@link FreezeFrame} for a list of Freeze
+ * Frame Supported SPNs.
+ *
+ * The offset, length, label and {@link Slot} of each SPN are resolved once for
+ * the list, so an SPN of a freeze frame is decoded from its data without
+ * walking the list or looking up the SPN again. The layouts are kept by
+ * {@link J1939DaRepository#getFreezeFrameLayout(List)} with the definitions
+ * they were resolved from.
+ */
+public class FreezeFrameLayout {
+    private final int[] spnIds;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final String[] labels;
+    private final Slot[] slots;
+    private final int length;
+
+    // the first index of each SPN
+    private final IntObjectMap<Integer> indexes;
+
+    /**
+     * Resolves the layout of the SPNs of the list that support Expanded
+     * Freeze Frames, in the order of the list
+     */
+    public FreezeFrameLayout(List<SupportedSPN> supportedSPNs, J1939DaRepository j1939DaRepository) {
+        List<SupportedSPN> supportedFreezeFrameSPNs = new ArrayList<>(supportedSPNs.size());
+        for (SupportedSPN supportedSPN : supportedSPNs) {
+            if (supportedSPN.supportsExpandedFreezeFrame()) {
+                supportedFreezeFrameSPNs.add(supportedSPN);
+            }
+        }
+
+        int count = supportedFreezeFrameSPNs.size();
+        spnIds = new int[count];
+        offsets = new int[count];
+        lengths = new int[count];
+        labels = new String[count];
+        slots = new Slot[count];
+        indexes = new IntObjectMap<>(count);
+
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            SupportedSPN supportedSPN = supportedFreezeFrameSPNs.get(i);
+            int spnId = supportedSPN.getSpn();
+            SpnDefinition spnDefinition = j1939DaRepository.findSpnDefinition(spnId);
+            spnIds[i] = spnId;
+            offsets[i] = offset;
+            lengths[i] = supportedSPN.getLength();
+            labels[i] = spnDefinition.getLabel();
+            slots[i] = j1939DaRepository.findSLOT(spnDefinition.getSlotNumber(), spnId);
+            if (!indexes.containsKey(spnId)) {
+                indexes.put(spnId, i);
+            }
+            offset += lengths[i];
+        }
+        length = offset;
+    }
+
+    /**
+     * Returns the number of bytes of data expected in a freeze frame
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the number of SPNs
+     */
+    public int size() {
+        return spnIds.length;
+    }
+
+    public int getSpnId(int index) {
+        return spnIds[index];
+    }
+
+    /**
+     * Returns where the data of the SPN at the index starts
+     */
+    public int getOffset(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Returns the number of bytes of data of the SPN at the index
+     */
+    public int getSpnLength(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * Returns the index of the first SPN with the given id or -1 if there
+     * isn't one
+     */
+    public int indexOf(int spnId) {
+        return indexes.getOrDefault(spnId, -1);
+    }
+
+    /**
+     * Decodes the SPN at the index from the data of a freeze frame, which must
+     * be {@link #getLength()} long
+     */
+    public Spn getSpn(int index, int[] spnData) {
+        byte[] bytes = new byte[lengths[index]];
+        int offset = offsets[index];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) spnData[offset + i];
+        }
+        return new Spn(spnIds[index], labels[index], slots[index], bytes);
+    }
+
+    /**
+     * Decodes all the SPNs from the data of a freeze frame, which must be
+     * {@link #getLength()} long
+     */
+    public List<Spn> getSpns(int[] spnData) {
+        List<Spn> spns = new ArrayList<>(spnIds.length);
+        for (int i = 0; i < spnIds.length; i++) {
+            spns.add(getSpn(i, spnData));
+        }
+        return spns;
+    }
+}
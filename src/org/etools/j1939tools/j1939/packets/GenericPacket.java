@@ -5,7 +5,6 @@ package org.etools.j1939tools.j1939.packets;
 
 import static org.etools.j1939_84.J1939_84.NL;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -17,13 +16,12 @@ import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.j1939.model.PgnDefinition;
 import org.etools.j1939tools.j1939.model.Spn;
-import org.etools.j1939tools.j1939.model.SpnDataParser;
-import org.etools.j1939tools.j1939.model.SpnDefinition;
 
 public class GenericPacket extends ParsedPacket {
 
     private final PgnDefinition pgnDefinition;
-    private List<Spn> spns;
+    private volatile PgnDecoder.Values values;
+    private volatile List<Spn> spns;
 
     public GenericPacket(Packet packet) {
         super(packet);
@@ -72,28 +70,43 @@ public class GenericPacket extends ParsedPacket {
     }
 
     public Optional<Spn> getSpn(int spn) {
-        return getSpns().stream().filter(s -> s.getId() == spn).findAny();
+        PgnDecoder.Values values = getDecodedValues();
+        int index = values.getDecoder().indexOf(spn);
+        return index < 0 ? Optional.empty() : Optional.of(getSpns().get(index));
     }
 
     public Optional<Double> getSpnValue(int spn) {
-        return getSpn(spn).filter(Spn::hasValue).map(Spn::getValue);
+        PgnDecoder.Values values = getDecodedValues();
+        int index = values.getDecoder().indexOf(spn);
+        return index < 0 || !values.hasValue(index) ? Optional.empty() : Optional.of(values.getValue(index));
+    }
+
+    /**
+     * Returns the values of the SPNs decoded from the packet, by the plan
+     * compiled for the PGN
+     */
+    public PgnDecoder.Values getDecodedValues() {
+        // decoded packets are shared between threads, so only publish complete values
+        PgnDecoder.Values result = values;
+        if (result == null) {
+            result = getJ1939DaRepository().getPgnDecoder(getPgnDefinition()).decode(getPacket());
+            values = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void decode() {
+        getSpns();
     }
 
     public List<Spn> getSpns() {
-        if (spns == null) {
-            spns = new ArrayList<>();
-
-            List<SpnDefinition> spnDefinitions = getPgnDefinition().getSpnDefinitions();
-            byte[] bytes = getPacket().getBytes();
-            for (SpnDefinition definition : spnDefinitions) {
-                Slot slot = getJ1939DaRepository().findSLOT(definition.getSlotNumber(), definition.getSpnId());
-                if (slot.getLength() != 0) {
-                    byte[] data = SpnDataParser.parse(bytes, definition, slot.getLength());
-                    spns.add(new Spn(definition.getSpnId(), definition.getLabel(), slot, data));
-                }
-            }
+        List<Spn> result = spns;
+        if (result == null) {
+            result = getDecodedValues().getSpns();
+            spns = result;
         }
-        return spns;
+        return result;
     }
 
     @SafeVarargs
@@ -4,7 +4,7 @@
 package org.etools.j1939tools.j1939.packets;
 
 import org.etools.j1939tools.bus.Packet;
-import org.etools.j1939tools.utils.CollectionUtils;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 public class IdleOperationPacket extends GenericPacket {
 
@@ -12,9 +12,7 @@ public class IdleOperationPacket extends GenericPacket {
 
     public static IdleOperationPacket create(int address, long idleHours) {
         long hours = (long) (idleHours / 0.05);
-        int[] data = new int[] { 0xFF, 0xFF, 0xFF, 0xFF };
-        data = CollectionUtils.join(data, ParsedPacket.to4Ints(hours));
-        return new IdleOperationPacket(Packet.create(PGN, address, data));
+        return new IdleOperationPacket(new PacketBuilder(PGN, address, 8).fill(4, 0xFF).put32(hours).build());
     }
 
     public IdleOperationPacket(Packet packet) {
@@ -35,6 +35,15 @@ public class ParsedPacket {
         this.packet = packet;
     }
 
+    /**
+     * Decodes everything the getters of the packet decode when first used. In
+     * the eager decode mode, {@link org.etools.j1939tools.j1939.J1939#processRaw}
+     * calls this before the packet is shared, so the threads using it only
+     * read it. Packets that decode their contents lazily override this.
+     */
+    public void decode() {
+    }
+
     public static byte[] to2Bytes(int value) {
         return new byte[] { (byte) (value & 0xFF), (byte) ((value >> 8) & 0xFF) };
     }
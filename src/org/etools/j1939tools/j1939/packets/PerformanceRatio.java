@@ -10,6 +10,7 @@ import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.Lookup;
 import org.etools.j1939tools.utils.CollectionUtils;
 import org.etools.j1939tools.utils.NumberFormatter;
@@ -49,6 +50,13 @@ public class PerformanceRatio implements Comparable<PerformanceRatio> {
         this.sourceAddress = sourceAddress;
     }
 
+    /**
+     * Writes the SPN, numerator and denominator to the builder
+     */
+    void writeTo(PacketBuilder builder) {
+        builder.put24(spn).put16(numerator).put16(denominator);
+    }
+
     public int[] getData() {
         int[] data = new int[0];
         data = CollectionUtils.join(data, to3Ints(spn));
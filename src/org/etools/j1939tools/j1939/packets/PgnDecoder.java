@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.j1939.model.PgnDefinition;
+import org.etools.j1939tools.j1939.model.Spn;
+import org.etools.j1939tools.j1939.model.SpnDataParser;
+import org.etools.j1939tools.j1939.model.SpnDefinition;
+
+/**
+ * The SPNs of a PGN compiled into a plan for decoding its packets.
+ *
+ * The position, shift, mask and {@link Slot} of each SPN are resolved once per
+ * PGN, so decoding a packet reads every SPN straight from the payload into a
+ * raw and a scaled value without creating a {@link Spn}. The values match
+ * those of the {@link Spn}s created from {@link SpnDataParser}. SPNs longer
+ * than 8 bytes, which are text, are still decoded by the
+ * {@link SpnDataParser}.
+ */
+public class PgnDecoder {
+
+    /**
+     * The SPN values decoded from one packet
+     */
+    public static class Values {
+        private final PgnDecoder decoder;
+        private final long[] rawValues;
+        private final double[] values;
+        private final Spn[] textSpns;
+
+        private Values(PgnDecoder decoder, long[] rawValues, double[] values, Spn[] textSpns) {
+            this.decoder = decoder;
+            this.rawValues = rawValues;
+            this.values = values;
+            this.textSpns = textSpns;
+        }
+
+        public PgnDecoder getDecoder() {
+            return decoder;
+        }
+
+        /**
+         * Returns the unscaled value of the SPN at the index
+         */
+        public long getRawValue(int index) {
+            return rawValues[index];
+        }
+
+        /**
+         * Returns the scaled value of the SPN at the index or NaN if it doesn't
+         * have a value, as when it's NOT_AVAILABLE, ERROR or ASCII
+         */
+        public double getValue(int index) {
+            return values[index];
+        }
+
+        public boolean hasValue(int index) {
+            return !Double.isNaN(values[index]);
+        }
+
+        /**
+         * Creates the {@link Spn} at the index
+         */
+        public Spn getSpn(int index) {
+            if (textSpns != null && textSpns[index] != null) {
+                return textSpns[index];
+            }
+            Slot slot = decoder.slots[index];
+            byte[] data = new byte[slot.getByteLength()];
+            long value = rawValues[index];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (value >> (i * 8));
+            }
+            return new Spn(decoder.spnIds[index], decoder.labels[index], slot, data);
+        }
+
+        /**
+         * Creates the {@link Spn}s in the order of the {@link PgnDefinition}
+         */
+        public List<Spn> getSpns() {
+            List<Spn> result = new ArrayList<>(rawValues.length);
+            for (int i = 0; i < rawValues.length; i++) {
+                result.add(getSpn(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The SPN values decoded from many packets of the PGN, stored by SPN
+     */
+    public static class Batch {
+        private final PgnDecoder decoder;
+        private final int size;
+        private final long[][] rawValues;
+
+        /*
+         * The status of the text SPNs, which isn't found from the raw value
+         */
+        private final BitSet[] textNotAvailable;
+        private final BitSet[] textErrors;
+
+        private Batch(PgnDecoder decoder,
+                      int size,
+                      long[][] rawValues,
+                      BitSet[] textNotAvailable,
+                      BitSet[] textErrors) {
+            this.decoder = decoder;
+            this.size = size;
+            this.rawValues = rawValues;
+            this.textNotAvailable = textNotAvailable;
+            this.textErrors = textErrors;
+        }
+
+        public PgnDecoder getDecoder() {
+            return decoder;
+        }
+
+        /**
+         * Returns the number of packets decoded
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the unscaled values of the SPN at the index, one for each
+         * packet in the order given. The array isn't copied.
+         */
+        public long[] getRawValues(int index) {
+            return rawValues[index];
+        }
+
+        /**
+         * Returns the scaled values of the SPN at the index, one for each packet
+         * in the order given, with NaN for the values that don't have one
+         */
+        public double[] getValues(int index) {
+            Slot slot = decoder.slots[index];
+            long[] raw = rawValues[index];
+            double[] result = new double[size];
+            for (int i = 0; i < size; i++) {
+                Double value = slot.asValue(raw[i]);
+                result[i] = value == null ? Double.NaN : value;
+            }
+            return result;
+        }
+
+        /**
+         * Returns true if the SPN at the index is NOT_AVAILABLE in the packet at
+         * the position, as the {@link Spn} would be
+         */
+        public boolean isNotAvailable(int index, int position) {
+            if (textNotAvailable[index] != null) {
+                return textNotAvailable[index].get(position);
+            }
+            return decoder.slots[index].isNotAvailableValue(rawValues[index][position]);
+        }
+
+        /**
+         * Returns true if the SPN at the index is ERROR in the packet at the
+         * position, as the {@link Spn} would be
+         */
+        public boolean isError(int index, int position) {
+            if (textErrors[index] != null) {
+                return textErrors[index].get(position);
+            }
+            return decoder.slots[index].isErrorValue(rawValues[index][position]);
+        }
+    }
+
+    private final PgnDefinition pgnDefinition;
+    private final SpnDefinition[] definitions;
+    private final int[] spnIds;
+    private final String[] labels;
+    private final Slot[] slots;
+    private final int[] startBytes;
+    private final int[] byteLengths;
+    private final int[] startBits;
+    private final long[] masks;
+    private final boolean hasText;
+
+    /*
+     * The SPN ids in ascending order with the index of each, so an SPN is
+     * found by binary search
+     */
+    private final int[] sortedSpnIds;
+    private final int[] sortedIndexes;
+
+    /**
+     * Compiles the plan for the PGN, resolving the {@link Slot}s from the
+     * repository
+     */
+    public PgnDecoder(PgnDefinition pgnDefinition, J1939DaRepository repository) {
+        this.pgnDefinition = pgnDefinition;
+
+        // SPNs without a length aren't decoded
+        List<SpnDefinition> spnDefinitions = new ArrayList<>();
+        List<Slot> spnSlots = new ArrayList<>();
+        for (SpnDefinition definition : pgnDefinition.getSpnDefinitions()) {
+            Slot slot = repository.findSLOT(definition.getSlotNumber(), definition.getSpnId());
+            if (slot.getLength() != 0) {
+                spnDefinitions.add(definition);
+                spnSlots.add(slot);
+            }
+        }
+
+        int count = spnDefinitions.size();
+        definitions = spnDefinitions.toArray(new SpnDefinition[0]);
+        slots = spnSlots.toArray(new Slot[0]);
+        spnIds = new int[count];
+        labels = new String[count];
+        startBytes = new int[count];
+        byteLengths = new int[count];
+        startBits = new int[count];
+        masks = new long[count];
+
+        boolean text = false;
+        for (int i = 0; i < count; i++) {
+            SpnDefinition definition = definitions[i];
+            int bitLength = slots[i].getLength();
+            spnIds[i] = definition.getSpnId();
+            labels[i] = definition.getLabel();
+            startBytes[i] = definition.getStartByte() - 1;
+            startBits[i] = definition.getStartBit();
+            if (bitLength < 0 || bitLength > 64) {
+                // byteLengths of 0 marks the SPNs decoded by the SpnDataParser
+                text = true;
+            } else {
+                byteLengths[i] = (bitLength + 7) / 8;
+                masks[i] = ~0L >>> (64 - bitLength);
+            }
+        }
+        hasText = text;
+
+        // SPN in the high half, index in the low half, so equal SPNs keep their order
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) spnIds[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        sortedSpnIds = new int[count];
+        sortedIndexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            sortedSpnIds[i] = (int) (keys[i] >> 32);
+            sortedIndexes[i] = (int) keys[i];
+        }
+    }
+
+    public PgnDefinition getPgnDefinition() {
+        return pgnDefinition;
+    }
+
+    /**
+     * Returns the number of SPNs decoded
+     */
+    public int size() {
+        return spnIds.length;
+    }
+
+    /**
+     * Returns the index of the first SPN with the given id or -1 if the PGN
+     * doesn't have the SPN
+     */
+    public int indexOf(int spn) {
+        int i = Arrays.binarySearch(sortedSpnIds, spn);
+        if (i < 0) {
+            return -1;
+        }
+        while (i > 0 && sortedSpnIds[i - 1] == spn) {
+            i--;
+        }
+        return sortedIndexes[i];
+    }
+
+    public int getSpnId(int index) {
+        return spnIds[index];
+    }
+
+    public Slot getSlot(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Decodes the SPNs of many packets of the PGN in one pass for each SPN.
+     *
+     * The payloads are copied once into one array, then each SPN is read from
+     * every payload in a simple loop over that array, which the JIT compiles
+     * well. The values are the same as those of {@link #decode(Packet)}.
+     *
+     * @param  packets
+     *                     the packets, which are all of the PGN
+     * @return         the {@link Batch} of values
+     */
+    public Batch decode(List<Packet> packets) {
+        int size = packets.size();
+        int stride = 0;
+        int[] lengths = new int[size];
+        for (int p = 0; p < size; p++) {
+            lengths[p] = packets.get(p).getLength();
+            stride = Math.max(stride, lengths[p]);
+        }
+        byte[] payloads = new byte[size * stride];
+        for (int p = 0; p < size; p++) {
+            byte[] bytes = packets.get(p).getBytes();
+            System.arraycopy(bytes, 0, payloads, p * stride, bytes.length);
+        }
+
+        long[][] rawValues = new long[spnIds.length][];
+        BitSet[] textNotAvailable = new BitSet[spnIds.length];
+        BitSet[] textErrors = new BitSet[spnIds.length];
+        for (int i = 0; i < spnIds.length; i++) {
+            long[] values = new long[size];
+            int byteLength = byteLengths[i];
+            if (byteLength == 0) {
+                textNotAvailable[i] = new BitSet(size);
+                textErrors[i] = new BitSet(size);
+                for (int p = 0; p < size; p++) {
+                    byte[] bytes = Arrays.copyOfRange(payloads, p * stride, p * stride + lengths[p]);
+                    byte[] data = SpnDataParser.parse(bytes, definitions[i], slots[i].getLength());
+                    Spn spn = new Spn(spnIds[i], labels[i], slots[i], data);
+                    values[p] = spn.getRawValue();
+                    textNotAvailable[i].set(p, spn.isNotAvailable());
+                    textErrors[i].set(p, spn.isError());
+                }
+            } else if (startBytes[i] >= 0 && startBits[i] >= 0) {
+                int startByte = startBytes[i];
+                int end = startByte + byteLength;
+                int shift = startBits[i] - 1;
+                long mask = masks[i];
+                for (int p = 0; p < size; p++) {
+                    // missing data is decoded as zero, which values already is
+                    if (end <= lengths[p]) {
+                        int offset = p * stride + startByte;
+                        long value = 0;
+                        for (int j = 0; j < byteLength; j++) {
+                            // a shift of 0 leaves the byte as is
+                            value |= ((long) ((payloads[offset + j] >> shift) & 0xFF)) << (j * 8);
+                        }
+                        values[p] = value & mask;
+                    }
+                }
+            }
+            rawValues[i] = values;
+        }
+        return new Batch(this, size, rawValues, textNotAvailable, textErrors);
+    }
+
+    /**
+     * Decodes the SPNs of the packet
+     */
+    public Values decode(Packet packet) {
+        int count = spnIds.length;
+        long[] rawValues = new long[count];
+        double[] values = new double[count];
+        Spn[] textSpns = hasText ? new Spn[count] : null;
+        byte[] bytes = null;
+        int length = packet.getLength();
+
+        for (int i = 0; i < count; i++) {
+            int byteLength = byteLengths[i];
+            if (byteLength == 0) {
+                if (bytes == null) {
+                    bytes = packet.getBytes();
+                }
+                Spn spn = new Spn(spnIds[i],
+                                  labels[i],
+                                  slots[i],
+                                  SpnDataParser.parse(bytes, definitions[i], slots[i].getLength()));
+                textSpns[i] = spn;
+                rawValues[i] = spn.getRawValue();
+                Double value = spn.getValue();
+                values[i] = value == null ? Double.NaN : value;
+                continue;
+            }
+
+            // as the SpnDataParser, missing data is decoded as zero
+            long value = 0;
+            int startByte = startBytes[i];
+            int startBit = startBits[i];
+            if (startByte >= 0 && startBit >= 0 && startByte + byteLength <= length) {
+                for (int j = 0; j < byteLength; j++) {
+                    // each byte is shifted on its own, as signed, as the SpnDataParser does
+                    byte b = (byte) packet.get(startByte + j);
+                    if (startBit != 1) {
+                        b = (byte) (b >> (startBit - 1));
+                    }
+                    value |= ((long) (b & 0xFF)) << (j * 8);
+                }
+                value &= masks[i];
+            }
+            rawValues[i] = value;
+            Double scaled = slots[i].asValue(value);
+            values[i] = scaled == null ? Double.NaN : scaled;
+        }
+        return new Values(this, rawValues, values, textSpns);
+    }
+}
@@ -8,6 +8,7 @@ import static org.etools.j1939tools.utils.CollectionUtils.join;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.J1939DaRepository;
 import org.etools.j1939tools.utils.NumberFormatter;
 
@@ -67,6 +68,13 @@ public class ScaledTestResult implements Comparable<ScaledTestResult> {
         return new ScaledTestResult(data);
     }
 
+    /**
+     * Writes the 12 bytes of the test result to the builder
+     */
+    void writeTo(PacketBuilder builder) {
+        builder.put(data);
+    }
+
     public int[] getData() {
         return Arrays.copyOf(data, data.length);
     }
@@ -119,6 +127,15 @@ public class ScaledTestResult implements Comparable<ScaledTestResult> {
         return slot;
     }
 
+    /**
+     * Returns the number of the {@link Slot} used to scale the values
+     *
+     * @return int
+     */
+    public int getSlotNumber() {
+        return slotNumber;
+    }
+
     /**
      * Returns the Suspect Parameter Number
      *
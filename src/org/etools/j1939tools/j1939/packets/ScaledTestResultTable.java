@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.j1939.packets;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.etools.j1939tools.bus.Packet;
+
+/**
+ * {@link ScaledTestResult}s stored in primitive arrays sorted by SPN, FMI and
+ * Test Identifier.
+ *
+ * Each test result has a key packing its SPN, FMI and TID, so finding a test
+ * is a binary search of the keys and comparing the tests of two tables, as the
+ * steps that check the test results against those of part 1 do, is a merge of
+ * two sorted arrays. Test results with the same key are kept in the order
+ * they were received. The table can't be modified.
+ */
+public class ScaledTestResultTable {
+
+    /**
+     * The differences between the test results of two tables, matched by key
+     */
+    public static class Diff {
+        private final int[] added;
+        private final int[] removed;
+        private final int[] changed;
+
+        private Diff(int[] added, int[] removed, int[] changed) {
+            this.added = added;
+            this.removed = removed;
+            this.changed = changed;
+        }
+
+        /**
+         * Returns the indexes in the current table of the tests that aren't in
+         * the previous table
+         */
+        public int[] getAdded() {
+            return added;
+        }
+
+        /**
+         * Returns the indexes in the previous table of the tests that aren't in
+         * the current table
+         */
+        public int[] getRemoved() {
+            return removed;
+        }
+
+        /**
+         * Returns the indexes in the current table of the tests whose SLOT,
+         * value, maximum or minimum is different in the previous table
+         */
+        public int[] getChanged() {
+            return changed;
+        }
+
+        public boolean isEmpty() {
+            return added.length == 0 && removed.length == 0 && changed.length == 0;
+        }
+    }
+
+    private static final ScaledTestResultTable EMPTY = new ScaledTestResultTable(0);
+
+    // SPN, FMI, TID
+    private final long[] keys;
+    private final int[] slotNumbers;
+    private final int[] testValues;
+    private final int[] testMaximums;
+    private final int[] testMinimums;
+
+    private ScaledTestResultTable(int size) {
+        keys = new long[size];
+        slotNumbers = new int[size];
+        testValues = new int[size];
+        testMaximums = new int[size];
+        testMinimums = new int[size];
+    }
+
+    /**
+     * Returns the table of the given test results
+     */
+    public static ScaledTestResultTable of(Collection<ScaledTestResult> testResults) {
+        if (testResults.isEmpty()) {
+            return EMPTY;
+        }
+        ScaledTestResultTable table = new ScaledTestResultTable(testResults.size());
+        int i = 0;
+        for (ScaledTestResult testResult : testResults) {
+            table.keys[i] = getKey(testResult.getSpn(), testResult.getFmi(), testResult.getTestIdentifier());
+            table.slotNumbers[i] = testResult.getSlotNumber();
+            table.testValues[i] = testResult.getTestValue();
+            table.testMaximums[i] = testResult.getTestMaximum();
+            table.testMinimums[i] = testResult.getTestMinimum();
+            i++;
+        }
+        return table.sorted();
+    }
+
+    /**
+     * Returns the table of the test results of a DM30, read from every 12
+     * bytes of the packet without creating the {@link ScaledTestResult}s
+     */
+    static ScaledTestResultTable of(Packet packet) {
+        int size = packet.getLength() / 12;
+        if (size == 0) {
+            return EMPTY;
+        }
+        ScaledTestResultTable table = new ScaledTestResultTable(size);
+        for (int i = 0; i < size; i++) {
+            int offset = i * 12;
+            int spn = (((packet.get(offset + 3) & 0xE0) << 11) & 0xFF0000) | ((packet.get(offset + 2) << 8) & 0xFF00)
+                    | (packet.get(offset + 1) & 0xFF);
+            int fmi = packet.get(offset + 3) & 0x1F;
+            table.keys[i] = getKey(spn, fmi, packet.get(offset));
+            table.slotNumbers[i] = packet.get16(offset + 4);
+            table.testValues[i] = packet.get16(offset + 6);
+            table.testMaximums[i] = packet.get16(offset + 8);
+            table.testMinimums[i] = packet.get16(offset + 10);
+        }
+        return table.sorted();
+    }
+
+    /**
+     * Returns the key of a test, which is in order of SPN, FMI then TID
+     */
+    public static long getKey(int spn, int fmi, int testIdentifier) {
+        return ((long) spn << 13) | ((fmi & 0x1F) << 8) | (testIdentifier & 0xFF);
+    }
+
+    private ScaledTestResultTable sorted() {
+        int size = keys.length;
+        // the index is packed below the key, so the sort is stable
+        long[] order = new long[size];
+        boolean isSorted = true;
+        for (int i = 0; i < size; i++) {
+            order[i] = (keys[i] << 20) | i;
+            isSorted &= i == 0 || keys[i - 1] <= keys[i];
+        }
+        if (isSorted) {
+            return this;
+        }
+        Arrays.sort(order);
+        ScaledTestResultTable result = new ScaledTestResultTable(size);
+        for (int i = 0; i < size; i++) {
+            int index = (int) (order[i] & 0xFFFFF);
+            result.keys[i] = keys[index];
+            result.slotNumbers[i] = slotNumbers[index];
+            result.testValues[i] = testValues[index];
+            result.testMaximums[i] = testMaximums[index];
+            result.testMinimums[i] = testMinimums[index];
+        }
+        return result;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    public long getKey(int index) {
+        return keys[index];
+    }
+
+    public int getSpn(int index) {
+        return (int) (keys[index] >>> 13);
+    }
+
+    public int getFmi(int index) {
+        return (int) (keys[index] >>> 8) & 0x1F;
+    }
+
+    public int getTestIdentifier(int index) {
+        return (int) keys[index] & 0xFF;
+    }
+
+    public int getSlotNumber(int index) {
+        return slotNumbers[index];
+    }
+
+    public int getTestValue(int index) {
+        return testValues[index];
+    }
+
+    public int getTestMaximum(int index) {
+        return testMaximums[index];
+    }
+
+    public int getTestMinimum(int index) {
+        return testMinimums[index];
+    }
+
+    /**
+     * Returns true if the test at the index is initialized, as
+     * {@link ScaledTestResult#isInitialized()}
+     */
+    public boolean isInitialized(int index) {
+        int value = testValues[index];
+        int min = testMinimums[index];
+        int max = testMaximums[index];
+        boolean initHigh = value == 0xFB00 && min == 0xFFFF && max == 0xFFFF;
+        boolean initLow = value == 0x0000 && min == 0x0000 && max == 0x0000;
+        return initHigh || initLow;
+    }
+
+    /**
+     * Creates the {@link ScaledTestResult} at the index
+     */
+    public ScaledTestResult getTestResult(int index) {
+        int spn = getSpn(index);
+        int[] data = { getTestIdentifier(index),
+                spn & 0xFF, (spn >> 8) & 0xFF, ((spn >> 11) & 0xE0) | getFmi(index),
+                slotNumbers[index] & 0xFF, slotNumbers[index] >> 8,
+                testValues[index] & 0xFF, testValues[index] >> 8,
+                testMaximums[index] & 0xFF, testMaximums[index] >> 8,
+                testMinimums[index] & 0xFF, testMinimums[index] >> 8 };
+        return new ScaledTestResult(data);
+    }
+
+    /**
+     * Returns the index of the first test with the SPN, FMI and TID or -1 if
+     * there isn't one
+     */
+    public int indexOf(int spn, int fmi, int testIdentifier) {
+        long key = getKey(spn, fmi, testIdentifier);
+        int index = firstIndexAtLeast(key);
+        return index < keys.length && keys[index] == key ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first test with the SPN and FMI, for any TID,
+     * or -1 if there isn't one
+     */
+    public int indexOf(int spn, int fmi) {
+        int index = firstIndexAtLeast(getKey(spn, fmi, 0));
+        return index < keys.length && getSpn(index) == spn && getFmi(index) == fmi ? index : -1;
+    }
+
+    private int firstIndexAtLeast(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if both tables have the same SPN and FMI combinations the
+     * same number of times, whatever the TIDs
+     */
+    public boolean hasSameSpnFmis(ScaledTestResultTable other) {
+        return Arrays.equals(getSpnFmis(), other.getSpnFmis());
+    }
+
+    /**
+     * Returns true if both tables have the same SPN and FMI combinations,
+     * whatever the TIDs or the number of times each is in a table
+     */
+    public boolean hasSameDistinctSpnFmis(ScaledTestResultTable other) {
+        return Arrays.equals(distinct(getSpnFmis()), distinct(other.getSpnFmis()));
+    }
+
+    // the SPN and FMI of each test, which are in order as the keys are
+    private long[] getSpnFmis() {
+        long[] result = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = keys[i] >>> 8;
+        }
+        return result;
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (count == 0 || sorted[count - 1] != sorted[i]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    /**
+     * Returns the differences from the previous table to this one. The tests
+     * with the same key are matched in order.
+     */
+    public Diff diff(ScaledTestResultTable previous) {
+        int[] added = new int[keys.length];
+        int[] removed = new int[previous.keys.length];
+        int[] changed = new int[keys.length];
+        int addedCount = 0;
+        int removedCount = 0;
+        int changedCount = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < previous.keys.length) {
+            if (j == previous.keys.length || (i < keys.length && keys[i] < previous.keys[j])) {
+                added[addedCount++] = i++;
+            } else if (i == keys.length || keys[i] > previous.keys[j]) {
+                removed[removedCount++] = j++;
+            } else {
+                if (slotNumbers[i] != previous.slotNumbers[j] || testValues[i] != previous.testValues[j]
+                        || testMaximums[i] != previous.testMaximums[j]
+                        || testMinimums[i] != previous.testMinimums[j]) {
+                    changed[changedCount++] = i;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new Diff(Arrays.copyOf(added, addedCount),
+                        Arrays.copyOf(removed, removedCount),
+                        Arrays.copyOf(changed, changedCount));
+    }
+}
@@ -4,6 +4,7 @@
 package org.etools.j1939tools.j1939.packets;
 
 import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 
 /**
@@ -21,6 +22,20 @@ public class Slot {
     private final String type;
     private final String unit;
 
+    /*
+     * Derived from the fields above when the SLOT is created, as they're used
+     * for every value decoded
+     */
+    private final boolean isAscii;
+    private final boolean isBitField;
+    private final boolean isVariableAsciiStar;
+    private final boolean isVariableAsciiNull;
+    private final int byteLength;
+    private final long mask;
+    private final long statusMask;
+    private final long errorValue;
+    private final long fbValue;
+
     public Slot(int id, String name, String type, Double scaling, Double offset, String unit, int length) {
         this.id = id;
         this.name = name;
@@ -29,6 +44,19 @@ public class Slot {
         this.offset = offset;
         this.unit = unit;
         this.length = length;
+
+        String upperType = type == null ? "" : type.toUpperCase(Locale.ROOT);
+        isAscii = upperType.contains("ASCII");
+        isBitField = upperType.startsWith("BIT");
+        boolean isVariable = type != null && type.contains("variable, ");
+        isVariableAsciiStar = isVariable && type.contains("*");
+        isVariableAsciiNull = isVariable && !isVariableAsciiStar && type.contains("NULL");
+        byteLength = length / 8 + (length % 8 != 0 ? 1 : 0);
+        mask = ~0L >>> (64 - length);
+        // the most significant byte holds the NOT_AVAILABLE, ERROR and FB indicators
+        statusMask = ((long) 0xFF) << (length - 8);
+        errorValue = ((long) 0xFE) << (length - 8);
+        fbValue = ((long) 0xFB) << (length - 8);
     }
 
     /**
@@ -53,22 +81,20 @@ public class Slot {
             return "Not Available";
         }
 
-        if (isAscii()) {
+        if (isAscii) {
             String result = new String(data, StandardCharsets.UTF_8);
-            if (type.contains("variable, ")) {
-                if (type.contains("*")) {
-                    return result.split("\\*")[0];
-                } else if (type.contains("NULL")) {
-                    return result.split(Character.toString(0))[0];
-                }
+            if (isVariableAsciiStar) {
+                return result.split("\\*")[0];
+            } else if (isVariableAsciiNull) {
+                return result.split(Character.toString(0))[0];
             }
             return result;
         }
 
         long value = toValue(data);
 
-        if (isBitField()) {
-            return String.format("%" + length + "s", Long.toBinaryString(value)).replace(' ', '0');
+        if (isBitField) {
+            return toBinaryString(value);
         }
 
         if (isNotAvailable(data)) {
@@ -83,7 +109,7 @@ public class Slot {
             return String.format("0x%X", value);
         }
 
-        String printedValue = String.format("%.3f", scale(value));
+        String printedValue = format(scale(value));
         if (unit != null && includeUnits) {
             return printedValue + " " + unit;
         } else {
@@ -91,6 +117,62 @@ public class Slot {
         }
     }
 
+    /**
+     * Returns the value as binary, padded with zeros to the length of the SLOT
+     */
+    private String toBinaryString(long value) {
+        String binary = Long.toBinaryString(value);
+        int padding = length - binary.length();
+        if (padding <= 0) {
+            return binary;
+        }
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < padding; i++) {
+            sb.append('0');
+        }
+        return sb.append(binary).toString();
+    }
+
+    /**
+     * Formats the value as String.format("%.3f", value) does. Whole values,
+     * which are most of them, are formatted without parsing the format.
+     */
+    private static String format(double value) {
+        if (value == Math.rint(value) && value < 1.0E15 && (value > 0 || Double.doubleToRawLongBits(value) == 0)) {
+            FormatSymbols symbols = getFormatSymbols();
+            if (symbols.zeroDigit == '0') {
+                return Long.toString((long) value) + symbols.decimalSeparator + "000";
+            }
+        }
+        return String.format("%.3f", value);
+    }
+
+    private static class FormatSymbols {
+        private final Locale locale;
+        private final char zeroDigit;
+        private final char decimalSeparator;
+
+        private FormatSymbols(Locale locale) {
+            this.locale = locale;
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            zeroDigit = symbols.getZeroDigit();
+            decimalSeparator = symbols.getDecimalSeparator();
+        }
+    }
+
+    private static volatile FormatSymbols formatSymbols;
+
+    private static FormatSymbols getFormatSymbols() {
+        // String.format uses the default locale, which may be changed
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        FormatSymbols symbols = formatSymbols;
+        if (symbols == null || !symbols.locale.equals(locale)) {
+            symbols = new FormatSymbols(locale);
+            formatSymbols = symbols;
+        }
+        return symbols;
+    }
+
     /**
      * Returns the data in a scaled value. If the type is ASCII or the value is
      * NOT_AVAILABLE or ERROR, null is returned
@@ -100,17 +182,32 @@ public class Slot {
      * @return      the scaled value or null
      */
     public Double asValue(byte[] data) {
-        if (isAscii() || data.length == 0) {
+        if (isAscii || data.length == 0) {
             return null;
         }
 
-        long value = toValue(data);
+        return asValue(toValue(data));
+    }
 
-        if (isBitField()) {
+    /**
+     * Returns the unscaled value, as returned by {@link #toValue(byte[])}, as a
+     * scaled value. If the type is ASCII or the value is NOT_AVAILABLE or
+     * ERROR, null is returned
+     *
+     * @param  value
+     *                   the unscaled value
+     * @return       the scaled value or null
+     */
+    public Double asValue(long value) {
+        if (isAscii) {
+            return null;
+        }
+
+        if (isBitField) {
             return (double) value;
         }
 
-        if (isNotAvailable(data) || isError(data) || isFB(data)) {
+        if (length != 1 && (isNotAvailable(value) || isError(value) || isFB(value))) {
             return null;
         }
 
@@ -118,7 +215,7 @@ public class Slot {
     }
 
     public byte[] asBytes(double value) {
-        if (isAscii()) {
+        if (isAscii) {
             return new byte[0];
         }
         double unscaled = unscale(value);
@@ -127,15 +224,15 @@ public class Slot {
 
     private long flipBytes(byte[] data) {
         long value = 0;
-        for (int i = 0; i < getByteLength(); i++) {
+        for (int i = 0; i < byteLength; i++) {
             value += ((long) (data[i] & 0xFF)) << i * 8;
         }
         return value;
     }
 
     private byte[] flipBytes(long value) {
-        byte[] bytes = new byte[getByteLength()];
-        for (int i = 0; i < getByteLength(); i++) {
+        byte[] bytes = new byte[byteLength];
+        for (int i = 0; i < byteLength; i++) {
             bytes[i] += (byte) (value >> (i * 8)) & 0xFF;
         }
         return bytes;
@@ -169,46 +266,43 @@ public class Slot {
         return unit;
     }
 
-    private boolean isAscii() {
-        return type.toUpperCase(Locale.ROOT).contains("ASCII");
-    }
-
-    private boolean isBitField() {
-        return type.toUpperCase(Locale.ROOT).startsWith("BIT");
-    }
-
     public boolean isError(byte[] data) {
-        if (length == 1 || isAscii() || data.length == 0) {
+        if (length == 1 || isAscii || data.length == 0) {
             return false;
         }
 
-        long value = toValue(data);
-        if (isBitField()) {
-            long mask = mask();
+        return isError(toValue(data));
+    }
+
+    /**
+     * Returns true if the unscaled value is ERROR, as {@link #isError(byte[])}
+     * is for the bytes of the value
+     */
+    public boolean isErrorValue(long value) {
+        return length != 1 && !isAscii && isError(value & mask);
+    }
+
+    private boolean isError(long value) {
+        if (isBitField) {
             return (value & mask) == (mask - 1);
         }
-
-        long mask = ((long) 0xFF) << (length - 8);
-        long error = ((long) 0xFE) << (length - 8);
-        long maskedValue = value & mask;
-        return maskedValue == error;
+        return (value & statusMask) == errorValue;
     }
 
     public boolean isFB(byte[] data) {
-        if (length == 1 || isAscii() || data.length == 0) {
+        if (length == 1 || isAscii || data.length == 0) {
             return false;
         }
 
-        long value = toValue(data);
+        return isFB(toValue(data));
+    }
 
-        long mask = ((long) 0xFF) << (length - 8);
-        long fb = ((long) 0xFB) << (length - 8);
-        long maskedValue = value & mask;
-        return maskedValue == fb;
+    private boolean isFB(long value) {
+        return (value & statusMask) == fbValue;
     }
 
     public boolean isNotAvailable(byte[] data) {
-        if (length == 1 || isAscii()) {
+        if (length == 1 || isAscii) {
             return false;
         }
 
@@ -216,26 +310,28 @@ public class Slot {
             return true;
         }
 
-        long value = toValue(data);
-        if (isBitField()) {
-            long mask = mask();
-            long maskedValue = value & mask;
-            return maskedValue == mask;
-        }
+        return isNotAvailable(toValue(data));
+    }
+
+    /**
+     * Returns true if the unscaled value is NOT_AVAILABLE, as
+     * {@link #isNotAvailable(byte[])} is for the bytes of the value
+     */
+    public boolean isNotAvailableValue(long value) {
+        return length != 1 && !isAscii && isNotAvailable(value & mask);
+    }
 
-        long mask = ((long) 0xFF) << (length - 8);
-        long maskedValue = value & mask;
-        return maskedValue == mask;
+    private boolean isNotAvailable(long value) {
+        if (isBitField) {
+            return (value & mask) == mask;
+        }
+        return (value & statusMask) == statusMask;
     }
 
     private long mask(int dataLength) {
         return ~0L >>> (dataLength - length);
     }
 
-    private long mask() {
-        return ~0L >>> (64 - length);
-    }
-
     /**
      * Returns a scaled value. That is result = value * scaling + offset
      *
@@ -271,25 +367,21 @@ public class Slot {
             return -1;
         }
         if (length <= 8) {
-            return data[0] & 0xFF & mask();
+            return data[0] & 0xFF & mask;
         }
-        return flipBytes(data) & mask();
+        return flipBytes(data) & mask;
     }
 
     public int getByteLength() {
-        int byteLength = length / 8;
-        if (length % 8 != 0) {
-            byteLength++;
-        }
         return byteLength;
     }
 
     private byte[] toBytes(double value) {
         long data = Double.valueOf(value).longValue();
         if (length <= 8) {
-            return new byte[] { (byte) (data & mask()) };
+            return new byte[] { (byte) (data & mask) };
         }
-        return flipBytes(data & mask());
+        return flipBytes(data & mask);
     }
 
 
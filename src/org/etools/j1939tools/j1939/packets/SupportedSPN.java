@@ -6,6 +6,7 @@ package org.etools.j1939tools.j1939.packets;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.etools.j1939tools.bus.PacketBuilder;
 import org.etools.j1939tools.j1939.Lookup;
 import org.etools.j1939tools.utils.CollectionUtils;
 
@@ -90,6 +91,13 @@ public class SupportedSPN {
         return spn;
     }
 
+    /**
+     * Writes the 4 bytes of the SupportedSPN to the builder
+     */
+    void writeTo(PacketBuilder builder) {
+        builder.put(data);
+    }
+
     public int[] getData() {
         return Arrays.copyOf(data, data.length);
     }
@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import org.etools.j1939tools.bus.Packet;
+import org.etools.j1939tools.bus.PacketBuilder;
 
 /**
  * Parses the Vehicle Identification Packet (PGN 65260)
@@ -27,7 +28,8 @@ public class VehicleIdentificationPacket extends GenericPacket {
     }
 
     public static VehicleIdentificationPacket create(int source, String vin) {
-        return new VehicleIdentificationPacket(Packet.create(PGN, source, vin.getBytes(StandardCharsets.UTF_8)));
+        byte[] bytes = vin.getBytes(StandardCharsets.UTF_8);
+        return new VehicleIdentificationPacket(new PacketBuilder(PGN, source, bytes.length).put(bytes).build());
     }
     /**
      * Returns the data, if any, that exist beyond the asterisk
@@ -27,6 +27,7 @@ import org.etools.j1939tools.bus.Packet;
 import org.etools.j1939tools.bus.RequestResult;
 import org.etools.j1939tools.j1939.J1939;
 import org.etools.j1939tools.j1939.J1939DaRepository;
+import org.etools.j1939tools.j1939.PacketParserRegistry;
 import org.etools.j1939tools.j1939.model.PgnDefinition;
 import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
 import org.etools.j1939tools.j1939.packets.CompositeMonitoredSystem;
@@ -416,11 +417,10 @@ public class CommunicationsModule extends FunctionalModule {
 
     // Helper method to get the pg for the class object
     private int getPg(Class<? extends GenericPacket> clazz, CommunicationsListener listener) {
-        int pg = 0;
-        try {
-            pg = clazz.getField("PGN").getInt(null);
-        } catch (Exception e) {
+        int pg = PacketParserRegistry.getPgn(clazz);
+        if (pg < 0) {
             listener.onResult("Error occurred while trying to get PG of class");
+            pg = 0;
         }
         return pg;
     }
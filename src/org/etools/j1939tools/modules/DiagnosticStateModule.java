@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.modules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.etools.j1939tools.bus.Either;
+import org.etools.j1939tools.j1939.J1939;
+import org.etools.j1939tools.j1939.packets.AcknowledgmentPacket;
+import org.etools.j1939tools.j1939.packets.CompositeMonitoredSystem;
+import org.etools.j1939tools.j1939.packets.DM12MILOnEmissionDTCPacket;
+import org.etools.j1939tools.j1939.packets.DM1ActiveDTCsPacket;
+import org.etools.j1939tools.j1939.packets.DM5DiagnosticReadinessPacket;
+import org.etools.j1939tools.j1939.packets.DM6PendingEmissionDTCPacket;
+import org.etools.j1939tools.j1939.packets.DiagnosticReadinessPacket;
+import org.etools.j1939tools.j1939.packets.DiagnosticTroubleCode;
+import org.etools.j1939tools.j1939.packets.DiagnosticTroubleCodePacket;
+import org.etools.j1939tools.j1939.packets.GenericPacket;
+import org.etools.j1939tools.utils.ExecutorFactory;
+
+/**
+ * {@link FunctionalModule} that keeps the latest diagnostic state of the
+ * vehicle from the DM packets observed on the bus, whether broadcast or sent in
+ * response to a request.
+ *
+ * The latest DTC packet (DM1, DM2, DM6, DM12, DM23, DM27, DM28) and readiness
+ * packet (DM5, DM26) from each module is kept. The composite DTCs and monitored
+ * systems are rebuilt only when a module reports something different, so the
+ * queries are answered from the last computed result.
+ */
+public class DiagnosticStateModule extends FunctionalModule {
+
+    /**
+     * The state computed from the packets of one PGN. Instances are replaced,
+     * never modified, so readers don't need to lock.
+     */
+    private static class PgnState<T extends GenericPacket> {
+        private final Map<Integer, T> packets;
+        private final List<DiagnosticTroubleCode> compositeDtcs;
+        private final List<CompositeMonitoredSystem> compositeSystems;
+
+        private PgnState(Map<Integer, T> packets,
+                         List<DiagnosticTroubleCode> compositeDtcs,
+                         List<CompositeMonitoredSystem> compositeSystems) {
+            this.packets = Collections.unmodifiableMap(packets);
+            this.compositeDtcs = compositeDtcs;
+            this.compositeSystems = compositeSystems;
+        }
+
+        /**
+         * Returns the state with the given packets and the composites of this
+         * one, for packets with the same content
+         */
+        private PgnState<T> withPackets(Map<Integer, T> packets) {
+            return new PgnState<>(packets, compositeDtcs, compositeSystems);
+        }
+    }
+
+    private final Map<Integer, PgnState<DiagnosticTroubleCodePacket>> dtcStates = new ConcurrentHashMap<>();
+
+    private final Map<Integer, PgnState<DiagnosticReadinessPacket>> readinessStates = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the bus on a thread of its own, updating the state with every DM
+     * packet while keepReading returns true
+     *
+     * @param  keepReading
+     *                         reading continues while this returns true
+     * @param  onChange
+     *                         given each packet that changed the state
+     * @return             the thread reading the bus
+     */
+    public Thread startMonitoring(Predicate<Either<GenericPacket, AcknowledgmentPacket>> keepReading,
+                                  Consumer<GenericPacket> onChange) {
+        J1939 j1939 = getJ1939();
+        return ExecutorFactory.startThread("Diagnostic State",
+                                           () -> j1939.readGenericPacket(keepReading)
+                                                      .filter(this::update)
+                                                      .forEach(onChange));
+    }
+
+    /**
+     * Updates the state with the given packet. Packets other than DTC and
+     * readiness packets are ignored.
+     *
+     * @param  packet
+     *                    the packet received from the bus
+     * @return        true if the state changed
+     */
+    public boolean update(GenericPacket packet) {
+        if (packet instanceof DiagnosticTroubleCodePacket) {
+            return update(dtcStates, (DiagnosticTroubleCodePacket) packet);
+        } else if (packet instanceof DiagnosticReadinessPacket) {
+            return update(readinessStates, (DiagnosticReadinessPacket) packet);
+        }
+        return false;
+    }
+
+    private synchronized <T extends GenericPacket> boolean update(Map<Integer, PgnState<T>> states, T packet) {
+        int pgn = packet.getPacket().getPgn();
+        PgnState<T> state = states.get(pgn);
+        Map<Integer, T> packets = new TreeMap<>(state == null ? Map.of() : state.packets);
+        T previous = packets.put(packet.getSourceAddress(), packet);
+        if (packet.equals(previous)) {
+            // broadcasts repeat the same content; keep the newest packet, but
+            // there's nothing to rebuild
+            states.put(pgn, state.withPackets(packets));
+            return false;
+        }
+        states.put(pgn, createState(packets));
+        return true;
+    }
+
+    private static <T extends GenericPacket> PgnState<T> createState(Map<Integer, T> packets) {
+        Set<DiagnosticTroubleCode> dtcs = new LinkedHashSet<>();
+        List<DiagnosticReadinessPacket> readinessPackets = new ArrayList<>();
+        boolean isDM5 = false;
+        for (T packet : packets.values()) {
+            if (packet instanceof DiagnosticTroubleCodePacket) {
+                dtcs.addAll(((DiagnosticTroubleCodePacket) packet).getDtcs());
+            } else if (packet instanceof DiagnosticReadinessPacket) {
+                readinessPackets.add((DiagnosticReadinessPacket) packet);
+                isDM5 = packet instanceof DM5DiagnosticReadinessPacket;
+            }
+        }
+        return new PgnState<>(packets,
+                              List.copyOf(dtcs),
+                              Collections.unmodifiableList(CommunicationsModule.getCompositeSystems(readinessPackets,
+                                                                                                    isDM5)));
+    }
+
+    /**
+     * Returns the latest DTC packet of the given PGN from the module
+     *
+     * @param  pgn
+     *                     the PGN of the DTC packet (DM1, DM6, DM12, etc.)
+     * @param  address
+     *                     the source address of the module
+     * @return         the packet, if one has been received
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DiagnosticTroubleCodePacket> Optional<T> getDtcPacket(int pgn, int address) {
+        return Optional.ofNullable(dtcStates.get(pgn)).map(s -> (T) s.packets.get(address));
+    }
+
+    /**
+     * Returns the latest DTC packet of the given PGN from every module, ordered
+     * by source address
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DiagnosticTroubleCodePacket> List<T> getDtcPackets(int pgn) {
+        PgnState<DiagnosticTroubleCodePacket> state = dtcStates.get(pgn);
+        return state == null ? List.of()
+                : state.packets.values().stream().map(p -> (T) p).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the DTCs most recently reported by the module in the given PGN
+     */
+    public List<DiagnosticTroubleCode> getDtcs(int pgn, int address) {
+        return getDtcPacket(pgn, address).map(DiagnosticTroubleCodePacket::getDtcs).orElse(List.of());
+    }
+
+    /**
+     * Returns the distinct DTCs most recently reported by all modules in the
+     * given PGN
+     */
+    public List<DiagnosticTroubleCode> getCompositeDtcs(int pgn) {
+        PgnState<DiagnosticTroubleCodePacket> state = dtcStates.get(pgn);
+        return state == null ? List.of() : state.compositeDtcs;
+    }
+
+    /**
+     * Returns the latest readiness packet of the given PGN from the module
+     *
+     * @param  pgn
+     *                     the PGN of the readiness packet (DM5 or DM26)
+     * @param  address
+     *                     the source address of the module
+     * @return         the packet, if one has been received
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DiagnosticReadinessPacket> Optional<T> getReadinessPacket(int pgn, int address) {
+        return Optional.ofNullable(readinessStates.get(pgn)).map(s -> (T) s.packets.get(address));
+    }
+
+    /**
+     * Returns the composite monitored systems of all modules that reported the
+     * readiness PGN
+     *
+     * @param  pgn
+     *                 the PGN of the readiness packet (DM5 or DM26)
+     * @return     the {@link CompositeMonitoredSystem}s
+     */
+    public List<CompositeMonitoredSystem> getCompositeSystems(int pgn) {
+        PgnState<DiagnosticReadinessPacket> state = readinessStates.get(pgn);
+        return state == null ? List.of() : state.compositeSystems;
+    }
+
+    /**
+     * Returns the state for display: the MIL status from the DM1s and the
+     * number of DTCs in each of the DM1, DM12 and DM6 that have been reported
+     */
+    public String getSummary() {
+        List<DiagnosticTroubleCodePacket> dm1s = getDtcPackets(DM1ActiveDTCsPacket.PGN);
+        if (dm1s.isEmpty()) {
+            return "No DM1 received";
+        }
+        boolean milOn = dm1s.stream().anyMatch(p -> p.getMalfunctionIndicatorLampStatus().isActive());
+        String summary = "MIL " + (milOn ? "on" : "off");
+        summary += getDtcCount("DM1", DM1ActiveDTCsPacket.PGN);
+        summary += getDtcCount("DM12", DM12MILOnEmissionDTCPacket.PGN);
+        summary += getDtcCount("DM6", DM6PendingEmissionDTCPacket.PGN);
+        return summary;
+    }
+
+    private String getDtcCount(String name, int pgn) {
+        PgnState<DiagnosticTroubleCodePacket> state = dtcStates.get(pgn);
+        return state == null ? "" : ", " + name + ": " + state.compositeDtcs.size() + " DTCs";
+    }
+
+    /**
+     * Forgets everything that has been observed
+     */
+    public synchronized void reset() {
+        dtcStates.clear();
+        readinessStates.clear();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.etools.j1939_84.J1939_84;
+
+/**
+ * Creates the threads and executors used by the application.
+ *
+ * When the {@value #VIRTUAL_THREADS_PROPERTY_NAME} system property is true and
+ * the JVM supports virtual threads (Java 21 or later), the threads are virtual
+ * threads. Otherwise they are the same platform threads the application has
+ * always used. Virtual threads are found by reflection so the application
+ * still builds and runs on older JVMs.
+ */
+public final class ExecutorFactory {
+
+    /**
+     * The name of the property that is set to run the application on virtual
+     * threads
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY_NAME = "VIRTUAL_THREADS";
+
+    /**
+     * Creates unstarted virtual threads or null if they aren't supported
+     */
+    private static final ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (Exception e) {
+            // Virtual threads are not available before Java 21
+            return null;
+        }
+    }
+
+    private ExecutorFactory() {
+    }
+
+    /**
+     * Returns true if the threads created by the factory are virtual threads
+     */
+    public static boolean isVirtual() {
+        return virtualThreadFactory != null && Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY_NAME);
+    }
+
+    /**
+     * Sets the System Property to run the application on virtual threads. Only
+     * executors created afterwards are affected.
+     *
+     * @param virtual
+     *                    true to use virtual threads when they are supported
+     */
+    public static void setVirtual(boolean virtual) {
+        System.setProperty(VIRTUAL_THREADS_PROPERTY_NAME, Boolean.toString(virtual));
+        if (virtual && virtualThreadFactory == null) {
+            J1939_84.getLogger()
+                    .log(Level.INFO, "Virtual threads are not supported by this JVM; using platform threads");
+        }
+    }
+
+    /**
+     * Returns a {@link ThreadFactory} that names the threads it creates
+     *
+     * @param  name
+     *                  the name of the threads
+     * @return      the {@link ThreadFactory}
+     */
+    public static ThreadFactory threadFactory(String name) {
+        return r -> newThread(name, r);
+    }
+
+    /**
+     * Creates an unstarted thread
+     *
+     * @param  name
+     *                      the name of the thread
+     * @param  runnable
+     *                      what the thread runs
+     * @return          the {@link Thread}
+     */
+    public static Thread newThread(String name, Runnable runnable) {
+        if (isVirtual()) {
+            Thread thread = virtualThreadFactory.newThread(runnable);
+            thread.setName(name);
+            return thread;
+        }
+        return new Thread(runnable, name);
+    }
+
+    /**
+     * Creates and starts a thread
+     *
+     * @param  name
+     *                      the name of the thread
+     * @param  runnable
+     *                      what the thread runs
+     * @return          the started {@link Thread}
+     */
+    public static Thread startThread(String name, Runnable runnable) {
+        Thread thread = newThread(name, runnable);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Returns a {@link ScheduledExecutorService} that runs one task at a time,
+     * as used by the controllers
+     */
+    public static ScheduledExecutorService newSingleThreadScheduledExecutor() {
+        return newScheduledThreadPool(1);
+    }
+
+    /**
+     * Returns the {@link ScheduledExecutorService} shared by the part and step
+     * controllers. They are run on the thread of the overall controller, so
+     * one executor is enough for any of them that is executed on its own.
+     */
+    public static ScheduledExecutorService getSharedScheduledExecutor() {
+        return SharedExecutorHolder.executor;
+    }
+
+    private static class SharedExecutorHolder {
+        private static final ScheduledExecutorService executor = newSingleThreadScheduledExecutor();
+    }
+
+    /**
+     * Returns a {@link ScheduledExecutorService} with the given number of
+     * threads
+     *
+     * @param corePoolSize
+     *                         the number of threads kept in the pool
+     */
+    public static ScheduledExecutorService newScheduledThreadPool(int corePoolSize) {
+        if (isVirtual()) {
+            return Executors.newScheduledThreadPool(corePoolSize, virtualThreadFactory);
+        }
+        return Executors.newScheduledThreadPool(corePoolSize);
+    }
+
+    /**
+     * Returns an {@link ExecutorService} that runs one task at a time
+     *
+     * @param  name
+     *                  the name of the thread
+     */
+    public static ExecutorService newSingleThreadExecutor(String name) {
+        return Executors.newSingleThreadExecutor(threadFactory(name));
+    }
+
+    /**
+     * Returns an {@link ExecutorService} for short lived blocking tasks. On
+     * virtual threads every task gets its own thread. Otherwise the tasks run
+     * on corePoolSize platform threads; as the queue of waiting tasks is
+     * unbounded, the pool never grows past corePoolSize and further tasks wait
+     * for one of those threads.
+     *
+     * @param  name
+     *                         the name of the threads
+     * @param  corePoolSize
+     *                         the number of platform threads that run the
+     *                         tasks
+     * @param  maxPoolSize
+     *                         the maximum pool size given to the
+     *                         {@link ThreadPoolExecutor}, which isn't reached
+     *                         with the unbounded queue
+     */
+    public static ExecutorService newTaskExecutor(String name, int corePoolSize, int maxPoolSize) {
+        if (isVirtual()) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                                        .invoke(null, threadFactory(name));
+            } catch (Exception e) {
+                J1939_84.getLogger().log(Level.WARNING, "Unable to create a thread per task executor", e);
+            }
+        }
+        return new ThreadPoolExecutor(corePoolSize,
+                                      maxPoolSize,
+                                      1L,
+                                      TimeUnit.SECONDS,
+                                      new LinkedBlockingQueue<>(),
+                                      threadFactory(name));
+    }
+}
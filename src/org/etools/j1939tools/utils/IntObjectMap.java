@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022. Equipment & Tool Institute
+ */
+package org.etools.j1939tools.utils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A map of int keys to objects using open addressing, so lookups don't box
+ * the key or follow a chain of entries. It's meant for lookup tables that are
+ * built once and then read; it isn't thread safe while being modified and
+ * null values aren't allowed.
+ *
+ * @param <V> the type of the values
+ */
+public class IntObjectMap<V> {
+
+    /**
+     * Receives each key and value of the map
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize
+     *                         the number of entries expected, so the map
+     *                         doesn't have to grow
+     */
+    public IntObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns a map with the entries of the given {@link Map}
+     */
+    public static <V> IntObjectMap<V> of(Map<Integer, ? extends V> map) {
+        IntObjectMap<V> result = new IntObjectMap<>(map.size());
+        map.forEach(result::put);
+        return result;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(int key) {
+        int i = hash(key) & mask;
+        while (values[i] != null && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the value for the key or null if the key isn't in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        return (V) values[indexOf(key)];
+    }
+
+    /**
+     * Returns the value for the key or the defaultValue if the key isn't in the
+     * map
+     */
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Puts the value in the map
+     *
+     * @return the previous value for the key or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        Objects.requireNonNull(value, "value");
+        int i = indexOf(key);
+        V previous = (V) values[i];
+        keys[i] = key;
+        values[i] = value;
+        if (previous == null && ++size * 2 > keys.length) {
+            grow();
+        }
+        return previous;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int j = indexOf(oldKeys[i]);
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Passes each key and value to the consumer, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the keys in ascending order
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                result[n++] = keys[i];
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+}